@@ -0,0 +1,99 @@
+package org.example.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.model.PasswordHashParameters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Picks Argon2 parameters that make one hash take about a target time on the current hardware. Memory is
+ * preferred over iterations, since memory is what makes Argon2 expensive to attack with GPUs: the calibrator
+ * starts at the memory limit, halves it while a hash with {@value #MIN_ITERATIONS} iterations is still too slow,
+ * and then adds iterations until the target is used up. The memory never drops below {@value #MIN_MEMORY_KB} KB.
+ * <p>
+ * Calibration runs offline on hardware like the Lambda's, with {@code ./gradlew calibratePasswordHash}, and the
+ * printed parameters are configured on every function. Calibrating in each container would give each one its own
+ * target, depending on its hardware and load.
+ */
+public class PasswordHashCalibrator {
+    private static final Logger log = LogManager.getLogger(PasswordHashCalibrator.class);
+    public static final int MIN_MEMORY_KB = PasswordHashingService.MIN_MEMORY_KB;
+    public static final int MIN_ITERATIONS = 2;
+    public static final int MAX_ITERATIONS = 64;
+    private static final String CALIBRATION_PASSWORD = "Calibration1!";
+    private static final String CALIBRATION_SALT = "Y2FsaWJyYXRpb24tc2FsdA==";
+
+    private final ToLongFunction<PasswordHashParameters> hashTimer;
+
+    public PasswordHashCalibrator() {
+        this(PasswordHashCalibrator::timeHash);
+    }
+
+    /**
+     * @param hashTimer returns how many nanoseconds one hash with the given parameters takes.
+     */
+    PasswordHashCalibrator(ToLongFunction<PasswordHashParameters> hashTimer) {
+        this.hashTimer = hashTimer;
+    }
+
+    /**
+     * Prints the calibrated parameters as the environment variables {@link PasswordHashingService} reads.
+     *
+     * @param args the target time of one hash in milliseconds, and the most memory one hash may use in KB.
+     */
+    public static void main(String[] args) {
+        long targetMillis = Long.parseLong(args[0]);
+        int maxMemoryKB = Integer.parseInt(args[1]);
+        PasswordHashParameters parameters = new PasswordHashCalibrator().calibrate(targetMillis, maxMemoryKB);
+
+        System.out.println(PasswordHashingService.MEMORY_KB_ENV + "=" + parameters.getMemoryKB());
+        System.out.println(PasswordHashingService.ITERATIONS_ENV + "=" + parameters.getIterations());
+    }
+
+    /**
+     * @param targetMillis the time one hash should take.
+     * @param maxMemoryKB the most memory one hash may use.
+     * @return the parameters whose hash takes closest to, but not much over, the target.
+     */
+    public PasswordHashParameters calibrate(long targetMillis, int maxMemoryKB) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int memoryKB = roundToBlocks(Math.max(MIN_MEMORY_KB, maxMemoryKB));
+        long nanos = hashTimer.applyAsLong(new PasswordHashParameters(memoryKB, MIN_ITERATIONS, 1));
+        while (nanos > targetNanos && memoryKB / 2 >= MIN_MEMORY_KB) {
+            memoryKB = roundToBlocks(memoryKB / 2);
+            nanos = hashTimer.applyAsLong(new PasswordHashParameters(memoryKB, MIN_ITERATIONS, 1));
+        }
+
+        // Time grows linearly with the number of passes over memory.
+        long nanosPerIteration = Math.max(1, nanos / MIN_ITERATIONS);
+        int iterations = (int) Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, targetNanos / nanosPerIteration));
+        PasswordHashParameters parameters = new PasswordHashParameters(memoryKB, iterations, 1);
+
+        log.info("Calibrated password hashing to {} for a target of {} ms, at about {} ms per hash.", parameters,
+                targetMillis, TimeUnit.NANOSECONDS.toMillis(nanosPerIteration * iterations));
+        return parameters;
+    }
+
+    /**
+     * Argon2 splits memory into four slices of 1 KB blocks per lane.
+     */
+    private static int roundToBlocks(int memoryKB) {
+        return memoryKB - memoryKB % 4;
+    }
+
+    /**
+     * Times the faster of two hashes, after one untimed hash that warms up the engine and its memory.
+     */
+    private static long timeHash(PasswordHashParameters parameters) {
+        CredentialsUtility.hashPassword(CALIBRATION_PASSWORD, CALIBRATION_SALT, parameters);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            CredentialsUtility.hashPassword(CALIBRATION_PASSWORD, CALIBRATION_SALT, parameters);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
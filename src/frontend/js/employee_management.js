@@ -2,10 +2,14 @@ document.addEventListener('DOMContentLoaded', async function () {
     const API_STAGE = "Prod";
     const employeeId = sessionStorage.getItem('employeeId');
     const permissionLevel = sessionStorage.getItem('permissionLevel');
+    // Admin reads are authorized with the session token issued at login
+    const sessionToken = sessionStorage.getItem('sessionToken');
     let employeeDataList = [];
+    // Employee open in the modal, whose version is sent back with any edits
+    let selectedEmployee = null;
     let timeEntriesDataList = [];
 
-    if (!employeeId || !permissionLevel) {
+    if (!employeeId || !permissionLevel || !sessionToken) {
         alert('Session expired. Please log in again.');
         window.location.href = 'login.html';
         return;
@@ -39,7 +43,7 @@ document.addEventListener('DOMContentLoaded', async function () {
 
     // Fetch and populate employee table
     try {
-        const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees?employeeId=${employeeId}&permissionLevel=${permissionLevel}`);
+        const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees?employeeId=${employeeId}&sessionToken=${encodeURIComponent(sessionToken)}`);
         const result = await parseResponse(response);
 
         if (result.employeesRetrieved) {
@@ -70,6 +74,7 @@ document.addEventListener('DOMContentLoaded', async function () {
 
     window.viewEmployee = function (id) {
         const employee = employeeDataList.find(emp => emp.employeeId === id);
+        selectedEmployee = employee;
         if (employee) {
             populateEmployeeModal(employee);
             openModal();
@@ -146,7 +151,8 @@ document.addEventListener('DOMContentLoaded', async function () {
             state: document.getElementById('emp-state').value || null,
             zipCode: document.getElementById('emp-zipCode').value || null,
             payRate: `${document.getElementById('emp-payRateAmount').value}/${document.getElementById('emp-payRateFrequency').value}`,
-            permissionAccess: document.getElementById('emp-permissionAccess').value.toUpperCase()
+            permissionAccess: document.getElementById('emp-permissionAccess').value.toUpperCase(),
+            version: selectedEmployee ? (selectedEmployee.version ?? 0) : null
         };
 
         console.log('Employee Data to be updated:', employeeData); // Debugging statement
@@ -157,15 +163,18 @@ document.addEventListener('DOMContentLoaded', async function () {
                 headers: {
                     'Content-Type': 'application/json',
                 },
-                body: JSON.stringify(employeeData),
+                body: JSON.stringify({ ...employeeData, sessionToken }),
             });
 
             const responseData = await parseResponse(response);
 
-            if (!response.ok) {
+            if (!response.ok || responseData.employeeUpdated === false) {
                 throw new Error(responseData.error || 'Failed to save employee data');
             }
 
+            if (selectedEmployee) {
+                selectedEmployee.version = responseData.version;
+            }
             alert('Employee updated successfully!');
             toggleEdit(false); // Exit edit mode but keep the modal open
         } catch (error) {
@@ -405,7 +414,7 @@ document.addEventListener('DOMContentLoaded', async function () {
                 headers: {
                     'Content-Type': 'application/json',
                 },
-                body: JSON.stringify(newEmployeeData),
+                body: JSON.stringify({ ...newEmployeeData, sessionToken }),
             });
 
             const responseData = await parseResponse(response); // Parsing response data using parseResponse function
@@ -451,7 +460,7 @@ document.addEventListener('DOMContentLoaded', async function () {
 
     async function refreshEmployeeTable() {
         try {
-            const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees?employeeId=${employeeId}&permissionLevel=${permissionLevel}`);
+            const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees?employeeId=${employeeId}&sessionToken=${encodeURIComponent(sessionToken)}`);
             const result = await parseResponse(response);
 
             if (result.employeesRetrieved) {
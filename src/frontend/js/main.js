@@ -30,9 +30,10 @@ document.getElementById('login-form').addEventListener('submit', async function(
         if (result.loginSuccess) {
             console.log('Login successful, redirecting to appropriate page');
             
-            // Store employeeId and username in session storage
+            // Store employeeId, username and the session token in session storage
             sessionStorage.setItem('employeeId', result.employeeId);
             sessionStorage.setItem('username', result.username);
+            sessionStorage.setItem('sessionToken', result.sessionToken);
 
             if (result.forceChangeAfterLogin) {
                 window.location.href = 'change_password.html';
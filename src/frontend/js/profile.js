@@ -35,6 +35,9 @@ document.addEventListener('DOMContentLoaded', async function () {
         stateSelect.add(option);
     });
 
+    // Version of the profile that was loaded, sent back so a stale edit is rejected instead of overwriting
+    let profileVersion = null;
+
     // Fetch and populate profile data
     try {
         const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees/${employeeId}`);
@@ -48,6 +51,7 @@ document.addEventListener('DOMContentLoaded', async function () {
     }
 
     function populateProfile(data) {
+        profileVersion = data.version ?? 0;
         document.getElementById('employeeId').value = data.employeeId || '';
         document.getElementById('firstName').value = data.firstName || '';
         document.getElementById('lastName').value = data.lastName || '';
@@ -77,23 +81,15 @@ document.addEventListener('DOMContentLoaded', async function () {
     }
 
     window.saveProfile = async function () {
+        // Only the editable fields are sent, so nothing else on the employee is rewritten
         const profileData = {
             employeeId: document.getElementById('employeeId').value,
-            firstName: document.getElementById('firstName').value,
-            lastName: document.getElementById('lastName').value,
-            middleName: document.getElementById('middleName').value,
-            email: document.getElementById('email').value,
             phone: document.getElementById('phone').value,
-            department: document.getElementById('department').value,
-            hireDate: document.getElementById('hireDate').value,
-            currentlyEmployed: null,
-            terminatedDate: null,
             address: document.getElementById('address').value,
             city: document.getElementById('city').value,
             state: document.getElementById('state').value,
             zipCode: document.getElementById('zipCode').value,
-            payRate: document.getElementById('payRate').value,
-            permissionAccess: document.getElementById('permissionAccess').value.toUpperCase()
+            version: profileVersion
         };
 
         try {
@@ -107,6 +103,11 @@ document.addEventListener('DOMContentLoaded', async function () {
             if (!response.ok) {
                 throw new Error('Failed to save profile data');
             }
+            const result = await parseResponse(response);
+            if (!result.employeeUpdated) {
+                throw new Error(result.error || 'Failed to save profile data');
+            }
+            profileVersion = result.version;
             alert('Profile updated successfully!');
             toggleEdit(false);
         } catch (error) {
@@ -18,18 +18,76 @@ document.addEventListener('DOMContentLoaded', async function () {
         navBar.insertBefore(employeeManagementButton, navBar.children[navBar.children.length - 1]);
     }
 
-    // Fetch and populate time entries
-    try {
-        const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees/time_entries/${employeeId}/all`);
-        if (!response.ok) {
-            throw new Error('Failed to fetch time entries');
-        }
-        let result = await parseResponse(response);
-        let timeEntries = result.timeEntryList; // Access the nested timeEntryList
-        console.log('Time entries received:', timeEntries); // Debugging statement
+    // Pay periods are two weeks long and start every other Monday, counting from this date
+    const PAY_PERIOD_ANCHOR = new Date(2024, 0, 1);
+    const PAY_PERIOD_DAYS = 14;
+    const PAGE_SIZE = '100';
+    let periodStart = payPeriodStart(new Date());
+    let timeEntries = [];
+    let nextToken = null;
+
+    document.getElementById('previous-period').addEventListener('click', () => showPayPeriod(addDays(periodStart, -PAY_PERIOD_DAYS)));
+    document.getElementById('next-period').addEventListener('click', () => showPayPeriod(addDays(periodStart, PAY_PERIOD_DAYS)));
+    document.getElementById('load-more').addEventListener('click', loadNextPage);
+
+    // Fetch and populate the time entries of the current pay period only
+    await showPayPeriod(periodStart);
+
+    async function showPayPeriod(start) {
+        periodStart = start;
+        const periodEnd = addDays(start, PAY_PERIOD_DAYS - 1);
+        document.getElementById('pay-period').textContent =
+            `Pay period ${start.toLocaleDateString()} - ${periodEnd.toLocaleDateString()}`;
+        document.getElementById('next-period').disabled = addDays(start, PAY_PERIOD_DAYS) > new Date();
+        timeEntries = [];
+        nextToken = null;
         populateTimeEntries(timeEntries);
-    } catch (error) {
-        console.error('Error fetching time entries:', error);
+        await loadNextPage();
+    }
+
+    // Loads one more page of the pay period; further pages are only fetched when the user asks for them
+    async function loadNextPage() {
+        try {
+            const params = new URLSearchParams({
+                fromDate: toIsoDate(periodStart),
+                toDate: toIsoDate(addDays(periodStart, PAY_PERIOD_DAYS - 1)),
+                pageSize: PAGE_SIZE
+            });
+            if (nextToken) {
+                params.append('nextToken', nextToken);
+            }
+            const response = await fetch(`https://qjnhlsg7ge.execute-api.us-west-2.amazonaws.com/${API_STAGE}/employees/time_entries/${employeeId}/all?${params}`);
+            if (!response.ok) {
+                throw new Error('Failed to fetch time entries');
+            }
+            let result = await parseResponse(response);
+            if (!result.timeEntriesRetrieved) {
+                throw new Error(result.error || 'Failed to fetch time entries');
+            }
+            timeEntries = timeEntries.concat(result.timeEntryList); // Access the nested timeEntryList
+            nextToken = result.nextToken;
+            populateTimeEntries(timeEntries);
+        } catch (error) {
+            console.error('Error fetching time entries:', error);
+        }
+        document.getElementById('load-more').classList.toggle('hidden', !nextToken);
+    }
+
+    function payPeriodStart(date) {
+        const day = new Date(date.getFullYear(), date.getMonth(), date.getDate());
+        const daysSinceAnchor = Math.round((day - PAY_PERIOD_ANCHOR) / (24 * 60 * 60 * 1000));
+        const daysIntoPeriod = ((daysSinceAnchor % PAY_PERIOD_DAYS) + PAY_PERIOD_DAYS) % PAY_PERIOD_DAYS;
+        return addDays(day, -daysIntoPeriod);
+    }
+
+    function addDays(date, days) {
+        return new Date(date.getFullYear(), date.getMonth(), date.getDate() + days);
+    }
+
+    function toIsoDate(date) {
+        const month = String(date.getMonth() + 1).padStart(2, '0');
+        const day = String(date.getDate()).padStart(2, '0');
+        return `${date.getFullYear()}-${month}-${day}`;
     }
 
     function populateTimeEntries(entries) {
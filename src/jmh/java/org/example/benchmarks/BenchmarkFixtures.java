@@ -0,0 +1,97 @@
+package org.example.benchmarks;
+
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.TimeEntry;
+import org.example.model.results.UpdateTimeEntryResult;
+import org.example.utils.ModelConverter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sample data shared by the benchmarks. The values match the ones used in the unit tests, so every benchmark
+ * runs the successful validation path.
+ */
+final class BenchmarkFixtures {
+    static final int LIST_SIZE = 50;
+
+    private BenchmarkFixtures() {}
+
+    static Employee employee(int index) {
+        return Employee.builder()
+                .withEmployeeId(String.format("Emp%06d", index))
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withMiddleName("Middle")
+                .withEmail("john_doe@example.com")
+                .withDepartment("Department Name")
+                .withHireDate(LocalDate.of(2020, 1, 1))
+                .withPhone("+1-123-123-4567")
+                .withAddress("123 Example Ave")
+                .withCity("Example City")
+                .withState("Colorado")
+                .withZipCode("12345")
+                .withPayRate("2500/bw")
+                .withPermissionAccess(PermissionLevel.STANDARD)
+                .build();
+    }
+
+    static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    static TimeEntry timeEntry(int index) {
+        LocalDateTime timeIn = LocalDateTime.of(2024, 1, 1, 8, 30).plusDays(index);
+        return TimeEntry.builder()
+                .withEmployeeId("Emp000001")
+                .withEntryId(String.format("TE%06d", index))
+                .withTimeIn(timeIn)
+                .withTimeOut(timeIn.plusHours(9))
+                .build();
+    }
+
+    static List<TimeEntry> timeEntries(int count) {
+        List<TimeEntry> timeEntries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            timeEntries.add(timeEntry(i));
+        }
+        return timeEntries;
+    }
+
+    static List<ClockStateModel> openShifts(int count) {
+        List<ClockStateModel> openShifts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ClockStateModel clockState = new ClockStateModel();
+            clockState.setEmployeeId(String.format("Emp%06d", i));
+            clockState.setEntryId(String.format("TE%06d", i));
+            clockState.setTimeIn("2024-01-01T08:30:00");
+            openShifts.add(clockState);
+        }
+        return openShifts;
+    }
+
+    static List<UpdateTimeEntryResult> failedTimeEntries(int count) {
+        List<UpdateTimeEntryResult> failedTimeEntries = new ArrayList<>(count);
+        for (TimeEntryModel timeEntryModel : ModelConverter.fromTimeEntryList(timeEntries(count))) {
+            failedTimeEntries.add(UpdateTimeEntryResult.builder()
+                    .withTimeUpdated(false)
+                    .withEmployeeId(timeEntryModel.getEmployeeId())
+                    .withEntryId(timeEntryModel.getEntryId())
+                    .withTimeIn(timeEntryModel.getTimeIn())
+                    .withTimeOut(timeEntryModel.getTimeOut())
+                    .withDuration(timeEntryModel.getDuration())
+                    .withError("Throttled")
+                    .build());
+        }
+        return failedTimeEntries;
+    }
+}
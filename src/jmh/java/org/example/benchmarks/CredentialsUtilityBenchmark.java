@@ -0,0 +1,66 @@
+package org.example.benchmarks;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.example.utils.CredentialsUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one Argon2 password hash and one verification. The BouncyCastle generator allocates its full memory
+ * matrix on every hash, while {@link CredentialsUtility} reuses pooled working memory, so the GC profiler's
+ * normalized allocation rate is the number to watch here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CredentialsUtilityBenchmark {
+    private static final String PASSWORD = "Password1!";
+
+    private String salt;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        salt = CredentialsUtility.generateSalt();
+        hash = CredentialsUtility.hashPassword(PASSWORD, salt);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return CredentialsUtility.hashPassword(PASSWORD, salt);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return CredentialsUtility.verifyPassword(PASSWORD, salt, hash);
+    }
+
+    @Benchmark
+    public byte[] bouncyCastleHashPassword() {
+        byte[] result = new byte[32];
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withSalt(Base64.getDecoder().decode(salt))
+                .withParallelism(1)
+                .withMemoryAsKB(CredentialsUtility.ARGON2_MEMORY_KB)
+                .withIterations(3)
+                .build());
+        generator.generateBytes(PASSWORD.getBytes(), result);
+        return result;
+    }
+}
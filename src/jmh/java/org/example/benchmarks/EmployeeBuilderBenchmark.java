@@ -0,0 +1,28 @@
+package org.example.benchmarks;
+
+import org.example.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a fully populated employee, which runs every field validation in {@link Employee.EmployeeBuilder#build()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeBuilderBenchmark {
+
+    @Benchmark
+    public Employee build() {
+        return BenchmarkFixtures.employee(1);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.benchmarks;
+
+import com.google.common.collect.Lists;
+import org.example.dependency.DynamoDBClientSettings;
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+import org.example.dynamodb.inmemory.InMemoryEmployeeDao;
+import org.example.dynamodb.inmemory.InMemoryTable;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.model.Employee;
+import org.example.utils.ModelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the segmented employee scan scales with the number of segments. The scan runs against the
+ * in-memory backend with a fixed latency per page, so the numbers show how much of the page latency the segments
+ * hide rather than the cost of the network. The GC profiler misses the allocations of the segment threads, which
+ * exit before it samples them, so its allocation numbers are only meaningful for a single segment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeScanBenchmark {
+    @Param({"1", "2", "4", "8", "16"})
+    public int totalSegments;
+
+    @Param({"2000"})
+    public int employeeCount;
+
+    @Param({"5"})
+    public long latencyMillis;
+
+    private InMemoryEmployeeDao employeeDao;
+
+    @Setup
+    public void setUp() {
+        InMemoryDynamoDB dynamoDB = new InMemoryDynamoDB(DynamoDBClientSettings.fromEnvironment(Map.of()),
+                latencyMillis, 0);
+        InMemoryTable<EmployeeModel> employeeTable = dynamoDB.table(EmployeeModel.class);
+        List<Object> employeeModels = new ArrayList<>(ModelConverter.fromEmployeeList(
+                BenchmarkFixtures.employees(employeeCount)));
+        for (List<Object> chunk : Lists.partition(employeeModels, InMemoryDynamoDB.MAX_BATCH_WRITE_SIZE)) {
+            employeeTable.batchWrite(chunk);
+        }
+        employeeDao = new InMemoryEmployeeDao(dynamoDB);
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeDao.getAllEmployees(totalSegments);
+    }
+}
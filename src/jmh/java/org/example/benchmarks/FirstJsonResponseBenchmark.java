@@ -0,0 +1,52 @@
+package org.example.benchmarks;
+
+import com.google.gson.Gson;
+import org.example.model.results.Result;
+import org.example.utils.gson.GsonConfig;
+import org.example.utils.gson.ReflectiveGson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the first response a cold container serializes: creating the Gson instance, building the adapters and
+ * writing one result, in a fresh JVM per fork. It compares the hand-written result adapters with Gson's reflective
+ * adapter, for a flat result and one with nested lists.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class FirstJsonResponseBenchmark {
+
+    @Param({"true", "false"})
+    public boolean resultTypeAdapters;
+
+    @Param({"GET_EMPLOYEE", "UPDATE_TIME_ENTRIES"})
+    public JsonUtilBenchmark.ResultType resultType;
+
+    private Result result;
+
+    @Setup
+    public void setUp() {
+        result = resultType.create();
+    }
+
+    @Benchmark
+    public String firstJsonResponse() {
+        Gson gson = resultTypeAdapters ? GsonConfig.createGson() : ReflectiveGson.create();
+        return gson.toJson(result);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.benchmarks;
+
+import com.google.gson.Gson;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.results.AdminBulkResetPasswordResult;
+import org.example.model.results.AdminResetPasswordResult;
+import org.example.model.results.GetAllEmployeesResult;
+import org.example.model.results.GetEmployeeResult;
+import org.example.model.results.GetEmployeesBatchResult;
+import org.example.model.results.GetLastFiveTimeEntriesResult;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.model.results.GetTimeEntriesResult;
+import org.example.model.results.LoginResult;
+import org.example.model.results.NewEmployeeResult;
+import org.example.model.results.NewTimeEntryResult;
+import org.example.model.results.Result;
+import org.example.model.results.UpdateCredentialsResult;
+import org.example.model.results.UpdateEmployeeResult;
+import org.example.model.results.UpdateTimeEntriesResult;
+import org.example.model.results.UpdateTimeEntryResult;
+import org.example.utils.ModelConverter;
+import org.example.utils.gson.JsonUtil;
+import org.example.utils.gson.ReflectiveGson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serializes one successful response of every {@link Result} type. List results hold
+ * {@link BenchmarkFixtures#LIST_SIZE} elements, except the last five time entries and the bulk password reset.
+ * Each response is serialized both through {@link JsonUtil}, which uses the hand-written result adapters, and
+ * through Gson's reflective adapter. {@link FirstJsonResponseBenchmark} compares the first response instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilBenchmark {
+
+    public enum ResultType {
+        ADMIN_BULK_RESET_PASSWORD(() -> AdminBulkResetPasswordResult.builder()
+                .withPasswordsReset(true)
+                .withResetCount(5)
+                .withResetList(List.of(
+                        adminResetPasswordResult(), adminResetPasswordResult(), adminResetPasswordResult(),
+                        adminResetPasswordResult(), adminResetPasswordResult()))
+                .build()),
+        ADMIN_RESET_PASSWORD(ResultType::adminResetPasswordResult),
+        GET_ALL_EMPLOYEES(() -> GetAllEmployeesResult.builder()
+                .withEmployeesRetrieved(true)
+                .withEmployeesList(BenchmarkFixtures.employees(BenchmarkFixtures.LIST_SIZE))
+                .build()),
+        GET_EMPLOYEE(() -> GetEmployeeResult.builder()
+                .withEmployeeRetrieved(true)
+                .withEmployeeId("Emp000001")
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withEmail("john_doe@example.com")
+                .withDepartment("Department Name")
+                .withHireDate(LocalDate.of(2020, 1, 1))
+                .withCurrentlyEmployed(true)
+                .withPhone("+1-123-123-4567")
+                .withAddress("123 Example Ave")
+                .withCity("Example City")
+                .withState("Colorado")
+                .withZipCode("12345")
+                .withPayRate("2500/bw")
+                .withPermissionAccess(PermissionLevel.STANDARD)
+                .withVersion(1L)
+                .build()),
+        GET_EMPLOYEES_BATCH(() -> GetEmployeesBatchResult.builder()
+                .withEmployeesRetrieved(true)
+                .withEmployeeList(BenchmarkFixtures.employees(BenchmarkFixtures.LIST_SIZE))
+                .withNotFoundEmployeeIds(List.of("Emp999999"))
+                .build()),
+        GET_LAST_FIVE_TIME_ENTRIES(() -> GetLastFiveTimeEntriesResult.builder()
+                .withLastFiveTimeEntriesRetrieved(true)
+                .withTimeEntryList(BenchmarkFixtures.timeEntries(5))
+                .build()),
+        GET_OPEN_SHIFTS(() -> GetOpenShiftsResult.builder()
+                .withOpenShiftsRetrieved(true)
+                .withOpenShiftList(BenchmarkFixtures.openShifts(BenchmarkFixtures.LIST_SIZE))
+                .build()),
+        GET_TIME_ENTRIES(() -> GetTimeEntriesResult.builder()
+                .withTimeEntriesRetrieved(true)
+                .withTimeEntryList(BenchmarkFixtures.timeEntries(BenchmarkFixtures.LIST_SIZE))
+                .withNextToken("eyJlbXBsb3llZV9pZCI6IkVtcDAwMDAwMSJ9")
+                .build()),
+        LOGIN(() -> LoginResult.build()
+                .withLoginSuccess(true)
+                .withUsername("jdoe")
+                .withEmployeeId("Emp000001")
+                .build()),
+        NEW_EMPLOYEE(() -> NewEmployeeResult.build()
+                .withNewEmployeeCreated(true)
+                .withEmployeeId("Emp000001")
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withEmail("john_doe@example.com")
+                .withDepartment("Department Name")
+                .withHireDate("2020-01-01")
+                .withPhone("+1-123-123-4567")
+                .withAddress("123 Example Ave")
+                .withCity("Example City")
+                .withState("Colorado")
+                .withZipCode("12345")
+                .withPayRate("2500/bw")
+                .withPermissionAccess("STANDARD")
+                .withUsername("jdoe")
+                .build()),
+        NEW_TIME_ENTRY(() -> NewTimeEntryResult.builder()
+                .withNewTimeEntryCreated(true)
+                .withEmployeeId("Emp000001")
+                .withEntryId("TE000001")
+                .withTimeIn("2024-01-01T08:30:00")
+                .build()),
+        UPDATE_CREDENTIALS(() -> UpdateCredentialsResult.builder()
+                .withCredentialsUpdated(true)
+                .withEmployeeId("Emp000001")
+                .withUsername("jdoe")
+                .withLastUpdated("2024-01-01T08:30:00")
+                .build()),
+        UPDATE_EMPLOYEE(() -> {
+            Employee employee = BenchmarkFixtures.employee(1);
+            return UpdateEmployeeResult.builder()
+                    .withEmployeeUpdated(true)
+                    .withEmployeeId(employee.getEmployeeId())
+                    .withFirstName(employee.getFirstName())
+                    .withLastName(employee.getLastName())
+                    .withEmail(employee.getEmail())
+                    .withDepartment(employee.getDepartment())
+                    .withHireDate("2020-01-01")
+                    .withCurrentlyEmployed(true)
+                    .withPhone(employee.getPhone())
+                    .withAddress(employee.getAddress())
+                    .withCity(employee.getCity())
+                    .withState(employee.getState())
+                    .withZipCode(employee.getZipCode())
+                    .withPayRate(employee.getPayRate())
+                    .withPermissionAccess("STANDARD")
+                    .withVersion(2L)
+                    .build();
+        }),
+        UPDATE_TIME_ENTRIES(() -> {
+            List<TimeEntryModel> timeEntryModels = ModelConverter.fromTimeEntryList(
+                    BenchmarkFixtures.timeEntries(BenchmarkFixtures.LIST_SIZE));
+            return UpdateTimeEntriesResult.builder()
+                    .withTimeEntriesUpdated(true)
+                    .withEmployeeId("Emp000001")
+                    .withTimeEntryList(timeEntryModels)
+                    .withFailedTimeEntryList(BenchmarkFixtures.failedTimeEntries(2))
+                    .build();
+        }),
+        UPDATE_TIME_ENTRY(() -> UpdateTimeEntryResult.builder()
+                .withTimeUpdated(true)
+                .withEmployeeId("Emp000001")
+                .withEntryId("TE000001")
+                .withTimeIn("2024-01-01T08:30:00")
+                .withTimeOut("2024-01-01T17:30:00")
+                .withDuration(9.0)
+                .build());
+
+        private final Supplier<Result> factory;
+
+        ResultType(Supplier<Result> factory) {
+            this.factory = factory;
+        }
+
+        Result create() {
+            return factory.get();
+        }
+
+        private static AdminResetPasswordResult adminResetPasswordResult() {
+            return AdminResetPasswordResult.builder()
+                    .withEmployeeCredentialsReset(true)
+                    .withEmployeeId("Emp000001")
+                    .withUsername("jdoe")
+                    .withLastUpdated("2024-01-01T08:30:00")
+                    .withForceChangeAfterLogin(true)
+                    .build();
+        }
+    }
+
+    private static final Gson REFLECTIVE_GSON = ReflectiveGson.create();
+
+    @Param
+    public ResultType resultType;
+
+    private Result result;
+
+    @Setup
+    public void setUp() {
+        result = resultType.create();
+    }
+
+    @Benchmark
+    public String createJsonResponse() {
+        return JsonUtil.createJsonResponse(result);
+    }
+
+    @Benchmark
+    public String createJsonResponseReflectively() {
+        return REFLECTIVE_GSON.toJson(result);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.benchmarks;
+
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.model.Employee;
+import org.example.model.TimeEntry;
+import org.example.utils.ModelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts single items and lists of {@link BenchmarkFixtures#LIST_SIZE} items in both directions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelConverterBenchmark {
+    private Employee employee;
+    private EmployeeModel employeeModel;
+    private List<Employee> employeeList;
+    private List<EmployeeModel> employeeModelList;
+    private TimeEntry timeEntry;
+    private TimeEntryModel timeEntryModel;
+    private List<TimeEntry> timeEntryList;
+    private List<TimeEntryModel> timeEntryModelList;
+
+    @Setup
+    public void setUp() {
+        employee = BenchmarkFixtures.employee(1);
+        employeeModel = ModelConverter.fromEmployee(employee);
+        employeeList = BenchmarkFixtures.employees(BenchmarkFixtures.LIST_SIZE);
+        employeeModelList = ModelConverter.fromEmployeeList(employeeList);
+        timeEntry = BenchmarkFixtures.timeEntry(1);
+        timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+        timeEntryList = BenchmarkFixtures.timeEntries(BenchmarkFixtures.LIST_SIZE);
+        timeEntryModelList = ModelConverter.fromTimeEntryList(timeEntryList);
+    }
+
+    @Benchmark
+    public EmployeeModel fromEmployee() {
+        return ModelConverter.fromEmployee(employee);
+    }
+
+    @Benchmark
+    public Employee fromEmployeeModel() {
+        return ModelConverter.fromEmployeeModel(employeeModel);
+    }
+
+    @Benchmark
+    public List<EmployeeModel> fromEmployeeList() {
+        return ModelConverter.fromEmployeeList(employeeList);
+    }
+
+    @Benchmark
+    public List<Employee> fromEmployeeModelList() {
+        return ModelConverter.fromEmployeeModelList(employeeModelList);
+    }
+
+    @Benchmark
+    public TimeEntryModel fromTimeEntry() {
+        return ModelConverter.fromTimeEntry(timeEntry);
+    }
+
+    @Benchmark
+    public TimeEntry fromTimeEntryModel() {
+        return ModelConverter.fromTimeEntryModel(timeEntryModel);
+    }
+
+    @Benchmark
+    public List<TimeEntryModel> fromTimeEntryList() {
+        return ModelConverter.fromTimeEntryList(timeEntryList);
+    }
+
+    @Benchmark
+    public List<TimeEntry> fromTimeEntryModelList() {
+        return ModelConverter.fromTimeEntryModelList(timeEntryModelList);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.benchmarks;
+
+import org.example.utils.StringFormatValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every validator against an accepted and a rejected input. Rejected inputs matter as much as accepted ones,
+ * since every invalid request goes through them before it is turned away.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringFormatValidatorBenchmark {
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private String payRate;
+    private String zipCode;
+    private String email;
+    private String name;
+    private String phone;
+    private String password;
+
+    @Setup
+    public void setUp() {
+        payRate = valid ? "2500/bw" : "2500/week";
+        zipCode = valid ? "12345-6789" : "1234";
+        email = valid ? "john_doe@example.com" : "john_doe@example";
+        name = valid ? "Mary-Ann" : "Mary-Ann 2";
+        phone = valid ? "+1-123-123-4567" : "123-123-4567";
+        password = valid ? "Password1!" : "password";
+    }
+
+    @Benchmark
+    public boolean validPayRateFormat() {
+        return StringFormatValidator.validPayRateFormat(payRate);
+    }
+
+    @Benchmark
+    public boolean validUnitedStatesZipCodeFormat() {
+        return StringFormatValidator.validUnitedStatesZipCodeFormat(zipCode);
+    }
+
+    @Benchmark
+    public boolean validEmailFormat() {
+        return StringFormatValidator.validEmailFormat(email);
+    }
+
+    @Benchmark
+    public boolean validNameFormat() {
+        return StringFormatValidator.validNameFormat(name);
+    }
+
+    @Benchmark
+    public boolean validUsPhoneFormat() {
+        return StringFormatValidator.validUsPhoneFormat(phone);
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return StringFormatValidator.validPassword(password);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.benchmarks;
+
+import org.example.model.TimeEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the duration calculation and the equality methods used when time entries are compared and collected
+ * into sets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeEntryBenchmark {
+    private TimeEntry timeEntry;
+    private TimeEntry equalTimeEntry;
+
+    @Setup
+    public void setUp() {
+        timeEntry = BenchmarkFixtures.timeEntry(1);
+        equalTimeEntry = BenchmarkFixtures.timeEntry(1);
+    }
+
+    @Benchmark
+    public double calculateDuration() {
+        return timeEntry.calculateDuration();
+    }
+
+    @Benchmark
+    public boolean equalsTimeEntry() {
+        return timeEntry.equals(equalTimeEntry);
+    }
+
+    @Benchmark
+    public int hashCodeTimeEntry() {
+        return timeEntry.hashCode();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.utils.gson;
+
+import com.google.gson.Gson;
+
+/**
+ * Creates a Gson that serializes {@link org.example.model.results.Result}s with Gson's reflective adapter instead of
+ * {@link ResultTypeAdapters}. It is the baseline the result adapters are benchmarked and tested against, so it lives
+ * here rather than next to {@link GsonConfig}, where a handler could pick it up.
+ */
+public final class ReflectiveGson {
+
+    private ReflectiveGson() {}
+
+    /**
+     * @return a Gson with the same configuration as {@link GsonConfig#createGson()}, except for the result adapters.
+     */
+    public static Gson create() {
+        return GsonConfig.createGsonBuilder().create();
+    }
+}
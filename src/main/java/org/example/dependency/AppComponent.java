@@ -4,10 +4,15 @@ import dagger.Component;
 import javax.inject.Singleton;
 
 import org.example.lambda.*;
+import org.example.utils.SessionTokenService;
 
 @Singleton
 @Component(modules = {DaoModule.class})
 public interface AppComponent {
+    DynamoDBWarmUp dynamoDBWarmUp();
+
+    SessionTokenService sessionTokenService();
+
     void inject(LoginHandler handler);
 
     void inject(NewEmployeeHandler handler);
@@ -16,10 +21,14 @@ public interface AppComponent {
 
     void inject(AdminResetPasswordHandler handler);
 
+    void inject(AdminBulkResetPasswordHandler handler);
+
     void inject(GetEmployeeHandler handler);
 
     void inject(GetAllEmployeesHandler handler);
 
+    void inject(GetEmployeesBatchHandler handler);
+
     void inject(UpdateEmployeeHandler handler);
 
     void inject(NewTimeEntryHandler handler);
@@ -31,4 +40,6 @@ public interface AppComponent {
     void inject(GetTimeEntriesHandler handler);
 
     void inject(UpdateTimeEntryHandler handler);
+
+    void inject(GetOpenShiftsHandler handler);
 }
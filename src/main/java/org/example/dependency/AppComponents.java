@@ -0,0 +1,64 @@
+package org.example.dependency;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.priming.SnapStartPriming;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the one {@link AppComponent} shared by every handler in the process.
+ * The component is created and warmed up the first time a handler asks for it, which in Lambda happens during
+ * container initialization. Every handler then gets the same DynamoDB client, mapper and DAOs, including the
+ * DAO caches. The component's checkpoint/restore hooks are registered at the same time.
+ * Setting the {@code DAO_BACKEND} environment variable to {@code in-memory} swaps DynamoDB for an
+ * {@link InMemoryAppComponent}, so the handlers can be run and load tested locally.
+ */
+public final class AppComponents {
+    private static final Logger log = LogManager.getLogger(AppComponents.class);
+    public static final String DAO_BACKEND_ENV = "DAO_BACKEND";
+    public static final String IN_MEMORY_BACKEND = "in-memory";
+
+    private AppComponents() {
+    }
+
+    /**
+     * @return the process-wide component, creating and warming it up on the first call.
+     */
+    public static AppComponent get() {
+        return Holder.COMPONENT;
+    }
+
+    /**
+     * @return the checkpoint/restore hooks registered for the process-wide component.
+     */
+    public static SnapStartPriming priming() {
+        return Holder.PRIMING;
+    }
+
+    /**
+     * The JVM initializes this class on first use and only once, so the component is created lazily and
+     * without locking.
+     */
+    private static class Holder {
+        static final AppComponent COMPONENT = create();
+        static final SnapStartPriming PRIMING = SnapStartPriming.register(COMPONENT);
+    }
+
+    private static AppComponent create() {
+        long start = System.nanoTime();
+        AppComponent component = IN_MEMORY_BACKEND.equals(System.getenv(DAO_BACKEND_ENV))
+                ? DaggerInMemoryAppComponent.create()
+                : DaggerAppComponent.create();
+        // Singletons are built on first request, so this also builds the client and mapper.
+        DynamoDBWarmUp dynamoDBWarmUp = component.dynamoDBWarmUp();
+        long created = System.nanoTime();
+
+        dynamoDBWarmUp.warmUp();
+        long end = System.nanoTime();
+
+        log.info("App component created in {} ms and warmed up in {} ms.",
+                TimeUnit.NANOSECONDS.toMillis(created - start), TimeUnit.NANOSECONDS.toMillis(end - created));
+        return component;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.dependency;
+
+import dagger.Module;
+import dagger.Provides;
+import org.example.dynamodb.AsyncEmployeeDao;
+import org.example.dynamodb.DaoExecutor;
+import org.example.dynamodb.EmployeeDao;
+
+import javax.inject.Singleton;
+
+/**
+ * Wraps the employee DAO the including module provides in its asynchronous counterpart.
+ */
+@Module
+public class AsyncDaoModule {
+    /**
+     * The pool is never larger than the client's connection pool, so async calls do not wait for connections.
+     */
+    @Provides
+    @Singleton
+    public DaoExecutor provideDaoExecutor(DynamoDBClientSettings settings) {
+        return new DaoExecutor(Math.min(DaoExecutor.DEFAULT_THREADS, settings.getMaxConnections()));
+    }
+
+    @Provides
+    @Singleton
+    public AsyncEmployeeDao provideAsyncEmployeeDao(EmployeeDao employeeDao, DaoExecutor daoExecutor) {
+        return new AsyncEmployeeDao(employeeDao, daoExecutor);
+    }
+}
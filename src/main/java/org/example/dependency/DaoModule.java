@@ -5,19 +5,39 @@ import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import dagger.Module;
 import dagger.Provides;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.DynamoDBEmployeeCredentialsDao;
+import org.example.dynamodb.DynamoDBEmployeeDao;
+import org.example.dynamodb.DynamoDBLoginThrottleDao;
+import org.example.dynamodb.DynamoDBTimeEntryDao;
 import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.dynamodb.EmployeeDao;
+import org.example.dynamodb.LoginThrottleDao;
 import org.example.dynamodb.TimeEntryDao;
 
 import javax.inject.Singleton;
 
-@Module
+@Module(includes = {AsyncDaoModule.class, PasswordHashingModule.class, SessionTokenModule.class,
+        LoginThrottleModule.class})
 public class DaoModule {
+    private static final Logger log = LogManager.getLogger(DaoModule.class);
 
     @Provides
     @Singleton
-    public AmazonDynamoDB provideAmazonDynamoDB() {
-        return AmazonDynamoDBClientBuilder.defaultClient();
+    public DynamoDBClientSettings provideDynamoDBClientSettings() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment();
+        log.info("DynamoDB client settings: {}", settings);
+        return settings;
+    }
+
+    @Provides
+    @Singleton
+    public AmazonDynamoDB provideAmazonDynamoDB(DynamoDBClientSettings settings) {
+        return AmazonDynamoDBClientBuilder.standard()
+                .withClientConfiguration(settings.toClientConfiguration())
+                .withRequestHandlers(settings.operationTimeouts())
+                .build();
     }
 
     @Provides
@@ -28,19 +48,31 @@ public class DaoModule {
 
     @Provides
     @Singleton
-    public EmployeeCredentialsDao provideEmployeeCredentialsDao(DynamoDBMapper dynamoDBMapper) {
-        return new EmployeeCredentialsDao(dynamoDBMapper);
+    public EmployeeCredentialsDao provideEmployeeCredentialsDao(DynamoDBMapper dynamoDBMapper, AmazonDynamoDB amazonDynamoDB) {
+        return new DynamoDBEmployeeCredentialsDao(dynamoDBMapper, amazonDynamoDB);
+    }
+
+    @Provides
+    @Singleton
+    public EmployeeDao provideEmployeeDao(DynamoDBMapper dynamoDBMapper, AmazonDynamoDB amazonDynamoDB) {
+        return new DynamoDBEmployeeDao(dynamoDBMapper, amazonDynamoDB);
+    }
+
+    @Provides
+    @Singleton
+    public DynamoDBWarmUp provideDynamoDBWarmUp(DynamoDBMapper dynamoDBMapper) {
+        return new DynamoDBWarmUp(dynamoDBMapper);
     }
 
     @Provides
     @Singleton
-    public EmployeeDao provideEmployeeDao(DynamoDBMapper dynamoDBMapper) {
-        return new EmployeeDao(dynamoDBMapper);
+    public LoginThrottleDao provideLoginThrottleDao(DynamoDBMapper dynamoDBMapper) {
+        return new DynamoDBLoginThrottleDao(dynamoDBMapper);
     }
 
     @Provides
     @Singleton
     public TimeEntryDao provideTimeEntryDao(DynamoDBMapper dynamoDBMapper) {
-        return new TimeEntryDao(dynamoDBMapper);
+        return new DynamoDBTimeEntryDao(dynamoDBMapper);
     }
 }
@@ -0,0 +1,265 @@
+package org.example.dependency;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.retry.PredefinedBackoffStrategies;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.google.common.base.CaseFormat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection, timeout and retry settings for the DynamoDB client, read from environment variables.
+ * Every setting has a default, so no variable is required:
+ * <ul>
+ *     <li>{@code DYNAMODB_MAX_CONNECTIONS} and {@code DYNAMODB_TCP_KEEP_ALIVE} size the connection pool.</li>
+ *     <li>{@code DYNAMODB_CONNECTION_TIMEOUT_MILLIS} and {@code DYNAMODB_SOCKET_TIMEOUT_MILLIS} bound the socket.</li>
+ *     <li>{@code DYNAMODB_REQUEST_TIMEOUT_MILLIS} bounds one attempt, {@code DYNAMODB_CLIENT_EXECUTION_TIMEOUT_MILLIS}
+ *     bounds a call including its retries, and {@code DYNAMODB_MAX_ERROR_RETRY} limits the retries.</li>
+ *     <li>{@code DYNAMODB_RETRY_BASE_DELAY_MILLIS} and {@code DYNAMODB_RETRY_MAX_BACKOFF_MILLIS} shape the
+ *     full-jitter backoff between retries.</li>
+ * </ul>
+ * The last three can be overridden per DynamoDB operation, e.g. {@code DYNAMODB_SCAN_MAX_ERROR_RETRY} or
+ * {@code DYNAMODB_TRANSACT_WRITE_ITEMS_CLIENT_EXECUTION_TIMEOUT_MILLIS}. By default TransactWriteItems, which
+ * clock-in and clock-out use, fails fast, while Query and Scan, which the reports use, get more time and retries.
+ */
+public class DynamoDBClientSettings {
+    private static final String PREFIX = "DYNAMODB_";
+    static final List<String> OPERATIONS = List.of("GetItem", "PutItem", "UpdateItem", "DeleteItem", "Query", "Scan",
+            "BatchGetItem", "BatchWriteItem", "TransactWriteItems");
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+    public static final boolean DEFAULT_TCP_KEEP_ALIVE = true;
+    public static final int DEFAULT_CONNECTION_TIMEOUT_MILLIS = 2_000;
+    public static final int DEFAULT_SOCKET_TIMEOUT_MILLIS = 5_000;
+    public static final int DEFAULT_RETRY_BASE_DELAY_MILLIS = 25;
+    public static final int DEFAULT_RETRY_MAX_BACKOFF_MILLIS = 1_000;
+    public static final OperationSettings DEFAULT_OPERATION_SETTINGS = new OperationSettings(3_000, 8_000, 3);
+    private static final Map<String, OperationSettings> DEFAULT_OPERATION_OVERRIDES = Map.of(
+            "TransactWriteItems", new OperationSettings(1_000, 2_500, 1),
+            "Query", new OperationSettings(5_000, 20_000, 8),
+            "Scan", new OperationSettings(10_000, 20_000, 8));
+    private final int maxConnections;
+    private final boolean tcpKeepAlive;
+    private final int connectionTimeoutMillis;
+    private final int socketTimeoutMillis;
+    private final int retryBaseDelayMillis;
+    private final int retryMaxBackoffMillis;
+    private final OperationSettings defaultSettings;
+    private final Map<String, OperationSettings> operationSettings;
+
+    private DynamoDBClientSettings(Map<String, String> environment) {
+        this.maxConnections = readInt(environment, PREFIX + "MAX_CONNECTIONS", DEFAULT_MAX_CONNECTIONS, 1);
+        this.tcpKeepAlive = readBoolean(environment, PREFIX + "TCP_KEEP_ALIVE", DEFAULT_TCP_KEEP_ALIVE);
+        this.connectionTimeoutMillis = readInt(environment, PREFIX + "CONNECTION_TIMEOUT_MILLIS", DEFAULT_CONNECTION_TIMEOUT_MILLIS, 0);
+        this.socketTimeoutMillis = readInt(environment, PREFIX + "SOCKET_TIMEOUT_MILLIS", DEFAULT_SOCKET_TIMEOUT_MILLIS, 0);
+        this.retryBaseDelayMillis = readInt(environment, PREFIX + "RETRY_BASE_DELAY_MILLIS", DEFAULT_RETRY_BASE_DELAY_MILLIS, 1);
+        this.retryMaxBackoffMillis = readInt(environment, PREFIX + "RETRY_MAX_BACKOFF_MILLIS", DEFAULT_RETRY_MAX_BACKOFF_MILLIS, retryBaseDelayMillis);
+        this.defaultSettings = readOperationSettings(environment, PREFIX, DEFAULT_OPERATION_SETTINGS);
+
+        Map<String, OperationSettings> settings = new LinkedHashMap<>();
+        for (String operation : OPERATIONS) {
+            String operationPrefix = PREFIX + CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, operation) + "_";
+            settings.put(operation, readOperationSettings(environment, operationPrefix,
+                    DEFAULT_OPERATION_OVERRIDES.getOrDefault(operation, defaultSettings)));
+        }
+        this.operationSettings = Collections.unmodifiableMap(settings);
+    }
+
+    /**
+     * @return the settings for the current process environment.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static DynamoDBClientSettings fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * @param environment the environment variables to read.
+     * @return the settings for the given variables.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static DynamoDBClientSettings fromEnvironment(Map<String, String> environment) {
+        return new DynamoDBClientSettings(environment);
+    }
+
+    /**
+     * Builds the client configuration. Retries use full-jitter backoff and stop at the retry limit of the
+     * operation being retried. The timeouts set here apply to operations without an override.
+     */
+    public ClientConfiguration toClientConfiguration() {
+        int maxErrorRetry = defaultSettings.getMaxErrorRetry();
+        for (OperationSettings settings : operationSettings.values()) {
+            maxErrorRetry = Math.max(maxErrorRetry, settings.getMaxErrorRetry());
+        }
+
+        return new ClientConfiguration()
+                .withMaxConnections(maxConnections)
+                .withTcpKeepAlive(tcpKeepAlive)
+                .withConnectionTimeout(connectionTimeoutMillis)
+                .withSocketTimeout(socketTimeoutMillis)
+                .withRequestTimeout(defaultSettings.getRequestTimeoutMillis())
+                .withClientExecutionTimeout(defaultSettings.getClientExecutionTimeoutMillis())
+                .withRetryPolicy(new RetryPolicy(
+                        this::shouldRetry,
+                        new PredefinedBackoffStrategies.FullJitterBackoffStrategy(retryBaseDelayMillis, retryMaxBackoffMillis),
+                        maxErrorRetry,
+                        false));
+    }
+
+    /**
+     * @return a request handler that applies the per-operation timeouts to each request, unless the caller
+     *         already set a timeout on the request itself.
+     */
+    public RequestHandler2 operationTimeouts() {
+        return new RequestHandler2() {
+            @Override
+            public AmazonWebServiceRequest beforeExecution(AmazonWebServiceRequest request) {
+                OperationSettings settings = forRequest(request);
+                if (request.getSdkRequestTimeout() == null) {
+                    request.setSdkRequestTimeout(settings.getRequestTimeoutMillis());
+                }
+                if (request.getSdkClientExecutionTimeout() == null) {
+                    request.setSdkClientExecutionTimeout(settings.getClientExecutionTimeoutMillis());
+                }
+                return request;
+            }
+        };
+    }
+
+    /**
+     * Retries what the SDK would retry for DynamoDB (throttling, 5xx and I/O errors), up to the operation's limit.
+     */
+    boolean shouldRetry(AmazonWebServiceRequest originalRequest, AmazonClientException exception, int retriesAttempted) {
+        return retriesAttempted < forRequest(originalRequest).getMaxErrorRetry()
+                && PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION.shouldRetry(originalRequest, exception, retriesAttempted);
+    }
+
+    /**
+     * @param operation a DynamoDB operation name, such as "TransactWriteItems".
+     * @return the settings for the operation, or the defaults for an operation the DAOs do not use.
+     */
+    public OperationSettings forOperation(String operation) {
+        return operationSettings.getOrDefault(operation, defaultSettings);
+    }
+
+    private OperationSettings forRequest(AmazonWebServiceRequest request) {
+        String requestType = request.getClass().getSimpleName();
+        return forOperation(requestType.endsWith("Request")
+                ? requestType.substring(0, requestType.length() - "Request".length())
+                : requestType);
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public int getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    public int getRetryBaseDelayMillis() {
+        return retryBaseDelayMillis;
+    }
+
+    public int getRetryMaxBackoffMillis() {
+        return retryMaxBackoffMillis;
+    }
+
+    private static OperationSettings readOperationSettings(Map<String, String> environment, String prefix,
+                                                           OperationSettings defaults) {
+        return new OperationSettings(
+                readInt(environment, prefix + "REQUEST_TIMEOUT_MILLIS", defaults.getRequestTimeoutMillis(), 0),
+                readInt(environment, prefix + "CLIENT_EXECUTION_TIMEOUT_MILLIS", defaults.getClientExecutionTimeoutMillis(), 0),
+                readInt(environment, prefix + "MAX_ERROR_RETRY", defaults.getMaxErrorRetry(), 0));
+    }
+
+    private static int readInt(Map<String, String> environment, String name, int defaultValue, int minimum) {
+        String value = environment.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= minimum) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a whole number of at least %d, but was \"%s\".",
+                name, minimum, value));
+    }
+
+    private static boolean readBoolean(Map<String, String> environment, String name, boolean defaultValue) {
+        String value = environment.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        if (value.trim().equalsIgnoreCase("true") || value.trim().equalsIgnoreCase("false")) {
+            return Boolean.parseBoolean(value.trim());
+        }
+        throw new IllegalArgumentException(String.format("%s must be true or false, but was \"%s\".", name, value));
+    }
+
+    @Override
+    public String toString() {
+        return "DynamoDBClientSettings{" +
+                "maxConnections=" + maxConnections +
+                ", tcpKeepAlive=" + tcpKeepAlive +
+                ", connectionTimeoutMillis=" + connectionTimeoutMillis +
+                ", socketTimeoutMillis=" + socketTimeoutMillis +
+                ", retryBaseDelayMillis=" + retryBaseDelayMillis +
+                ", retryMaxBackoffMillis=" + retryMaxBackoffMillis +
+                ", defaultSettings=" + defaultSettings +
+                ", operationSettings=" + operationSettings +
+                '}';
+    }
+
+    /**
+     * Timeouts and retry limit for one DynamoDB operation. A timeout of 0 disables it.
+     */
+    public static class OperationSettings {
+        private final int requestTimeoutMillis;
+        private final int clientExecutionTimeoutMillis;
+        private final int maxErrorRetry;
+
+        public OperationSettings(int requestTimeoutMillis, int clientExecutionTimeoutMillis, int maxErrorRetry) {
+            this.requestTimeoutMillis = requestTimeoutMillis;
+            this.clientExecutionTimeoutMillis = clientExecutionTimeoutMillis;
+            this.maxErrorRetry = maxErrorRetry;
+        }
+
+        public int getRequestTimeoutMillis() {
+            return requestTimeoutMillis;
+        }
+
+        public int getClientExecutionTimeoutMillis() {
+            return clientExecutionTimeoutMillis;
+        }
+
+        public int getMaxErrorRetry() {
+            return maxErrorRetry;
+        }
+
+        @Override
+        public String toString() {
+            return "{requestTimeoutMillis=" + requestTimeoutMillis +
+                    ", clientExecutionTimeoutMillis=" + clientExecutionTimeoutMillis +
+                    ", maxErrorRetry=" + maxErrorRetry + '}';
+        }
+    }
+}
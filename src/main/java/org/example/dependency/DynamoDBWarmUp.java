@@ -0,0 +1,95 @@
+package org.example.dependency;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.dynamodb.model.LoginThrottleModel;
+import org.example.dynamodb.model.TimeEntryModel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves first-request work into container initialization.
+ * The mapper builds each table model by reflection the first time a model class is used, and the client only
+ * resolves credentials and opens its first TLS connection on its first call. Both are done here instead, so
+ * the first request on a new container does not pay for them.
+ */
+public class DynamoDBWarmUp {
+    private static final Logger log = LogManager.getLogger(DynamoDBWarmUp.class);
+    static final List<Class<?>> TABLE_MODELS = List.of(
+            EmployeeModel.class, TimeEntryModel.class, EmployeeCredentialsModel.class, ClockStateModel.class,
+            LoginThrottleModel.class);
+    /**
+     * An employee ID that is never issued, so the warm-up read never returns an item.
+     */
+    static final String WARM_UP_KEY = "warm-up";
+    private final DynamoDBMapper dynamoDBMapper;
+    private final boolean openConnection;
+
+    /**
+     * Only opens a connection when running in Lambda, so tests and local runs never call DynamoDB.
+     */
+    public DynamoDBWarmUp(DynamoDBMapper dynamoDBMapper) {
+        this(dynamoDBMapper, System.getenv("AWS_LAMBDA_FUNCTION_NAME") != null);
+    }
+
+    DynamoDBWarmUp(DynamoDBMapper dynamoDBMapper, boolean openConnection) {
+        this.dynamoDBMapper = dynamoDBMapper;
+        this.openConnection = openConnection;
+    }
+
+    /**
+     * Primes the table models and, in Lambda, opens a connection to DynamoDB. Failures are logged and ignored,
+     * because a failed warm-up only means the first request does the same work itself.
+     */
+    public void warmUp() {
+        long start = System.nanoTime();
+        for (Class<?> modelClass : TABLE_MODELS) {
+            primeTableModel(modelClass);
+        }
+        long tableModelsPrimed = System.nanoTime();
+
+        openConnection();
+        long end = System.nanoTime();
+
+        log.info("DynamoDB warm-up finished. Table models primed in {} ms, connection opened in {} ms.",
+                TimeUnit.NANOSECONDS.toMillis(tableModelsPrimed - start), TimeUnit.NANOSECONDS.toMillis(end - tableModelsPrimed));
+    }
+
+    /**
+     * Builds the table model and runs an item through its converters once, which loads and caches every
+     * attribute converter the mapper will need for the class.
+     */
+    private <T> void primeTableModel(Class<T> modelClass) {
+        try {
+            DynamoDBMapperTableModel<T> tableModel = dynamoDBMapper.getTableModel(modelClass);
+            tableModel.convert(tableModel.unconvert(Collections.emptyMap()));
+        } catch (Exception e) {
+            log.warn("Failed to prime the table model for {}.", modelClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Reads a key that does not exist. Even if this function's role may not read the employee table, the
+     * call still resolves credentials and completes the TLS handshake, which is the part worth doing early.
+     * After a restore from a snapshot, pooled connections are dead and are replaced on this call, because the
+     * client validates connections that have been idle before reusing them.
+     * Does nothing outside Lambda.
+     */
+    public void openConnection() {
+        if (!openConnection) {
+            return;
+        }
+        try {
+            dynamoDBMapper.load(EmployeeModel.class, WARM_UP_KEY);
+        } catch (Exception e) {
+            log.info("DynamoDB warm-up read failed: {}", e.getMessage());
+        }
+    }
+}
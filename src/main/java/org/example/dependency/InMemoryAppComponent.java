@@ -0,0 +1,17 @@
+package org.example.dependency;
+
+import dagger.Component;
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+
+import javax.inject.Singleton;
+
+/**
+ * An {@link AppComponent} whose DAOs keep their data in memory. {@link AppComponents} uses it when the
+ * {@code DAO_BACKEND} environment variable is {@code in-memory}, and tests can build one around their own
+ * {@link InMemoryDynamoDB}.
+ */
+@Singleton
+@Component(modules = {InMemoryDaoModule.class})
+public interface InMemoryAppComponent extends AppComponent {
+    InMemoryDynamoDB inMemoryDynamoDB();
+}
@@ -0,0 +1,91 @@
+package org.example.dependency;
+
+import dagger.Module;
+import dagger.Provides;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.dynamodb.EmployeeDao;
+import org.example.dynamodb.LoginThrottleDao;
+import org.example.dynamodb.TimeEntryDao;
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+import org.example.dynamodb.inmemory.InMemoryEmployeeCredentialsDao;
+import org.example.dynamodb.inmemory.InMemoryEmployeeDao;
+import org.example.dynamodb.inmemory.InMemoryLoginThrottleDao;
+import org.example.dynamodb.inmemory.InMemoryTimeEntryDao;
+
+import javax.inject.Singleton;
+
+/**
+ * Provides DAOs backed by an {@link InMemoryDynamoDB} instead of DynamoDB, so the handlers can run and be load
+ * tested without AWS. Used by {@link InMemoryAppComponent}.
+ */
+@Module(includes = {AsyncDaoModule.class, PasswordHashingModule.class, SessionTokenModule.class,
+        LoginThrottleModule.class})
+public class InMemoryDaoModule {
+    private static final Logger log = LogManager.getLogger(InMemoryDaoModule.class);
+    private final InMemoryDynamoDB inMemoryDynamoDB;
+
+    /**
+     * Creates an empty stand-in, configured from the environment.
+     */
+    public InMemoryDaoModule() {
+        this(null);
+    }
+
+    /**
+     * @param inMemoryDynamoDB the stand-in to use, e.g. one that a test has already filled.
+     */
+    public InMemoryDaoModule(InMemoryDynamoDB inMemoryDynamoDB) {
+        this.inMemoryDynamoDB = inMemoryDynamoDB;
+    }
+
+    @Provides
+    @Singleton
+    public DynamoDBClientSettings provideDynamoDBClientSettings() {
+        return DynamoDBClientSettings.fromEnvironment();
+    }
+
+    @Provides
+    @Singleton
+    public InMemoryDynamoDB provideInMemoryDynamoDB(DynamoDBClientSettings settings) {
+        InMemoryDynamoDB dynamoDB = inMemoryDynamoDB != null
+                ? inMemoryDynamoDB
+                : InMemoryDynamoDB.fromEnvironment(settings, System.getenv());
+        log.info("Using in-memory DynamoDB: {}", dynamoDB);
+        return dynamoDB;
+    }
+
+    @Provides
+    @Singleton
+    public EmployeeCredentialsDao provideEmployeeCredentialsDao(InMemoryDynamoDB dynamoDB) {
+        return new InMemoryEmployeeCredentialsDao(dynamoDB);
+    }
+
+    @Provides
+    @Singleton
+    public EmployeeDao provideEmployeeDao(InMemoryDynamoDB dynamoDB) {
+        return new InMemoryEmployeeDao(dynamoDB);
+    }
+
+    @Provides
+    @Singleton
+    public LoginThrottleDao provideLoginThrottleDao(InMemoryDynamoDB dynamoDB) {
+        return new InMemoryLoginThrottleDao(dynamoDB);
+    }
+
+    @Provides
+    @Singleton
+    public TimeEntryDao provideTimeEntryDao(InMemoryDynamoDB dynamoDB) {
+        return new InMemoryTimeEntryDao(dynamoDB);
+    }
+
+    /**
+     * Primes the table models like the DynamoDB warm-up, but never opens a connection.
+     */
+    @Provides
+    @Singleton
+    public DynamoDBWarmUp provideDynamoDBWarmUp(InMemoryDynamoDB dynamoDB) {
+        return new DynamoDBWarmUp(dynamoDB.getDynamoDBMapper(), false);
+    }
+}
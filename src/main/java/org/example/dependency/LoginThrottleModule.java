@@ -0,0 +1,21 @@
+package org.example.dependency;
+
+import dagger.Module;
+import dagger.Provides;
+import org.example.dynamodb.LoginThrottleDao;
+import org.example.utils.LoginThrottle;
+
+import javax.inject.Singleton;
+
+/**
+ * Provides the login throttle, so its in-memory buckets are shared by every login in the container. The persisted
+ * tier comes from whichever {@link LoginThrottleDao} the including module provides.
+ */
+@Module
+public class LoginThrottleModule {
+    @Provides
+    @Singleton
+    public LoginThrottle provideLoginThrottle(LoginThrottleDao loginThrottleDao) {
+        return LoginThrottle.fromEnvironment(loginThrottleDao);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.dependency;
+
+import dagger.Module;
+import dagger.Provides;
+import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.utils.BulkPasswordReset;
+import org.example.utils.PasswordHashingService;
+
+import javax.inject.Singleton;
+
+/**
+ * Provides the process-wide limit on concurrent password hashes, shared by every handler that hashes, and the bulk
+ * password reset that is sized by it.
+ */
+@Module
+public class PasswordHashingModule {
+    @Provides
+    @Singleton
+    public PasswordHashingService providePasswordHashingService() {
+        return PasswordHashingService.fromEnvironment();
+    }
+
+    @Provides
+    @Singleton
+    public BulkPasswordReset provideBulkPasswordReset(EmployeeCredentialsDao credentialsDao,
+                                                      PasswordHashingService passwordHashingService) {
+        return new BulkPasswordReset(credentialsDao, passwordHashingService);
+    }
+}
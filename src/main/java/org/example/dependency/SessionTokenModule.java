@@ -0,0 +1,20 @@
+package org.example.dependency;
+
+import dagger.Module;
+import dagger.Provides;
+import org.example.utils.SessionTokenService;
+
+import javax.inject.Singleton;
+
+/**
+ * Provides the session token service, so tokens issued at login are verified with the same keys and cache by every
+ * handler.
+ */
+@Module
+public class SessionTokenModule {
+    @Provides
+    @Singleton
+    public SessionTokenService provideSessionTokenService() {
+        return SessionTokenService.fromEnvironment();
+    }
+}
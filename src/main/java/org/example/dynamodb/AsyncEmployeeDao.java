@@ -0,0 +1,28 @@
+package org.example.dynamodb;
+
+import org.example.model.Employee;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of the {@link EmployeeDao} reads that callers overlap with other work, such as the login
+ * reading the permission level while the password is hashed. Each method runs the matching {@link EmployeeDao}
+ * method on a {@link DaoExecutor}, and the futures complete exceptionally with the same exceptions the blocking
+ * methods throw.
+ */
+public class AsyncEmployeeDao {
+    private final EmployeeDao employeeDao;
+    private final DaoExecutor daoExecutor;
+
+    public AsyncEmployeeDao(EmployeeDao employeeDao, DaoExecutor daoExecutor) {
+        this.employeeDao = employeeDao;
+        this.daoExecutor = daoExecutor;
+    }
+
+    /**
+     * @see EmployeeDao#getEmployee(String)
+     */
+    public CompletableFuture<Employee> getEmployee(String employeeId) {
+        return daoExecutor.supply(() -> employeeDao.getEmployee(employeeId));
+    }
+}
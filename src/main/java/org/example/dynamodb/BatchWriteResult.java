@@ -0,0 +1,92 @@
+package org.example.dynamodb;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The per-item outcome of a {@link BatchWriter} run.
+ * Every submitted item ends up in exactly one of the saved or failed lists.
+ *
+ * @param <T> the type of the items that were written.
+ */
+public class BatchWriteResult<T> {
+    private final List<T> savedItems;
+    private final List<FailedWrite<T>> failedItems;
+
+    public BatchWriteResult(List<T> savedItems, List<FailedWrite<T>> failedItems) {
+        this.savedItems = Collections.unmodifiableList(savedItems);
+        this.failedItems = Collections.unmodifiableList(failedItems);
+    }
+
+    public List<T> getSavedItems() {
+        return savedItems;
+    }
+
+    public List<FailedWrite<T>> getFailedItems() {
+        return failedItems;
+    }
+
+    public boolean isComplete() {
+        return failedItems.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchWriteResult{" +
+                "savedItems=" + savedItems.size() +
+                ", failedItems=" + failedItems +
+                '}';
+    }
+
+    /**
+     * An item that could not be written, with the reason and the number of attempts made.
+     *
+     * @param <T> the type of the item.
+     */
+    public static class FailedWrite<T> {
+        private final T item;
+        private final String error;
+        private final int attempts;
+
+        public FailedWrite(T item, String error, int attempts) {
+            this.item = item;
+            this.error = error;
+            this.attempts = attempts;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FailedWrite<?> that = (FailedWrite<?>) o;
+            return attempts == that.attempts && Objects.equals(item, that.item) && Objects.equals(error, that.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(item, error, attempts);
+        }
+
+        @Override
+        public String toString() {
+            return "FailedWrite{" +
+                    "item=" + item +
+                    ", error='" + error + '\'' +
+                    ", attempts=" + attempts +
+                    '}';
+        }
+    }
+}
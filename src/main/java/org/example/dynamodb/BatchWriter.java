@@ -0,0 +1,270 @@
+package org.example.dynamodb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Writes items to DynamoDB through BatchWriteItem without losing throttled or unprocessed items.
+ * Items are split into 25-item chunks which are written concurrently, up to a fixed limit.
+ * Unprocessed items and retryable failures are retried with full-jitter exponential backoff,
+ * and every item is reported back as either saved or failed.
+ */
+public class BatchWriter {
+    private static final Logger log = LogManager.getLogger(BatchWriter.class);
+    /**
+     * Retries are handled here per item, so the mapper must hand unprocessed items straight back.
+     */
+    private static final DynamoDBMapperConfig NO_MAPPER_RETRY = DynamoDBMapperConfig.builder()
+            .withBatchWriteRetryStrategy(new DynamoDBMapperConfig.DefaultBatchWriteRetryStrategy(0))
+            .build();
+    private static final ThreadFactory BATCH_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("batch-write-%d")
+            .setDaemon(true)
+            .build();
+    public static final int MAX_BATCH_SIZE = 25;
+    public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    public static final int DEFAULT_MAX_ATTEMPTS = 8;
+    public static final long DEFAULT_BASE_DELAY_MILLIS = 50;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 2_000;
+    private final ChunkWriter chunkWriter;
+    private final int maxConcurrentBatches;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public BatchWriter(DynamoDBMapper dynamoDBMapper) {
+        this(chunk -> dynamoDBMapper.batchWrite(chunk, Collections.emptyList(), NO_MAPPER_RETRY));
+    }
+
+    /**
+     * @param chunkWriter writes one chunk of at most {@value #MAX_BATCH_SIZE} items without retrying.
+     */
+    public BatchWriter(ChunkWriter chunkWriter) {
+        this(chunkWriter, DEFAULT_MAX_CONCURRENT_BATCHES, DEFAULT_MAX_ATTEMPTS,
+                DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    BatchWriter(DynamoDBMapper dynamoDBMapper, int maxConcurrentBatches, int maxAttempts,
+                long baseDelayMillis, long maxDelayMillis) {
+        this(chunk -> dynamoDBMapper.batchWrite(chunk, Collections.emptyList(), NO_MAPPER_RETRY),
+                maxConcurrentBatches, maxAttempts, baseDelayMillis, maxDelayMillis);
+    }
+
+    BatchWriter(ChunkWriter chunkWriter, int maxConcurrentBatches, int maxAttempts,
+                long baseDelayMillis, long maxDelayMillis) {
+        if (maxConcurrentBatches < 1 || maxAttempts < 1 || baseDelayMillis < 0 || maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Invalid batch writer configuration.");
+        }
+        this.chunkWriter = chunkWriter;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Saves all items, retrying unprocessed ones until they are written or the attempts run out.
+     * BatchWriteItem rejects a request that contains the same key twice, so when several items share a key
+     * only the last one is written, which is the same end state as saving them one after another.
+     *
+     * @param items the mapped items to save.
+     * @param itemKey returns the primary key of an item as a string.
+     * @param attributeKey returns the same key string for the attribute map of an unprocessed item.
+     * @return the saved and failed items.
+     */
+    public <T> BatchWriteResult<T> saveAll(List<T> items, Function<T, String> itemKey,
+                                           Function<Map<String, AttributeValue>, String> attributeKey) {
+        Map<String, T> itemsByKey = new LinkedHashMap<>();
+        for (T item : items) {
+            itemsByKey.put(itemKey.apply(item), item);
+        }
+
+        List<List<T>> chunks = Lists.partition(new ArrayList<>(itemsByKey.values()), MAX_BATCH_SIZE);
+        List<T> savedItems = new ArrayList<>();
+        List<BatchWriteResult.FailedWrite<T>> failedItems = new ArrayList<>();
+
+        if (chunks.size() <= 1) {
+            for (List<T> chunk : chunks) {
+                collect(writeChunk(chunk, itemKey, attributeKey), savedItems, failedItems);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(maxConcurrentBatches, chunks.size()), BATCH_THREAD_FACTORY);
+            try {
+                List<Future<BatchWriteResult<T>>> futures = new ArrayList<>();
+                for (List<T> chunk : chunks) {
+                    futures.add(executor.submit(() -> writeChunk(chunk, itemKey, attributeKey)));
+                }
+                for (Future<BatchWriteResult<T>> future : futures) {
+                    collect(getChunkResult(future), savedItems, failedItems);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        log.info("Batch write finished. {} items saved, {} items failed.", savedItems.size(), failedItems.size());
+        return new BatchWriteResult<>(savedItems, failedItems);
+    }
+
+    private <T> BatchWriteResult<T> writeChunk(List<T> chunk, Function<T, String> itemKey,
+                                               Function<Map<String, AttributeValue>, String> attributeKey) {
+        Map<String, T> pending = new LinkedHashMap<>();
+        for (T item : chunk) {
+            pending.put(itemKey.apply(item), item);
+        }
+        List<T> savedItems = new ArrayList<>();
+        List<BatchWriteResult.FailedWrite<T>> failedItems = new ArrayList<>();
+        String lastError = null;
+
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                backoff(attempt - 1);
+            }
+
+            Map<String, T> unprocessed = new LinkedHashMap<>();
+            try {
+                List<DynamoDBMapper.FailedBatch> failedBatches = chunkWriter.write(new ArrayList<>(pending.values()));
+
+                for (DynamoDBMapper.FailedBatch failedBatch : failedBatches) {
+                    Exception exception = failedBatch.getException();
+                    boolean retryable = exception == null || isRetryable(exception);
+                    if (exception != null) {
+                        lastError = exception.getMessage();
+                        log.warn("Batch write attempt {} failed for {} items.", attempt,
+                                countRequests(failedBatch.getUnprocessedItems()), exception);
+                    }
+
+                    for (List<WriteRequest> writeRequests : failedBatch.getUnprocessedItems().values()) {
+                        for (WriteRequest writeRequest : writeRequests) {
+                            String key = attributeKey.apply(writeRequest.getPutRequest().getItem());
+                            T item = pending.get(key);
+                            if (item == null) {
+                                log.warn("Unprocessed batch write item \"{}\" does not match a pending item.", key);
+                            } else if (retryable) {
+                                unprocessed.put(key, item);
+                            } else {
+                                failedItems.add(new BatchWriteResult.FailedWrite<>(item, exception.getMessage(), attempt));
+                                pending.remove(key);
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                if (!isRetryable(e)) {
+                    log.error("Batch write attempt {} failed with a non-retryable error.", attempt, e);
+                    for (T item : pending.values()) {
+                        failedItems.add(new BatchWriteResult.FailedWrite<>(item, e.getMessage(), attempt));
+                    }
+                    pending.clear();
+                    break;
+                }
+                log.warn("Batch write attempt {} failed with a retryable error.", attempt, e);
+                unprocessed.putAll(pending);
+            }
+
+            for (Map.Entry<String, T> entry : pending.entrySet()) {
+                if (!unprocessed.containsKey(entry.getKey())) {
+                    savedItems.add(entry.getValue());
+                }
+            }
+            pending = unprocessed;
+        }
+
+        for (T item : pending.values()) {
+            String error = lastError != null ? lastError : "Item was still unprocessed after " + maxAttempts + " attempts.";
+            failedItems.add(new BatchWriteResult.FailedWrite<>(item, error, maxAttempts));
+        }
+        return new BatchWriteResult<>(savedItems, failedItems);
+    }
+
+    /**
+     * Sleeps for a random time between zero and the capped exponential delay for the given retry ("full jitter").
+     */
+    private void backoff(int retry) {
+        long delay = fullJitterDelay(retry, baseDelayMillis, maxDelayMillis);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off a batch write.", e);
+        }
+    }
+
+    /**
+     * Returns a random delay between zero and {@code min(maxDelayMillis, baseDelayMillis * 2^(retry - 1))}.
+     */
+    public static long fullJitterDelay(int retry, long baseDelayMillis, long maxDelayMillis) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry - 1, 30));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static boolean isRetryable(Exception exception) {
+        if (exception instanceof AmazonServiceException) {
+            AmazonServiceException serviceException = (AmazonServiceException) exception;
+            return RetryUtils.isThrottlingException(serviceException)
+                    || RetryUtils.isRetryableServiceException(serviceException);
+        }
+        return exception instanceof SdkClientException;
+    }
+
+    private static int countRequests(Map<String, List<WriteRequest>> unprocessedItems) {
+        return unprocessedItems.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static <T> void collect(BatchWriteResult<T> chunkResult, List<T> savedItems,
+                                    List<BatchWriteResult.FailedWrite<T>> failedItems) {
+        savedItems.addAll(chunkResult.getSavedItems());
+        failedItems.addAll(chunkResult.getFailedItems());
+    }
+
+    private static <T> BatchWriteResult<T> getChunkResult(Future<BatchWriteResult<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch write.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Batch write failed.", cause);
+        }
+    }
+
+    /**
+     * Sends one BatchWriteItem call. Throttled or unprocessed items are returned as failed batches rather than
+     * retried, so that {@link BatchWriter} can retry them item by item.
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+        List<DynamoDBMapper.FailedBatch> write(List<Object> chunk);
+    }
+}
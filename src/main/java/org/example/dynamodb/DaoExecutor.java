@@ -0,0 +1,89 @@
+package org.example.dynamodb;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bounded thread pool that runs blocking DAO calls for the async DAOs.
+ * The pool has a fixed number of threads and a fixed-size queue. When both are full, the call runs on the
+ * calling thread instead, which slows the caller down rather than queueing without limit or failing.
+ */
+public class DaoExecutor {
+    private static final ThreadFactory DAO_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("dao-async-%d")
+            .setDaemon(true)
+            .build();
+    public static final int DEFAULT_THREADS = 8;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private final ThreadPoolExecutor executor;
+
+    public DaoExecutor(int threads) {
+        this(threads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public DaoExecutor(int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid DAO executor configuration.");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), DAO_THREAD_FACTORY, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs a DAO call on the pool.
+     *
+     * @param call the blocking call.
+     * @return a future that completes with the call's result, or exceptionally with the exception it threw.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    /**
+     * Runs a DAO call that returns nothing on the pool.
+     */
+    public CompletableFuture<Void> run(Runnable call) {
+        return CompletableFuture.runAsync(call, executor);
+    }
+
+    /**
+     * Waits for a future and returns its result. If the call failed, the exception the DAO threw is rethrown
+     * as is, so callers can keep catching the DAO's exception types.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a DAO call.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("DAO call failed.", cause);
+        }
+    }
+
+    /**
+     * @return the number of calls waiting for a thread.
+     */
+    public int getQueuedCalls() {
+        return executor.getQueue().size();
+    }
+}
@@ -0,0 +1,353 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.google.common.collect.Iterables;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
+import org.example.utils.ModelConverter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data Access Object (DAO) for accessing an employee's credentials in the DynamoDB table.
+ * This class provides methods to retrieve and save employee credentials in the DynamoDB table.
+ */
+public class DynamoDBEmployeeCredentialsDao implements EmployeeCredentialsDao {
+    private static final Logger log = LogManager.getLogger(DynamoDBEmployeeCredentialsDao.class);
+    private static final String TABLE_NAME = EmployeeCredentialsModel.class.getAnnotation(DynamoDBTable.class).tableName();
+    /**
+     * The mapper stores booleans as numbers, so a locked account has accountLocked = 1.
+     */
+    private static final AttributeValue LOCKED = new AttributeValue().withN("1");
+    private final DynamoDBMapper dynamoDBMapper;
+    private final AmazonDynamoDB amazonDynamoDB;
+
+    public DynamoDBEmployeeCredentialsDao(DynamoDBMapper dynamoDBMapper, AmazonDynamoDB amazonDynamoDB) {
+        this.dynamoDBMapper = dynamoDBMapper;
+        this.amazonDynamoDB = amazonDynamoDB;
+    }
+
+
+    /**
+     * Retrieves employee credentials from the DynamoDB table using the specified username.
+     *
+     * @param username the username of the employee whose credentials are to be retrieved.
+     * @return the {@link EmployeeCredentials} object corresponding to the specified username.
+     * @throws UsernameNotFoundException if no employee credentials are found with the specified username.
+     * @throws Exception if any other error occurs while retrieving the employee credentials.
+     */
+    @Override
+    public EmployeeCredentials getEmployeeCredentials(String username) {
+        try {
+            EmployeeCredentialsModel employeeCredentialsModel = this.dynamoDBMapper.load(EmployeeCredentialsModel.class, username);
+            if (employeeCredentialsModel == null) {
+                throw new UsernameNotFoundException(String.format("Username \"%s\" not found!", username));
+            }
+
+            EmployeeCredentials employeeCredentials = ModelConverter.fromEmployeeCredentialsModel(employeeCredentialsModel);
+
+            log.info("Successfully retrieved employee credentials.");
+            return employeeCredentials;
+        } catch (UsernameNotFoundException e) {
+            log.warn(String.format("Username \"%s\" not found!", username));
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred. ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saves the employee credentials to the DynamoDB table.
+     *
+     * @param employeeCredentials the {@link EmployeeCredentials} object to be saved.
+     * @return the saved {@link EmployeeCredentialsModel} object.
+     */
+    @Override
+    public EmployeeCredentialsModel saveEmployeeCredentials(EmployeeCredentials employeeCredentials) {
+        EmployeeCredentialsModel employeeCredentialsModel;
+        try {
+            employeeCredentialsModel = ModelConverter.fromEmployeeCredentials(employeeCredentials);
+            dynamoDBMapper.save(employeeCredentialsModel);
+
+            log.info("Successfully saved the employee credentials for username \"{}\". ", employeeCredentialsModel.getUsername());
+            return employeeCredentialsModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving the employee credentials to the database: ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores a new hash of an unchanged password with a single UpdateItem that sets only the hash, salt and hash
+     * parameters, conditioned on the stored hash still being the previous one. The failed login attempts and the
+     * lock are never written, so failures counted since the credentials were read are kept, and a password changed
+     * concurrently is not overwritten.
+     *
+     * @param employeeCredentials the credentials holding the new hash.
+     * @param previousPassword the hash the new one replaces.
+     * @return true if the new hash was stored, false if the stored hash had already changed.
+     */
+    @Override
+    public boolean updatePasswordHash(EmployeeCredentials employeeCredentials, String previousPassword) {
+        String username = employeeCredentials.getUsername();
+        try {
+            PasswordHashParameters hashParameters = employeeCredentials.getHashParameters();
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(usernameKey(username))
+                    .withUpdateExpression("SET #password = :password, #salt = :salt, #hashMemoryKB = :hashMemoryKB, "
+                            + "#hashIterations = :hashIterations, #hashParallelism = :hashParallelism")
+                    .withConditionExpression("#password = :previousPassword")
+                    .withExpressionAttributeNames(Map.of(
+                            "#password", "password",
+                            "#salt", "salt",
+                            "#hashMemoryKB", "hashMemoryKB",
+                            "#hashIterations", "hashIterations",
+                            "#hashParallelism", "hashParallelism"))
+                    .withExpressionAttributeValues(Map.of(
+                            ":password", new AttributeValue().withS(employeeCredentials.getPassword()),
+                            ":salt", new AttributeValue().withS(employeeCredentials.getSalt()),
+                            ":hashMemoryKB", new AttributeValue().withN(String.valueOf(hashParameters.getMemoryKB())),
+                            ":hashIterations", new AttributeValue().withN(String.valueOf(hashParameters.getIterations())),
+                            ":hashParallelism", new AttributeValue().withN(String.valueOf(hashParameters.getParallelism())),
+                            ":previousPassword", new AttributeValue().withS(previousPassword)));
+
+            amazonDynamoDB.updateItem(updateItemRequest);
+            log.info("Updated the password hash of username \"{}\".", username);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.info("The password of username \"{}\" changed before its hash could be updated.", username);
+            return false;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while updating the password hash of username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores an admin password reset with a single UpdateItem that sets the hash, salt and hash parameters together
+     * with the fields the reset changes, conditioned on the stored hash still being the one the reset replaces. A
+     * password changed or rehashed since the credentials were read is not overwritten, and no other attribute the
+     * credentials were read with is written back.
+     *
+     * @param employeeCredentials the reset credentials.
+     * @param previousPassword the hash the reset replaces.
+     * @return true if the reset was stored, false if the stored hash had changed since it was read.
+     */
+    @Override
+    public boolean resetPassword(EmployeeCredentials employeeCredentials, String previousPassword) {
+        String username = employeeCredentials.getUsername();
+        try {
+            PasswordHashParameters hashParameters = employeeCredentials.getHashParameters();
+            Map<String, String> attributeNames = new HashMap<>();
+            attributeNames.put("#password", "password");
+            attributeNames.put("#salt", "salt");
+            attributeNames.put("#hashMemoryKB", "hashMemoryKB");
+            attributeNames.put("#hashIterations", "hashIterations");
+            attributeNames.put("#hashParallelism", "hashParallelism");
+            attributeNames.put("#lastUpdated", "lastUpdated");
+            attributeNames.put("#accountLocked", "accountLocked");
+            attributeNames.put("#forceChangeAfterLogin", "forceChangeAfterLogin");
+            attributeNames.put("#failedAttempts", "failedAttempts");
+            Map<String, AttributeValue> attributeValues = new HashMap<>();
+            attributeValues.put(":password", new AttributeValue().withS(employeeCredentials.getPassword()));
+            attributeValues.put(":salt", new AttributeValue().withS(employeeCredentials.getSalt()));
+            attributeValues.put(":hashMemoryKB", new AttributeValue().withN(String.valueOf(hashParameters.getMemoryKB())));
+            attributeValues.put(":hashIterations", new AttributeValue().withN(String.valueOf(hashParameters.getIterations())));
+            attributeValues.put(":hashParallelism", new AttributeValue().withN(String.valueOf(hashParameters.getParallelism())));
+            attributeValues.put(":lastUpdated", new AttributeValue().withS(employeeCredentials.getLastUpdated().toString()));
+            attributeValues.put(":accountLocked", booleanValue(employeeCredentials.isAccountLocked()));
+            attributeValues.put(":forceChangeAfterLogin", booleanValue(employeeCredentials.isForceChangeAfterLogin()));
+            attributeValues.put(":failedAttempts", new AttributeValue().withN(String.valueOf(employeeCredentials.getFailedAttempts())));
+            attributeValues.put(":previousPassword", new AttributeValue().withS(previousPassword));
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(usernameKey(username))
+                    .withUpdateExpression("SET #password = :password, #salt = :salt, #hashMemoryKB = :hashMemoryKB, "
+                            + "#hashIterations = :hashIterations, #hashParallelism = :hashParallelism, "
+                            + "#lastUpdated = :lastUpdated, #accountLocked = :accountLocked, "
+                            + "#forceChangeAfterLogin = :forceChangeAfterLogin, #failedAttempts = :failedAttempts")
+                    .withConditionExpression("#password = :previousPassword")
+                    .withExpressionAttributeNames(attributeNames)
+                    .withExpressionAttributeValues(attributeValues);
+
+            amazonDynamoDB.updateItem(updateItemRequest);
+            log.info("Reset the password of username \"{}\".", username);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.info("The password of username \"{}\" changed before it could be reset.", username);
+            return false;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while resetting the password of username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the credentials of several usernames using BatchGetItem.
+     * The usernames are loaded in chunks of up to {@value EmployeeDao#MAX_BATCH_GET_SIZE} keys, and any keys DynamoDB
+     * leaves unprocessed are retried with backoff. Usernames that do not exist are skipped.
+     *
+     * @param usernames the usernames whose credentials are to be retrieved. Duplicates are ignored.
+     * @return the credentials that were found, in the order their usernames were given.
+     */
+    @Override
+    public List<EmployeeCredentials> getEmployeeCredentialsList(Collection<String> usernames) {
+        Set<String> uniqueUsernames = new LinkedHashSet<>(usernames);
+        try {
+            Map<String, EmployeeCredentialsModel> employeeCredentialsModels = new HashMap<>();
+            for (List<String> chunk : Iterables.partition(uniqueUsernames, EmployeeDao.MAX_BATCH_GET_SIZE)) {
+                List<EmployeeCredentialsModel> keys = new ArrayList<>();
+                for (String username : chunk) {
+                    EmployeeCredentialsModel key = new EmployeeCredentialsModel();
+                    key.setUsername(username);
+                    keys.add(key);
+                }
+
+                for (List<Object> tableItems : dynamoDBMapper.batchLoad(keys, DynamoDBEmployeeDao.BATCH_GET_RETRY).values()) {
+                    for (Object item : tableItems) {
+                        EmployeeCredentialsModel employeeCredentialsModel = (EmployeeCredentialsModel) item;
+                        employeeCredentialsModels.put(employeeCredentialsModel.getUsername(), employeeCredentialsModel);
+                    }
+                }
+            }
+
+            List<EmployeeCredentials> employeeCredentialsList = new ArrayList<>();
+            for (String username : uniqueUsernames) {
+                EmployeeCredentialsModel employeeCredentialsModel = employeeCredentialsModels.get(username);
+                if (employeeCredentialsModel != null) {
+                    employeeCredentialsList.add(ModelConverter.fromEmployeeCredentialsModel(employeeCredentialsModel));
+                }
+            }
+
+            log.info("Successfully retrieved {} of {} requested employee credentials.", employeeCredentialsList.size(),
+                    uniqueUsernames.size());
+            return employeeCredentialsList;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving {} employee credentials. ", uniqueUsernames.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Atomically adds one to the failed login attempts of a username with an ADD update expression, so concurrent
+     * failures are all counted without reading or rewriting the rest of the credentials. When the new count reaches
+     * {@link EmployeeCredentials#MAX_FAILED_ATTEMPTS}, the account is locked with a second, conditional update.
+     *
+     * @param username the username the failed attempt was made for.
+     * @return the number of failed attempts after this one was counted.
+     * @throws UsernameNotFoundException if no credentials exist for the username.
+     */
+    @Override
+    public int recordFailedLogin(String username) {
+        try {
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(usernameKey(username))
+                    .withUpdateExpression("ADD #failedAttempts :one")
+                    .withConditionExpression("attribute_exists(#username)")
+                    .withExpressionAttributeNames(Map.of(
+                            "#username", "username",
+                            "#failedAttempts", "failedAttempts"))
+                    .withExpressionAttributeValues(Map.of(":one", new AttributeValue().withN("1")))
+                    .withReturnValues(ReturnValue.UPDATED_NEW);
+
+            UpdateItemResult updateItemResult = amazonDynamoDB.updateItem(updateItemRequest);
+            int failedAttempts = Integer.parseInt(updateItemResult.getAttributes().get("failedAttempts").getN());
+            log.info("Recorded failed login attempt {} for username \"{}\".", failedAttempts, username);
+
+            if (failedAttempts >= EmployeeCredentials.MAX_FAILED_ATTEMPTS) {
+                lockAccount(username);
+            }
+            return failedAttempts;
+        } catch (ConditionalCheckFailedException e) {
+            log.warn(String.format("Username \"%s\" not found!", username));
+            throw new UsernameNotFoundException(String.format("Username \"%s\" not found!", username), e);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while recording a failed login for username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the failed login attempts of a username back to zero, as long as there are attempts to clear and the
+     * account has not been locked by a concurrent failure.
+     *
+     * @param username the username that logged in.
+     */
+    @Override
+    public void resetFailedLogins(String username) {
+        try {
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(usernameKey(username))
+                    .withUpdateExpression("SET #failedAttempts = :zero")
+                    .withConditionExpression("#failedAttempts > :zero AND #accountLocked <> :locked")
+                    .withExpressionAttributeNames(Map.of(
+                            "#failedAttempts", "failedAttempts",
+                            "#accountLocked", "accountLocked"))
+                    .withExpressionAttributeValues(Map.of(
+                            ":zero", new AttributeValue().withN("0"),
+                            ":locked", LOCKED));
+
+            amazonDynamoDB.updateItem(updateItemRequest);
+            log.info("Reset failed login attempts for username \"{}\".", username);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("Failed login attempts for username \"{}\" were already cleared or the account was locked.", username);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while resetting failed logins for username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Locks an account whose failed attempts have reached the limit. Only the first of several concurrent failures
+     * makes the transition. The others fail the condition, which is ignored.
+     */
+    private void lockAccount(String username) {
+        try {
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(usernameKey(username))
+                    .withUpdateExpression("SET #accountLocked = :locked")
+                    .withConditionExpression("#failedAttempts >= :maxFailedAttempts AND #accountLocked <> :locked")
+                    .withExpressionAttributeNames(Map.of(
+                            "#failedAttempts", "failedAttempts",
+                            "#accountLocked", "accountLocked"))
+                    .withExpressionAttributeValues(Map.of(
+                            ":maxFailedAttempts", new AttributeValue().withN(String.valueOf(EmployeeCredentials.MAX_FAILED_ATTEMPTS)),
+                            ":locked", LOCKED));
+
+            amazonDynamoDB.updateItem(updateItemRequest);
+            log.warn("Locked username \"{}\" after too many failed login attempts.", username);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("Username \"{}\" was already locked.", username);
+        }
+    }
+
+    private static Map<String, AttributeValue> usernameKey(String username) {
+        return Map.of("username", new AttributeValue().withS(username));
+    }
+
+    private static AttributeValue booleanValue(boolean value) {
+        return value ? LOCKED : new AttributeValue().withN("0");
+    }
+}
@@ -0,0 +1,572 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.BatchLoadContext;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTransactionWriteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UsernameAlreadyExistsException;
+import org.example.model.Employee;
+import org.example.model.EmployeeCredentials;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
+import org.example.model.PermissionLevel;
+import org.example.utils.ModelConverter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Data Access Object (DAO) for accessing employee data in the DynamoDB table.
+ * This class provides methods to retrieve, save, and retrieve all employees from the DynamoDB table.
+ */
+public class DynamoDBEmployeeDao implements EmployeeDao {
+    private static final Logger log = LogManager.getLogger(DynamoDBEmployeeDao.class);
+    private static final DynamoDBMapperConfig ITERATION_ONLY = DynamoDBMapperConfig.builder()
+            .withPaginationLoadingStrategy(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY)
+            .build();
+    private static final ThreadFactory SCAN_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("employee-scan-%d")
+            .setDaemon(true)
+            .build();
+    /**
+     * Retries the unprocessed keys of a BatchGetItem call with full-jitter exponential backoff.
+     */
+    static final DynamoDBMapperConfig BATCH_GET_RETRY = DynamoDBMapperConfig.builder()
+            .withBatchLoadRetryStrategy(new DynamoDBMapperConfig.BatchLoadRetryStrategy() {
+                @Override
+                public boolean shouldRetry(BatchLoadContext batchLoadContext) {
+                    Map<String, KeysAndAttributes> unprocessedKeys = batchLoadContext.getBatchGetItemResult().getUnprocessedKeys();
+                    return unprocessedKeys != null && !unprocessedKeys.isEmpty()
+                            && batchLoadContext.getRetriesAttempted() < BatchWriter.DEFAULT_MAX_ATTEMPTS - 1;
+                }
+
+                @Override
+                public long getDelayBeforeNextRetry(BatchLoadContext batchLoadContext) {
+                    return BatchWriter.fullJitterDelay(batchLoadContext.getRetriesAttempted() + 1,
+                            BatchWriter.DEFAULT_BASE_DELAY_MILLIS, BatchWriter.DEFAULT_MAX_DELAY_MILLIS);
+                }
+            })
+            .build();
+    private static final String TABLE_NAME = EmployeeModel.class.getAnnotation(DynamoDBTable.class).tableName();
+    private static final String VERSION_ATTRIBUTE = "version";
+    private final DynamoDBMapper dynamoDBMapper;
+    private final AmazonDynamoDB amazonDynamoDB;
+    private final EmployeeCache employeeCache;
+
+    public DynamoDBEmployeeDao(DynamoDBMapper dynamoDBMapper, AmazonDynamoDB amazonDynamoDB) {
+        this.dynamoDBMapper = dynamoDBMapper;
+        this.amazonDynamoDB = amazonDynamoDB;
+        this.employeeCache = new EmployeeCache();
+    }
+
+    /**
+     * Retrieves an employee from the DynamoDB table using the specified employee ID.
+     * Reads go through an {@link EmployeeCache}, so a warm container only loads an employee again once its
+     * cached copy has expired or this DAO has written to it. Employees that are not found are not cached.
+     *
+     * @param employeeId the ID of the employee to retrieve.
+     * @return the Employee object corresponding to the specified employee ID.
+     * @throws EmployeeNotFoundException if no employee is found with the specified employee ID.
+     */
+    @Override
+    public Employee getEmployee(String employeeId) {
+        try {
+            EmployeeModel employeeModel = employeeCache.get(employeeId, () -> {
+                EmployeeModel loadedModel = this.dynamoDBMapper.load(EmployeeModel.class, employeeId);
+                if (loadedModel == null) {
+                    throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId);
+                }
+                return loadedModel;
+            });
+
+            Employee employee = ModelConverter.fromEmployeeModel(employeeModel);
+            log.info("Successfully retrieved employee with ID: {}", employeeId);
+            return employee;
+        } catch (EmployeeNotFoundException e) {
+            log.warn("Employee ID \"{}\" not found in database.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves only the requested fields of an employee from the DynamoDB table.
+     * The fields are sent to DynamoDB as a projection expression, so unrequested attributes are neither
+     * transferred nor converted, and are left null on the returned Employee.
+     *
+     * @param employeeId the ID of the employee to retrieve.
+     * @param fields the fields to retrieve, which must include {@link EmployeeField#REQUIRED_FIELDS}. If null or
+     *               containing every field, the whole item is loaded.
+     * @return the Employee object corresponding to the specified employee ID.
+     * @throws EmployeeNotFoundException if no employee is found with the specified employee ID.
+     */
+    @Override
+    public Employee getEmployee(String employeeId, Set<EmployeeField> fields) {
+        if (EmployeeField.isAllFields(fields)) {
+            return getEmployee(employeeId);
+        }
+
+        try {
+            Map<String, String> expressionAttributeNames = new HashMap<>();
+            String projectionExpression = EmployeeField.toProjectionExpression(requiredFields(fields), expressionAttributeNames);
+            Map<String, AttributeValue> eav = new HashMap<>();
+            eav.put(":employeeId", new AttributeValue().withS(employeeId));
+
+            DynamoDBQueryExpression<EmployeeModel> queryExpression = new DynamoDBQueryExpression<EmployeeModel>()
+                    .withKeyConditionExpression("#employeeId = :employeeId")
+                    .withExpressionAttributeNames(expressionAttributeNames)
+                    .withExpressionAttributeValues(eav)
+                    .withProjectionExpression(projectionExpression);
+
+            List<EmployeeModel> employeeModels = dynamoDBMapper.queryPage(EmployeeModel.class, queryExpression).getResults();
+            if (employeeModels == null || employeeModels.isEmpty()) {
+                throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId);
+            }
+
+            Employee employee = ModelConverter.fromEmployeeModel(employeeModels.get(0));
+            log.info("Successfully retrieved {} fields of employee with ID: {}", fields.size(), employeeId);
+            return employee;
+        } catch (EmployeeNotFoundException e) {
+            log.warn("Employee ID \"{}\" not found in database.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves several employees by ID using BatchGetItem.
+     * The IDs are loaded in chunks of up to {@value #MAX_BATCH_GET_SIZE} keys, and any keys DynamoDB leaves
+     * unprocessed are retried with backoff. IDs that do not exist are skipped.
+     *
+     * @param employeeIds the IDs of the employees to retrieve. Duplicates are ignored.
+     * @return the employees that were found, in the order their IDs were given.
+     */
+    @Override
+    public List<Employee> getEmployees(Collection<String> employeeIds) {
+        Set<String> uniqueIds = new LinkedHashSet<>(employeeIds);
+        try {
+            Map<String, EmployeeModel> employeeModels = new HashMap<>();
+            for (List<String> chunk : Iterables.partition(uniqueIds, MAX_BATCH_GET_SIZE)) {
+                List<EmployeeModel> keys = new ArrayList<>();
+                for (String employeeId : chunk) {
+                    EmployeeModel key = new EmployeeModel();
+                    key.setEmployeeId(employeeId);
+                    keys.add(key);
+                }
+
+                for (List<Object> tableItems : dynamoDBMapper.batchLoad(keys, BATCH_GET_RETRY).values()) {
+                    for (Object item : tableItems) {
+                        EmployeeModel employeeModel = (EmployeeModel) item;
+                        employeeModels.put(employeeModel.getEmployeeId(), employeeModel);
+                    }
+                }
+            }
+
+            List<Employee> employees = new ArrayList<>();
+            for (String employeeId : uniqueIds) {
+                EmployeeModel employeeModel = employeeModels.get(employeeId);
+                if (employeeModel != null) {
+                    employees.add(ModelConverter.fromEmployeeModel(employeeModel));
+                }
+            }
+
+            log.info("Successfully retrieved {} of {} requested employees.", employees.size(), uniqueIds.size());
+            return employees;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving {} employees. ", uniqueIds.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saves an employee to the DynamoDB table.
+     *
+     * @param employee the Employee object to save.
+     * @return the saved EmployeeModel object.
+     */
+    @Override
+    public EmployeeModel saveEmployee(Employee employee) {
+        EmployeeModel employeeModel;
+        try {
+            employeeModel = ModelConverter.fromEmployee(employee);
+            dynamoDBMapper.save(employeeModel);
+            employeeCache.invalidate(employeeModel.getEmployeeId());
+
+            log.info("Successfully saved employee with ID: {}", employeeModel.getEmployeeId());
+            return employeeModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving Employee to the database: ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new employee together with their login credentials in one TransactWriteItems call.
+     * The credentials are only written if the username is not taken, and the employee only if the generated
+     * employee ID is unused, so either both items are created or neither is. No read is needed up front to
+     * check the username.
+     *
+     * @param employee the new Employee object.
+     * @param employeeCredentials the credentials for the new employee.
+     * @return the saved EmployeeModel object.
+     * @throws UsernameAlreadyExistsException if the username is already taken.
+     */
+    @Override
+    public EmployeeModel createEmployee(Employee employee, EmployeeCredentials employeeCredentials) {
+        String username = employeeCredentials.getUsername();
+        try {
+            EmployeeModel employeeModel = ModelConverter.fromEmployee(employee);
+            EmployeeCredentialsModel employeeCredentialsModel = ModelConverter.fromEmployeeCredentials(employeeCredentials);
+
+            dynamoDBMapper.transactionWrite(new TransactionWriteRequest()
+                    .addPut(employeeCredentialsModel, new DynamoDBTransactionWriteExpression()
+                            .withConditionExpression("attribute_not_exists(username)"))
+                    .addPut(employeeModel, new DynamoDBTransactionWriteExpression()
+                            .withConditionExpression("attribute_not_exists(employee_id)")));
+
+            log.info("Successfully created employee with ID: {} and username \"{}\".", employeeModel.getEmployeeId(), username);
+            return employeeModel;
+        } catch (TransactionCanceledException e) {
+            if (!isConditionalCheckFailure(e, 0)) {
+                log.error("New employee transaction for username \"{}\" was canceled. ", username, e);
+                throw e;
+            }
+            log.warn("Username \"{}\" is already taken.", username);
+            throw new UsernameAlreadyExistsException(String.format("Username \"%s\" is already taken. Please choose another.", username), e);
+        } catch (Exception e) {
+            log.error("There was an error while creating a new employee with username \"{}\": ", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if the transaction action at the given index was canceled by its condition expression.
+     */
+    private static boolean isConditionalCheckFailure(TransactionCanceledException e, int actionIndex) {
+        List<CancellationReason> cancellationReasons = e.getCancellationReasons();
+        return cancellationReasons != null && cancellationReasons.size() > actionIndex
+                && "ConditionalCheckFailed".equals(cancellationReasons.get(actionIndex).getCode());
+    }
+
+    /**
+     * Applies a patch to an existing employee with a single conditional UpdateItem call.
+     * Only the changed attributes are sent, and the employee's version is incremented in the same write.
+     * If the patch has an expected version, the update only succeeds while the stored employee is still at
+     * that version, so concurrent edits are rejected instead of overwriting each other. An employee that has
+     * never been patched is treated as version 0.
+     *
+     * @param employeePatch the changes to apply.
+     * @return the updated EmployeeModel, including every attribute and the new version.
+     * @throws EmployeeNotFoundException if no employee exists with the patch's employee ID.
+     * @throws EmployeeVersionConflictException if the employee was changed since the expected version.
+     */
+    @Override
+    public EmployeeModel updateEmployee(EmployeePatch employeePatch) {
+        String employeeId = employeePatch.getEmployeeId();
+        Long expectedVersion = employeePatch.getExpectedVersion();
+        try {
+            Map<String, String> expressionAttributeNames = new HashMap<>();
+            Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+            StringBuilder updateExpression = new StringBuilder("SET ");
+            for (Map.Entry<EmployeeField, Object> change : employeePatch.getChanges().entrySet()) {
+                EmployeeField field = change.getKey();
+                expressionAttributeNames.put("#" + field.getFieldName(), field.getAttributeName());
+                expressionAttributeValues.put(":" + field.getFieldName(), toAttributeValue(change.getValue()));
+                updateExpression.append('#').append(field.getFieldName())
+                        .append(" = :").append(field.getFieldName()).append(", ");
+            }
+            updateExpression.append("#version = if_not_exists(#version, :zero) + :one");
+            expressionAttributeNames.put("#version", VERSION_ATTRIBUTE);
+            expressionAttributeValues.put(":zero", new AttributeValue().withN("0"));
+            expressionAttributeValues.put(":one", new AttributeValue().withN("1"));
+
+            String conditionExpression = "attribute_exists(#employeeId)";
+            expressionAttributeNames.put("#employeeId", EmployeeField.EMPLOYEE_ID.getAttributeName());
+            if (expectedVersion != null && expectedVersion == 0) {
+                conditionExpression += " AND attribute_not_exists(#version)";
+            } else if (expectedVersion != null) {
+                conditionExpression += " AND #version = :expectedVersion";
+                expressionAttributeValues.put(":expectedVersion", new AttributeValue().withN(expectedVersion.toString()));
+            }
+
+            UpdateItemRequest updateItemRequest = new UpdateItemRequest()
+                    .withTableName(TABLE_NAME)
+                    .withKey(Map.of(EmployeeField.EMPLOYEE_ID.getAttributeName(), new AttributeValue().withS(employeeId)))
+                    .withUpdateExpression(updateExpression.toString())
+                    .withConditionExpression(conditionExpression)
+                    .withExpressionAttributeNames(expressionAttributeNames)
+                    .withExpressionAttributeValues(expressionAttributeValues)
+                    .withReturnValues(ReturnValue.ALL_NEW);
+
+            UpdateItemResult updateItemResult = amazonDynamoDB.updateItem(updateItemRequest);
+            EmployeeModel employeeModel = dynamoDBMapper.marshallIntoObject(EmployeeModel.class, updateItemResult.getAttributes());
+            employeeCache.put(employeeModel);
+
+            log.info("Successfully updated {} fields of employee with ID: {}. New version: {}",
+                    employeePatch.getChanges().size(), employeeId, employeeModel.getVersion());
+            return employeeModel;
+        } catch (ConditionalCheckFailedException e) {
+            // The condition failure does not say which check failed, so look the employee up only on this path.
+            // The cached copy is stale either way, so replace it with what was read.
+            employeeCache.invalidate(employeeId);
+            EmployeeModel currentModel = expectedVersion == null ? null : dynamoDBMapper.load(EmployeeModel.class, employeeId);
+            if (currentModel == null) {
+                log.warn("Employee ID \"{}\" not found in database.", employeeId);
+                throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId, e);
+            }
+            employeeCache.put(currentModel);
+            log.warn("Employee ID \"{}\" was changed since version {}.", employeeId, expectedVersion);
+            throw new EmployeeVersionConflictException(String.format("Employee ID \"%s\" was changed by someone else. " +
+                    "Reload the employee and try again.", employeeId), e);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while updating Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the hit, miss and eviction counters of the employee cache behind {@link #getEmployee(String)}.
+     */
+    @Override
+    public CacheStats getCacheStats() {
+        return employeeCache.stats();
+    }
+
+    /**
+     * Converts a patched field value into the attribute value the mapper would store for it.
+     */
+    public static AttributeValue toAttributeValue(Object value) {
+        if (value instanceof Boolean) {
+            return new AttributeValue().withBOOL((Boolean) value);
+        }
+        if (value instanceof LocalDate) {
+            return new AttributeValue().withS(ModelConverter.convertFromLocalDateToString((LocalDate) value));
+        }
+        if (value instanceof PermissionLevel) {
+            return new AttributeValue().withS(((PermissionLevel) value).name());
+        }
+        return new AttributeValue().withS(value.toString());
+    }
+
+    /**
+     * Retrieves all employees from the DynamoDB table.
+     *
+     * @return a list of all Employee objects in the table.
+     */
+    @Override
+    public List<Employee> getAllEmployees() {
+        try (Stream<Employee> employees = streamAllEmployees()) {
+            List<Employee> employeeList = employees.collect(Collectors.toList());
+
+            log.info("Successfully retrieved all employees from database.");
+            return employeeList;
+        } catch (Exception e) {
+            log.error("An error occurred while retrieving all employees from database. ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves all employees from the DynamoDB table using a parallel scan.
+     * The table is split into {@code totalSegments} segments that are scanned concurrently, one thread per segment.
+     * Results are merged in segment order, so the returned order is deterministic for an unchanged table.
+     *
+     * @param totalSegments the number of segments to scan in parallel, between 1 and {@link #MAX_SCAN_SEGMENTS}.
+     * @return a list of all Employee objects in the table.
+     */
+    @Override
+    public List<Employee> getAllEmployees(int totalSegments) {
+        return getAllEmployees(totalSegments, null);
+    }
+
+    /**
+     * Retrieves only the requested fields of all employees using a parallel scan.
+     *
+     * @param totalSegments the number of segments to scan in parallel, between 1 and {@link #MAX_SCAN_SEGMENTS}.
+     * @param fields the fields to retrieve, or null to retrieve every field.
+     * @return a list of all Employee objects in the table.
+     * @see #getAllEmployees(int)
+     */
+    @Override
+    public List<Employee> getAllEmployees(int totalSegments, Set<EmployeeField> fields) {
+        if (totalSegments < 1 || totalSegments > MAX_SCAN_SEGMENTS) {
+            throw new IllegalArgumentException(String.format("Scan segments must be between 1 and %d.", MAX_SCAN_SEGMENTS));
+        }
+        if (totalSegments == 1) {
+            try (Stream<Employee> employees = streamAllEmployees(fields)) {
+                return employees.collect(Collectors.toList());
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(totalSegments, SCAN_THREAD_FACTORY);
+        try {
+            List<Future<List<Employee>>> segmentResults = new ArrayList<>();
+            for (int segment = 0; segment < totalSegments; segment++) {
+                final int currentSegment = segment;
+                segmentResults.add(executor.submit(() -> scanSegment(currentSegment, totalSegments, fields)));
+            }
+
+            List<Employee> employeeList = new ArrayList<>();
+            for (Future<List<Employee>> segmentResult : segmentResults) {
+                employeeList.addAll(getSegmentResult(segmentResult));
+            }
+
+            log.info("Successfully retrieved all employees from database using {} scan segments.", totalSegments);
+            return employeeList;
+        } catch (Exception e) {
+            log.error("An error occurred while retrieving all employees from database. ", e);
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Scans a single segment of the employee table page by page.
+     *
+     * @param segment the segment to scan.
+     * @param totalSegments the total number of segments the table is split into.
+     * @param fields the fields to retrieve, or null to retrieve every field.
+     * @return the employees in the segment, in scan order.
+     */
+    private List<Employee> scanSegment(int segment, int totalSegments, Set<EmployeeField> fields) {
+        List<Employee> employeeList = new ArrayList<>();
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            DynamoDBScanExpression scanExpression = newScanExpression(fields)
+                    .withSegment(segment)
+                    .withTotalSegments(totalSegments)
+                    .withExclusiveStartKey(exclusiveStartKey);
+
+            ScanResultPage<EmployeeModel> scanResultPage = dynamoDBMapper.scanPage(EmployeeModel.class, scanExpression);
+            if (scanResultPage.getResults() != null) {
+                for (EmployeeModel employeeModel : scanResultPage.getResults()) {
+                    employeeList.add(ModelConverter.fromEmployeeModel(employeeModel));
+                }
+            }
+            exclusiveStartKey = scanResultPage.getLastEvaluatedKey();
+        } while (exclusiveStartKey != null && !exclusiveStartKey.isEmpty());
+
+        return employeeList;
+    }
+
+    /**
+     * Waits for a segment scan to finish and unwraps any failure.
+     */
+    private static List<Employee> getSegmentResult(Future<List<Employee>> segmentResult) {
+        try {
+            return segmentResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning employee table segments.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("An employee table segment scan failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Streams all employees from the DynamoDB table.
+     * The scan is read one page at a time and each {@link EmployeeModel} is converted as the stream is consumed.
+     * Pages that have already been iterated are not retained, so the stream can only be consumed once.
+     *
+     * @return a lazy, ordered stream of all Employee objects in the table.
+     */
+    @Override
+    public Stream<Employee> streamAllEmployees() {
+        return streamAllEmployees(null);
+    }
+
+    /**
+     * Streams only the requested fields of all employees from the DynamoDB table.
+     *
+     * @param fields the fields to retrieve, or null to retrieve every field.
+     * @return a lazy, ordered stream of all Employee objects in the table.
+     * @see #streamAllEmployees()
+     */
+    @Override
+    public Stream<Employee> streamAllEmployees(Set<EmployeeField> fields) {
+        try {
+            DynamoDBScanExpression scanExpression = newScanExpression(fields);
+            PaginatedScanList<EmployeeModel> scanResult = dynamoDBMapper.scan(EmployeeModel.class, scanExpression, ITERATION_ONLY);
+            Spliterator<EmployeeModel> spliterator = Spliterators.spliteratorUnknownSize(scanResult.iterator(),
+                    Spliterator.ORDERED | Spliterator.NONNULL);
+
+            return StreamSupport.stream(spliterator, false)
+                    .map(ModelConverter::fromEmployeeModel);
+        } catch (Exception e) {
+            log.error("An error occurred while scanning employees from database. ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a scan expression that projects the given fields, or every attribute if fields is null.
+     */
+    private static DynamoDBScanExpression newScanExpression(Set<EmployeeField> fields) {
+        DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+        if (!EmployeeField.isAllFields(fields)) {
+            Map<String, String> expressionAttributeNames = new HashMap<>();
+            scanExpression.withProjectionExpression(EmployeeField.toProjectionExpression(requiredFields(fields),
+                            expressionAttributeNames))
+                    .withExpressionAttributeNames(expressionAttributeNames);
+        }
+        return scanExpression;
+    }
+
+    /**
+     * Adds the {@link EmployeeField#REQUIRED_FIELDS} to the requested fields.
+     */
+    private static Set<EmployeeField> requiredFields(Set<EmployeeField> fields) {
+        Set<EmployeeField> projectedFields = EnumSet.copyOf(EmployeeField.REQUIRED_FIELDS);
+        projectedFields.addAll(fields);
+        return projectedFields;
+    }
+}
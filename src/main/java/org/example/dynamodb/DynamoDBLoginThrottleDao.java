@@ -0,0 +1,92 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.LoginThrottleModel;
+import org.example.model.RateLimit;
+import org.example.model.TokenBucket;
+import org.example.utils.ModelConverter;
+
+/**
+ * Data Access Object (DAO) for the login token buckets in the DynamoDB table.
+ * A bucket is read with a consistent read and written back with a condition on its version, so two instances that
+ * read the same bucket cannot both take its last token. A denied attempt only costs the read.
+ */
+public class DynamoDBLoginThrottleDao implements LoginThrottleDao {
+    private static final Logger log = LogManager.getLogger(DynamoDBLoginThrottleDao.class);
+    /**
+     * Conflicts only happen while a key is attempted from several instances at once, which is what the throttle is
+     * for. After this many, the attempt is denied instead of retried.
+     */
+    static final int MAX_CONDITIONAL_WRITES = 3;
+    private static final DynamoDBMapperConfig CONSISTENT_READ = DynamoDBMapperConfig.builder()
+            .withConsistentReads(DynamoDBMapperConfig.ConsistentReads.CONSISTENT)
+            .build();
+    private final DynamoDBMapper dynamoDBMapper;
+
+    public DynamoDBLoginThrottleDao(DynamoDBMapper dynamoDBMapper) {
+        this.dynamoDBMapper = dynamoDBMapper;
+    }
+
+    /**
+     * Takes tokens from the bucket of a key in the DynamoDB table.
+     *
+     * @param throttleKey the username or request source to limit.
+     * @param rateLimit the limit of the bucket.
+     * @param nowMillis the current epoch millisecond.
+     * @param tokens the tokens to take, as long as the bucket has one.
+     * @return 0 if the tokens were taken, or else how many milliseconds until the next token is earned.
+     */
+    @Override
+    public long tryAcquire(String throttleKey, RateLimit rateLimit, long nowMillis, int tokens) {
+        try {
+            for (int write = 1; ; write++) {
+                LoginThrottleModel current = dynamoDBMapper.load(LoginThrottleModel.class, throttleKey, CONSISTENT_READ);
+                TokenBucket tokenBucket = current == null
+                        ? TokenBucket.full(rateLimit, nowMillis)
+                        : ModelConverter.fromLoginThrottleModel(current).refill(rateLimit, nowMillis);
+                if (!tokenBucket.hasToken()) {
+                    return tokenBucket.millisUntilToken(rateLimit);
+                }
+
+                LoginThrottleModel updated = ModelConverter.fromTokenBucket(throttleKey, tokenBucket.take(tokens), rateLimit);
+                updated.setVersion(current == null || current.getVersion() == null ? 1L : current.getVersion() + 1);
+                try {
+                    dynamoDBMapper.save(updated, unchangedSince(current));
+                    return 0;
+                } catch (ConditionalCheckFailedException e) {
+                    if (write >= MAX_CONDITIONAL_WRITES) {
+                        log.info("Login throttle key \"{}\" is contended, denying the attempt.", throttleKey);
+                        return rateLimit.getRefillMillis();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while throttling login throttle key \"{}\". ", throttleKey, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return a condition that the bucket has not been written since it was read, or that it still does not exist.
+     */
+    private static DynamoDBSaveExpression unchangedSince(LoginThrottleModel current) {
+        if (current == null) {
+            return new DynamoDBSaveExpression()
+                    .withExpectedEntry("throttle_key", new ExpectedAttributeValue(false));
+        }
+        if (current.getVersion() == null) {
+            return new DynamoDBSaveExpression()
+                    .withExpectedEntry("version", new ExpectedAttributeValue(false));
+        }
+        return new DynamoDBSaveExpression()
+                .withExpectedEntry("version", new ExpectedAttributeValue(
+                        new AttributeValue().withN(String.valueOf(current.getVersion()))));
+    }
+}
@@ -0,0 +1,513 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBDeleteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTransactionWriteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.TimeEntriesNotFoundException;
+import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
+import org.example.utils.ModelConverter;
+import org.example.utils.PageTokenUtility;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Data Access Object (DAO) for accessing time entry data in the DynamoDB table.
+ * This class provides methods to retrieve, save, and retrieve all time entries for an employee from the DynamoDB table.
+ */
+public class DynamoDBTimeEntryDao implements TimeEntryDao {
+    private static final Logger log = LogManager.getLogger(DynamoDBTimeEntryDao.class);
+    private static final String KEY_DELIMITER = "#";
+    private static final DynamoDBMapperConfig CONSISTENT_READ = DynamoDBMapperConfig.builder()
+            .withConsistentReads(DynamoDBMapperConfig.ConsistentReads.CONSISTENT)
+            .build();
+    private static final DynamoDBMapperConfig ITERATION_ONLY = DynamoDBMapperConfig.builder()
+            .withPaginationLoadingStrategy(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY)
+            .build();
+    private final DynamoDBMapper dynamoDBMapper;
+    private final BatchWriter batchWriter;
+
+    public DynamoDBTimeEntryDao(DynamoDBMapper dynamoDBMapper) {
+        this.dynamoDBMapper = dynamoDBMapper;
+        this.batchWriter = new BatchWriter(dynamoDBMapper);
+    }
+
+    /**
+     * Retrieves a single time entry for an employee using the specified employee ID and entry ID.
+     *
+     * @param employeeId the ID of the employee.
+     * @param entryId the ID of the time entry.
+     * @return the TimeEntry object corresponding to the specified employee ID and entry ID.
+     * @throws TimeEntriesNotFoundException if no time entry is found for the specified employee ID and entry ID.
+     */
+    @Override
+    public TimeEntry getTimeEntry(String employeeId, String entryId) {
+        try {
+            TimeEntryModel timeEntryModel = this.dynamoDBMapper.load(TimeEntryModel.class, employeeId, entryId);
+
+            if (timeEntryModel == null) {
+                throw new TimeEntriesNotFoundException("Could not find time entry with Employee ID: " + employeeId + " and Entry ID: " + entryId);
+            }
+
+            TimeEntry timeEntry = ModelConverter.fromTimeEntryModel(timeEntryModel);
+            log.info("Successfully retrieved TimeEntry with Entry ID \"{}\" for Employee ID \"{}\".", entryId, employeeId);
+            return timeEntry;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("TimeEntry for Entry ID \"{}\" for Employee ID \"{}\" not found in database.", entryId, employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving TimeEntry Entry ID \"{}\"} for Employee ID \"{}\". ", entryId, employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the most recent time entries for an employee, newest first.
+     * The query runs against the {@link TimeEntryModel#TIME_IN_INDEX} index in descending order and
+     * reads a single page of at most {@code count} items, so the cost does not grow with the
+     * employee's history.
+     *
+     * @param employeeId the ID of the employee.
+     * @param count the maximum number of time entries to return.
+     * @return a list of at most {@code count} TimeEntry objects, ordered from newest to oldest time_in.
+     * @throws TimeEntriesNotFoundException if no time entries are found for the specified employee ID.
+     */
+    @Override
+    public List<TimeEntry> getLatestTimeEntries(String employeeId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Number of time entries to retrieve must be at least 1.");
+        }
+
+        try {
+            Map<String, AttributeValue> eav = new HashMap<>();
+            eav.put(":employeeId", new AttributeValue().withS(employeeId));
+
+            DynamoDBQueryExpression<TimeEntryModel> queryExpression = new DynamoDBQueryExpression<TimeEntryModel>()
+                    .withIndexName(TimeEntryModel.TIME_IN_INDEX)
+                    .withConsistentRead(false)
+                    .withKeyConditionExpression("employee_id = :employeeId")
+                    .withExpressionAttributeValues(eav)
+                    .withScanIndexForward(false)
+                    .withLimit(count);
+
+            QueryResultPage<TimeEntryModel> queryResultPage = dynamoDBMapper.queryPage(TimeEntryModel.class, queryExpression);
+            List<TimeEntryModel> timeEntryModels = queryResultPage.getResults();
+
+            if (timeEntryModels == null || timeEntryModels.isEmpty()) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> latestEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+
+            log.info("Successfully retrieved last {} Time Entries for Employee ID \"{}\".", latestEntries.size(), employeeId);
+            return latestEntries;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+
+    /**
+     * Retrieves all time entries for an employee using the specified employee ID.
+     *
+     * @param employeeId the ID of the employee.
+     * @return a list of TimeEntry objects corresponding to the specified employee ID.
+     * @throws TimeEntriesNotFoundException if no time entries are found for the specified employee ID.
+     */
+    @Override
+    public List<TimeEntry> getTimeEntries(String employeeId) {
+        try {
+            Map<String, AttributeValue> eav = new HashMap<>();
+            eav.put(":employeeId", new AttributeValue().withS(employeeId));
+
+            DynamoDBQueryExpression<TimeEntryModel> queryExpression = new DynamoDBQueryExpression<TimeEntryModel>()
+                    .withKeyConditionExpression("employee_id = :employeeId")
+                    .withExpressionAttributeValues(eav);
+
+            List<TimeEntryModel> timeEntryModels = dynamoDBMapper.query(TimeEntryModel.class, queryExpression);
+
+            if (timeEntryModels.isEmpty()) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+
+            timeEntries.sort(Comparator.comparing(TimeEntry::getTimeIn));
+
+            log.info("Successfully retrieved time entries for Employee ID \"{}\". ", employeeId);
+            return timeEntries;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves one page of time entries for an employee, ordered by time_in ascending and optionally limited to
+     * entries clocked in between {@code fromDate} and {@code toDate} (both inclusive).
+     * The query runs against the {@link TimeEntryModel#TIME_IN_INDEX} index so the date range is applied by
+     * DynamoDB as a key condition, and only a single page of at most {@code pageSize} items is read.
+     *
+     * @param employeeId the ID of the employee.
+     * @param fromDate the first day of the range, or null for no lower bound.
+     * @param toDate the last day of the range, or null for no upper bound.
+     * @param pageSize the maximum number of entries to return, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @param nextToken the continuation token returned with the previous page, or null for the first page.
+     * @return a {@link TimeEntryPage} holding the entries and the token for the following page, if any.
+     * @throws InvalidInputFormatException if the range, page size or continuation token is invalid.
+     * @throws TimeEntriesNotFoundException if the employee has no time entries at all. A date range without time
+     * entries, such as a pay period that has just started, returns an empty page instead.
+     */
+    @Override
+    public TimeEntryPage getTimeEntries(String employeeId, LocalDate fromDate, LocalDate toDate, int pageSize, String nextToken) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputFormatException(String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new InvalidInputFormatException("From date cannot be after to date.");
+        }
+
+        Map<String, AttributeValue> exclusiveStartKey = PageTokenUtility.decode(nextToken);
+        if (exclusiveStartKey != null) {
+            AttributeValue tokenEmployeeId = exclusiveStartKey.get("employee_id");
+            if (tokenEmployeeId == null || !employeeId.equals(tokenEmployeeId.getS())) {
+                throw new InvalidInputFormatException("Invalid page token.");
+            }
+        }
+
+        try {
+            Map<String, AttributeValue> eav = new HashMap<>();
+            eav.put(":employeeId", new AttributeValue().withS(employeeId));
+
+            String keyConditionExpression = "employee_id = :employeeId";
+            if (fromDate != null && toDate != null) {
+                keyConditionExpression += " AND time_in BETWEEN :fromTime AND :toTime";
+            } else if (fromDate != null) {
+                keyConditionExpression += " AND time_in >= :fromTime";
+            } else if (toDate != null) {
+                keyConditionExpression += " AND time_in <= :toTime";
+            }
+            if (fromDate != null) {
+                eav.put(":fromTime", new AttributeValue().withS(fromDate.atStartOfDay().toString()));
+            }
+            if (toDate != null) {
+                eav.put(":toTime", new AttributeValue().withS(toDate.atTime(LocalTime.MAX).toString()));
+            }
+
+            DynamoDBQueryExpression<TimeEntryModel> queryExpression = new DynamoDBQueryExpression<TimeEntryModel>()
+                    .withIndexName(TimeEntryModel.TIME_IN_INDEX)
+                    .withConsistentRead(false)
+                    .withKeyConditionExpression(keyConditionExpression)
+                    .withExpressionAttributeValues(eav)
+                    .withScanIndexForward(true)
+                    .withExclusiveStartKey(exclusiveStartKey)
+                    .withLimit(pageSize);
+
+            QueryResultPage<TimeEntryModel> queryResultPage = dynamoDBMapper.queryPage(TimeEntryModel.class, queryExpression);
+            List<TimeEntryModel> timeEntryModels = queryResultPage.getResults() != null
+                    ? queryResultPage.getResults()
+                    : new ArrayList<>();
+
+            if (timeEntryModels.isEmpty() && exclusiveStartKey == null && fromDate == null && toDate == null) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+            String pageToken = PageTokenUtility.encode(queryResultPage.getLastEvaluatedKey());
+
+            log.info("Successfully retrieved a page of {} time entries for Employee ID \"{}\". ", timeEntries.size(), employeeId);
+            return new TimeEntryPage(timeEntries, pageToken);
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saves a single time entry to the DynamoDB table.
+     *
+     * @param timeEntry the TimeEntry object to be saved.
+     * @return the saved TimeEntryModel object.
+     */
+    @Override
+    public TimeEntryModel saveTimeEntry(TimeEntry timeEntry) {
+        TimeEntryModel timeEntryModel;
+        try {
+            timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+            dynamoDBMapper.save(timeEntryModel);
+
+            log.info("Successfully saved time entry to table. " + timeEntry);
+            return timeEntryModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving: ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Clocks an employee in by creating their open time entry and clock state in one conditional transaction.
+     * The write is rejected if the employee already has a clock state, so two clock-ins can never both succeed.
+     *
+     * @param employeeId the ID of the employee clocking in.
+     * @return the new, open TimeEntryModel.
+     * @throws ClockStateConflictException if the employee is already clocked in.
+     */
+    @Override
+    public TimeEntryModel clockIn(String employeeId) {
+        try {
+            TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(TimeEntry.builder()
+                    .withEmployeeId(employeeId)
+                    .build());
+
+            ClockStateModel clockState = new ClockStateModel();
+            clockState.setEmployeeId(employeeId);
+            clockState.setEntryId(timeEntryModel.getEntryId());
+            clockState.setTimeIn(timeEntryModel.getTimeIn());
+
+            dynamoDBMapper.transactionWrite(new TransactionWriteRequest()
+                    .addPut(clockState, new DynamoDBTransactionWriteExpression()
+                            .withConditionExpression("attribute_not_exists(employee_id)"))
+                    .addPut(timeEntryModel, new DynamoDBTransactionWriteExpression()
+                            .withConditionExpression("attribute_not_exists(entry_id)")));
+
+            log.info("Employee ID \"{}\" clocked in with Entry ID \"{}\".", employeeId, timeEntryModel.getEntryId());
+            return timeEntryModel;
+        } catch (TransactionCanceledException e) {
+            if (!isConditionalCheckFailure(e)) {
+                log.error("Clock in transaction for Employee ID \"{}\" was canceled. ", employeeId, e);
+                throw e;
+            }
+            log.warn("Employee ID \"{}\" is already clocked in.", employeeId);
+            throw new ClockStateConflictException("Employee is already clocked in.", e);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while clocking in Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Clocks an employee out of their open shift. Completing the entry and removing the clock state happen in one
+     * conditional transaction, so a shift can only be closed once.
+     * When the caller passes the entry ID and time-in of the open shift, the transaction is conditioned on the clock
+     * state still holding both, so clocking out takes a single round trip. Otherwise, or if that condition fails,
+     * the open entry is read from the employee's clock state first.
+     * Entries opened before clock states existed have no clock state; those are closed by entry ID instead.
+     *
+     * @param employeeId the ID of the employee clocking out.
+     * @param entryId the ID of the open entry, or null to use the employee's clock state.
+     * @param timeIn the time-in of the open entry, or null to use the employee's clock state.
+     * @return the completed TimeEntryModel.
+     * @throws ClockStateConflictException if the employee is not clocked in, or the entry is not their open shift.
+     */
+    @Override
+    public TimeEntryModel clockOut(String employeeId, String entryId, LocalDateTime timeIn) {
+        try {
+            if (entryId != null && timeIn != null) {
+                try {
+                    return closeOpenShift(employeeId, entryId, timeIn);
+                } catch (TransactionCanceledException e) {
+                    if (!isConditionalCheckFailure(e, 0)) {
+                        throw e;
+                    }
+                    log.debug("Clock state of Employee ID \"{}\" does not hold Entry ID \"{}\"; reading it.",
+                            employeeId, entryId);
+                }
+            }
+
+            ClockStateModel clockState = dynamoDBMapper.load(ClockStateModel.class, employeeId, CONSISTENT_READ);
+            if (clockState == null) {
+                if (entryId == null) {
+                    throw new ClockStateConflictException("Employee is not clocked in.");
+                }
+                return clockOutWithoutClockState(employeeId, entryId);
+            }
+            if (entryId != null && !entryId.equals(clockState.getEntryId())) {
+                throw new ClockStateConflictException("Time entry " + entryId + " is not the employee's open shift.");
+            }
+            return closeOpenShift(employeeId, clockState.getEntryId(),
+                    ModelConverter.convertStringToLocalDateTime(clockState.getTimeIn()));
+        } catch (TransactionCanceledException e) {
+            if (!isConditionalCheckFailure(e)) {
+                log.error("Clock out transaction for Employee ID \"{}\" was canceled. ", employeeId, e);
+                throw e;
+            }
+            log.warn("Employee ID \"{}\" was already clocked out.", employeeId);
+            throw new ClockStateConflictException("Employee is already clocked out.", e);
+        } catch (ClockStateConflictException | TimeEntriesNotFoundException e) {
+            log.warn("Could not clock out Employee ID \"{}\": {}", employeeId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while clocking out Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes an employee's clock state if it still points at the given entry. Used when an open entry is closed by
+     * editing it directly, so the employee is no longer shown as on shift.
+     *
+     * @param employeeId the ID of the employee.
+     * @param entryId the ID of the entry that was closed.
+     */
+    @Override
+    public void clearClockState(String employeeId, String entryId) {
+        ClockStateModel clockState = new ClockStateModel();
+        clockState.setEmployeeId(employeeId);
+        try {
+            dynamoDBMapper.delete(clockState, new DynamoDBDeleteExpression()
+                    .withConditionExpression("#entryId = :entryId")
+                    .withExpressionAttributeNames(Map.of("#entryId", "entry_id"))
+                    .withExpressionAttributeValues(Map.of(":entryId", new AttributeValue(entryId))));
+            log.info("Cleared clock state of Employee ID \"{}\" for Entry ID \"{}\".", employeeId, entryId);
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Entry ID \"{}\" is not the open shift of Employee ID \"{}\".", entryId, employeeId);
+        }
+    }
+
+    /**
+     * Retrieves the open shifts of every employee who is currently clocked in, earliest clock-in first.
+     * Only on-shift employees have a clock state, so this reads O(on-shift) items.
+     *
+     * @return the clock states of all on-shift employees.
+     */
+    @Override
+    public List<ClockStateModel> getOpenShifts() {
+        try {
+            List<ClockStateModel> openShifts = new ArrayList<>();
+            dynamoDBMapper.scan(ClockStateModel.class, new DynamoDBScanExpression(), ITERATION_ONLY)
+                    .forEach(openShifts::add);
+            openShifts.sort(Comparator.comparing(ClockStateModel::getTimeIn));
+
+            log.info("Found {} employees currently clocked in.", openShifts.size());
+            return openShifts;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving open shifts. ", e);
+            throw e;
+        }
+    }
+
+    private TimeEntryModel clockOutWithoutClockState(String employeeId, String entryId) {
+        TimeEntry timeEntry = getTimeEntry(employeeId, entryId);
+        if (timeEntry.getTimeOut() != null) {
+            throw new ClockStateConflictException("Employee is already clocked out.");
+        }
+        timeEntry.recordTimeOut();
+        TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+
+        try {
+            dynamoDBMapper.save(timeEntryModel, new DynamoDBSaveExpression()
+                    .withExpectedEntry("time_out", new ExpectedAttributeValue(false)));
+        } catch (ConditionalCheckFailedException e) {
+            throw new ClockStateConflictException("Employee is already clocked out.", e);
+        }
+        log.info("Employee ID \"{}\" clocked out of Entry ID \"{}\" without a clock state.", employeeId, entryId);
+        return timeEntryModel;
+    }
+
+    /**
+     * Completes an open entry and removes the clock state in one transaction. The clock state is only removed while
+     * it still holds the given entry ID and time-in, and the entry is only written while it has no time-out.
+     */
+    private TimeEntryModel closeOpenShift(String employeeId, String entryId, LocalDateTime timeIn) {
+        TimeEntry timeEntry = TimeEntry.builder()
+                .withEmployeeId(employeeId)
+                .withEntryId(entryId)
+                .withTimeIn(timeIn)
+                .build();
+        timeEntry.recordTimeOut();
+        TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+
+        ClockStateModel clockState = new ClockStateModel();
+        clockState.setEmployeeId(employeeId);
+        dynamoDBMapper.transactionWrite(new TransactionWriteRequest()
+                .addDelete(clockState, new DynamoDBTransactionWriteExpression()
+                        .withConditionExpression("#entryId = :entryId AND #timeIn = :timeIn")
+                        .withExpressionAttributeNames(Map.of("#entryId", "entry_id", "#timeIn", "time_in"))
+                        .withExpressionAttributeValues(Map.of(
+                                ":entryId", new AttributeValue(entryId),
+                                ":timeIn", new AttributeValue(timeEntryModel.getTimeIn()))))
+                .addPut(timeEntryModel, new DynamoDBTransactionWriteExpression()
+                        .withConditionExpression("attribute_not_exists(time_out)")));
+
+        log.info("Employee ID \"{}\" clocked out of Entry ID \"{}\".", employeeId, entryId);
+        return timeEntryModel;
+    }
+
+    private static boolean isConditionalCheckFailure(TransactionCanceledException e, int actionIndex) {
+        List<CancellationReason> cancellationReasons = e.getCancellationReasons();
+        return cancellationReasons != null && cancellationReasons.size() > actionIndex
+                && "ConditionalCheckFailed".equals(cancellationReasons.get(actionIndex).getCode());
+    }
+
+    private static boolean isConditionalCheckFailure(TransactionCanceledException e) {
+        return e.getCancellationReasons() != null && e.getCancellationReasons().stream()
+                .anyMatch(reason -> "ConditionalCheckFailed".equals(reason.getCode()));
+    }
+
+    /**
+     * Saves multiple time entries to the DynamoDB table using chunked, concurrent batch writes.
+     * Throttled or unprocessed entries are retried with backoff. Entries that still cannot be written
+     * are reported in the result instead of being dropped.
+     *
+     * @param timeEntries a list of TimeEntry objects to be saved.
+     * @return the saved and failed time entries.
+     */
+    @Override
+    public BatchWriteResult<TimeEntryModel> saveTimeEntries(List<TimeEntry> timeEntries) {
+        try {
+            List<TimeEntryModel> timeEntryModelList = ModelConverter.fromTimeEntryList(timeEntries);
+            BatchWriteResult<TimeEntryModel> result = batchWriter.saveAll(timeEntryModelList,
+                    DynamoDBTimeEntryDao::timeEntryKey, DynamoDBTimeEntryDao::timeEntryKey);
+
+            if (result.isComplete()) {
+                log.info("Successfully saved {} time entries to table.", result.getSavedItems().size());
+            } else {
+                log.warn("Saved {} time entries, {} could not be saved: {}", result.getSavedItems().size(),
+                        result.getFailedItems().size(), result.getFailedItems());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("There was an error while saving time entries: ", e);
+            throw e;
+        }
+    }
+
+    private static String timeEntryKey(TimeEntryModel timeEntryModel) {
+        return timeEntryModel.getEmployeeId() + KEY_DELIMITER + timeEntryModel.getEntryId();
+    }
+
+    private static String timeEntryKey(Map<String, AttributeValue> item) {
+        return item.get("employee_id").getS() + KEY_DELIMITER + item.get("entry_id").getS();
+    }
+}
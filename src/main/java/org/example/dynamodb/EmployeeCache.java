@@ -0,0 +1,108 @@
+package org.example.dynamodb;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.example.dynamodb.model.EmployeeModel;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A size-bounded, read-through cache of employee items, keyed by employee ID.
+ * Entries expire a fixed time after they were loaded, which bounds how stale a read can be when the employee
+ * is changed by another container. Writes made through the owning DAO update the cache right away.
+ * The cache lives as long as the {@link EmployeeDao} that owns it, so in Lambda it is shared by every warm
+ * invocation of a handler.
+ * Items are cached as {@link EmployeeModel}s that never leave this class, so callers cannot change a cached entry.
+ */
+public class EmployeeCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+    private final Cache<String, EmployeeModel> cache;
+
+    public EmployeeCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, Ticker.systemTicker());
+    }
+
+    EmployeeCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached employee, or loads and caches it on a miss. Concurrent misses for the same employee ID
+     * share one load. If the loader throws, nothing is cached and the exception is rethrown unwrapped.
+     *
+     * @param employeeId the ID of the employee.
+     * @param loader loads the employee from the table.
+     * @return the employee item.
+     */
+    public EmployeeModel get(String employeeId, Callable<EmployeeModel> loader) {
+        try {
+            return copyOf(cache.get(employeeId, loader));
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load employee " + employeeId, e.getCause());
+        }
+    }
+
+    /**
+     * Replaces the cached copy of an employee with a newer one.
+     */
+    public void put(EmployeeModel employeeModel) {
+        cache.put(employeeModel.getEmployeeId(), copyOf(employeeModel));
+    }
+
+    /**
+     * Removes an employee, so the next read goes to the table.
+     */
+    public void invalidate(String employeeId) {
+        cache.invalidate(employeeId);
+    }
+
+    /**
+     * @return the hit, miss, load and eviction counters since the cache was created.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private static EmployeeModel copyOf(EmployeeModel employeeModel) {
+        EmployeeModel copy = new EmployeeModel();
+        copy.setEmployeeId(employeeModel.getEmployeeId());
+        copy.setFirstName(employeeModel.getFirstName());
+        copy.setLastName(employeeModel.getLastName());
+        copy.setMiddleName(employeeModel.getMiddleName());
+        copy.setEmail(employeeModel.getEmail());
+        copy.setDepartment(employeeModel.getDepartment());
+        copy.setHireDate(employeeModel.getHireDate());
+        copy.setCurrentlyEmployed(employeeModel.isCurrentlyEmployed());
+        copy.setTerminatedDate(employeeModel.getTerminatedDate());
+        copy.setPhone(employeeModel.getPhone());
+        copy.setAddress(employeeModel.getAddress());
+        copy.setCity(employeeModel.getCity());
+        copy.setState(employeeModel.getState());
+        copy.setZipCode(employeeModel.getZipCode());
+        copy.setPayRate(employeeModel.getPayRate());
+        copy.setPermissionAccess(employeeModel.getPermissionAccess());
+        copy.setVersion(employeeModel.getVersion());
+        return copy;
+    }
+}
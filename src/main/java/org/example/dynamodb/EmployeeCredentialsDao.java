@@ -1,71 +1,66 @@
 package org.example.dynamodb;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.example.dynamodb.model.EmployeeCredentialsModel;
 import org.example.exceptions.UsernameNotFoundException;
 import org.example.model.EmployeeCredentials;
-import org.example.utils.ModelConverter;
+import org.example.model.LoginAttemptRecorder;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
- * Data Access Object (DAO) for accessing an employee's credentials in the DynamoDB table.
- * This class provides methods to retrieve and save employee credentials in the DynamoDB table.
+ * Data Access Object (DAO) for accessing an employee's credentials.
+ * {@link DynamoDBEmployeeCredentialsDao} reads and writes the DynamoDB table, and
+ * {@link org.example.dynamodb.inmemory.InMemoryEmployeeCredentialsDao} keeps the credentials in memory for local
+ * testing.
  */
-public class EmployeeCredentialsDao {
-    private static final Logger log = LogManager.getLogger(EmployeeCredentialsDao.class);
-    private final DynamoDBMapper dynamoDBMapper;
-
-    public EmployeeCredentialsDao(DynamoDBMapper dynamoDBMapper) {
-        this.dynamoDBMapper = dynamoDBMapper;
-    }
-
-
+public interface EmployeeCredentialsDao extends LoginAttemptRecorder {
     /**
-     * Retrieves employee credentials from the DynamoDB table using the specified username.
+     * Retrieves employee credentials using the specified username.
      *
      * @param username the username of the employee whose credentials are to be retrieved.
      * @return the {@link EmployeeCredentials} object corresponding to the specified username.
      * @throws UsernameNotFoundException if no employee credentials are found with the specified username.
-     * @throws Exception if any other error occurs while retrieving the employee credentials.
      */
-    public EmployeeCredentials getEmployeeCredentials(String username) {
-        try {
-            EmployeeCredentialsModel employeeCredentialsModel = this.dynamoDBMapper.load(EmployeeCredentialsModel.class, username);
-            if (employeeCredentialsModel == null) {
-                throw new UsernameNotFoundException(String.format("Username \"%s\" not found!", username));
-            }
-
-            EmployeeCredentials employeeCredentials = ModelConverter.fromEmployeeCredentialsModel(employeeCredentialsModel);
-
-            log.info("Successfully retrieved employee credentials.");
-            return employeeCredentials;
-        } catch (UsernameNotFoundException e) {
-            log.warn(String.format("Username \"%s\" not found!", username));
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred. ", e);
-            throw e;
-        }
-    }
+    EmployeeCredentials getEmployeeCredentials(String username);
 
     /**
-     * Saves the employee credentials to the DynamoDB table.
+     * Saves employee credentials, replacing any credentials with the same username.
      *
      * @param employeeCredentials the {@link EmployeeCredentials} object to be saved.
      * @return the saved {@link EmployeeCredentialsModel} object.
      */
-    public EmployeeCredentialsModel saveEmployeeCredentials(EmployeeCredentials employeeCredentials) {
-        EmployeeCredentialsModel employeeCredentialsModel;
-        try {
-            employeeCredentialsModel = ModelConverter.fromEmployeeCredentials(employeeCredentials);
-            dynamoDBMapper.save(employeeCredentialsModel);
+    EmployeeCredentialsModel saveEmployeeCredentials(EmployeeCredentials employeeCredentials);
+
+    /**
+     * Stores a new hash of an unchanged password, as long as the stored hash is still the one it replaces. Only the
+     * hash, its salt and its parameters are written, so failed login attempts and locks recorded concurrently are
+     * kept.
+     *
+     * @param employeeCredentials the credentials holding the new hash.
+     * @param previousPassword the hash the new one replaces.
+     * @return true if the new hash was stored, false if the stored hash had already changed.
+     */
+    boolean updatePasswordHash(EmployeeCredentials employeeCredentials, String previousPassword);
+
+    /**
+     * Stores the result of {@link EmployeeCredentials#adminResetPassword}, as long as the stored hash is still the
+     * one the reset replaces. Only the hash and the fields the reset sets are written, so nothing else the
+     * credentials were read with is written back over newer values.
+     *
+     * @param employeeCredentials the reset credentials.
+     * @param previousPassword the hash the reset replaces.
+     * @return true if the reset was stored, false if the stored hash had changed since it was read.
+     */
+    boolean resetPassword(EmployeeCredentials employeeCredentials, String previousPassword);
+
+    /**
+     * Retrieves the credentials of several usernames, in batches of up to {@value EmployeeDao#MAX_BATCH_GET_SIZE}.
+     * Usernames that do not exist are skipped.
+     *
+     * @param usernames the usernames whose credentials are to be retrieved. Duplicates are ignored.
+     * @return the credentials that were found, in the order their usernames were given.
+     */
+    List<EmployeeCredentials> getEmployeeCredentialsList(Collection<String> usernames);
 
-            log.info("Successfully saved the employee credentials for username \"{}\". ", employeeCredentialsModel.getUsername());
-            return employeeCredentialsModel;
-        } catch (Exception e) {
-            log.error("There was an error while saving the employee credentials to the database: ", e);
-            throw e;
-        }
-    }
 }
@@ -1,91 +1,135 @@
 package org.example.dynamodb;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import com.google.common.cache.CacheStats;
 import org.example.dynamodb.model.EmployeeModel;
 import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UsernameAlreadyExistsException;
 import org.example.model.Employee;
-import org.example.utils.ModelConverter;
+import org.example.model.EmployeeCredentials;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
- * Data Access Object (DAO) for accessing employee data in the DynamoDB table.
- * This class provides methods to retrieve, save, and retrieve all employees from the DynamoDB table.
+ * Data Access Object (DAO) for accessing employee data.
+ * {@link DynamoDBEmployeeDao} reads and writes the DynamoDB table, and
+ * {@link org.example.dynamodb.inmemory.InMemoryEmployeeDao} keeps the employees in memory for local testing.
  */
-public class EmployeeDao {
-    private static final Logger log = LogManager.getLogger(EmployeeDao.class);
-    private final DynamoDBMapper dynamoDBMapper;
+public interface EmployeeDao {
+    int MAX_SCAN_SEGMENTS = 16;
+    int MAX_BATCH_GET_SIZE = 100;
 
-    public EmployeeDao(DynamoDBMapper dynamoDBMapper) {
-        this.dynamoDBMapper = dynamoDBMapper;
-    }
+    /**
+     * Retrieves an employee using the specified employee ID.
+     *
+     * @param employeeId the ID of the employee to retrieve.
+     * @return the Employee object corresponding to the specified employee ID.
+     * @throws EmployeeNotFoundException if no employee is found with the specified employee ID.
+     */
+    Employee getEmployee(String employeeId);
 
     /**
-     * Retrieves an employee from the DynamoDB table using the specified employee ID.
+     * Retrieves only the requested fields of an employee. Unrequested fields are left null on the returned Employee.
      *
      * @param employeeId the ID of the employee to retrieve.
+     * @param fields the fields to retrieve, which must include {@link EmployeeField#REQUIRED_FIELDS}. If null or
+     *               containing every field, the whole employee is loaded.
      * @return the Employee object corresponding to the specified employee ID.
      * @throws EmployeeNotFoundException if no employee is found with the specified employee ID.
      */
-    public Employee getEmployee(String employeeId) {
-        try {
-            EmployeeModel employeeModel = this.dynamoDBMapper.load(EmployeeModel.class, employeeId);
-            if (employeeModel == null) {
-                throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId);
-            }
+    Employee getEmployee(String employeeId, Set<EmployeeField> fields);
 
-            Employee employee = ModelConverter.fromEmployeeModel(employeeModel);
-            log.info("Successfully retrieved employee with ID: {}", employeeId);
-            return employee;
-        } catch (EmployeeNotFoundException e) {
-            log.warn("Employee ID \"{}\" not found in database.", employeeId);
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while retrieving Employee ID \"{}\". ", employeeId, e);
-            throw e;
-        }
-    }
+    /**
+     * Retrieves several employees by ID, in batches of up to {@value #MAX_BATCH_GET_SIZE}. IDs that do not exist
+     * are skipped.
+     *
+     * @param employeeIds the IDs of the employees to retrieve. Duplicates are ignored.
+     * @return the employees that were found, in the order their IDs were given.
+     */
+    List<Employee> getEmployees(Collection<String> employeeIds);
 
     /**
-     * Saves an employee to the DynamoDB table.
+     * Saves an employee, replacing any employee with the same ID.
      *
      * @param employee the Employee object to save.
      * @return the saved EmployeeModel object.
      */
-    public EmployeeModel saveEmployee(Employee employee) {
-        EmployeeModel employeeModel;
-        try {
-            employeeModel = ModelConverter.fromEmployee(employee);
-            dynamoDBMapper.save(employeeModel);
+    EmployeeModel saveEmployee(Employee employee);
 
-            log.info("Successfully saved employee with ID: {}", employeeModel.getEmployeeId());
-            return employeeModel;
-        } catch (Exception e) {
-            log.error("There was an error while saving Employee to the database: ", e);
-            throw e;
-        }
-    }
+    /**
+     * Creates a new employee together with their login credentials, so either both are created or neither is.
+     *
+     * @param employee the new Employee object.
+     * @param employeeCredentials the credentials for the new employee.
+     * @return the saved EmployeeModel object.
+     * @throws UsernameAlreadyExistsException if the username is already taken.
+     */
+    EmployeeModel createEmployee(Employee employee, EmployeeCredentials employeeCredentials);
+
+    /**
+     * Applies a patch to an existing employee and increments its version. If the patch has an expected version,
+     * the update only succeeds while the stored employee is still at that version. An employee that has never
+     * been patched is treated as version 0.
+     *
+     * @param employeePatch the changes to apply.
+     * @return the updated EmployeeModel, including every attribute and the new version.
+     * @throws EmployeeNotFoundException if no employee exists with the patch's employee ID.
+     * @throws EmployeeVersionConflictException if the employee was changed since the expected version.
+     */
+    EmployeeModel updateEmployee(EmployeePatch employeePatch);
+
+    /**
+     * Retrieves all employees.
+     *
+     * @return a list of all Employee objects.
+     */
+    List<Employee> getAllEmployees();
 
     /**
-     * Retrieves all employees from the DynamoDB table.
+     * Retrieves all employees by scanning {@code totalSegments} segments in parallel. Results are merged in segment
+     * order, so the returned order is deterministic for unchanged data.
      *
-     * @return a list of all Employee objects in the table.
+     * @param totalSegments the number of segments to scan in parallel, between 1 and {@link #MAX_SCAN_SEGMENTS}.
+     * @return a list of all Employee objects.
      */
-    public List<Employee> getAllEmployees() {
-        try {
-            DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
-            PaginatedScanList<EmployeeModel> scanResult = dynamoDBMapper.scan(EmployeeModel.class, scanExpression);
-            List<Employee> employeeList = ModelConverter.fromEmployeeModelList(scanResult);
+    List<Employee> getAllEmployees(int totalSegments);
 
-            log.info("Successfully retrieved all employees from database.");
-            return employeeList;
-        } catch (Exception e) {
-            log.error("An error occurred while retrieving all employees from database. ", e);
-            throw e;
-        }
+    /**
+     * Retrieves only the requested fields of all employees using a parallel scan.
+     *
+     * @param totalSegments the number of segments to scan in parallel, between 1 and {@link #MAX_SCAN_SEGMENTS}.
+     * @param fields the fields to retrieve, or null to retrieve every field.
+     * @return a list of all Employee objects.
+     * @see #getAllEmployees(int)
+     */
+    List<Employee> getAllEmployees(int totalSegments, Set<EmployeeField> fields);
+
+    /**
+     * Streams all employees, reading them one page at a time as the stream is consumed.
+     *
+     * @return a lazy, ordered stream of all Employee objects.
+     */
+    Stream<Employee> streamAllEmployees();
+
+    /**
+     * Streams only the requested fields of all employees.
+     *
+     * @param fields the fields to retrieve, or null to retrieve every field.
+     * @return a lazy, ordered stream of all Employee objects.
+     * @see #streamAllEmployees()
+     */
+    Stream<Employee> streamAllEmployees(Set<EmployeeField> fields);
+
+    /**
+     * @return the hit, miss and eviction counters of the employee cache behind {@link #getEmployee(String)}, or
+     * empty counters if this DAO does not cache.
+     */
+    default CacheStats getCacheStats() {
+        return new CacheStats(0, 0, 0, 0, 0, 0);
     }
 }
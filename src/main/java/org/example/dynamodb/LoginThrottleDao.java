@@ -0,0 +1,25 @@
+package org.example.dynamodb;
+
+import org.example.model.RateLimit;
+import org.example.model.TokenBucket;
+
+/**
+ * Data Access Object (DAO) for the login token buckets that are shared by every instance.
+ * {@link DynamoDBLoginThrottleDao} keeps them in the DynamoDB table, and
+ * {@link org.example.dynamodb.inmemory.InMemoryLoginThrottleDao} keeps them in memory for local testing.
+ */
+public interface LoginThrottleDao {
+    /**
+     * Takes tokens from the bucket of a key, after refilling it for the time since it was last used. A key without
+     * a bucket starts with a full one. Concurrent attempts for the same key each take their own tokens.
+     *
+     * @param throttleKey the username or request source to limit.
+     * @param rateLimit the limit of the bucket.
+     * @param nowMillis the current epoch millisecond.
+     * @param tokens the tokens to take: one for this attempt, plus one for each earlier attempt that was allowed
+     *               without consulting the bucket. They are all taken as long as the bucket has one token.
+     * @return 0 if the tokens were taken, or else how many milliseconds until the next token is earned.
+     * @see TokenBucket#take(int)
+     */
+    long tryAcquire(String throttleKey, RateLimit rateLimit, long nowMillis, int tokens);
+}
@@ -1,30 +1,25 @@
 package org.example.dynamodb;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
-import com.amazonaws.services.dynamodbv2.model.AttributeValue;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.model.ClockStateModel;
 import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
+import org.example.exceptions.InvalidInputFormatException;
 import org.example.exceptions.TimeEntriesNotFoundException;
 import org.example.model.TimeEntry;
-import org.example.utils.ModelConverter;
+import org.example.model.TimeEntryPage;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
+import java.util.List;
 
 /**
- * Data Access Object (DAO) for accessing time entry data in the DynamoDB table.
- * This class provides methods to retrieve, save, and retrieve all time entries for an employee from the DynamoDB table.
+ * Data Access Object (DAO) for accessing time entry data.
+ * {@link DynamoDBTimeEntryDao} reads and writes the DynamoDB tables, and
+ * {@link org.example.dynamodb.inmemory.InMemoryTimeEntryDao} keeps the time entries in memory for local testing.
  */
-public class TimeEntryDao {
-    private static final Logger log = LogManager.getLogger(TimeEntryDao.class);
-    private final DynamoDBMapper dynamoDBMapper;
-
-    public TimeEntryDao(DynamoDBMapper dynamoDBMapper) {
-        this.dynamoDBMapper = dynamoDBMapper;
-    }
+public interface TimeEntryDao {
+    int DEFAULT_PAGE_SIZE = 50;
+    int MAX_PAGE_SIZE = 100;
 
     /**
      * Retrieves a single time entry for an employee using the specified employee ID and entry ID.
@@ -34,25 +29,7 @@ public class TimeEntryDao {
      * @return the TimeEntry object corresponding to the specified employee ID and entry ID.
      * @throws TimeEntriesNotFoundException if no time entry is found for the specified employee ID and entry ID.
      */
-    public TimeEntry getTimeEntry(String employeeId, String entryId) {
-        try {
-            TimeEntryModel timeEntryModel = this.dynamoDBMapper.load(TimeEntryModel.class, employeeId, entryId);
-
-            if (timeEntryModel == null) {
-                throw new TimeEntriesNotFoundException("Could not find time entry with Employee ID: " + employeeId + " and Entry ID: " + entryId);
-            }
-
-            TimeEntry timeEntry = ModelConverter.fromTimeEntryModel(timeEntryModel);
-            log.info("Successfully retrieved TimeEntry with Entry ID \"{}\" for Employee ID \"{}\".", entryId, employeeId);
-            return timeEntry;
-        } catch (TimeEntriesNotFoundException e) {
-            log.warn("TimeEntry for Entry ID \"{}\" for Employee ID \"{}\" not found in database.", entryId, employeeId);
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while retrieving TimeEntry Entry ID \"{}\"} for Employee ID \"{}\". ", entryId, employeeId, e);
-            throw e;
-        }
-    }
+    TimeEntry getTimeEntry(String employeeId, String entryId);
 
     /**
      * Retrieves the last five time entries for an employee based on the time_in timestamp.
@@ -61,116 +38,110 @@ public class TimeEntryDao {
      * @return a list of TimeEntry objects representing the last five time entries for the specified employee ID.
      * @throws TimeEntriesNotFoundException if no time entries are found for the specified employee ID.
      */
-    public List<TimeEntry> getLastFiveTimeEntries(String employeeId) {
-        try {
-            Map<String, AttributeValue> eav = new HashMap<>();
-            eav.put(":employeeId", new AttributeValue().withS(employeeId));
-
-            DynamoDBQueryExpression<TimeEntryModel> queryExpression = new DynamoDBQueryExpression<TimeEntryModel>()
-                    .withKeyConditionExpression("employee_id = :employeeId")
-                    .withExpressionAttributeValues(eav);
-
-            List<TimeEntryModel> timeEntryModels = dynamoDBMapper.query(TimeEntryModel.class, queryExpression);
-
-            if (timeEntryModels.isEmpty()) {
-                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
-            }
-
-            List<TimeEntry> timeEntryList = ModelConverter.fromTimeEntryModelList(timeEntryModels);
-
-            // Sort time entries based on timeIn timestamp in ascending order
-            timeEntryList.sort(Comparator.comparing(TimeEntry::getTimeIn));
-
-            // Extract the last 5 entries
-            List<TimeEntry> lastFiveEntries = new ArrayList<>();
-            int listSize = timeEntryList.size();
-            for (int i = listSize - 1; i >= Math.max(0, listSize - 5); i--) {
-                lastFiveEntries.add(timeEntryList.get(i));
-            }
-
-            log.info("Successfully retrieved last 5 Time Entries for Employee ID \"{}\".", employeeId);
-            return lastFiveEntries;
-        } catch (TimeEntriesNotFoundException e) {
-            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
-            throw e;
-        }
+    default List<TimeEntry> getLastFiveTimeEntries(String employeeId) {
+        return getLatestTimeEntries(employeeId, 5);
     }
 
+    /**
+     * Retrieves the most recent time entries for an employee, newest first.
+     *
+     * @param employeeId the ID of the employee.
+     * @param count the maximum number of time entries to return.
+     * @return a list of at most {@code count} TimeEntry objects, ordered from newest to oldest time_in.
+     * @throws TimeEntriesNotFoundException if no time entries are found for the specified employee ID.
+     */
+    List<TimeEntry> getLatestTimeEntries(String employeeId, int count);
 
     /**
-     * Retrieves all time entries for an employee using the specified employee ID.
+     * Retrieves all time entries for an employee, ordered by time_in ascending.
      *
      * @param employeeId the ID of the employee.
      * @return a list of TimeEntry objects corresponding to the specified employee ID.
      * @throws TimeEntriesNotFoundException if no time entries are found for the specified employee ID.
      */
-    public List<TimeEntry> getTimeEntries(String employeeId) {
-        try {
-            Map<String, AttributeValue> eav = new HashMap<>();
-            eav.put(":employeeId", new AttributeValue().withS(employeeId));
-
-            DynamoDBQueryExpression<TimeEntryModel> queryExpression = new DynamoDBQueryExpression<TimeEntryModel>()
-                    .withKeyConditionExpression("employee_id = :employeeId")
-                    .withExpressionAttributeValues(eav);
+    List<TimeEntry> getTimeEntries(String employeeId);
 
-            List<TimeEntryModel> timeEntryModels = dynamoDBMapper.query(TimeEntryModel.class, queryExpression);
-
-            if (timeEntryModels.isEmpty()) {
-                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
-            }
+    /**
+     * Retrieves one page of time entries for an employee, ordered by time_in ascending and optionally limited to
+     * entries clocked in between {@code fromDate} and {@code toDate} (both inclusive).
+     *
+     * @param employeeId the ID of the employee.
+     * @param fromDate the first day of the range, or null for no lower bound.
+     * @param toDate the last day of the range, or null for no upper bound.
+     * @param pageSize the maximum number of entries to return, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @param nextToken the continuation token returned with the previous page, or null for the first page.
+     * @return a {@link TimeEntryPage} holding the entries and the token for the following page, if any.
+     * @throws InvalidInputFormatException if the range, page size or continuation token is invalid.
+     * @throws TimeEntriesNotFoundException if the employee has no time entries at all. A date range without time
+     * entries, such as a pay period that has just started, returns an empty page instead.
+     */
+    TimeEntryPage getTimeEntries(String employeeId, LocalDate fromDate, LocalDate toDate, int pageSize, String nextToken);
 
-            List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+    /**
+     * Saves a single time entry, replacing any entry with the same employee ID and entry ID.
+     *
+     * @param timeEntry the TimeEntry object to be saved.
+     * @return the saved TimeEntryModel object.
+     */
+    TimeEntryModel saveTimeEntry(TimeEntry timeEntry);
 
-            timeEntries.sort(Comparator.comparing(TimeEntry::getTimeIn));
+    /**
+     * Clocks an employee in by creating their open time entry and clock state together.
+     *
+     * @param employeeId the ID of the employee clocking in.
+     * @return the new, open TimeEntryModel.
+     * @throws ClockStateConflictException if the employee is already clocked in.
+     */
+    TimeEntryModel clockIn(String employeeId);
 
-            log.info("Successfully retrieved time entries for Employee ID \"{}\". ", employeeId);
-            return timeEntries;
-        } catch (TimeEntriesNotFoundException e) {
-            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
-            throw e;
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
-            throw e;
-        }
+    /**
+     * Clocks an employee out of their open shift, completing the entry and removing the clock state together.
+     * Entries opened before clock states existed have no clock state; those are closed by entry ID instead.
+     *
+     * @param employeeId the ID of the employee clocking out.
+     * @param entryId the ID of the open entry, or null to use the employee's clock state.
+     * @return the completed TimeEntryModel.
+     * @throws ClockStateConflictException if the employee is not clocked in, or the entry is not their open shift.
+     */
+    default TimeEntryModel clockOut(String employeeId, String entryId) {
+        return clockOut(employeeId, entryId, null);
     }
 
     /**
-     * Saves a single time entry to the DynamoDB table.
+     * Clocks an employee out of their open shift, completing the entry and removing the clock state together.
+     * A caller that knows the open shift's entry ID and time-in passes both, so the shift can be closed without
+     * reading the clock state first.
+     * Entries opened before clock states existed have no clock state; those are closed by entry ID instead.
      *
-     * @param timeEntry the TimeEntry object to be saved.
-     * @return the saved TimeEntryModel object.
+     * @param employeeId the ID of the employee clocking out.
+     * @param entryId the ID of the open entry, or null to use the employee's clock state.
+     * @param timeIn the time-in of the open entry, or null to use the employee's clock state.
+     * @return the completed TimeEntryModel.
+     * @throws ClockStateConflictException if the employee is not clocked in, or the entry is not their open shift.
      */
-    public TimeEntryModel saveTimeEntry(TimeEntry timeEntry) {
-        TimeEntryModel timeEntryModel;
-        try {
-            timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
-            dynamoDBMapper.save(timeEntryModel);
+    TimeEntryModel clockOut(String employeeId, String entryId, LocalDateTime timeIn);
 
-            log.info("Successfully saved time entry to table. " + timeEntry);
-            return timeEntryModel;
-        } catch (Exception e) {
-            log.error("There was an error while saving: ", e);
-            throw e;
-        }
-    }
+    /**
+     * Removes an employee's clock state if it still points at the given entry.
+     *
+     * @param employeeId the ID of the employee.
+     * @param entryId the ID of the entry that was closed.
+     */
+    void clearClockState(String employeeId, String entryId);
 
     /**
-     * Saves multiple time entries to the DynamoDB table in a single batch operation.
+     * Retrieves the open shifts of every employee who is currently clocked in, earliest clock-in first.
      *
-     * @param timeEntries a list of TimeEntry objects to be saved.
+     * @return the clock states of all on-shift employees.
      */
-    public List<TimeEntryModel> saveTimeEntries(List<TimeEntry> timeEntries) {
-        try {
-            List<TimeEntryModel> timeEntryModelList = ModelConverter.fromTimeEntryList(timeEntries);
-            dynamoDBMapper.batchSave(timeEntryModelList);
+    List<ClockStateModel> getOpenShifts();
 
-            return timeEntryModelList;
-        } catch (Exception e) {
-            System.out.println(e);
-            throw e;
-        }
-    }
+    /**
+     * Saves multiple time entries in batches. Entries that cannot be written are reported in the result instead
+     * of being dropped.
+     *
+     * @param timeEntries a list of TimeEntry objects to be saved.
+     * @return the saved and failed time entries.
+     */
+    BatchWriteResult<TimeEntryModel> saveTimeEntries(List<TimeEntry> timeEntries);
 }
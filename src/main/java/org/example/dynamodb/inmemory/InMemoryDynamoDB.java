@@ -0,0 +1,286 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dependency.DynamoDBClientSettings;
+import org.example.dynamodb.BatchWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe, in-memory stand-in for the DynamoDB tables, used to run the handlers without AWS.
+ * Each mapped model class gets its own {@link InMemoryTable}. Every request can be slowed down by a fixed latency
+ * and throttled at a given rate, which the stand-in then retries with full-jitter backoff up to the
+ * {@link DynamoDBClientSettings} retry limit of the operation, the way the SDK would. Both default to off and can be
+ * set with the environment variables {@code IN_MEMORY_DYNAMODB_LATENCY_MILLIS} and
+ * {@code IN_MEMORY_DYNAMODB_THROTTLE_RATE}, a fraction between 0 and 1.
+ * <p>
+ * Reads never block. Writes are applied one at a time, so conditional writes and transactions are atomic
+ * across tables.
+ */
+public class InMemoryDynamoDB {
+    private static final Logger log = LogManager.getLogger(InMemoryDynamoDB.class);
+    public static final String LATENCY_MILLIS_ENV = "IN_MEMORY_DYNAMODB_LATENCY_MILLIS";
+    public static final String THROTTLE_RATE_ENV = "IN_MEMORY_DYNAMODB_THROTTLE_RATE";
+    public static final int MAX_BATCH_GET_SIZE = 100;
+    public static final int MAX_BATCH_WRITE_SIZE = BatchWriter.MAX_BATCH_SIZE;
+    /**
+     * DynamoDB returns at most 1 MB per Query or Scan page. Items here are small, so a page is bounded by count.
+     */
+    public static final int DEFAULT_PAGE_LIMIT = 100;
+    private final DynamoDBClientSettings settings;
+    private final long latencyMillis;
+    private final double throttleRate;
+    /**
+     * Only used for its table models, which convert items without calling DynamoDB.
+     */
+    private final DynamoDBMapper dynamoDBMapper = new DynamoDBMapper(new AbstractAmazonDynamoDB() {
+    });
+    private final Map<Class<?>, InMemoryTable<?>> tables = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    public InMemoryDynamoDB() {
+        this(DynamoDBClientSettings.fromEnvironment(Map.of()), 0, 0);
+    }
+
+    /**
+     * @param settings the retry limits and backoff to use for throttled requests.
+     * @param latencyMillis the time every request attempt takes, or 0 for none.
+     * @param throttleRate the fraction of request attempts that are throttled, between 0 and 1.
+     */
+    public InMemoryDynamoDB(DynamoDBClientSettings settings, long latencyMillis, double throttleRate) {
+        if (latencyMillis < 0) {
+            throw new IllegalArgumentException("Latency cannot be negative.");
+        }
+        if (!(throttleRate >= 0 && throttleRate <= 1)) {
+            throw new IllegalArgumentException("Throttle rate must be between 0 and 1.");
+        }
+        this.settings = settings;
+        this.latencyMillis = latencyMillis;
+        this.throttleRate = throttleRate;
+    }
+
+    /**
+     * @param settings the retry limits and backoff to use for throttled requests.
+     * @param environment the environment variables to read the latency and throttle rate from.
+     * @return a stand-in configured from the given variables.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static InMemoryDynamoDB fromEnvironment(DynamoDBClientSettings settings, Map<String, String> environment) {
+        return new InMemoryDynamoDB(settings, readLatency(environment), readThrottleRate(environment));
+    }
+
+    /**
+     * @return the table for the given mapped model class, creating it empty on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> InMemoryTable<T> table(Class<T> modelClass) {
+        return (InMemoryTable<T>) tables.computeIfAbsent(modelClass,
+                type -> new InMemoryTable<>(this, dynamoDBMapper.getTableModel(modelClass)));
+    }
+
+    /**
+     * @return a mapper that can convert items but is not connected to DynamoDB.
+     */
+    public DynamoDBMapper getDynamoDBMapper() {
+        return dynamoDBMapper;
+    }
+
+    /**
+     * @return the number of requests made, not counting retries.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of request attempts that were throttled, including those that succeeded on a retry.
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    /**
+     * Runs a request as the given DynamoDB operation, adding the configured latency and throttling.
+     * Throttled attempts are retried with full-jitter backoff.
+     *
+     * @param operation the name of the DynamoDB operation, e.g. "GetItem".
+     * @param request the work the operation does.
+     * @return the result of the request.
+     * @throws ProvisionedThroughputExceededException if every attempt was throttled.
+     */
+    <R> R call(String operation, Supplier<R> request) {
+        return call(operation, request, true);
+    }
+
+    private <R> R call(String operation, Supplier<R> request, boolean throttle) {
+        requestCount.incrementAndGet();
+        int maxErrorRetry = settings.forOperation(operation).getMaxErrorRetry();
+        for (int retry = 0; ; retry++) {
+            sleep(latencyMillis);
+            if (!throttle || !isThrottled()) {
+                return request.get();
+            }
+            throttledCount.incrementAndGet();
+            if (retry >= maxErrorRetry) {
+                log.warn("{} request was still throttled after {} retries.", operation, retry);
+                throw throttlingException(operation);
+            }
+            sleep(BatchWriter.fullJitterDelay(retry + 1, settings.getRetryBaseDelayMillis(),
+                    settings.getRetryMaxBackoffMillis()));
+        }
+    }
+
+    /**
+     * Runs a write request while holding the write lock, so no other write can interleave with it.
+     * The latency and throttling are applied before the lock is taken.
+     */
+    <R> R write(String operation, Supplier<R> request) {
+        return call(operation, locked(request), true);
+    }
+
+    /**
+     * Runs a BatchWriteItem request while holding the write lock. The request itself is not throttled, as the
+     * table throttles its items one by one instead.
+     */
+    <R> R batchWrite(Supplier<R> request) {
+        return call("BatchWriteItem", locked(request), false);
+    }
+
+    /**
+     * Runs several writes as one TransactWriteItems call. The writes see no other writes in between, and the
+     * request can abort by throwing before it writes anything.
+     */
+    public <R> R transactWrite(Supplier<R> transaction) {
+        return write("TransactWriteItems", transaction);
+    }
+
+    private <R> Supplier<R> locked(Supplier<R> request) {
+        return () -> {
+            writeLock.lock();
+            try {
+                return request.get();
+            } finally {
+                writeLock.unlock();
+            }
+        };
+    }
+
+    /**
+     * @return true if an item of a batch request should be left unprocessed, as DynamoDB does under throttling.
+     */
+    boolean isThrottled() {
+        return throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate;
+    }
+
+    void countThrottled() {
+        throttledCount.incrementAndGet();
+    }
+
+    static AmazonDynamoDBException validationException(String message) {
+        AmazonDynamoDBException exception = new AmazonDynamoDBException(message);
+        exception.setErrorCode("ValidationException");
+        exception.setStatusCode(400);
+        exception.setServiceName("AmazonDynamoDBv2");
+        return exception;
+    }
+
+    /**
+     * @param failedAction the index of the transaction action whose condition failed.
+     * @param actionCount the number of actions in the transaction.
+     * @return the exception DynamoDB throws when a transaction is canceled by a condition.
+     */
+    public static TransactionCanceledException transactionCanceled(int failedAction, int actionCount) {
+        List<CancellationReason> cancellationReasons = new ArrayList<>();
+        for (int action = 0; action < actionCount; action++) {
+            cancellationReasons.add(action == failedAction
+                    ? new CancellationReason().withCode("ConditionalCheckFailed").withMessage("The conditional request failed")
+                    : new CancellationReason().withCode("None"));
+        }
+        TransactionCanceledException exception = new TransactionCanceledException(
+                "Transaction cancelled, please refer cancellation reasons for specific reasons");
+        exception.setCancellationReasons(cancellationReasons);
+        exception.setErrorCode("TransactionCanceledException");
+        exception.setStatusCode(400);
+        return exception;
+    }
+
+    private static ProvisionedThroughputExceededException throttlingException(String operation) {
+        ProvisionedThroughputExceededException exception = new ProvisionedThroughputExceededException(
+                "The level of configured provisioned throughput for the table was exceeded (" + operation + ").");
+        exception.setErrorCode("ProvisionedThroughputExceededException");
+        exception.setStatusCode(400);
+        exception.setServiceName("AmazonDynamoDBv2");
+        return exception;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the in-memory DynamoDB.", e);
+        }
+    }
+
+    private static long readLatency(Map<String, String> environment) {
+        String value = environment.get(LATENCY_MILLIS_ENV);
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a whole number of at least 0, but was \"%s\".",
+                LATENCY_MILLIS_ENV, value));
+    }
+
+    private static double readThrottleRate(Map<String, String> environment) {
+        String value = environment.get(THROTTLE_RATE_ENV);
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            if (parsed >= 0 && parsed <= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a number between 0 and 1, but was \"%s\".",
+                THROTTLE_RATE_ENV, value));
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryDynamoDB{" +
+                "latencyMillis=" + latencyMillis +
+                ", throttleRate=" + throttleRate +
+                ", tables=" + tables.keySet() +
+                '}';
+    }
+}
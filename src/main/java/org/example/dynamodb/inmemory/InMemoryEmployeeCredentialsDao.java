@@ -0,0 +1,220 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.google.common.collect.Iterables;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.DynamoDBEmployeeCredentialsDao;
+import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.dynamodb.EmployeeDao;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.EmployeeCredentials;
+import org.example.utils.ModelConverter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link EmployeeCredentialsDao} backed by an {@link InMemoryDynamoDB}. It makes the same conditional updates as
+ * {@link DynamoDBEmployeeCredentialsDao} for the failed login counter, so concurrent attempts are all counted.
+ */
+public class InMemoryEmployeeCredentialsDao implements EmployeeCredentialsDao {
+    private static final Logger log = LogManager.getLogger(InMemoryEmployeeCredentialsDao.class);
+    private final InMemoryTable<EmployeeCredentialsModel> credentialsTable;
+
+    public InMemoryEmployeeCredentialsDao(InMemoryDynamoDB dynamoDB) {
+        this.credentialsTable = dynamoDB.table(EmployeeCredentialsModel.class);
+    }
+
+    @Override
+    public EmployeeCredentials getEmployeeCredentials(String username) {
+        try {
+            EmployeeCredentialsModel employeeCredentialsModel = credentialsTable.load(username, null);
+            if (employeeCredentialsModel == null) {
+                throw new UsernameNotFoundException(String.format("Username \"%s\" not found!", username));
+            }
+
+            EmployeeCredentials employeeCredentials = ModelConverter.fromEmployeeCredentialsModel(employeeCredentialsModel);
+
+            log.info("Successfully retrieved employee credentials.");
+            return employeeCredentials;
+        } catch (UsernameNotFoundException e) {
+            log.warn(String.format("Username \"%s\" not found!", username));
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred. ", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public EmployeeCredentialsModel saveEmployeeCredentials(EmployeeCredentials employeeCredentials) {
+        try {
+            EmployeeCredentialsModel employeeCredentialsModel = ModelConverter.fromEmployeeCredentials(employeeCredentials);
+            credentialsTable.save(employeeCredentialsModel);
+
+            log.info("Successfully saved the employee credentials for username \"{}\". ", employeeCredentialsModel.getUsername());
+            return employeeCredentialsModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving the employee credentials to the database: ", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean updatePasswordHash(EmployeeCredentials employeeCredentials, String previousPassword) {
+        String username = employeeCredentials.getUsername();
+        try {
+            credentialsTable.update(username, null, current -> {
+                if (current == null || !previousPassword.equals(current.getPassword())) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                current.setPassword(employeeCredentials.getPassword());
+                current.setSalt(employeeCredentials.getSalt());
+                current.setHashMemoryKB(employeeCredentials.getHashParameters().getMemoryKB());
+                current.setHashIterations(employeeCredentials.getHashParameters().getIterations());
+                current.setHashParallelism(employeeCredentials.getHashParameters().getParallelism());
+                return current;
+            });
+            log.info("Updated the password hash of username \"{}\".", username);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.info("The password of username \"{}\" changed before its hash could be updated.", username);
+            return false;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while updating the password hash of username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean resetPassword(EmployeeCredentials employeeCredentials, String previousPassword) {
+        String username = employeeCredentials.getUsername();
+        try {
+            credentialsTable.update(username, null, current -> {
+                if (current == null || !previousPassword.equals(current.getPassword())) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                current.setPassword(employeeCredentials.getPassword());
+                current.setSalt(employeeCredentials.getSalt());
+                current.setHashMemoryKB(employeeCredentials.getHashParameters().getMemoryKB());
+                current.setHashIterations(employeeCredentials.getHashParameters().getIterations());
+                current.setHashParallelism(employeeCredentials.getHashParameters().getParallelism());
+                current.setLastUpdated(employeeCredentials.getLastUpdated().toString());
+                current.setAccountLocked(employeeCredentials.isAccountLocked());
+                current.setForceChangeAfterLogin(employeeCredentials.isForceChangeAfterLogin());
+                current.setFailedAttempts(employeeCredentials.getFailedAttempts());
+                return current;
+            });
+            log.info("Reset the password of username \"{}\".", username);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.info("The password of username \"{}\" changed before it could be reset.", username);
+            return false;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while resetting the password of username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<EmployeeCredentials> getEmployeeCredentialsList(Collection<String> usernames) {
+        Set<String> uniqueUsernames = new LinkedHashSet<>(usernames);
+        try {
+            Map<String, EmployeeCredentialsModel> employeeCredentialsModels = new HashMap<>();
+            for (List<String> chunk : Iterables.partition(uniqueUsernames, EmployeeDao.MAX_BATCH_GET_SIZE)) {
+                List<EmployeeCredentialsModel> keys = new ArrayList<>();
+                for (String username : chunk) {
+                    EmployeeCredentialsModel key = new EmployeeCredentialsModel();
+                    key.setUsername(username);
+                    keys.add(key);
+                }
+                for (EmployeeCredentialsModel employeeCredentialsModel : credentialsTable.batchLoad(keys)) {
+                    employeeCredentialsModels.put(employeeCredentialsModel.getUsername(), employeeCredentialsModel);
+                }
+            }
+
+            List<EmployeeCredentials> employeeCredentialsList = new ArrayList<>();
+            for (String username : uniqueUsernames) {
+                EmployeeCredentialsModel employeeCredentialsModel = employeeCredentialsModels.get(username);
+                if (employeeCredentialsModel != null) {
+                    employeeCredentialsList.add(ModelConverter.fromEmployeeCredentialsModel(employeeCredentialsModel));
+                }
+            }
+
+            log.info("Successfully retrieved {} of {} requested employee credentials.", employeeCredentialsList.size(),
+                    uniqueUsernames.size());
+            return employeeCredentialsList;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving {} employee credentials. ", uniqueUsernames.size(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int recordFailedLogin(String username) {
+        try {
+            EmployeeCredentialsModel updated = credentialsTable.update(username, null, current -> {
+                if (current == null) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                current.setFailedAttempts(current.getFailedAttempts() + 1);
+                return current;
+            });
+            int failedAttempts = updated.getFailedAttempts();
+            log.info("Recorded failed login attempt {} for username \"{}\".", failedAttempts, username);
+
+            if (failedAttempts >= EmployeeCredentials.MAX_FAILED_ATTEMPTS) {
+                lockAccount(username);
+            }
+            return failedAttempts;
+        } catch (ConditionalCheckFailedException e) {
+            log.warn(String.format("Username \"%s\" not found!", username));
+            throw new UsernameNotFoundException(String.format("Username \"%s\" not found!", username), e);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while recording a failed login for username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void resetFailedLogins(String username) {
+        try {
+            credentialsTable.update(username, null, current -> {
+                if (current == null || current.getFailedAttempts() <= 0 || current.isAccountLocked()) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                current.setFailedAttempts(0);
+                return current;
+            });
+            log.info("Reset failed login attempts for username \"{}\".", username);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("Failed login attempts for username \"{}\" were already cleared or the account was locked.", username);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while resetting failed logins for username \"{}\". ", username, e);
+            throw e;
+        }
+    }
+
+    private void lockAccount(String username) {
+        try {
+            credentialsTable.update(username, null, current -> {
+                if (current == null || current.getFailedAttempts() < EmployeeCredentials.MAX_FAILED_ATTEMPTS
+                        || current.isAccountLocked()) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                current.setAccountLocked(true);
+                return current;
+            });
+            log.warn("Locked username \"{}\" after too many failed login attempts.", username);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("Username \"{}\" was already locked.", username);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.DaoExecutor;
+import org.example.dynamodb.DynamoDBEmployeeDao;
+import org.example.dynamodb.EmployeeDao;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UsernameAlreadyExistsException;
+import org.example.model.Employee;
+import org.example.model.EmployeeCredentials;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
+import org.example.utils.ModelConverter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link EmployeeDao} backed by an {@link InMemoryDynamoDB}. It makes the same requests as
+ * {@link DynamoDBEmployeeDao} and throws the same exceptions, but does not cache employees.
+ */
+public class InMemoryEmployeeDao implements EmployeeDao {
+    private static final Logger log = LogManager.getLogger(InMemoryEmployeeDao.class);
+    private static final ThreadFactory SCAN_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("in-memory-employee-scan-%d")
+            .setDaemon(true)
+            .build();
+    private final InMemoryDynamoDB dynamoDB;
+    private final InMemoryTable<EmployeeModel> employeeTable;
+    private final InMemoryTable<EmployeeCredentialsModel> credentialsTable;
+    private final DynamoDBMapperTableModel<EmployeeModel> employeeTableModel;
+
+    public InMemoryEmployeeDao(InMemoryDynamoDB dynamoDB) {
+        this.dynamoDB = dynamoDB;
+        this.employeeTable = dynamoDB.table(EmployeeModel.class);
+        this.credentialsTable = dynamoDB.table(EmployeeCredentialsModel.class);
+        this.employeeTableModel = dynamoDB.getDynamoDBMapper().getTableModel(EmployeeModel.class);
+    }
+
+    @Override
+    public Employee getEmployee(String employeeId) {
+        return getEmployee(employeeId, null);
+    }
+
+    @Override
+    public Employee getEmployee(String employeeId, Set<EmployeeField> fields) {
+        try {
+            EmployeeModel employeeModel = employeeTable.load(employeeId, null, attributeNames(fields));
+            if (employeeModel == null) {
+                throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId);
+            }
+
+            Employee employee = ModelConverter.fromEmployeeModel(employeeModel);
+            log.info("Successfully retrieved employee with ID: {}", employeeId);
+            return employee;
+        } catch (EmployeeNotFoundException e) {
+            log.warn("Employee ID \"{}\" not found in database.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployees(Collection<String> employeeIds) {
+        Set<String> uniqueIds = new LinkedHashSet<>(employeeIds);
+        try {
+            Map<String, EmployeeModel> employeeModels = new HashMap<>();
+            for (List<String> chunk : Iterables.partition(uniqueIds, MAX_BATCH_GET_SIZE)) {
+                List<EmployeeModel> keys = new ArrayList<>();
+                for (String employeeId : chunk) {
+                    EmployeeModel key = new EmployeeModel();
+                    key.setEmployeeId(employeeId);
+                    keys.add(key);
+                }
+                for (EmployeeModel employeeModel : employeeTable.batchLoad(keys)) {
+                    employeeModels.put(employeeModel.getEmployeeId(), employeeModel);
+                }
+            }
+
+            List<Employee> employees = new ArrayList<>();
+            for (String employeeId : uniqueIds) {
+                EmployeeModel employeeModel = employeeModels.get(employeeId);
+                if (employeeModel != null) {
+                    employees.add(ModelConverter.fromEmployeeModel(employeeModel));
+                }
+            }
+
+            log.info("Successfully retrieved {} of {} requested employees.", employees.size(), uniqueIds.size());
+            return employees;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving {} employees. ", uniqueIds.size(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public EmployeeModel saveEmployee(Employee employee) {
+        try {
+            EmployeeModel employeeModel = ModelConverter.fromEmployee(employee);
+            employeeTable.save(employeeModel);
+
+            log.info("Successfully saved employee with ID: {}", employeeModel.getEmployeeId());
+            return employeeModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving Employee to the database: ", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public EmployeeModel createEmployee(Employee employee, EmployeeCredentials employeeCredentials) {
+        String username = employeeCredentials.getUsername();
+        try {
+            EmployeeModel employeeModel = ModelConverter.fromEmployee(employee);
+            EmployeeCredentialsModel employeeCredentialsModel = ModelConverter.fromEmployeeCredentials(employeeCredentials);
+
+            dynamoDB.transactWrite(() -> {
+                if (credentialsTable.current(username, null) != null) {
+                    throw InMemoryDynamoDB.transactionCanceled(0, 2);
+                }
+                if (employeeTable.current(employeeModel.getEmployeeId(), null) != null) {
+                    throw InMemoryDynamoDB.transactionCanceled(1, 2);
+                }
+                credentialsTable.put(employeeCredentialsModel);
+                employeeTable.put(employeeModel);
+                return null;
+            });
+
+            log.info("Successfully created employee with ID: {} and username \"{}\".", employeeModel.getEmployeeId(), username);
+            return employeeModel;
+        } catch (TransactionCanceledException e) {
+            List<CancellationReason> cancellationReasons = e.getCancellationReasons();
+            if (!"ConditionalCheckFailed".equals(cancellationReasons.get(0).getCode())) {
+                log.error("New employee transaction for username \"{}\" was canceled. ", username, e);
+                throw e;
+            }
+            log.warn("Username \"{}\" is already taken.", username);
+            throw new UsernameAlreadyExistsException(String.format("Username \"%s\" is already taken. Please choose another.", username), e);
+        } catch (Exception e) {
+            log.error("There was an error while creating a new employee with username \"{}\": ", username, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public EmployeeModel updateEmployee(EmployeePatch employeePatch) {
+        String employeeId = employeePatch.getEmployeeId();
+        Long expectedVersion = employeePatch.getExpectedVersion();
+        try {
+            EmployeeModel employeeModel = employeeTable.update(employeeId, null, currentModel -> {
+                if (currentModel == null) {
+                    throw new EmployeeNotFoundException("Could not find employee with Employee ID: " + employeeId);
+                }
+                Long currentVersion = currentModel.getVersion();
+                if (expectedVersion != null && !Objects.equals(expectedVersion, currentVersion == null ? 0L : currentVersion)) {
+                    throw new EmployeeVersionConflictException(String.format("Employee ID \"%s\" was changed by someone else. " +
+                            "Reload the employee and try again.", employeeId));
+                }
+
+                Map<String, AttributeValue> item = new HashMap<>(employeeTableModel.convert(currentModel));
+                for (Map.Entry<EmployeeField, Object> change : employeePatch.getChanges().entrySet()) {
+                    item.put(change.getKey().getAttributeName(), DynamoDBEmployeeDao.toAttributeValue(change.getValue()));
+                }
+                EmployeeModel updatedModel = employeeTableModel.unconvert(item);
+                updatedModel.setVersion(currentVersion == null ? 1L : currentVersion + 1);
+                return updatedModel;
+            });
+
+            log.info("Successfully updated {} fields of employee with ID: {}. New version: {}",
+                    employeePatch.getChanges().size(), employeeId, employeeModel.getVersion());
+            return employeeModel;
+        } catch (EmployeeNotFoundException e) {
+            log.warn("Employee ID \"{}\" not found in database.", employeeId);
+            throw e;
+        } catch (EmployeeVersionConflictException e) {
+            log.warn("Employee ID \"{}\" was changed since version {}.", employeeId, expectedVersion);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while updating Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        try (Stream<Employee> employees = streamAllEmployees()) {
+            List<Employee> employeeList = employees.collect(Collectors.toList());
+
+            log.info("Successfully retrieved all employees from database.");
+            return employeeList;
+        } catch (Exception e) {
+            log.error("An error occurred while retrieving all employees from database. ", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Employee> getAllEmployees(int totalSegments) {
+        return getAllEmployees(totalSegments, null);
+    }
+
+    /**
+     * Each segment is scanned on its own thread, as in {@link DynamoDBEmployeeDao}, and the results are merged in
+     * segment order.
+     */
+    @Override
+    public List<Employee> getAllEmployees(int totalSegments, Set<EmployeeField> fields) {
+        if (totalSegments < 1 || totalSegments > MAX_SCAN_SEGMENTS) {
+            throw new IllegalArgumentException(String.format("Scan segments must be between 1 and %d.", MAX_SCAN_SEGMENTS));
+        }
+        Set<String> attributeNames = attributeNames(fields);
+        ExecutorService executor = Executors.newFixedThreadPool(totalSegments, SCAN_THREAD_FACTORY);
+        try {
+            List<CompletableFuture<List<Employee>>> segmentResults = IntStream.range(0, totalSegments)
+                    .mapToObj(segment -> CompletableFuture.supplyAsync(() -> employeeTable
+                            .scanAll(segment, totalSegments, attributeNames)
+                            .map(ModelConverter::fromEmployeeModel)
+                            .collect(Collectors.toList()), executor))
+                    .collect(Collectors.toList());
+
+            List<Employee> employeeList = new ArrayList<>();
+            for (CompletableFuture<List<Employee>> segmentResult : segmentResults) {
+                employeeList.addAll(DaoExecutor.join(segmentResult));
+            }
+
+            log.info("Successfully retrieved all employees from database using {} scan segments.", totalSegments);
+            return employeeList;
+        } catch (Exception e) {
+            log.error("An error occurred while retrieving all employees from database. ", e);
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public Stream<Employee> streamAllEmployees() {
+        return streamAllEmployees(null);
+    }
+
+    @Override
+    public Stream<Employee> streamAllEmployees(Set<EmployeeField> fields) {
+        return employeeTable.scanAll(0, 1, attributeNames(fields))
+                .map(ModelConverter::fromEmployeeModel);
+    }
+
+    /**
+     * @return the attribute names of the requested fields and the {@link EmployeeField#REQUIRED_FIELDS}, or null
+     * to read every attribute.
+     */
+    private static Set<String> attributeNames(Set<EmployeeField> fields) {
+        if (EmployeeField.isAllFields(fields)) {
+            return null;
+        }
+        Set<EmployeeField> projectedFields = EnumSet.copyOf(EmployeeField.REQUIRED_FIELDS);
+        projectedFields.addAll(fields);
+        return projectedFields.stream()
+                .map(EmployeeField::getAttributeName)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.DynamoDBLoginThrottleDao;
+import org.example.dynamodb.LoginThrottleDao;
+import org.example.dynamodb.model.LoginThrottleModel;
+import org.example.model.RateLimit;
+import org.example.model.TokenBucket;
+import org.example.utils.ModelConverter;
+
+/**
+ * {@link LoginThrottleDao} backed by an {@link InMemoryDynamoDB}. Where {@link DynamoDBLoginThrottleDao} reads the
+ * bucket and writes it back conditionally, this takes the token in a single update, which the stand-in applies
+ * atomically.
+ */
+public class InMemoryLoginThrottleDao implements LoginThrottleDao {
+    private static final Logger log = LogManager.getLogger(InMemoryLoginThrottleDao.class);
+    private final InMemoryTable<LoginThrottleModel> throttleTable;
+
+    public InMemoryLoginThrottleDao(InMemoryDynamoDB dynamoDB) {
+        this.throttleTable = dynamoDB.table(LoginThrottleModel.class);
+    }
+
+    @Override
+    public long tryAcquire(String throttleKey, RateLimit rateLimit, long nowMillis, int tokens) {
+        long[] millisUntilToken = new long[1];
+        try {
+            throttleTable.update(throttleKey, null, current -> {
+                TokenBucket tokenBucket = current == null
+                        ? TokenBucket.full(rateLimit, nowMillis)
+                        : ModelConverter.fromLoginThrottleModel(current).refill(rateLimit, nowMillis);
+                if (!tokenBucket.hasToken()) {
+                    // Denied attempts write nothing, like the condition DynamoDB would fail.
+                    millisUntilToken[0] = tokenBucket.millisUntilToken(rateLimit);
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+
+                LoginThrottleModel updated = ModelConverter.fromTokenBucket(throttleKey, tokenBucket.take(tokens), rateLimit);
+                updated.setVersion(current == null || current.getVersion() == null ? 1L : current.getVersion() + 1);
+                return updated;
+            });
+            return 0;
+        } catch (ConditionalCheckFailedException e) {
+            return millisUntilToken[0];
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while throttling login throttle key \"{}\". ", throttleKey, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.GlobalSecondaryIndex;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.google.common.collect.AbstractIterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * One table of the {@link InMemoryDynamoDB}, holding the items of a mapped model class.
+ * Items are kept as attribute maps, converted with the mapper's table model, so what is stored and read back is
+ * what the mapper would send to and receive from DynamoDB. Items are grouped by hash key, and sorted by range key
+ * within a hash key, so queries return items in range key order like DynamoDB does. Hash and range keys must be
+ * strings, which is all the tables use.
+ * <p>
+ * Each public method is one DynamoDB request and is delayed and throttled accordingly. Queries and scans read one
+ * page at a time and return the last evaluated key whenever the page limit stopped them, even if no items are
+ * left, as DynamoDB does.
+ *
+ * @param <T> the mapped model class.
+ */
+public class InMemoryTable<T> {
+    private static final String NO_RANGE_KEY = "";
+    private final InMemoryDynamoDB dynamoDB;
+    private final DynamoDBMapperTableModel<T> tableModel;
+    private final String hashKeyName;
+    private final String rangeKeyName;
+    private final ConcurrentSkipListMap<String, ConcurrentSkipListMap<String, Map<String, AttributeValue>>> partitions =
+            new ConcurrentSkipListMap<>();
+
+    InMemoryTable(InMemoryDynamoDB dynamoDB, DynamoDBMapperTableModel<T> tableModel) {
+        this.dynamoDB = dynamoDB;
+        this.tableModel = tableModel;
+        this.hashKeyName = tableModel.hashKey().name();
+        this.rangeKeyName = tableModel.rangeKeyIfExists() == null ? null : tableModel.rangeKeyIfExists().name();
+    }
+
+    /**
+     * GetItem.
+     *
+     * @param hashKey the hash key of the item.
+     * @param rangeKey the range key of the item, or null if the table has none.
+     * @return the item, or null if there is none.
+     */
+    public T load(String hashKey, String rangeKey) {
+        return load(hashKey, rangeKey, null);
+    }
+
+    /**
+     * GetItem with a projection.
+     *
+     * @param hashKey the hash key of the item.
+     * @param rangeKey the range key of the item, or null if the table has none.
+     * @param attributeNames the attributes to read, or null to read every attribute.
+     * @return the item with only the given attributes set, or null if there is none.
+     */
+    public T load(String hashKey, String rangeKey, Collection<String> attributeNames) {
+        return dynamoDB.call("GetItem", () -> toModel(item(hashKey, rangeKey), attributeNames));
+    }
+
+    /**
+     * PutItem, replacing any item with the same key.
+     */
+    public void save(T model) {
+        dynamoDB.write("PutItem", () -> {
+            put(model);
+            return null;
+        });
+    }
+
+    /**
+     * UpdateItem. The update sees the current item, or null if there is none, and returns the item to store. It can
+     * reject the write by throwing, e.g. a {@link ConditionalCheckFailedException}, in which case nothing changes.
+     *
+     * @return the item as stored after the update.
+     */
+    public T update(String hashKey, String rangeKey, UnaryOperator<T> update) {
+        return dynamoDB.write("UpdateItem", () -> {
+            T updated = update.apply(current(hashKey, rangeKey));
+            put(updated);
+            return updated;
+        });
+    }
+
+    /**
+     * DeleteItem with a condition on the current item, which is null if there is none.
+     *
+     * @throws ConditionalCheckFailedException if the condition does not hold, in which case nothing is deleted.
+     */
+    public void delete(String hashKey, String rangeKey, Predicate<T> condition) {
+        dynamoDB.write("DeleteItem", () -> {
+            if (!condition.test(current(hashKey, rangeKey))) {
+                throw conditionalCheckFailed();
+            }
+            remove(hashKey, rangeKey);
+            return null;
+        });
+    }
+
+    /**
+     * Query on the table's range key, or on the range key of a global secondary index that shares the table's hash
+     * key. Items without the index range key are not in the index. Items with the same index range key are ordered
+     * by the table's range key.
+     *
+     * @param hashKey the hash key to query.
+     * @param indexName the name of the global secondary index to query, or null to query the table.
+     * @param from the smallest range key to return, or null for no lower bound.
+     * @param to the largest range key to return, or null for no upper bound.
+     * @param ascending true to return items in ascending range key order, false for descending.
+     * @param limit the maximum number of items to read.
+     * @param exclusiveStartKey the last evaluated key of the previous page, or null for the first page.
+     * @return one page of items.
+     */
+    public Page<T> query(String hashKey, String indexName, String from, String to, boolean ascending,
+                         int limit, Map<String, AttributeValue> exclusiveStartKey) {
+        if (limit < 1) {
+            throw InMemoryDynamoDB.validationException("Limit must be at least 1.");
+        }
+        String indexRangeKeyName = indexName == null ? null : indexRangeKeyName(indexName);
+        return dynamoDB.call("Query", () -> {
+            String sortKeyName = indexRangeKeyName != null ? indexRangeKeyName : rangeKeyName;
+            Comparator<Map<String, AttributeValue>> order = Comparator.comparing(item -> sortKey(item, sortKeyName));
+            if (!ascending) {
+                order = order.reversed();
+            }
+
+            Map<String, Map<String, AttributeValue>> partition = partitions.getOrDefault(hashKey, new ConcurrentSkipListMap<>());
+            List<Map<String, AttributeValue>> candidates = partition.values().stream()
+                    .filter(item -> sortKeyName == null || item.containsKey(sortKeyName))
+                    .filter(item -> sortKeyName == null || inRange(item.get(sortKeyName).getS(), from, to))
+                    .sorted(order)
+                    .collect(Collectors.toList());
+
+            int start = 0;
+            if (exclusiveStartKey != null) {
+                String startKey = sortKey(exclusiveStartKey, sortKeyName);
+                while (start < candidates.size() && !isAfter(sortKey(candidates.get(start), sortKeyName), startKey, ascending)) {
+                    start++;
+                }
+            }
+            return page(candidates.subList(start, candidates.size()), limit, indexRangeKeyName, null);
+        });
+    }
+
+    /**
+     * Scan of one segment of the table, in hash key then range key order. An item belongs to segment
+     * {@code hash(hashKey) mod totalSegments}, so all items with the same hash key are in the same segment.
+     *
+     * @param segment the segment to scan, from 0 to {@code totalSegments - 1}.
+     * @param totalSegments the number of segments the table is split into, or 1 for a sequential scan.
+     * @param limit the maximum number of items to read.
+     * @param exclusiveStartKey the last evaluated key of the previous page, or null for the first page.
+     * @param attributeNames the attributes to read, or null to read every attribute.
+     * @return one page of items.
+     */
+    public Page<T> scan(int segment, int totalSegments, int limit, Map<String, AttributeValue> exclusiveStartKey,
+                        Collection<String> attributeNames) {
+        if (totalSegments < 1 || segment < 0 || segment >= totalSegments) {
+            throw InMemoryDynamoDB.validationException("Segment must be between 0 and TotalSegments - 1.");
+        }
+        if (limit < 1) {
+            throw InMemoryDynamoDB.validationException("Limit must be at least 1.");
+        }
+        return dynamoDB.call("Scan", () -> {
+            NavigableMap<String, ConcurrentSkipListMap<String, Map<String, AttributeValue>>> remaining = partitions;
+            String startRangeKey = null;
+            if (exclusiveStartKey != null) {
+                remaining = partitions.tailMap(exclusiveStartKey.get(hashKeyName).getS(), true);
+                startRangeKey = rangeKeyName == null ? NO_RANGE_KEY : exclusiveStartKey.get(rangeKeyName).getS();
+            }
+
+            List<Map<String, AttributeValue>> candidates = new ArrayList<>();
+            for (Map.Entry<String, ConcurrentSkipListMap<String, Map<String, AttributeValue>>> partition : remaining.entrySet()) {
+                if (Math.floorMod(partition.getKey().hashCode(), totalSegments) != segment) {
+                    continue;
+                }
+                Map<String, Map<String, AttributeValue>> items = partition.getValue();
+                if (startRangeKey != null && partition.getKey().equals(exclusiveStartKey.get(hashKeyName).getS())) {
+                    items = partition.getValue().tailMap(startRangeKey, false);
+                }
+                for (Map<String, AttributeValue> item : items.values()) {
+                    candidates.add(item);
+                    if (candidates.size() == limit) {
+                        return page(candidates, limit, null, attributeNames);
+                    }
+                }
+            }
+            return page(candidates, limit, null, attributeNames);
+        });
+    }
+
+    /**
+     * Scans every page of one segment. Pages are read lazily as the stream is consumed.
+     *
+     * @param segment the segment to scan, from 0 to {@code totalSegments - 1}.
+     * @param totalSegments the number of segments the table is split into, or 1 for a sequential scan.
+     * @param attributeNames the attributes to read, or null to read every attribute.
+     * @return an ordered stream of the items in the segment.
+     */
+    public Stream<T> scanAll(int segment, int totalSegments, Collection<String> attributeNames) {
+        Iterator<T> items = new AbstractIterator<>() {
+            private Iterator<T> page = Collections.emptyIterator();
+            private Map<String, AttributeValue> lastEvaluatedKey;
+            private boolean lastPage;
+
+            @Override
+            protected T computeNext() {
+                while (!page.hasNext() && !lastPage) {
+                    Page<T> next = scan(segment, totalSegments, InMemoryDynamoDB.DEFAULT_PAGE_LIMIT, lastEvaluatedKey,
+                            attributeNames);
+                    page = next.getResults().iterator();
+                    lastEvaluatedKey = next.getLastEvaluatedKey();
+                    lastPage = lastEvaluatedKey == null;
+                }
+                return page.hasNext() ? page.next() : endOfData();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(items,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * BatchGetItem of up to {@value InMemoryDynamoDB#MAX_BATCH_GET_SIZE} keys. Keys that do not exist are skipped.
+     *
+     * @param keys model objects with only their key attributes set.
+     * @return the items that were found, in no particular order.
+     */
+    public List<T> batchLoad(Collection<T> keys) {
+        if (keys.size() > InMemoryDynamoDB.MAX_BATCH_GET_SIZE) {
+            throw InMemoryDynamoDB.validationException("Too many items requested for the BatchGetItem call.");
+        }
+        Set<Map<String, AttributeValue>> uniqueKeys = new HashSet<>();
+        for (T key : keys) {
+            if (!uniqueKeys.add(tableModel.convertKey(key))) {
+                throw InMemoryDynamoDB.validationException("Provided list of item keys contains duplicates.");
+            }
+        }
+        return dynamoDB.call("BatchGetItem", () -> {
+            List<T> found = new ArrayList<>();
+            for (Map<String, AttributeValue> key : uniqueKeys) {
+                T model = toModel(item(key.get(hashKeyName).getS(), rangeKey(key)), null);
+                if (model != null) {
+                    found.add(model);
+                }
+            }
+            return found;
+        });
+    }
+
+    /**
+     * BatchWriteItem of up to {@value InMemoryDynamoDB#MAX_BATCH_WRITE_SIZE} puts, matching
+     * {@link org.example.dynamodb.BatchWriter.ChunkWriter}. Under throttling, each item can be left unprocessed
+     * on its own, and unprocessed items are returned rather than retried.
+     *
+     * @param chunk the models to put.
+     * @return one failed batch with the unprocessed items, or an empty list if every item was written.
+     */
+    public List<DynamoDBMapper.FailedBatch> batchWrite(List<Object> chunk) {
+        if (chunk.size() > InMemoryDynamoDB.MAX_BATCH_WRITE_SIZE) {
+            throw InMemoryDynamoDB.validationException("Too many items requested for the BatchWriteItem call.");
+        }
+        Set<Map<String, AttributeValue>> uniqueKeys = new HashSet<>();
+        for (Object model : chunk) {
+            if (!uniqueKeys.add(tableModel.convertKey(tableModel.targetType().cast(model)))) {
+                throw InMemoryDynamoDB.validationException("Provided list of item keys contains duplicates.");
+            }
+        }
+        return dynamoDB.batchWrite(() -> {
+            List<WriteRequest> unprocessed = new ArrayList<>();
+            for (Object model : chunk) {
+                T item = tableModel.targetType().cast(model);
+                if (dynamoDB.isThrottled()) {
+                    dynamoDB.countThrottled();
+                    unprocessed.add(new WriteRequest(new PutRequest(tableModel.convert(item))));
+                } else {
+                    put(item);
+                }
+            }
+            if (unprocessed.isEmpty()) {
+                return Collections.emptyList();
+            }
+            DynamoDBMapper.FailedBatch failedBatch = new DynamoDBMapper.FailedBatch();
+            failedBatch.setUnprocessedItems(Map.of(tableName(), unprocessed));
+            return List.of(failedBatch);
+        });
+    }
+
+    /**
+     * @return the number of items in the table.
+     */
+    public int size() {
+        return partitions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Reads an item without delay or throttling, for use inside a write or transaction.
+     */
+    T current(String hashKey, String rangeKey) {
+        return toModel(item(hashKey, rangeKey), null);
+    }
+
+    /**
+     * Writes an item without delay, throttling or locking, for use inside a write or transaction.
+     */
+    void put(T model) {
+        Map<String, AttributeValue> item = Collections.unmodifiableMap(new HashMap<>(tableModel.convert(model)));
+        partitions.computeIfAbsent(item.get(hashKeyName).getS(), hashKey -> new ConcurrentSkipListMap<>())
+                .put(rangeKey(item), item);
+    }
+
+    /**
+     * Deletes an item without delay, throttling or locking, for use inside a write or transaction.
+     */
+    void remove(String hashKey, String rangeKey) {
+        ConcurrentSkipListMap<String, Map<String, AttributeValue>> partition = partitions.get(hashKey);
+        if (partition != null) {
+            partition.remove(rangeKey == null ? NO_RANGE_KEY : rangeKey);
+        }
+    }
+
+    static ConditionalCheckFailedException conditionalCheckFailed() {
+        ConditionalCheckFailedException exception = new ConditionalCheckFailedException("The conditional request failed");
+        exception.setErrorCode("ConditionalCheckFailedException");
+        exception.setStatusCode(400);
+        return exception;
+    }
+
+    private Map<String, AttributeValue> item(String hashKey, String rangeKey) {
+        ConcurrentSkipListMap<String, Map<String, AttributeValue>> partition = partitions.get(hashKey);
+        return partition == null ? null : partition.get(rangeKey == null ? NO_RANGE_KEY : rangeKey);
+    }
+
+    private String rangeKey(Map<String, AttributeValue> item) {
+        return rangeKeyName == null ? NO_RANGE_KEY : item.get(rangeKeyName).getS();
+    }
+
+    /**
+     * Orders items by the given range key, then by the table's range key, which makes index keys unique.
+     */
+    private String sortKey(Map<String, AttributeValue> item, String sortKeyName) {
+        String tableRangeKey = rangeKey(item);
+        if (sortKeyName == null || sortKeyName.equals(rangeKeyName)) {
+            return tableRangeKey;
+        }
+        return item.get(sortKeyName).getS() + '\u0000' + tableRangeKey;
+    }
+
+    private String indexRangeKeyName(String indexName) {
+        GlobalSecondaryIndex index = tableModel.globalSecondaryIndex(indexName);
+        if (index == null) {
+            throw InMemoryDynamoDB.validationException("The table does not have the specified index: " + indexName);
+        }
+        return index.getKeySchema().stream()
+                .filter(keySchemaElement -> KeyType.RANGE.toString().equals(keySchemaElement.getKeyType()))
+                .map(KeySchemaElement::getAttributeName)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean inRange(String value, String from, String to) {
+        return (from == null || value.compareTo(from) >= 0) && (to == null || value.compareTo(to) <= 0);
+    }
+
+    private static boolean isAfter(String sortKey, String startKey, boolean ascending) {
+        int comparison = sortKey.compareTo(startKey);
+        return ascending ? comparison > 0 : comparison < 0;
+    }
+
+    /**
+     * Returns the first {@code limit} items, and the key of the last one if there were more to read.
+     */
+    private Page<T> page(List<Map<String, AttributeValue>> candidates, int limit, String indexRangeKeyName,
+                         Collection<String> attributeNames) {
+        List<Map<String, AttributeValue>> items = candidates.subList(0, Math.min(limit, candidates.size()));
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        if (items.size() == limit) {
+            Map<String, AttributeValue> lastItem = items.get(items.size() - 1);
+            lastEvaluatedKey = new HashMap<>(tableModel.convertKey(tableModel.unconvert(lastItem)));
+            if (indexRangeKeyName != null) {
+                lastEvaluatedKey.put(indexRangeKeyName, lastItem.get(indexRangeKeyName));
+            }
+        }
+
+        List<T> results = new ArrayList<>();
+        for (Map<String, AttributeValue> item : items) {
+            results.add(toModel(item, attributeNames));
+        }
+        return new Page<>(results, lastEvaluatedKey);
+    }
+
+    private T toModel(Map<String, AttributeValue> item, Collection<String> attributeNames) {
+        if (item == null) {
+            return null;
+        }
+        if (attributeNames == null) {
+            return tableModel.unconvert(item);
+        }
+        Map<String, AttributeValue> projected = new HashMap<>();
+        for (String attributeName : attributeNames) {
+            if (item.containsKey(attributeName)) {
+                projected.put(attributeName, item.get(attributeName));
+            }
+        }
+        return tableModel.unconvert(projected);
+    }
+
+    private String tableName() {
+        return tableModel.targetType().getAnnotation(DynamoDBTable.class).tableName();
+    }
+
+    /**
+     * One page of a query or scan.
+     *
+     * @param <T> the mapped model class.
+     */
+    public static class Page<T> {
+        private final List<T> results;
+        private final Map<String, AttributeValue> lastEvaluatedKey;
+
+        public Page(List<T> results, Map<String, AttributeValue> lastEvaluatedKey) {
+            this.results = Collections.unmodifiableList(results);
+            this.lastEvaluatedKey = lastEvaluatedKey;
+        }
+
+        public List<T> getResults() {
+            return results;
+        }
+
+        /**
+         * @return the key to start the next page after, or null if the read is complete.
+         */
+        public Map<String, AttributeValue> getLastEvaluatedKey() {
+            return lastEvaluatedKey;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.BatchWriteResult;
+import org.example.dynamodb.BatchWriter;
+import org.example.dynamodb.DynamoDBTimeEntryDao;
+import org.example.dynamodb.TimeEntryDao;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.TimeEntriesNotFoundException;
+import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
+import org.example.utils.ModelConverter;
+import org.example.utils.PageTokenUtility;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TimeEntryDao} backed by an {@link InMemoryDynamoDB}. It makes the same requests as
+ * {@link DynamoDBTimeEntryDao}, including the clock-in and clock-out transactions, and throws the same exceptions.
+ */
+public class InMemoryTimeEntryDao implements TimeEntryDao {
+    private static final Logger log = LogManager.getLogger(InMemoryTimeEntryDao.class);
+    private static final String KEY_DELIMITER = "#";
+    private final InMemoryDynamoDB dynamoDB;
+    private final InMemoryTable<TimeEntryModel> timeEntryTable;
+    private final InMemoryTable<ClockStateModel> clockStateTable;
+    private final BatchWriter batchWriter;
+
+    public InMemoryTimeEntryDao(InMemoryDynamoDB dynamoDB) {
+        this.dynamoDB = dynamoDB;
+        this.timeEntryTable = dynamoDB.table(TimeEntryModel.class);
+        this.clockStateTable = dynamoDB.table(ClockStateModel.class);
+        this.batchWriter = new BatchWriter(timeEntryTable::batchWrite);
+    }
+
+    @Override
+    public TimeEntry getTimeEntry(String employeeId, String entryId) {
+        try {
+            TimeEntryModel timeEntryModel = timeEntryTable.load(employeeId, entryId);
+
+            if (timeEntryModel == null) {
+                throw new TimeEntriesNotFoundException("Could not find time entry with Employee ID: " + employeeId + " and Entry ID: " + entryId);
+            }
+
+            TimeEntry timeEntry = ModelConverter.fromTimeEntryModel(timeEntryModel);
+            log.info("Successfully retrieved TimeEntry with Entry ID \"{}\" for Employee ID \"{}\".", entryId, employeeId);
+            return timeEntry;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("TimeEntry for Entry ID \"{}\" for Employee ID \"{}\" not found in database.", entryId, employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving TimeEntry Entry ID \"{}\" for Employee ID \"{}\". ", entryId, employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<TimeEntry> getLatestTimeEntries(String employeeId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Number of time entries to retrieve must be at least 1.");
+        }
+
+        try {
+            List<TimeEntryModel> timeEntryModels = timeEntryTable.query(employeeId, TimeEntryModel.TIME_IN_INDEX,
+                    null, null, false, count, null).getResults();
+
+            if (timeEntryModels.isEmpty()) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> latestEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+
+            log.info("Successfully retrieved last {} Time Entries for Employee ID \"{}\".", latestEntries.size(), employeeId);
+            return latestEntries;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<TimeEntry> getTimeEntries(String employeeId) {
+        try {
+            List<TimeEntryModel> timeEntryModels = new ArrayList<>();
+            Map<String, AttributeValue> exclusiveStartKey = null;
+            do {
+                InMemoryTable.Page<TimeEntryModel> page = timeEntryTable.query(employeeId, null, null, null, true,
+                        InMemoryDynamoDB.DEFAULT_PAGE_LIMIT, exclusiveStartKey);
+                timeEntryModels.addAll(page.getResults());
+                exclusiveStartKey = page.getLastEvaluatedKey();
+            } while (exclusiveStartKey != null);
+
+            if (timeEntryModels.isEmpty()) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(timeEntryModels);
+
+            timeEntries.sort(Comparator.comparing(TimeEntry::getTimeIn));
+
+            log.info("Successfully retrieved time entries for Employee ID \"{}\". ", employeeId);
+            return timeEntries;
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TimeEntryPage getTimeEntries(String employeeId, LocalDate fromDate, LocalDate toDate, int pageSize, String nextToken) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputFormatException(String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new InvalidInputFormatException("From date cannot be after to date.");
+        }
+
+        Map<String, AttributeValue> exclusiveStartKey = PageTokenUtility.decode(nextToken);
+        if (exclusiveStartKey != null) {
+            AttributeValue tokenEmployeeId = exclusiveStartKey.get("employee_id");
+            if (tokenEmployeeId == null || !employeeId.equals(tokenEmployeeId.getS())) {
+                throw new InvalidInputFormatException("Invalid page token.");
+            }
+        }
+
+        try {
+            String fromTime = fromDate != null ? fromDate.atStartOfDay().toString() : null;
+            String toTime = toDate != null ? toDate.atTime(LocalTime.MAX).toString() : null;
+            InMemoryTable.Page<TimeEntryModel> page = timeEntryTable.query(employeeId, TimeEntryModel.TIME_IN_INDEX,
+                    fromTime, toTime, true, pageSize, exclusiveStartKey);
+
+            if (page.getResults().isEmpty() && exclusiveStartKey == null && fromDate == null && toDate == null) {
+                throw new TimeEntriesNotFoundException("Could not find time entries with Employee ID: " + employeeId);
+            }
+
+            List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(new ArrayList<>(page.getResults()));
+            String pageToken = PageTokenUtility.encode(page.getLastEvaluatedKey());
+
+            log.info("Successfully retrieved a page of {} time entries for Employee ID \"{}\". ", timeEntries.size(), employeeId);
+            return new TimeEntryPage(timeEntries, pageToken);
+        } catch (TimeEntriesNotFoundException e) {
+            log.warn("Time Entries for Employee ID \"{}\" not found.", employeeId);
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving time entries for Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TimeEntryModel saveTimeEntry(TimeEntry timeEntry) {
+        try {
+            TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+            timeEntryTable.save(timeEntryModel);
+
+            log.info("Successfully saved time entry to table. " + timeEntry);
+            return timeEntryModel;
+        } catch (Exception e) {
+            log.error("There was an error while saving: ", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TimeEntryModel clockIn(String employeeId) {
+        try {
+            TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(TimeEntry.builder()
+                    .withEmployeeId(employeeId)
+                    .build());
+
+            ClockStateModel clockState = new ClockStateModel();
+            clockState.setEmployeeId(employeeId);
+            clockState.setEntryId(timeEntryModel.getEntryId());
+            clockState.setTimeIn(timeEntryModel.getTimeIn());
+
+            dynamoDB.transactWrite(() -> {
+                if (clockStateTable.current(employeeId, null) != null) {
+                    throw InMemoryDynamoDB.transactionCanceled(0, 2);
+                }
+                if (timeEntryTable.current(employeeId, timeEntryModel.getEntryId()) != null) {
+                    throw InMemoryDynamoDB.transactionCanceled(1, 2);
+                }
+                clockStateTable.put(clockState);
+                timeEntryTable.put(timeEntryModel);
+                return null;
+            });
+
+            log.info("Employee ID \"{}\" clocked in with Entry ID \"{}\".", employeeId, timeEntryModel.getEntryId());
+            return timeEntryModel;
+        } catch (TransactionCanceledException e) {
+            log.warn("Employee ID \"{}\" is already clocked in.", employeeId);
+            throw new ClockStateConflictException("Employee is already clocked in.", e);
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while clocking in Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TimeEntryModel clockOut(String employeeId, String entryId, LocalDateTime timeIn) {
+        try {
+            if (entryId != null && timeIn != null) {
+                try {
+                    return closeOpenShift(employeeId, entryId, timeIn);
+                } catch (TransactionCanceledException e) {
+                    if (!"ConditionalCheckFailed".equals(e.getCancellationReasons().get(0).getCode())) {
+                        throw e;
+                    }
+                    log.debug("Clock state of Employee ID \"{}\" does not hold Entry ID \"{}\"; reading it.",
+                            employeeId, entryId);
+                }
+            }
+
+            ClockStateModel clockState = clockStateTable.load(employeeId, null);
+            if (clockState == null) {
+                if (entryId == null) {
+                    throw new ClockStateConflictException("Employee is not clocked in.");
+                }
+                return clockOutWithoutClockState(employeeId, entryId);
+            }
+            if (entryId != null && !entryId.equals(clockState.getEntryId())) {
+                throw new ClockStateConflictException("Time entry " + entryId + " is not the employee's open shift.");
+            }
+            return closeOpenShift(employeeId, clockState.getEntryId(),
+                    ModelConverter.convertStringToLocalDateTime(clockState.getTimeIn()));
+        } catch (TransactionCanceledException e) {
+            log.warn("Employee ID \"{}\" was already clocked out.", employeeId);
+            throw new ClockStateConflictException("Employee is already clocked out.", e);
+        } catch (ClockStateConflictException | TimeEntriesNotFoundException e) {
+            log.warn("Could not clock out Employee ID \"{}\": {}", employeeId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while clocking out Employee ID \"{}\". ", employeeId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearClockState(String employeeId, String entryId) {
+        try {
+            clockStateTable.delete(employeeId, null,
+                    clockState -> clockState != null && entryId.equals(clockState.getEntryId()));
+            log.info("Cleared clock state of Employee ID \"{}\" for Entry ID \"{}\".", employeeId, entryId);
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Entry ID \"{}\" is not the open shift of Employee ID \"{}\".", entryId, employeeId);
+        }
+    }
+
+    @Override
+    public List<ClockStateModel> getOpenShifts() {
+        try {
+            List<ClockStateModel> openShifts = clockStateTable.scanAll(0, 1, null)
+                    .sorted(Comparator.comparing(ClockStateModel::getTimeIn))
+                    .collect(Collectors.toList());
+
+            log.info("Found {} employees currently clocked in.", openShifts.size());
+            return openShifts;
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving open shifts. ", e);
+            throw e;
+        }
+    }
+
+    private TimeEntryModel closeOpenShift(String employeeId, String entryId, LocalDateTime timeIn) {
+        TimeEntry timeEntry = TimeEntry.builder()
+                .withEmployeeId(employeeId)
+                .withEntryId(entryId)
+                .withTimeIn(timeIn)
+                .build();
+        timeEntry.recordTimeOut();
+        TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+
+        dynamoDB.transactWrite(() -> {
+            ClockStateModel currentClockState = clockStateTable.current(employeeId, null);
+            if (currentClockState == null || !entryId.equals(currentClockState.getEntryId())
+                    || !timeEntryModel.getTimeIn().equals(currentClockState.getTimeIn())) {
+                throw InMemoryDynamoDB.transactionCanceled(0, 2);
+            }
+            TimeEntryModel currentEntry = timeEntryTable.current(employeeId, entryId);
+            if (currentEntry != null && currentEntry.getTimeOut() != null) {
+                throw InMemoryDynamoDB.transactionCanceled(1, 2);
+            }
+            clockStateTable.remove(employeeId, null);
+            timeEntryTable.put(timeEntryModel);
+            return null;
+        });
+
+        log.info("Employee ID \"{}\" clocked out of Entry ID \"{}\".", employeeId, entryId);
+        return timeEntryModel;
+    }
+
+    private TimeEntryModel clockOutWithoutClockState(String employeeId, String entryId) {
+        TimeEntry timeEntry = getTimeEntry(employeeId, entryId);
+        if (timeEntry.getTimeOut() != null) {
+            throw new ClockStateConflictException("Employee is already clocked out.");
+        }
+        timeEntry.recordTimeOut();
+        TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+
+        try {
+            timeEntryTable.update(employeeId, entryId, currentEntry -> {
+                if (currentEntry != null && currentEntry.getTimeOut() != null) {
+                    throw InMemoryTable.conditionalCheckFailed();
+                }
+                return timeEntryModel;
+            });
+        } catch (ConditionalCheckFailedException e) {
+            throw new ClockStateConflictException("Employee is already clocked out.", e);
+        }
+        log.info("Employee ID \"{}\" clocked out of Entry ID \"{}\" without a clock state.", employeeId, entryId);
+        return timeEntryModel;
+    }
+
+    @Override
+    public BatchWriteResult<TimeEntryModel> saveTimeEntries(List<TimeEntry> timeEntries) {
+        try {
+            List<TimeEntryModel> timeEntryModelList = ModelConverter.fromTimeEntryList(timeEntries);
+            BatchWriteResult<TimeEntryModel> result = batchWriter.saveAll(timeEntryModelList,
+                    InMemoryTimeEntryDao::timeEntryKey, InMemoryTimeEntryDao::timeEntryKey);
+
+            if (result.isComplete()) {
+                log.info("Successfully saved {} time entries to table.", result.getSavedItems().size());
+            } else {
+                log.warn("Saved {} time entries, {} could not be saved: {}", result.getSavedItems().size(),
+                        result.getFailedItems().size(), result.getFailedItems());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("There was an error while saving time entries: ", e);
+            throw e;
+        }
+    }
+
+    private static String timeEntryKey(TimeEntryModel timeEntryModel) {
+        return timeEntryModel.getEmployeeId() + KEY_DELIMITER + timeEntryModel.getEntryId();
+    }
+
+    private static String timeEntryKey(Map<String, AttributeValue> item) {
+        return item.get("employee_id").getS() + KEY_DELIMITER + item.get("entry_id").getS();
+    }
+}
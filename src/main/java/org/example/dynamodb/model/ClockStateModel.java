@@ -0,0 +1,70 @@
+package org.example.dynamodb.model;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+
+import java.util.Objects;
+
+/**
+ * The open shift of an employee who is currently clocked in.
+ * An item exists only while the employee is on shift, so the table holds one item per on-shift employee and
+ * reading it costs O(on-shift) rather than a scan of every time entry.
+ */
+@DynamoDBTable(tableName = "employee_clock_state")
+public class ClockStateModel {
+    private String employeeId;
+    private String entryId;
+    private String timeIn;
+
+    @DynamoDBHashKey(attributeName = "employee_id")
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    @DynamoDBAttribute(attributeName = "entry_id")
+    public String getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(String entryId) {
+        this.entryId = entryId;
+    }
+
+    @DynamoDBAttribute(attributeName = "time_in")
+    public String getTimeIn() {
+        return timeIn;
+    }
+
+    public void setTimeIn(String timeIn) {
+        this.timeIn = timeIn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClockStateModel)) return false;
+        ClockStateModel that = (ClockStateModel) o;
+        return Objects.equals(getEmployeeId(), that.getEmployeeId()) &&
+                Objects.equals(getEntryId(), that.getEntryId()) &&
+                Objects.equals(getTimeIn(), that.getTimeIn());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEmployeeId(), getEntryId(), getTimeIn());
+    }
+
+    @Override
+    public String toString() {
+        return "ClockStateModel{" +
+                "employeeId='" + employeeId + '\'' +
+                ", entryId='" + entryId + '\'' +
+                ", timeIn='" + timeIn + '\'' +
+                '}';
+    }
+}
@@ -10,6 +10,9 @@ public class EmployeeCredentialsModel {
     private String username;
     private String salt;
     private String password;
+    private Integer hashMemoryKB;
+    private Integer hashIterations;
+    private Integer hashParallelism;
     private String lastUpdated;
     private boolean accountLocked;
     private boolean forceChangeAfterLogin;
@@ -51,6 +54,33 @@ public class EmployeeCredentialsModel {
         this.password = password;
     }
 
+    @DynamoDBAttribute(attributeName = "hashMemoryKB")
+    public Integer getHashMemoryKB() {
+        return hashMemoryKB;
+    }
+
+    public void setHashMemoryKB(Integer hashMemoryKB) {
+        this.hashMemoryKB = hashMemoryKB;
+    }
+
+    @DynamoDBAttribute(attributeName = "hashIterations")
+    public Integer getHashIterations() {
+        return hashIterations;
+    }
+
+    public void setHashIterations(Integer hashIterations) {
+        this.hashIterations = hashIterations;
+    }
+
+    @DynamoDBAttribute(attributeName = "hashParallelism")
+    public Integer getHashParallelism() {
+        return hashParallelism;
+    }
+
+    public void setHashParallelism(Integer hashParallelism) {
+        this.hashParallelism = hashParallelism;
+    }
+
     @DynamoDBAttribute(attributeName = "lastUpdated")
     public String getLastUpdated() {
         return lastUpdated;
@@ -99,13 +129,16 @@ public class EmployeeCredentialsModel {
                 Objects.equals(getUsername(), that.getUsername()) &&
                 Objects.equals(getSalt(), that.getSalt()) &&
                 Objects.equals(getPassword(), that.getPassword()) &&
+                Objects.equals(getHashMemoryKB(), that.getHashMemoryKB()) &&
+                Objects.equals(getHashIterations(), that.getHashIterations()) &&
+                Objects.equals(getHashParallelism(), that.getHashParallelism()) &&
                 Objects.equals(getLastUpdated(), that.getLastUpdated());
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getEmployeeId(), getUsername(), getSalt(),
-                getPassword(), getLastUpdated(), isAccountLocked(),
+                getPassword(), getHashMemoryKB(), getHashIterations(), getHashParallelism(), getLastUpdated(), isAccountLocked(),
                 isForceChangeAfterLogin(), getFailedAttempts());
     }
 
@@ -114,6 +147,9 @@ public class EmployeeCredentialsModel {
         return "EmployeeCredentialsModel{" +
                 "\nemployeeId='" + employeeId + '\'' +
                 ", \nusername='" + username + '\'' +
+                ", \nhashMemoryKB=" + hashMemoryKB +
+                ", \nhashIterations=" + hashIterations +
+                ", \nhashParallelism=" + hashParallelism +
                 ", \nlastUpdated='" + lastUpdated + '\'' +
                 ", \naccountLocked=" + accountLocked +
                 ", \nforceChangeAfterLogin=" + forceChangeAfterLogin +
@@ -22,6 +22,7 @@ public class EmployeeModel {
     private String zipCode;
     private String payRate;
     private String permissionAccess;
+    private Long version;
 
     @DynamoDBHashKey(attributeName = "employee_id")
     public String getEmployeeId() {
@@ -168,6 +169,20 @@ public class EmployeeModel {
         this.permissionAccess = permissionAccess;
     }
 
+    /**
+     * Incremented on every patch update and used as the optimistic locking condition.
+     * This is a plain attribute rather than a {@link DynamoDBVersionAttribute}, so full-item saves are not
+     * version checked.
+     */
+    @DynamoDBAttribute(attributeName = "version")
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -188,7 +203,8 @@ public class EmployeeModel {
                 Objects.equals(getState(), that.getState()) &&
                 Objects.equals(getZipCode(), that.getZipCode()) &&
                 Objects.equals(getPayRate(), that.getPayRate()) &&
-                Objects.equals(getPermissionAccess(), that.getPermissionAccess());
+                Objects.equals(getPermissionAccess(), that.getPermissionAccess()) &&
+                Objects.equals(getVersion(), that.getVersion());
     }
 
     @Override
@@ -197,7 +213,7 @@ public class EmployeeModel {
                 getLastName(), getMiddleName(), getEmail(),
                 getDepartment(), getHireDate(), isCurrentlyEmployed(),
                 getTerminatedDate(), getPhone(), getAddress(), getCity(),
-                getState(), getZipCode(), getPayRate(), getPermissionAccess());
+                getState(), getZipCode(), getPayRate(), getPermissionAccess(), getVersion());
     }
 
     @Override
@@ -219,6 +235,7 @@ public class EmployeeModel {
                 ", \nzipCode='" + (zipCode != null ? zipCode : "") + '\'' +
                 ", \npayRate='" + (payRate != null ? payRate : "") + '\'' +
                 ", \npermissionAccess='" + (permissionAccess != null ? permissionAccess : "") + '\'' +
+                ", \nversion=" + version +
                 "\n}";
     }
 }
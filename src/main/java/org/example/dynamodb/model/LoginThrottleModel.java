@@ -0,0 +1,103 @@
+package org.example.dynamodb.model;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+
+import java.util.Objects;
+
+/**
+ * The login token bucket of a username or request source, shared by every instance.
+ * An item is only needed while its bucket is not full, so {@code expires_at} is meant to be the table's TTL
+ * attribute, which lets DynamoDB delete buckets that have refilled.
+ */
+@DynamoDBTable(tableName = "login_throttle")
+public class LoginThrottleModel {
+    private String throttleKey;
+    private Double tokens;
+    private Long updatedAt;
+    private Long expiresAt;
+    private Long version;
+
+    @DynamoDBHashKey(attributeName = "throttle_key")
+    public String getThrottleKey() {
+        return throttleKey;
+    }
+
+    public void setThrottleKey(String throttleKey) {
+        this.throttleKey = throttleKey;
+    }
+
+    @DynamoDBAttribute(attributeName = "tokens")
+    public Double getTokens() {
+        return tokens;
+    }
+
+    public void setTokens(Double tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * The epoch millisecond the tokens were counted at.
+     */
+    @DynamoDBAttribute(attributeName = "updated_at")
+    public Long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * The epoch second the bucket is full again.
+     */
+    @DynamoDBAttribute(attributeName = "expires_at")
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Incremented on every write and used as the optimistic locking condition.
+     */
+    @DynamoDBAttribute(attributeName = "version")
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LoginThrottleModel)) return false;
+        LoginThrottleModel that = (LoginThrottleModel) o;
+        return Objects.equals(getThrottleKey(), that.getThrottleKey()) &&
+                Objects.equals(getTokens(), that.getTokens()) &&
+                Objects.equals(getUpdatedAt(), that.getUpdatedAt()) &&
+                Objects.equals(getExpiresAt(), that.getExpiresAt()) &&
+                Objects.equals(getVersion(), that.getVersion());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getThrottleKey(), getTokens(), getUpdatedAt(), getExpiresAt(), getVersion());
+    }
+
+    @Override
+    public String toString() {
+        return "LoginThrottleModel{" +
+                "throttleKey='" + throttleKey + '\'' +
+                ", tokens=" + tokens +
+                ", updatedAt=" + updatedAt +
+                ", expiresAt=" + expiresAt +
+                ", version=" + version +
+                '}';
+    }
+}
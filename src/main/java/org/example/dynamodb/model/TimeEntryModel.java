@@ -2,6 +2,8 @@ package org.example.dynamodb.model;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBIndexHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBIndexRangeKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
 
@@ -9,6 +11,12 @@ import java.util.Objects;
 
 @DynamoDBTable(tableName = "employee_time_entries")
 public class TimeEntryModel {
+    /**
+     * Global secondary index keyed on employee_id and sorted by time_in, used to read an employee's
+     * most recent entries without loading their entire history.
+     */
+    public static final String TIME_IN_INDEX = "employee_id-time_in-index";
+
     private String employeeId;
     private String entryId;
     private String timeIn;
@@ -16,6 +24,7 @@ public class TimeEntryModel {
     private double duration;
 
     @DynamoDBHashKey(attributeName = "employee_id")
+    @DynamoDBIndexHashKey(globalSecondaryIndexName = TIME_IN_INDEX, attributeName = "employee_id")
     public String getEmployeeId() {
         return employeeId;
     }
@@ -34,6 +43,7 @@ public class TimeEntryModel {
     }
 
     @DynamoDBAttribute(attributeName = "time_in")
+    @DynamoDBIndexRangeKey(globalSecondaryIndexName = TIME_IN_INDEX, attributeName = "time_in")
     public String getTimeIn() {
         return timeIn;
     }
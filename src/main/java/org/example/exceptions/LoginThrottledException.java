@@ -0,0 +1,35 @@
+package org.example.exceptions;
+
+public class LoginThrottledException extends RuntimeException {
+    /**
+     * Exception with no message or cause.
+     */
+    public LoginThrottledException() {
+        super();
+    }
+
+    /**
+     * Exception with a message, but no cause.
+     * @param message A descriptive message for this exception.
+     */
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+
+    /**
+     * Exception with no message, but with a cause.
+     * @param cause The original throwable resulting in this exception.
+     */
+    public LoginThrottledException(Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Exception with message and cause.
+     * @param message A descriptive message for this exception.
+     * @param cause The original throwable resulting in this exception.
+     */
+    public LoginThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.exceptions;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    /**
+     * Exception with no message or cause.
+     */
+    public PasswordHashingUnavailableException() {
+        super();
+    }
+
+    /**
+     * Exception with a message, but no cause.
+     * @param message A descriptive message for this exception.
+     */
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Exception with no message, but with a cause.
+     * @param cause The original throwable resulting in this exception.
+     */
+    public PasswordHashingUnavailableException(Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Exception with message and cause.
+     * @param message A descriptive message for this exception.
+     * @param cause The original throwable resulting in this exception.
+     */
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dependency.AppComponents;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
+import org.example.model.requests.AdminBulkResetPasswordRequest;
+import org.example.model.results.AdminBulkResetPasswordResult;
+import org.example.model.results.AdminResetPasswordResult;
+import org.example.utils.BulkPasswordReset;
+import org.example.utils.PasswordHashingService;
+import org.example.utils.SessionTokenService;
+import org.example.utils.gson.JsonUtil;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handler for resetting the passwords of many employees at once by an admin in DynamoDB.
+ * This class implements the AWS Lambda RequestHandler interface to handle requests
+ * for bulk admin password resets.
+ */
+public class AdminBulkResetPasswordHandler implements RequestHandler<AdminBulkResetPasswordRequest, String> {
+    private static final Logger log = LogManager.getLogger(AdminBulkResetPasswordHandler.class);
+
+    @Inject
+    BulkPasswordReset bulkPasswordReset;
+
+    @Inject
+    PasswordHashingService passwordHashingService;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    /**
+     * Default constructor that initializes the dependencies using Dagger.
+     */
+    public AdminBulkResetPasswordHandler() {
+        AppComponents.get().inject(this);
+    }
+
+    /**
+     * Handles the incoming request to reset the passwords of several employees.
+     * The progress of each employee is logged as soon as their reset succeeds or fails, and the response lists
+     * every employee's result in request order. An employee whose reset fails does not fail the others.
+     *
+     * @param request The request object containing the admin's session token and the employees to reset.
+     * @param context The Lambda execution context.
+     * @return A JSON string representing the result of the bulk password reset operation.
+     */
+    @Override
+    public String handleRequest(AdminBulkResetPasswordRequest request, Context context) {
+        try {
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + AdminBulkResetPasswordHandler.class.getSimpleName());
+            }
+
+            if (request.getResetList() == null || request.getResetList().isEmpty()) {
+                throw new InvalidInputFormatException("At least one employee is required.");
+            }
+
+            int total = request.getResetList().size();
+            AtomicInteger completed = new AtomicInteger();
+            List<AdminResetPasswordResult> results = bulkPasswordReset.resetAll(request.getResetList(),
+                    passwordHashingService.forContext(context), result -> {
+                        int done = completed.incrementAndGet();
+                        if (result.isEmployeeCredentialsReset()) {
+                            log.info("[{}/{}] Reset the password of \"{}\".", done, total, result.getUsername());
+                        } else {
+                            log.warn("[{}/{}] Could not reset the password of \"{}\": {}", done, total,
+                                    result.getUsername(), result.getError());
+                        }
+                    });
+
+            int resetCount = (int) results.stream().filter(AdminResetPasswordResult::isEmployeeCredentialsReset).count();
+            int failedCount = total - resetCount;
+            log.info("Bulk password reset finished. {} reset, {} failed.", resetCount, failedCount);
+
+            return JsonUtil.createJsonResponse(
+                    AdminBulkResetPasswordResult.builder()
+                            .withPasswordsReset(failedCount == 0)
+                            .withResetCount(resetCount)
+                            .withFailedCount(failedCount)
+                            .withResetList(results)
+                            .withError(failedCount == 0 ? null
+                                    : String.format("%d of %d passwords could not be reset.", failedCount, total))
+                            .build()
+            );
+
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return JsonUtil.createJsonResponse(
+                    AdminBulkResetPasswordResult.builder()
+                            .withPasswordsReset(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        } catch (InvalidInputFormatException e) {
+            log.warn("Invalid bulk password reset request. ", e);
+            return JsonUtil.createJsonResponse(
+                    AdminBulkResetPasswordResult.builder()
+                            .withPasswordsReset(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        } catch (Exception e) {
+            log.error("An unexpected error occurred during a bulk password reset. ", e);
+            return JsonUtil.createJsonResponse(
+                    AdminBulkResetPasswordResult.builder()
+                            .withPasswordsReset(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        }
+    }
+}
@@ -4,13 +4,19 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.exceptions.PasswordHashingUnavailableException;
+import org.example.exceptions.UnauthorizedAccessException;
 import org.example.exceptions.UsernameNotFoundException;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
 import org.example.model.requests.AdminResetPasswordRequest;
 import org.example.model.results.AdminResetPasswordResult;
+import org.example.utils.PasswordHashingService;
+import org.example.utils.SessionTokenService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
@@ -26,26 +32,39 @@ public class AdminResetPasswordHandler implements RequestHandler<AdminResetPassw
     @Inject
     EmployeeCredentialsDao credentialsDao;
 
+    @Inject
+    PasswordHashingService passwordHashingService;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
     /**
      * Default constructor that initializes the dependencies using Dagger.
      */
     public AdminResetPasswordHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the incoming request to reset an employee's password by an admin.
      *
-     * @param request The request object containing the details of the password reset.
+     * @param request The request object containing the admin's session token and the details of the password reset.
      * @param context The Lambda execution context.
      * @return A JSON string representing the result of the password reset operation.
      */
     @Override
     public String handleRequest(AdminResetPasswordRequest request, Context context) {
         try {
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + AdminResetPasswordHandler.class.getSimpleName());
+            }
+
             EmployeeCredentials credentials = credentialsDao.getEmployeeCredentials(request.getUsername());
 
-            credentials.adminResetPassword(request.getPassword());
+            credentials.adminResetPassword(request.getPassword(), passwordHashingService.forContext(context));
 
             EmployeeCredentialsModel savedCredentials = credentialsDao.saveEmployeeCredentials(credentials);
 
@@ -63,6 +82,17 @@ public class AdminResetPasswordHandler implements RequestHandler<AdminResetPassw
                             .build()
             );
 
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return JsonUtil.createJsonResponse(
+                    AdminResetPasswordResult.builder()
+                            .withEmployeeCredentialsReset(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withUsername(request.getUsername())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (UsernameNotFoundException e) {
             log.error(String.format("Username \"%s\" not found after an admin user attempted to reset an existing employee's password. " +
                     "Employee's information should have been sent from the Manage Employee's page, which loads all relevant employee data. \n" +
@@ -77,6 +107,17 @@ public class AdminResetPasswordHandler implements RequestHandler<AdminResetPassw
                             .build()
             );
 
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Password hashing unavailable. ", e);
+            return JsonUtil.createJsonResponse(
+                    AdminResetPasswordResult.builder()
+                            .withEmployeeCredentialsReset(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withUsername(request.getUsername())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("An unexpected error occurred. ", e);
             return JsonUtil.createJsonResponse(
@@ -4,17 +4,22 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeDao;
 import org.example.exceptions.UnauthorizedAccessException;
 import org.example.model.Employee;
+import org.example.model.EmployeeField;
 import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
 import org.example.model.requests.GetAllEmployeesRequest;
 import org.example.model.results.GetAllEmployeesResult;
+import org.example.utils.SessionTokenService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Handler for retrieving all employee data from DynamoDB.
@@ -23,19 +28,32 @@ import java.util.List;
  */
 public class GetAllEmployeesHandler implements RequestHandler<GetAllEmployeesRequest, String> {
     private static final Logger log = LogManager.getLogger(GetAllEmployeesHandler.class);
+    static final String SCAN_SEGMENTS_ENV = "EMPLOYEE_SCAN_SEGMENTS";
 
     @Inject
     EmployeeDao employeeDao;
 
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    /**
+     * Number of segments used to scan the employee table. A value greater than one switches from the streaming
+     * sequential scan to a parallel scan. Read from the {@value #SCAN_SEGMENTS_ENV} environment variable.
+     */
+    int scanSegments = readScanSegments();
+
     /**
      * Default constructor that initializes the dependencies using Dagger.
      */
     public GetAllEmployeesHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the incoming request to retrieve all employees.
+     * Employees are streamed from the table and serialized as they are read, so the full employee list is
+     * never held in memory. If the request lists fields, only those fields (plus the required employee fields)
+     * are read and returned.
      *
      * @param request The request object containing the details for retrieving all employees.
      * @param context The Lambda execution context.
@@ -45,21 +63,34 @@ public class GetAllEmployeesHandler implements RequestHandler<GetAllEmployeesReq
     public String handleRequest(GetAllEmployeesRequest request, Context context) {
         try {
 
-            if (request.getPermissionLevel() != PermissionLevel.ADMIN) {
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
                 throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
                         "Resource: " + GetAllEmployeesHandler.class.getSimpleName());
             }
 
-            List<Employee> employees = employeeDao.getAllEmployees();
+            Set<EmployeeField> fields = request.getFields() == null || request.getFields().isEmpty()
+                    ? null
+                    : EmployeeField.fromFieldNames(request.getFields());
 
-            log.info("All employee data successfully loaded. ");
+            if (scanSegments > 1) {
+                List<Employee> employees = fields == null
+                        ? employeeDao.getAllEmployees(scanSegments)
+                        : employeeDao.getAllEmployees(scanSegments, fields);
 
-            return JsonUtil.createJsonResponse(
-                    GetAllEmployeesResult.builder()
-                            .withEmployeesRetrieved(true)
-                            .withEmployeesList(employees)
-                            .build()
-            );
+                log.info("All employee data successfully loaded using a parallel scan. ");
+                return JsonUtil.createJsonListResponse("employeesRetrieved", "employeeList", employees.iterator());
+            }
+
+            try (Stream<Employee> employees = fields == null
+                    ? employeeDao.streamAllEmployees()
+                    : employeeDao.streamAllEmployees(fields)) {
+                String response = JsonUtil.createJsonListResponse("employeesRetrieved", "employeeList",
+                        employees.iterator());
+
+                log.info("All employee data successfully loaded. ");
+                return response;
+            }
 
         } catch (UnauthorizedAccessException e) {
           log.error("User does not have sufficient authorization to access this resource. ", e);
@@ -81,4 +112,18 @@ public class GetAllEmployeesHandler implements RequestHandler<GetAllEmployeesReq
 
         }
     }
+
+    private static int readScanSegments() {
+        String scanSegments = System.getenv(SCAN_SEGMENTS_ENV);
+        if (scanSegments == null || scanSegments.isEmpty()) {
+            return 1;
+        }
+
+        try {
+            return Math.min(Math.max(Integer.parseInt(scanSegments), 1), EmployeeDao.MAX_SCAN_SEGMENTS);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} value \"{}\". Using a sequential scan.", SCAN_SEGMENTS_ENV, scanSegments);
+            return 1;
+        }
+    }
 }
@@ -4,15 +4,18 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeDao;
 import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.InvalidInputFormatException;
 import org.example.model.Employee;
+import org.example.model.EmployeeField;
 import org.example.model.requests.GetEmployeeRequest;
 import org.example.model.results.GetEmployeeResult;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
+import java.util.Set;
 
 /**
  * Lambda function for handling requests to retrieve employee information.
@@ -26,16 +29,17 @@ public class GetEmployeeHandler implements RequestHandler<GetEmployeeRequest, St
 
     /**
      * Constructor for GetEmployeeHandler.
-     * Initializes dependencies using DaggerAppComponent.
+     * Initializes dependencies using the shared AppComponent.
      */
     public GetEmployeeHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the get employee request.
+     * If the request lists fields, only those fields (plus the required employee fields) are read and returned.
      *
-     * @param request The request containing the ID of the employee to retrieve.
+     * @param request The request containing the ID of the employee to retrieve, and optionally the fields to return.
      * @param context The Lambda context.
      * @return A GetEmployeeResult containing the retrieved employee information if successful,
      *         or an error message if unsuccessful.
@@ -44,10 +48,17 @@ public class GetEmployeeHandler implements RequestHandler<GetEmployeeRequest, St
     public String handleRequest(final GetEmployeeRequest request, Context context) {
         try {
 
-            Employee employee = employeeDao.getEmployee(request.getEmployeeId());
+            Employee employee;
+            if (request.getFields() == null || request.getFields().isEmpty()) {
+                employee = employeeDao.getEmployee(request.getEmployeeId());
+            } else {
+                Set<EmployeeField> fields = EmployeeField.fromFieldNames(request.getFields());
+                employee = employeeDao.getEmployee(request.getEmployeeId(), fields);
+            }
 
             log.info(String.format("Successfully loaded employee. " +
                     "\nEmployee ID: %s ", employee.getEmployeeId()));
+            log.info("Employee cache stats: {}", employeeDao.getCacheStats());
 
             return JsonUtil.createJsonResponse(
                     GetEmployeeResult.builder()
@@ -68,6 +79,7 @@ public class GetEmployeeHandler implements RequestHandler<GetEmployeeRequest, St
                             .withZipCode(employee.getZipCode())
                             .withPayRate(employee.getPayRate())
                             .withPermissionAccess(employee.getPermissionAccess())
+                            .withVersion(employee.getVersion())
                             .build()
             );
 
@@ -82,6 +94,16 @@ public class GetEmployeeHandler implements RequestHandler<GetEmployeeRequest, St
                             .build()
             );
 
+        } catch (InvalidInputFormatException e) {
+            log.warn("Invalid field selection for employee ID: " + request.getEmployeeId(), e);
+            return JsonUtil.createJsonResponse(
+                    GetEmployeeResult.builder()
+                            .withEmployeeRetrieved(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("An unexpected error occured while retrieving employee ID: " + request.getEmployeeId(), e);
             return JsonUtil.createJsonResponse(
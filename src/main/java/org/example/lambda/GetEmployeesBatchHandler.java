@@ -0,0 +1,111 @@
+package org.example.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dependency.AppComponents;
+import org.example.dynamodb.EmployeeDao;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
+import org.example.model.requests.GetEmployeesBatchRequest;
+import org.example.model.results.GetEmployeesBatchResult;
+import org.example.utils.SessionTokenService;
+import org.example.utils.gson.JsonUtil;
+
+import javax.inject.Inject;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handler for retrieving a selected set of employees from DynamoDB.
+ * This class implements the AWS Lambda RequestHandler interface to handle requests
+ * for retrieving several employees by ID in a single batch.
+ */
+public class GetEmployeesBatchHandler implements RequestHandler<GetEmployeesBatchRequest, String> {
+    private static final Logger log = LogManager.getLogger(GetEmployeesBatchHandler.class);
+    @Inject
+    EmployeeDao employeeDao;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    /**
+     * Default constructor that initializes the dependencies using Dagger.
+     */
+    public GetEmployeesBatchHandler() {
+        AppComponents.get().inject(this);
+    }
+
+    /**
+     * Handles the incoming request to retrieve several employees by ID.
+     * IDs that do not match an employee are returned in the result's not found list.
+     *
+     * @param request The request object containing the IDs of the employees to retrieve.
+     * @param context The Lambda execution context.
+     * @return A JSON string representing the result of the retrieval operation.
+     */
+    @Override
+    public String handleRequest(GetEmployeesBatchRequest request, Context context) {
+        try {
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + GetEmployeesBatchHandler.class.getSimpleName());
+            }
+
+            if (request.getEmployeeIds() == null || request.getEmployeeIds().isEmpty()) {
+                throw new InvalidInputFormatException("At least one employee ID is required.");
+            }
+
+            List<Employee> employees = employeeDao.getEmployees(request.getEmployeeIds());
+
+            Set<String> notFoundEmployeeIds = new LinkedHashSet<>(request.getEmployeeIds());
+            for (Employee employee : employees) {
+                notFoundEmployeeIds.remove(employee.getEmployeeId());
+            }
+
+            log.info("Retrieved {} employees, {} IDs not found.", employees.size(), notFoundEmployeeIds.size());
+            return JsonUtil.createJsonResponse(
+                    GetEmployeesBatchResult.builder()
+                            .withEmployeesRetrieved(true)
+                            .withEmployeeList(employees)
+                            .withNotFoundEmployeeIds(List.copyOf(notFoundEmployeeIds))
+                            .build()
+            );
+
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return JsonUtil.createJsonResponse(
+                    GetEmployeesBatchResult.builder()
+                            .withEmployeesRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        } catch (InvalidInputFormatException e) {
+            log.warn("Invalid batch employee request. ", e);
+            return JsonUtil.createJsonResponse(
+                    GetEmployeesBatchResult.builder()
+                            .withEmployeesRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving employees: ", e);
+            return JsonUtil.createJsonResponse(
+                    GetEmployeesBatchResult.builder()
+                            .withEmployeesRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        }
+    }
+}
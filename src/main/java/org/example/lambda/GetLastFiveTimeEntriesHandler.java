@@ -4,7 +4,7 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.TimeEntryDao;
 import org.example.exceptions.TimeEntriesNotFoundException;
 import org.example.model.TimeEntry;
@@ -29,7 +29,7 @@ public class GetLastFiveTimeEntriesHandler implements RequestHandler<GetLastFive
      * Default constructor that initializes the dependencies using Dagger.
      */
     public GetLastFiveTimeEntriesHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
@@ -0,0 +1,89 @@
+package org.example.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dependency.AppComponents;
+import org.example.dynamodb.TimeEntryDao;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
+import org.example.model.requests.GetOpenShiftsRequest;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.utils.SessionTokenService;
+import org.example.utils.gson.JsonUtil;
+
+import javax.inject.Inject;
+import java.util.List;
+
+/**
+ * Handler for retrieving the employees who are currently clocked in.
+ * This class implements the AWS Lambda RequestHandler interface to handle requests
+ * for the open shift dashboard.
+ */
+public class GetOpenShiftsHandler implements RequestHandler<GetOpenShiftsRequest, String> {
+    private static final Logger log = LogManager.getLogger(GetOpenShiftsHandler.class);
+
+    @Inject
+    TimeEntryDao timeEntryDao;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
+    /**
+     * Default constructor that initializes the dependencies using Dagger.
+     */
+    public GetOpenShiftsHandler() {
+        AppComponents.get().inject(this);
+    }
+
+    /**
+     * Handles the incoming request to list every open shift.
+     *
+     * @param request The request object containing the requesting employee's ID and session token.
+     * @param context The Lambda execution context.
+     * @return A JSON string representing the result of the retrieval operation.
+     */
+    @Override
+    public String handleRequest(GetOpenShiftsRequest request, Context context) {
+        try {
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + GetOpenShiftsHandler.class.getSimpleName());
+            }
+
+            List<ClockStateModel> openShifts = timeEntryDao.getOpenShifts();
+
+            log.info("Retrieved {} open shifts.", openShifts.size());
+            return JsonUtil.createJsonResponse(
+                    GetOpenShiftsResult.builder()
+                            .withOpenShiftsRetrieved(true)
+                            .withOpenShiftList(openShifts)
+                            .build()
+            );
+
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return JsonUtil.createJsonResponse(
+                    GetOpenShiftsResult.builder()
+                            .withOpenShiftsRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        } catch (Exception e) {
+            log.error("An unexpected error occurred while retrieving open shifts: ", e);
+            return JsonUtil.createJsonResponse(
+                    GetOpenShiftsResult.builder()
+                            .withOpenShiftsRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
+        }
+    }
+}
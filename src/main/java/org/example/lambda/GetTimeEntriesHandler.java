@@ -4,21 +4,21 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.TimeEntryDao;
+import org.example.exceptions.InvalidInputFormatException;
 import org.example.exceptions.TimeEntriesNotFoundException;
-import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
 import org.example.model.requests.GetTimeEntriesRequest;
 import org.example.model.results.GetTimeEntriesResult;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
-import java.util.List;
 
 /**
- * Handler for retrieving all time entries for an employee from DynamoDB.
+ * Handler for retrieving time entries for an employee from DynamoDB.
  * This class implements the AWS Lambda RequestHandler interface to handle requests
- * for retrieving all time entries for an employee.
+ * for retrieving a page of time entries for an employee, optionally limited to a date range.
  */
 public class GetTimeEntriesHandler implements RequestHandler<GetTimeEntriesRequest, String> {
     private static final Logger log = LogManager.getLogger(GetTimeEntriesHandler.class);
@@ -29,28 +29,34 @@ public class GetTimeEntriesHandler implements RequestHandler<GetTimeEntriesReque
      * Default constructor that initializes the dependencies using Dagger.
      */
     public GetTimeEntriesHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
-     * Handles the incoming request to retrieve all time entries for an employee.
+     * Handles the incoming request to retrieve a page of time entries for an employee.
+     * The response includes a next token when more entries are available, which the client passes
+     * back in the following request.
      *
-     * @param request The request object containing the employee ID for retrieving time entries.
+     * @param request The request object containing the employee ID, date range, page size and next token.
      * @param context The Lambda execution context.
      * @return A JSON string representing the result of the retrieval operation.
      */
     @Override
     public String handleRequest(GetTimeEntriesRequest request, Context context) {
         try {
-            List<TimeEntry> timeEntries = timeEntryDao.getTimeEntries(request.getEmployeeId());
+            int pageSize = request.getPageSize() != null ? request.getPageSize() : TimeEntryDao.DEFAULT_PAGE_SIZE;
 
-            log.info(String.format("Successfully loaded all time entries. " +
+            TimeEntryPage timeEntryPage = timeEntryDao.getTimeEntries(request.getEmployeeId(), request.getFromDate(),
+                    request.getToDate(), pageSize, request.getNextToken());
+
+            log.info(String.format("Successfully loaded time entries. " +
                     "\nEmployee ID: %s ", request.getEmployeeId()));
 
             return JsonUtil.createJsonResponse(
                     GetTimeEntriesResult.builder()
                             .withTimeEntriesRetrieved(true)
-                            .withTimeEntryList(timeEntries)
+                            .withTimeEntryList(timeEntryPage.getTimeEntries())
+                            .withNextToken(timeEntryPage.getNextToken())
                             .build()
             );
 
@@ -64,6 +70,16 @@ public class GetTimeEntriesHandler implements RequestHandler<GetTimeEntriesReque
                             .build()
             );
 
+        } catch (InvalidInputFormatException e) {
+            log.warn("Invalid time entries request. {}", request, e);
+
+            return JsonUtil.createJsonResponse(
+                    GetTimeEntriesResult.builder()
+                            .withTimeEntriesRetrieved(false)
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("An unexpected error occurred while retrieving time entries. ", e);
 
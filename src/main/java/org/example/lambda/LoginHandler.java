@@ -4,17 +4,29 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
+import org.example.dynamodb.AsyncEmployeeDao;
+import org.example.dynamodb.DaoExecutor;
 import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.exceptions.AccountLockedException;
 import org.example.exceptions.InvalidEmployeeCredentialsException;
+import org.example.exceptions.LoginThrottledException;
+import org.example.exceptions.PasswordHashingUnavailableException;
 import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.Employee;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHasher;
+import org.example.model.PermissionLevel;
 import org.example.model.requests.LoginRequest;
 import org.example.model.results.LoginResult;
+import org.example.utils.LoginThrottle;
+import org.example.utils.PasswordHashingService;
+import org.example.utils.SessionTokenService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handler for processing login requests in DynamoDB.
@@ -26,11 +38,23 @@ public class LoginHandler implements RequestHandler<LoginRequest, String> {
     @Inject
     EmployeeCredentialsDao credentialsDao;
 
+    @Inject
+    AsyncEmployeeDao asyncEmployeeDao;
+
+    @Inject
+    LoginThrottle loginThrottle;
+
+    @Inject
+    PasswordHashingService passwordHashingService;
+
+    @Inject
+    SessionTokenService sessionTokenService;
+
     /**
      * Default constructor that initializes the dependencies using Dagger.
      */
     public LoginHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
@@ -45,21 +69,41 @@ public class LoginHandler implements RequestHandler<LoginRequest, String> {
         try {
             String formattedUsername = request.getUsername().toLowerCase();
 
+            // Shed throttled attempts before they cost a credentials read and a password hash.
+            long retryAfterMillis = loginThrottle.tryAcquire(formattedUsername, request.getSourceIp());
+            if (retryAfterMillis > 0) {
+                throw new LoginThrottledException(String.format(
+                        "Too many login attempts. Please try again in %d seconds.",
+                        TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999)));
+            }
+
             // Retrieve Employee Credentials
             EmployeeCredentials employeeCredentials = credentialsDao.getEmployeeCredentials(formattedUsername);
 
-            // Compare Credentials
-            boolean credentialsComparisonResult = employeeCredentials.verifyCredentials(request.getPassword());
+            // Read the permission level for the session token while the password is hashed, rather than after.
+            // A locked account cannot log in, so it is not read for one.
+            CompletableFuture<Employee> employeeFuture = employeeCredentials.isAccountLocked()
+                    ? null
+                    : asyncEmployeeDao.getEmployee(employeeCredentials.getEmployeeId());
+
+            // Compare Credentials. Failed attempts are counted atomically in the credentials table.
+            PasswordHasher passwordHasher = passwordHashingService.forContext(context);
+            boolean credentialsComparisonResult = employeeCredentials.verifyCredentials(request.getPassword(),
+                    credentialsDao, passwordHasher);
 
             if (!credentialsComparisonResult) {
-                credentialsDao.saveEmployeeCredentials(employeeCredentials);
-                if (employeeCredentials.getFailedAttempts() > 3) {
+                if (employeeCredentials.isAccountLocked()) {
                     throw new AccountLockedException("Account is locked due to too many failed login attempts.");
                 }
                 throw new InvalidEmployeeCredentialsException("Invalid Password!");
             }
 
             log.info("User login successful. Username: " + employeeCredentials.getUsername());
+            rehashIfOutdated(employeeCredentials, request.getPassword(), passwordHasher);
+
+            // Issue a session token, so later requests are authorized without reading the credentials again.
+            PermissionLevel permissionLevel = DaoExecutor.join(employeeFuture).getPermissionAccess();
+            String sessionToken = sessionTokenService.issue(employeeCredentials.getEmployeeId(), permissionLevel);
 
             return JsonUtil.createJsonResponse(
                     LoginResult.build()
@@ -67,6 +111,7 @@ public class LoginHandler implements RequestHandler<LoginRequest, String> {
                             .withUsername(employeeCredentials.getUsername())
                             .withEmployeeId(employeeCredentials.getEmployeeId())
                             .withForceChangeAfterLogin(employeeCredentials.isForceChangeAfterLogin())
+                            .withSessionToken(sessionToken)
                             .build()
             );
 
@@ -82,7 +127,8 @@ public class LoginHandler implements RequestHandler<LoginRequest, String> {
                             .build()
             );
 
-        } catch (UsernameNotFoundException | InvalidEmployeeCredentialsException e) {
+        } catch (UsernameNotFoundException | InvalidEmployeeCredentialsException | PasswordHashingUnavailableException
+                 | LoginThrottledException e) {
             log.warn(e.getMessage());
 
             return JsonUtil.createJsonResponse(
@@ -105,4 +151,23 @@ public class LoginHandler implements RequestHandler<LoginRequest, String> {
             );
         }
     }
+
+    /**
+     * Migrates a password hash computed with older parameters to the current ones, while the verified password is
+     * at hand. The login succeeds even if this fails, and the migration is retried on the next login. Only the hash
+     * is written, so a lock or failed attempts recorded by concurrent logins are never undone.
+     */
+    private void rehashIfOutdated(EmployeeCredentials employeeCredentials, String password,
+                                  PasswordHasher passwordHasher) {
+        try {
+            String previousPassword = employeeCredentials.getPassword();
+            if (employeeCredentials.rehashIfOutdated(password, passwordHasher)
+                    && credentialsDao.updatePasswordHash(employeeCredentials, previousPassword)) {
+                log.info("Rehashed the password of username \"{}\" with {}.", employeeCredentials.getUsername(),
+                        employeeCredentials.getHashParameters());
+            }
+        } catch (Exception e) {
+            log.warn("Could not rehash the password of username \"{}\". ", employeeCredentials.getUsername(), e);
+        }
+    }
 }
@@ -4,17 +4,18 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
-import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeDao;
-import org.example.dynamodb.model.EmployeeCredentialsModel;
 import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.UnauthorizedAccessException;
 import org.example.exceptions.UsernameAlreadyExistsException;
-import org.example.exceptions.UsernameNotFoundException;
 import org.example.model.Employee;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
 import org.example.model.requests.NewEmployeeRequest;
 import org.example.model.results.NewEmployeeResult;
+import org.example.utils.SessionTokenService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
@@ -29,34 +30,37 @@ public class NewEmployeeHandler implements RequestHandler<NewEmployeeRequest, St
     private static final Logger log = LogManager.getLogger(NewEmployeeHandler.class);
 
     @Inject
-    EmployeeCredentialsDao credentialsDao;
+    EmployeeDao employeeDao;
 
     @Inject
-    EmployeeDao employeeDao;
+    SessionTokenService sessionTokenService;
 
     /**
      * Default constructor that initializes the dependencies using Dagger.
      */
     public NewEmployeeHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the incoming request to create a new an employee.
      *
-     * @param request The request object containing the new employee details.
+     * @param request The request object containing the admin's session token and the new employee details.
      * @param context The Lambda execution context.
      * @return A JSON string representing the result of the new employee operation.
      */
     @Override
     public String handleRequest(final NewEmployeeRequest request, Context context) {
         try {
-            String formattedUsername = request.getUsername();
-            // Verify Username Doesn't Exist in Table
-            if (usernameExists(formattedUsername)) {
-                throw new UsernameAlreadyExistsException(String.format("Username \"%s\" is already taken. Please choose another.", request.getUsername()));
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + NewEmployeeHandler.class.getSimpleName());
             }
 
+            String formattedUsername = request.getUsername();
+
             Employee newEmployee = Employee.builder()
                     .withFirstName(request.getFirstName())
                     .withLastName(request.getLastName())
@@ -79,8 +83,8 @@ public class NewEmployeeHandler implements RequestHandler<NewEmployeeRequest, St
                     request.getPassword()
             );
 
-            EmployeeModel savedEmployee = employeeDao.saveEmployee(newEmployee);
-            EmployeeCredentialsModel savedCredentials = credentialsDao.saveEmployeeCredentials(employeeCredentials);
+            // Both items are written in one transaction, which fails if the username is already taken
+            EmployeeModel savedEmployee = employeeDao.createEmployee(newEmployee, employeeCredentials);
 
             log.info(String.format("Successfully created new employee. " +
                     "\nEmployee ID: %s ", savedEmployee.getEmployeeId()));
@@ -102,10 +106,19 @@ public class NewEmployeeHandler implements RequestHandler<NewEmployeeRequest, St
                             .withZipCode(savedEmployee.getZipCode())
                             .withPayRate(savedEmployee.getPayRate())
                             .withPermissionAccess(savedEmployee.getPermissionAccess())
-                            .withUsername(savedCredentials.getUsername())
+                            .withUsername(employeeCredentials.getUsername())
                             .withPassword(request.getPassword())
                             .build()
             );
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return JsonUtil.createJsonResponse(
+                    NewEmployeeResult.build()
+                            .withNewEmployeeCreated(false)
+                            .withUsername(request.getUsername())
+                            .withError(e.getMessage())
+                            .build()
+            );
         } catch (UsernameAlreadyExistsException e) {
             log.warn("Username already exists. ", e);
             return JsonUtil.createJsonResponse(
@@ -154,14 +167,4 @@ public class NewEmployeeHandler implements RequestHandler<NewEmployeeRequest, St
             );
         }
     }
-
-    private boolean usernameExists(String username) {
-        try {
-            credentialsDao.getEmployeeCredentials(username);
-
-            return true;
-        } catch (UsernameNotFoundException e) {
-            return false;
-        }
-    }
 }
@@ -4,10 +4,10 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.TimeEntryDao;
 import org.example.dynamodb.model.TimeEntryModel;
-import org.example.model.TimeEntry;
+import org.example.exceptions.ClockStateConflictException;
 import org.example.model.requests.NewTimeEntryRequest;
 import org.example.model.results.NewTimeEntryResult;
 import org.example.utils.gson.JsonUtil;
@@ -28,11 +28,12 @@ public class NewTimeEntryHandler implements RequestHandler<NewTimeEntryRequest,
      * Default constructor that initializes the dependencies using Dagger.
      */
     public NewTimeEntryHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the incoming request to create a new time entry.
+     * The employee is clocked in with a single conditional write, which fails if they already have an open shift.
      *
      * @param request The request object containing the login details.
      * @param context The Lambda execution context.
@@ -41,11 +42,7 @@ public class NewTimeEntryHandler implements RequestHandler<NewTimeEntryRequest,
     @Override
     public String handleRequest(NewTimeEntryRequest request, Context context) {
         try {
-            TimeEntry newTimeEntry = TimeEntry.builder()
-                    .withEmployeeId(request.getEmployeeId())
-                    .build();
-
-            TimeEntryModel result = timeEntryDao.saveTimeEntry(newTimeEntry);
+            TimeEntryModel result = timeEntryDao.clockIn(request.getEmployeeId());
 
             log.info(String.format("Successfully saved time entry. " +
                     "\nEmployee ID: %s \nEntry ID: %s ", result.getEmployeeId(), result.getEntryId()));
@@ -59,6 +56,16 @@ public class NewTimeEntryHandler implements RequestHandler<NewTimeEntryRequest,
                             .build()
             );
 
+        } catch (ClockStateConflictException e) {
+            log.warn("Employee ID \"{}\" tried to clock in while already on shift.", request.getEmployeeId());
+            return JsonUtil.createJsonResponse(
+                    NewTimeEntryResult.builder()
+                            .withNewTimeEntryCreated(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("An unexpected error occurred while creating a new time entry. ", e);
             return JsonUtil.createJsonResponse(
@@ -4,18 +4,21 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeDao;
 import org.example.dynamodb.model.EmployeeModel;
 import org.example.exceptions.EmployeeNotFoundException;
-import org.example.model.Employee;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.EmployeePatch;
 import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
 import org.example.model.requests.UpdateEmployeeRequest;
 import org.example.model.results.UpdateEmployeeResult;
+import org.example.utils.SessionTokenService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
-import java.time.LocalDate;
 
 /**
  * Lambda function for handling requests to update employee information.
@@ -26,93 +29,59 @@ public class UpdateEmployeeHandler implements RequestHandler<UpdateEmployeeReque
     @Inject
     EmployeeDao employeeDao;
 
+    @Inject
+    SessionTokenService sessionTokenService;
+
     /**
      * Constructor for UpdateEmployeeHandler.
-     * Initializes dependencies using DaggerAppComponent.
+     * Initializes dependencies using the shared AppComponent.
      */
     public UpdateEmployeeHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
      * Handles the update employee request.
+     * Only the fields set on the request are written, in a single conditional update. If the request carries the
+     * version the employee was read at, the update is rejected when someone else changed the employee since.
      *
-     * @param request The request containing updated employee information.
+     * @param request The request containing the admin's session token and the updated employee information.
      * @param context The Lambda context.
      * @return An UpdateEmployeeResult indicating the outcome of the update operation.
      */
     @Override
     public String handleRequest(UpdateEmployeeRequest request, Context context) {
         try {
-            log.info("UpdateEmployeeRequest Received. Data: {}", request);
-            // check if employee ID exists in the database
-            Employee employee = employeeDao.getEmployee(request.getEmployeeId());
-            log.info("Original Employee values: {}", employee);
-
-            String firstName = request.getFirstName();
-            String lastName = request.getLastName();
-            String middleName = request.getMiddleName();
-            String email = request.getEmail();
-            String department = request.getDepartment();
-            LocalDate hireDate = request.getHireDate();
-            Boolean currentlyEmployed = request.isCurrentlyEmployed();
-            LocalDate terminatedDate = request.getTerminatedDate();
-            String phone = request.getPhone();
-            String address = request.getAddress();
-            String city = request.getCity();
-            String state = request.getState();
-            String zipCode = request.getZipCode();
-            String payRate = request.getPayRate();
-            PermissionLevel permissionAccess = request.getPermissionAccess();
-
-            if (firstName != null && !firstName.equals(employee.getFirstName())) {
-                employee.setFirstName(firstName);
-            }
-            if (lastName != null && !lastName.equals(employee.getLastName())) {
-                employee.setLastName(lastName);
-            }
-            if (middleName != null && !middleName.equals(employee.getMiddleName())) {
-                employee.setMiddleName(middleName);
-            }
-            if (email != null && !email.equals(employee.getEmail())) {
-                employee.setEmail(email);
-            }
-            if (department != null && !department.equals(employee.getDepartment())) {
-                employee.setDepartment(department);
-            }
-            if (hireDate != null && !hireDate.equals(employee.getHireDate())) {
-                employee.setHireDate(hireDate);
-            }
-            if (currentlyEmployed != null && currentlyEmployed != employee.isCurrentlyEmployed()) {
-                employee.setCurrentlyEmployed(currentlyEmployed);
-            }
-            if (terminatedDate != null && !terminatedDate.equals(employee.getTerminatedDate())) {
-                employee.setTerminatedDate(terminatedDate);
-            }
-            if (phone != null && !phone.equals(employee.getPhone())) {
-                employee.setPhone(phone);
-            }
-            if (address != null && !address.equals(employee.getAddress())) {
-                employee.setAddress(address);
-            }
-            if (city != null && !city.equals(employee.getCity())) {
-                employee.setCity(city);
-            }
-            if (state != null && !state.equals(employee.getState())) {
-                employee.setState(state);
-            }
-            if (zipCode != null && !zipCode.equals(employee.getZipCode())) {
-                employee.setZipCode(zipCode);
-            }
-            if (payRate != null && !payRate.equals(employee.getPayRate())) {
-                employee.setPayRate(payRate);
-            }
-            if (permissionAccess != null && permissionAccess != employee.getPermissionAccess()) {
-                employee.setPermissionAccess(permissionAccess);
+
+            SessionToken sessionToken = sessionTokenService.verify(request.getSessionToken());
+            if (sessionToken.getPermissionLevel() != PermissionLevel.ADMIN) {
+                throw new UnauthorizedAccessException("User does not have permission to access this resource. " +
+                        "Resource: " + UpdateEmployeeHandler.class.getSimpleName());
             }
 
+            log.info("UpdateEmployeeRequest Received. Data: {}", request);
 
-            EmployeeModel updatedEmployeeModel = employeeDao.saveEmployee(employee);
+            EmployeePatch employeePatch = EmployeePatch.builder()
+                    .withEmployeeId(request.getEmployeeId())
+                    .withExpectedVersion(request.getVersion())
+                    .withFirstName(request.getFirstName())
+                    .withLastName(request.getLastName())
+                    .withMiddleName(request.getMiddleName())
+                    .withEmail(request.getEmail())
+                    .withDepartment(request.getDepartment())
+                    .withHireDate(request.getHireDate())
+                    .withCurrentlyEmployed(request.isCurrentlyEmployed())
+                    .withTerminatedDate(request.getTerminatedDate())
+                    .withPhone(request.getPhone())
+                    .withAddress(request.getAddress())
+                    .withCity(request.getCity())
+                    .withState(request.getState())
+                    .withZipCode(request.getZipCode())
+                    .withPayRate(request.getPayRate())
+                    .withPermissionAccess(request.getPermissionAccess())
+                    .build();
+
+            EmployeeModel updatedEmployeeModel = employeeDao.updateEmployee(employeePatch);
 
             log.info("Employee Updated Successfully. Employee {}", updatedEmployeeModel);
 
@@ -135,62 +104,56 @@ public class UpdateEmployeeHandler implements RequestHandler<UpdateEmployeeReque
                             .withZipCode(updatedEmployeeModel.getZipCode())
                             .withPayRate(updatedEmployeeModel.getPayRate())
                             .withPermissionAccess(updatedEmployeeModel.getPermissionAccess())
+                            .withVersion(updatedEmployeeModel.getVersion())
                             .build()
             );
 
+        } catch (UnauthorizedAccessException e) {
+            log.error("User does not have sufficient authorization to access this resource. ", e);
+            return notUpdated(request, e.getMessage());
+
         } catch (EmployeeNotFoundException e) {
             log.error(String.format("Employee Not Found. Entry for Employee ID \"%s\" should be in the database.",
                     request.getEmployeeId()), e);
+            return notUpdated(request, e.getMessage());
 
-            return JsonUtil.createJsonResponse(
-                    UpdateEmployeeResult.builder()
-                            .withEmployeeUpdated(false)
-                            .withEmployeeId(request.getEmployeeId())
-                            .withFirstName(request.getFirstName())
-                            .withLastName(request.getLastName())
-                            .withMiddleName(request.getMiddleName())
-                            .withEmail(request.getEmail())
-                            .withDepartment(request.getDepartment())
-                            .withHireDate(request.getHireDate() != null ? request.getHireDate().toString() : null)
-                            .withCurrentlyEmployed(request.isCurrentlyEmployed())
-                            .withTerminatedDate(request.getTerminatedDate() != null ? request.getTerminatedDate().toString() : null)
-                            .withPhone(request.getPhone())
-                            .withAddress(request.getAddress())
-                            .withCity(request.getCity())
-                            .withState(request.getState())
-                            .withZipCode(request.getZipCode())
-                            .withPayRate(request.getPayRate())
-                            .withPermissionAccess(request.getPermissionAccess() != null ? request.getPermissionAccess().name() : null)
-                            .withError(e.getMessage())
-                            .build()
-            );
+        } catch (EmployeeVersionConflictException e) {
+            log.warn(String.format("Update rejected. Employee ID \"%s\" is no longer at version %s.",
+                    request.getEmployeeId(), request.getVersion()), e);
+            return notUpdated(request, e.getMessage());
 
         } catch (Exception e) {
             log.error("An error occurred while updating the Employee. ", e);
-
-            return JsonUtil.createJsonResponse(
-                    UpdateEmployeeResult.builder()
-                            .withEmployeeUpdated(false)
-                            .withEmployeeId(request.getEmployeeId())
-                            .withFirstName(request.getFirstName())
-                            .withLastName(request.getLastName())
-                            .withMiddleName(request.getMiddleName())
-                            .withEmail(request.getEmail())
-                            .withDepartment(request.getDepartment())
-                            .withHireDate(request.getHireDate() != null ? request.getHireDate().toString() : null)
-                            .withCurrentlyEmployed(request.isCurrentlyEmployed())
-                            .withTerminatedDate(request.getTerminatedDate() != null ? request.getTerminatedDate().toString() : null)
-                            .withPhone(request.getPhone())
-                            .withAddress(request.getAddress())
-                            .withCity(request.getCity())
-                            .withState(request.getState())
-                            .withZipCode(request.getZipCode())
-                            .withPayRate(request.getPayRate())
-                            .withPermissionAccess(request.getPermissionAccess() != null ? request.getPermissionAccess().name() : null)
-                            .withError(e.getMessage())
-                            .build()
-            );
-
+            return notUpdated(request, e.getMessage());
         }
     }
+
+    /**
+     * Builds a failed update result that echoes the requested changes back to the caller.
+     */
+    private static String notUpdated(UpdateEmployeeRequest request, String error) {
+        return JsonUtil.createJsonResponse(
+                UpdateEmployeeResult.builder()
+                        .withEmployeeUpdated(false)
+                        .withEmployeeId(request.getEmployeeId())
+                        .withFirstName(request.getFirstName())
+                        .withLastName(request.getLastName())
+                        .withMiddleName(request.getMiddleName())
+                        .withEmail(request.getEmail())
+                        .withDepartment(request.getDepartment())
+                        .withHireDate(request.getHireDate() != null ? request.getHireDate().toString() : null)
+                        .withCurrentlyEmployed(Boolean.TRUE.equals(request.isCurrentlyEmployed()))
+                        .withTerminatedDate(request.getTerminatedDate() != null ? request.getTerminatedDate().toString() : null)
+                        .withPhone(request.getPhone())
+                        .withAddress(request.getAddress())
+                        .withCity(request.getCity())
+                        .withState(request.getState())
+                        .withZipCode(request.getZipCode())
+                        .withPayRate(request.getPayRate())
+                        .withPermissionAccess(request.getPermissionAccess() != null ? request.getPermissionAccess().name() : null)
+                        .withVersion(request.getVersion())
+                        .withError(error)
+                        .build()
+        );
+    }
 }
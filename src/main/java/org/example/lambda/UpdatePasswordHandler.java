@@ -4,14 +4,16 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.dynamodb.model.EmployeeCredentialsModel;
 import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.PasswordHashingUnavailableException;
 import org.example.exceptions.UsernameNotFoundException;
 import org.example.model.EmployeeCredentials;
 import org.example.model.requests.UpdateCredentialsRequest;
 import org.example.model.results.UpdateCredentialsResult;
+import org.example.utils.PasswordHashingService;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
@@ -26,12 +28,15 @@ public class UpdatePasswordHandler implements RequestHandler<UpdateCredentialsRe
     @Inject
     EmployeeCredentialsDao credentialsDao;
 
+    @Inject
+    PasswordHashingService passwordHashingService;
+
 
     /**
      * Default constructor that initializes the dependencies using Dagger.
      */
     public UpdatePasswordHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
@@ -47,7 +52,7 @@ public class UpdatePasswordHandler implements RequestHandler<UpdateCredentialsRe
         try {
             EmployeeCredentials credentials = credentialsDao.getEmployeeCredentials(request.getUsername());
 
-            credentials.updatePassword(request.getPassword());
+            credentials.updatePassword(request.getPassword(), passwordHashingService.forContext(context));
 
             EmployeeCredentialsModel savedCredentials = credentialsDao.saveEmployeeCredentials(credentials);
 
@@ -88,6 +93,17 @@ public class UpdatePasswordHandler implements RequestHandler<UpdateCredentialsRe
                             .build()
             );
 
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Password hashing unavailable. ", e);
+            return JsonUtil.createJsonResponse(
+                    UpdateCredentialsResult.builder()
+                            .withCredentialsUpdated(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withUsername(request.getUsername())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("An unexpected error occurred while creating credentials. ", e);
             return JsonUtil.createJsonResponse(
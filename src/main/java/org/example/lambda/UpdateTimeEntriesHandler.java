@@ -4,15 +4,17 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
+import org.example.dynamodb.BatchWriteResult;
 import org.example.dynamodb.TimeEntryDao;
 import org.example.dynamodb.model.TimeEntryModel;
 import org.example.model.requests.UpdateTimeEntriesRequest;
 import org.example.model.results.UpdateTimeEntriesResult;
+import org.example.model.results.UpdateTimeEntryResult;
 import org.example.utils.gson.JsonUtil;
 
 import javax.inject.Inject;
-import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Handler for updating time entries in DynamoDB.
@@ -28,7 +30,7 @@ public class UpdateTimeEntriesHandler implements RequestHandler<UpdateTimeEntrie
      * Default constructor that initializes the dependencies using Dagger.
      */
     public UpdateTimeEntriesHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
@@ -41,7 +43,26 @@ public class UpdateTimeEntriesHandler implements RequestHandler<UpdateTimeEntrie
     @Override
     public String handleRequest(UpdateTimeEntriesRequest request, Context context) {
         try {
-            List<TimeEntryModel> savedTimeEntries = timeEntryDao.saveTimeEntries(request.getTimeEntryList());
+            BatchWriteResult<TimeEntryModel> saveResult = timeEntryDao.saveTimeEntries(request.getTimeEntryList());
+
+            if (!saveResult.isComplete()) {
+                log.warn(String.format("%d time entries could not be updated for employee ID \"%s\".",
+                        saveResult.getFailedItems().size(), request.getEmployeeId()));
+
+                return JsonUtil.createJsonResponse(
+                        UpdateTimeEntriesResult.builder()
+                                .withTimeEntriesUpdated(false)
+                                .withEmployeeId(request.getEmployeeId())
+                                .withTimeEntryList(saveResult.getSavedItems())
+                                .withFailedTimeEntryList(saveResult.getFailedItems().stream()
+                                        .map(UpdateTimeEntriesHandler::failedTimeEntryResult)
+                                        .collect(Collectors.toList()))
+                                .withError(String.format("%d of %d time entries could not be updated.",
+                                        saveResult.getFailedItems().size(),
+                                        saveResult.getSavedItems().size() + saveResult.getFailedItems().size()))
+                                .build()
+                );
+            }
 
             log.info(String.format("Successfully updated list of time entries. " +
                     "\nEmployee ID: %s ", request.getEmployeeId()));
@@ -50,7 +71,7 @@ public class UpdateTimeEntriesHandler implements RequestHandler<UpdateTimeEntrie
                     UpdateTimeEntriesResult.builder()
                             .withTimeEntriesUpdated(true)
                             .withEmployeeId(request.getEmployeeId())
-                            .withTimeEntryList(savedTimeEntries)
+                            .withTimeEntryList(saveResult.getSavedItems())
                             .build()
             );
 
@@ -66,4 +87,21 @@ public class UpdateTimeEntriesHandler implements RequestHandler<UpdateTimeEntrie
             );
         }
     }
+
+    /**
+     * Maps a time entry that could not be saved to its result, so the response names the entry and the error
+     * without exposing the DAO's batch write details.
+     */
+    private static UpdateTimeEntryResult failedTimeEntryResult(BatchWriteResult.FailedWrite<TimeEntryModel> failedWrite) {
+        TimeEntryModel timeEntryModel = failedWrite.getItem();
+        return UpdateTimeEntryResult.builder()
+                .withTimeUpdated(false)
+                .withEmployeeId(timeEntryModel.getEmployeeId())
+                .withEntryId(timeEntryModel.getEntryId())
+                .withTimeIn(timeEntryModel.getTimeIn())
+                .withTimeOut(timeEntryModel.getTimeOut())
+                .withDuration(timeEntryModel.getDuration())
+                .withError(failedWrite.getError())
+                .build();
+    }
 }
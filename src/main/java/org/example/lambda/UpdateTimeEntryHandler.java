@@ -4,9 +4,10 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.AppComponents;
 import org.example.dynamodb.TimeEntryDao;
 import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
 import org.example.model.TimeEntry;
 import org.example.model.requests.UpdateTimeEntryRequest;
 import org.example.model.results.UpdateTimeEntryResult;
@@ -29,7 +30,7 @@ public class UpdateTimeEntryHandler implements RequestHandler<UpdateTimeEntryReq
      * Default constructor that initializes the dependencies using Dagger.
      */
     public UpdateTimeEntryHandler() {
-        DaggerAppComponent.create().inject(this);
+        AppComponents.get().inject(this);
     }
 
     /**
@@ -43,16 +44,21 @@ public class UpdateTimeEntryHandler implements RequestHandler<UpdateTimeEntryReq
     public String handleRequest(UpdateTimeEntryRequest request, Context context) {
         try {
             log.info("Time Entry Update Request Received: {}", request);
-            TimeEntry timeEntry = timeEntryDao.getTimeEntry(request.getEmployeeId(), request.getEntryId());
+            TimeEntryModel savedTimeEntry;
 
             if (request.isEmployeeClockOut()) {
-                timeEntry.recordTimeOut();
+                savedTimeEntry = timeEntryDao.clockOut(request.getEmployeeId(), request.getEntryId(),
+                        request.getTimeIn());
             } else {
+                TimeEntry timeEntry = timeEntryDao.getTimeEntry(request.getEmployeeId(), request.getEntryId());
                 timeEntry.setTimeIn(request.getTimeIn());
                 timeEntry.setTimeOut(request.getTimeOut());
-            }
 
-            TimeEntryModel savedTimeEntry = timeEntryDao.saveTimeEntry(timeEntry);
+                savedTimeEntry = timeEntryDao.saveTimeEntry(timeEntry);
+                if (savedTimeEntry.getTimeOut() != null) {
+                    timeEntryDao.clearClockState(savedTimeEntry.getEmployeeId(), savedTimeEntry.getEntryId());
+                }
+            }
 
             log.info("Successfully updated time entry: {}", savedTimeEntry);
 
@@ -67,6 +73,18 @@ public class UpdateTimeEntryHandler implements RequestHandler<UpdateTimeEntryReq
                             .build()
             );
 
+        } catch (ClockStateConflictException e) {
+            log.warn("Could not clock out employee ID \"{}\": {}", request.getEmployeeId(), e.getMessage());
+
+            return JsonUtil.createJsonResponse(
+                    UpdateTimeEntryResult.builder()
+                            .withTimeUpdated(false)
+                            .withEmployeeId(request.getEmployeeId())
+                            .withEntryId(request.getEntryId())
+                            .withError(e.getMessage())
+                            .build()
+            );
+
         } catch (Exception e) {
             log.error("There was an error while updating the time entry. ", e);
 
@@ -75,8 +93,8 @@ public class UpdateTimeEntryHandler implements RequestHandler<UpdateTimeEntryReq
                             .withTimeUpdated(false)
                             .withEmployeeId(request.getEmployeeId())
                             .withEntryId(request.getEntryId())
-                            .withTimeIn(request.getTimeIn().toString())
-                            .withTimeOut(request.getTimeOut().toString())
+                            .withTimeIn(request.getTimeIn() != null ? request.getTimeIn().toString() : null)
+                            .withTimeOut(request.getTimeOut() != null ? request.getTimeOut().toString() : null)
                             .withDuration(request.getDuration())
                             .withError(e.getMessage())
                             .build()
@@ -27,6 +27,7 @@ public class Employee {
     private String zipCode;
     private String payRate;
     private PermissionLevel permissionAccess;
+    private final Long version;
 
     private Employee(EmployeeBuilder employeeBuilder) {
         this.employeeId = employeeBuilder.employeeId;
@@ -45,6 +46,7 @@ public class Employee {
         this.zipCode = employeeBuilder.zipCode;
         this.payRate = employeeBuilder.payRate;
         this.permissionAccess = employeeBuilder.permissionAccess;
+        this.version = employeeBuilder.version;
     }
 
     public static EmployeeBuilder builder() {
@@ -69,6 +71,7 @@ public class Employee {
         private String zipCode;
         private String payRate;
         private PermissionLevel permissionAccess; // default STANDARD
+        private Long version;
 
         public EmployeeBuilder() {
             UUID uuid = UUID.randomUUID();
@@ -170,6 +173,11 @@ public class Employee {
             return this;
         }
 
+        public EmployeeBuilder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Employee build() {
             // First Name Validation
             if (firstName == null || !StringFormatValidator.validNameFormat(firstName)) {
@@ -395,6 +403,13 @@ public class Employee {
         this.permissionAccess = permissionAccess;
     }
 
+    /**
+     * @return the version the employee was read at, or null if it has never been patched.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -9,10 +9,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class EmployeeCredentials {
+    public static final int MAX_FAILED_ATTEMPTS = 3;
     private final String employeeId;
     private String username;
     private String salt;
     private String password;
+    private PasswordHashParameters hashParameters;
     private LocalDateTime lastUpdated;
     private boolean accountLocked;
     private boolean forceChangeAfterLogin;
@@ -31,13 +33,15 @@ public class EmployeeCredentials {
         this.username = username;
         this.salt = CredentialsUtility.generateSalt();
         this.password = CredentialsUtility.hashPassword(password, salt);
+        this.hashParameters = PasswordHashParameters.DEFAULT;
         this.lastUpdated = LocalDateTime.now();
         this.accountLocked = false;
         this.forceChangeAfterLogin = true;
     }
 
     /**
-     * This constructor is used for existing {@link Employee} credentials.
+     * This constructor is used for existing {@link Employee} credentials whose hash was computed with the
+     * {@link PasswordHashParameters#DEFAULT default parameters}.
      *
      * @param employeeId the employee ID of the employee
      * @param username the username of the employee
@@ -51,10 +55,31 @@ public class EmployeeCredentials {
     public EmployeeCredentials(String employeeId, String username, String salt, String password,
                                LocalDateTime lastUpdated, boolean accountLocked,
                                boolean forceChangeAfterLogin, int failedAttempts) {
+        this(employeeId, username, salt, password, PasswordHashParameters.DEFAULT, lastUpdated, accountLocked,
+                forceChangeAfterLogin, failedAttempts);
+    }
+
+    /**
+     * This constructor is used for existing {@link Employee} credentials.
+     *
+     * @param employeeId the employee ID of the employee
+     * @param username the username of the employee
+     * @param salt the salt associated with the employee's account
+     * @param password the employee's hashed password with salt
+     * @param hashParameters the Argon2 parameters the password was hashed with
+     * @param lastUpdated the date and time when the password was last updated
+     * @param accountLocked a flag indicating whether the account is locked
+     * @param forceChangeAfterLogin a flag indicating if the employee must change their password after logging in
+     * @param failedAttempts the number of failed login attempts
+     */
+    public EmployeeCredentials(String employeeId, String username, String salt, String password,
+                               PasswordHashParameters hashParameters, LocalDateTime lastUpdated,
+                               boolean accountLocked, boolean forceChangeAfterLogin, int failedAttempts) {
         this.employeeId = employeeId;
         this.username = username;
         this.salt = salt;
         this.password = password;
+        this.hashParameters = hashParameters;
         this.lastUpdated = lastUpdated;
         this.accountLocked = accountLocked;
         this.forceChangeAfterLogin = forceChangeAfterLogin;
@@ -67,6 +92,17 @@ public class EmployeeCredentials {
      * @param password the employee's new password
      */
     public void updatePassword(String password) {
+        updatePassword(password, PasswordHasher.DIRECT);
+    }
+
+    /**
+     * Updates the employee's password like {@link #updatePassword(String)}, hashing it with the given hasher's
+     * target parameters.
+     *
+     * @param password the employee's new password
+     * @param passwordHasher computes the new hash
+     */
+    public void updatePassword(String password, PasswordHasher passwordHasher) {
         if (!StringFormatValidator.validPassword(password)) {
             String passwordRequirements = "Password must contain the following: \n" +
                     "At least one uppercase letter\n" +
@@ -77,8 +113,7 @@ public class EmployeeCredentials {
                     "Password cannot contain any whitespaces or begin with a dash \"-\" or a period \".\"";
             throw new InvalidInputFormatException("Invalid password format! " + passwordRequirements);
         }
-        this.salt = CredentialsUtility.generateSalt();
-        this.password = CredentialsUtility.hashPassword(password, this.salt);
+        setHash(password, passwordHasher);
         this.lastUpdated = LocalDateTime.now();
         this.forceChangeAfterLogin = false;
         this.accountLocked = false;
@@ -102,7 +137,7 @@ public class EmployeeCredentials {
             //throw new AccountLockedException("Account is locked due to too many failed login attempts.");
         }
 
-        boolean result = CredentialsUtility.verifyPassword(password, this.salt, this.password);
+        boolean result = CredentialsUtility.verifyPassword(password, this.salt, this.password, this.hashParameters);
 
         if (!result) {
             this.failedAttempts++;
@@ -113,6 +148,52 @@ public class EmployeeCredentials {
         return result;
     }
 
+    /**
+     * Verifies a user's credentials like {@link #verifyCredentials(String)}, but keeps the failed attempts counter in
+     * the given recorder instead of only in this object. A failed attempt is counted with a single atomic increment,
+     * so attempts made in parallel are never lost, and the account is locked once the stored count reaches
+     * {@link #MAX_FAILED_ATTEMPTS}. The counter is only reset on success if there were failed attempts to clear.
+     *
+     * @param password the password to verify
+     * @param loginAttemptRecorder stores the failed attempts counter
+     * @return true if the credentials are valid, false otherwise
+     * @throws AccountLockedException if the account is already locked
+     */
+    public boolean verifyCredentials(String password, LoginAttemptRecorder loginAttemptRecorder) {
+        return verifyCredentials(password, loginAttemptRecorder, PasswordHasher.DIRECT);
+    }
+
+    /**
+     * Verifies a user's credentials like {@link #verifyCredentials(String, LoginAttemptRecorder)}, checking the
+     * password with the given hasher. Nothing is recorded if the hasher throws.
+     *
+     * @param password the password to verify
+     * @param loginAttemptRecorder stores the failed attempts counter
+     * @param passwordHasher checks the password against the stored hash
+     * @return true if the credentials are valid, false otherwise
+     * @throws AccountLockedException if the account is already locked
+     */
+    public boolean verifyCredentials(String password, LoginAttemptRecorder loginAttemptRecorder,
+                                     PasswordHasher passwordHasher) {
+        if (isAccountLocked()) {
+            throw new AccountLockedException("Account is locked. Please contact your administrator.");
+        }
+
+        boolean result = passwordHasher.verifyPassword(password, this.salt, this.password, this.hashParameters);
+
+        if (!result) {
+            this.failedAttempts = loginAttemptRecorder.recordFailedLogin(this.username);
+            this.accountLocked = this.failedAttempts >= MAX_FAILED_ATTEMPTS;
+        } else {
+            if (this.failedAttempts > 0) {
+                loginAttemptRecorder.resetFailedLogins(this.username);
+            }
+            this.failedAttempts = 0;
+            this.accountLocked = false;
+        }
+        return result;
+    }
+
     /**
      * Resets an employee's password with a temporary password set by an admin. The employee
      * will be prompted to change their password after logging in.
@@ -120,11 +201,49 @@ public class EmployeeCredentials {
      * @param password the temporary password set by the admin
      */
     public void adminResetPassword(String password) {
-        this.salt = CredentialsUtility.generateSalt();
-        this.password = CredentialsUtility.hashPassword(password, this.salt);
+        adminResetPassword(password, PasswordHasher.DIRECT);
+    }
+
+    /**
+     * Resets an employee's password like {@link #adminResetPassword(String)}, hashing it with the given hasher's
+     * target parameters.
+     *
+     * @param password the temporary password set by the admin
+     * @param passwordHasher computes the new hash
+     */
+    public void adminResetPassword(String password, PasswordHasher passwordHasher) {
+        setHash(password, passwordHasher);
         this.lastUpdated = LocalDateTime.now();
         this.accountLocked = false;
         this.forceChangeAfterLogin = true;
+        this.failedAttempts = 0;
+    }
+
+    /**
+     * Rehashes the password with the hasher's target parameters if it was hashed with weaker ones, i.e. with less
+     * memory or fewer iterations. A hash that is already as strong is kept, so a lower target never downgrades it.
+     * This must only be called with a password that was just verified, since the plain text password is not
+     * available otherwise. The lastUpdated timestamp is kept, since the password itself does not change.
+     *
+     * @param password the verified password
+     * @param passwordHasher computes the new hash
+     * @return true if the password was rehashed and the credentials need to be saved, false otherwise
+     */
+    public boolean rehashIfOutdated(String password, PasswordHasher passwordHasher) {
+        PasswordHashParameters targetParameters = passwordHasher.getTargetParameters();
+        if (targetParameters == null || !this.hashParameters.isWeakerThan(targetParameters)) {
+            return false;
+        }
+        setHash(password, passwordHasher);
+        return true;
+    }
+
+    private void setHash(String password, PasswordHasher passwordHasher) {
+        PasswordHashParameters targetParameters = passwordHasher.getTargetParameters();
+        String newSalt = CredentialsUtility.generateSalt();
+        this.password = passwordHasher.hashPassword(password, newSalt, targetParameters);
+        this.salt = newSalt;
+        this.hashParameters = targetParameters;
     }
 
     public String getEmployeeId() {
@@ -140,7 +259,7 @@ public class EmployeeCredentials {
     }
 
     public boolean isAccountLocked() {
-        if (failedAttempts >= 3) {
+        if (failedAttempts >= MAX_FAILED_ATTEMPTS) {
             accountLocked = true;
         }
         return accountLocked;
@@ -162,6 +281,10 @@ public class EmployeeCredentials {
         return password;
     }
 
+    public PasswordHashParameters getHashParameters() {
+        return hashParameters;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -173,12 +296,13 @@ public class EmployeeCredentials {
                 Objects.equals(getEmployeeId(), that.getEmployeeId()) &&
                 Objects.equals(getUsername(), that.getUsername()) &&
                 Objects.equals(salt, that.salt) && Objects.equals(password, that.password) &&
+                Objects.equals(getHashParameters(), that.getHashParameters()) &&
                 Objects.equals(getLastUpdated(), that.getLastUpdated());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getEmployeeId(), getUsername(), salt, password,
+        return Objects.hash(getEmployeeId(), getUsername(), salt, password, getHashParameters(),
                 getLastUpdated(), isAccountLocked(), isForceChangeAfterLogin(),
                 getFailedAttempts());
     }
@@ -0,0 +1,116 @@
+package org.example.model;
+
+import org.example.exceptions.InvalidInputFormatException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link Employee} fields that can be requested when reading employees, along with the name of the
+ * matching attribute in the employee table. The {@link #REQUIRED_FIELDS} are always read, since an
+ * {@link Employee} cannot be built without them.
+ */
+public enum EmployeeField {
+    EMPLOYEE_ID("employeeId", "employee_id"),
+    FIRST_NAME("firstName", "first_name"),
+    LAST_NAME("lastName", "last_name"),
+    MIDDLE_NAME("middleName", "middle_name"),
+    EMAIL("email", "email"),
+    DEPARTMENT("department", "department"),
+    HIRE_DATE("hireDate", "hire_date"),
+    CURRENTLY_EMPLOYED("currentlyEmployed", "currently_employed"),
+    TERMINATED_DATE("terminatedDate", "terminated_date"),
+    PHONE("phone", "phone"),
+    ADDRESS("address", "address"),
+    CITY("city", "city"),
+    STATE("state", "state"),
+    ZIP_CODE("zipCode", "zip_code"),
+    PAY_RATE("payRate", "pay_rate"),
+    PERMISSION_ACCESS("permissionAccess", "permission_access");
+
+    public static final Set<EmployeeField> REQUIRED_FIELDS = Collections.unmodifiableSet(
+            EnumSet.of(EMPLOYEE_ID, FIRST_NAME, LAST_NAME, CURRENTLY_EMPLOYED, PERMISSION_ACCESS));
+
+    private final String fieldName;
+    private final String attributeName;
+
+    EmployeeField(String fieldName, String attributeName) {
+        this.fieldName = fieldName;
+        this.attributeName = attributeName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Finds the field with the given name, as used in requests and results (e.g. {@code "firstName"}).
+     *
+     * @param fieldName the name of the field.
+     * @return the matching EmployeeField.
+     * @throws InvalidInputFormatException if there is no field with the given name.
+     */
+    public static EmployeeField fromFieldName(String fieldName) {
+        for (EmployeeField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new InvalidInputFormatException("Unknown employee field: " + fieldName);
+    }
+
+    /**
+     * Converts a collection of requested field names into the set of fields to read, including the
+     * {@link #REQUIRED_FIELDS}.
+     *
+     * @param fieldNames the requested field names, or null/empty to read every field.
+     * @return the fields to read.
+     * @throws InvalidInputFormatException if any field name is unknown.
+     */
+    public static Set<EmployeeField> fromFieldNames(Collection<String> fieldNames) {
+        if (fieldNames == null || fieldNames.isEmpty()) {
+            return EnumSet.allOf(EmployeeField.class);
+        }
+
+        Set<EmployeeField> fields = EnumSet.copyOf(REQUIRED_FIELDS);
+        for (String fieldName : fieldNames) {
+            fields.add(fromFieldName(fieldName));
+        }
+        return fields;
+    }
+
+    /**
+     * Builds a DynamoDB projection expression for the given fields. Every attribute is referenced through an
+     * expression attribute name, since several of them (e.g. {@code state}) are DynamoDB reserved words.
+     *
+     * @param fields the fields to project.
+     * @param expressionAttributeNames the map the expression attribute names are added to.
+     * @return the projection expression.
+     */
+    public static String toProjectionExpression(Set<EmployeeField> fields, Map<String, String> expressionAttributeNames) {
+        StringBuilder projectionExpression = new StringBuilder();
+        for (EmployeeField field : fields) {
+            String placeholder = "#" + field.fieldName;
+            expressionAttributeNames.put(placeholder, field.attributeName);
+            if (projectionExpression.length() > 0) {
+                projectionExpression.append(", ");
+            }
+            projectionExpression.append(placeholder);
+        }
+        return projectionExpression.toString();
+    }
+
+    /**
+     * @return true if the given fields include every employee field, meaning no projection is needed.
+     */
+    public static boolean isAllFields(Set<EmployeeField> fields) {
+        return fields == null || fields.containsAll(EnumSet.allOf(EmployeeField.class));
+    }
+}
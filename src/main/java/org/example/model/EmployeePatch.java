@@ -0,0 +1,178 @@
+package org.example.model;
+
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.utils.StringFormatValidator;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A partial update to an existing employee. Only the fields that were given a value are changed, so a patch
+ * can be written without reading the employee first. If an expected version is set, the patch is only applied
+ * while the stored employee is still at that version.
+ */
+public class EmployeePatch {
+    private final String employeeId;
+    private final Long expectedVersion;
+    private final Map<EmployeeField, Object> changes;
+
+    private EmployeePatch(Builder builder) {
+        this.employeeId = builder.employeeId;
+        this.expectedVersion = builder.expectedVersion;
+        this.changes = Collections.unmodifiableMap(new EnumMap<>(builder.changes));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String employeeId;
+        private Long expectedVersion;
+        private final Map<EmployeeField, Object> changes = new EnumMap<>(EmployeeField.class);
+
+        public Builder withEmployeeId(String employeeId) {
+            this.employeeId = employeeId;
+            return this;
+        }
+
+        public Builder withExpectedVersion(Long expectedVersion) {
+            this.expectedVersion = expectedVersion;
+            return this;
+        }
+
+        public Builder withFirstName(String firstName) {
+            return change(EmployeeField.FIRST_NAME, firstName);
+        }
+
+        public Builder withLastName(String lastName) {
+            return change(EmployeeField.LAST_NAME, lastName);
+        }
+
+        public Builder withMiddleName(String middleName) {
+            return change(EmployeeField.MIDDLE_NAME, middleName);
+        }
+
+        public Builder withEmail(String email) {
+            return change(EmployeeField.EMAIL, email);
+        }
+
+        public Builder withDepartment(String department) {
+            return change(EmployeeField.DEPARTMENT, department);
+        }
+
+        public Builder withHireDate(LocalDate hireDate) {
+            return change(EmployeeField.HIRE_DATE, hireDate);
+        }
+
+        public Builder withCurrentlyEmployed(Boolean currentlyEmployed) {
+            return change(EmployeeField.CURRENTLY_EMPLOYED, currentlyEmployed);
+        }
+
+        public Builder withTerminatedDate(LocalDate terminatedDate) {
+            return change(EmployeeField.TERMINATED_DATE, terminatedDate);
+        }
+
+        public Builder withPhone(String phone) {
+            return change(EmployeeField.PHONE, phone);
+        }
+
+        public Builder withAddress(String address) {
+            return change(EmployeeField.ADDRESS, address);
+        }
+
+        public Builder withCity(String city) {
+            return change(EmployeeField.CITY, city);
+        }
+
+        public Builder withState(String state) {
+            return change(EmployeeField.STATE, state);
+        }
+
+        public Builder withZipCode(String zipCode) {
+            return change(EmployeeField.ZIP_CODE, zipCode);
+        }
+
+        public Builder withPayRate(String payRate) {
+            return change(EmployeeField.PAY_RATE, payRate);
+        }
+
+        public Builder withPermissionAccess(PermissionLevel permissionAccess) {
+            return change(EmployeeField.PERMISSION_ACCESS, permissionAccess);
+        }
+
+        /**
+         * Records a change, ignoring null values so that unset fields are left untouched.
+         */
+        private Builder change(EmployeeField field, Object value) {
+            if (value != null) {
+                changes.put(field, value);
+            }
+            return this;
+        }
+
+        /**
+         * Validates the changed fields with the same rules as {@link Employee.EmployeeBuilder#build()}.
+         *
+         * @return the patch.
+         * @throws InvalidInputFormatException if the employee ID is missing or a changed field is invalid.
+         */
+        public EmployeePatch build() {
+            if (employeeId == null || employeeId.isEmpty()) {
+                throw new InvalidInputFormatException("Employee ID cannot be null.");
+            }
+
+            validate(EmployeeField.FIRST_NAME, StringFormatValidator::validNameFormat, "Invalid first name format: ");
+            validate(EmployeeField.LAST_NAME, StringFormatValidator::validNameFormat, "Invalid last name format: ");
+            validate(EmployeeField.MIDDLE_NAME, StringFormatValidator::validNameFormat, "Invalid middle name format: ");
+            validate(EmployeeField.EMAIL, StringFormatValidator::validEmailFormat, "Invalid email format: ");
+            validate(EmployeeField.CITY, StringFormatValidator::validNameFormat, "Invalid city name format: ");
+            validate(EmployeeField.STATE, StringFormatValidator::validNameFormat, "Invalid state name format: ");
+            validate(EmployeeField.ZIP_CODE, StringFormatValidator::validUnitedStatesZipCodeFormat, "Invalid zip code format: ");
+            validate(EmployeeField.PAY_RATE, StringFormatValidator::validPayRateFormat, "Invalid pay rate format: ");
+            String phone = (String) changes.get(EmployeeField.PHONE);
+            if (phone != null && !StringFormatValidator.validUsPhoneFormat(phone)) {
+                throw new InvalidInputFormatException(String.format("Invalid phone format: %s. Expected format: +1-xxx-xxx-xxxx", phone));
+            }
+
+            return new EmployeePatch(this);
+        }
+
+        private void validate(EmployeeField field, Predicate<String> validFormat, String message) {
+            String value = (String) changes.get(field);
+            if (value != null && !validFormat.test(value)) {
+                throw new InvalidInputFormatException(message + value);
+            }
+        }
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * @return the version the employee must be at for the patch to apply, or null to apply it unconditionally.
+     */
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    /**
+     * @return the changed fields and their new values, in field order.
+     */
+    public Map<EmployeeField, Object> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeePatch{" +
+                "\nemployeeId='" + employeeId + '\'' +
+                ", \nexpectedVersion=" + expectedVersion +
+                ", \nchanges=" + changes +
+                "\n}";
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.model;
+
+/**
+ * Persists the failed login bookkeeping for {@link EmployeeCredentials#verifyCredentials(String, LoginAttemptRecorder)}.
+ * Implementations must update the stored counter atomically, so that concurrent login attempts for the same
+ * username are all counted.
+ */
+public interface LoginAttemptRecorder {
+    /**
+     * Records one failed login attempt, locking the account once it reaches
+     * {@link EmployeeCredentials#MAX_FAILED_ATTEMPTS}.
+     *
+     * @param username the username the attempt was made for.
+     * @return the number of failed attempts after this one was counted.
+     */
+    int recordFailedLogin(String username);
+
+    /**
+     * Clears the failed login attempts after a successful login, unless the account has been locked in the meantime.
+     *
+     * @param username the username that logged in.
+     */
+    void resetFailedLogins(String username);
+}
@@ -0,0 +1,83 @@
+package org.example.model;
+
+import org.example.utils.CredentialsUtility;
+
+import java.util.Objects;
+
+/**
+ * The Argon2id cost parameters a password hash was computed with. They are stored alongside each hash, so the
+ * parameters for new hashes can be retuned without invalidating the hashes that are already stored.
+ */
+public class PasswordHashParameters {
+    /**
+     * The parameters every hash was computed with before they were stored, and the default for new hashes.
+     */
+    public static final PasswordHashParameters DEFAULT = new PasswordHashParameters(
+            CredentialsUtility.ARGON2_MEMORY_KB, CredentialsUtility.ARGON2_ITERATIONS,
+            CredentialsUtility.ARGON2_PARALLELISM);
+
+    private final int memoryKB;
+    private final int iterations;
+    private final int parallelism;
+
+    /**
+     * @param memoryKB the size of the memory matrix in kilobytes, at least 8 per lane
+     * @param iterations the number of passes over the memory matrix
+     * @param parallelism the number of lanes
+     * @throws IllegalArgumentException if the parameters are not valid Argon2 parameters
+     */
+    public PasswordHashParameters(int memoryKB, int iterations, int parallelism) {
+        if (parallelism < 1 || iterations < 1 || memoryKB < 8 * parallelism) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid Argon2 parameters: memory %d KB, %d iterations, parallelism %d.",
+                    memoryKB, iterations, parallelism));
+        }
+        this.memoryKB = memoryKB;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param other the parameters to compare with.
+     * @return true if a hash with these parameters uses less memory or fewer iterations than one with the others.
+     */
+    public boolean isWeakerThan(PasswordHashParameters other) {
+        return memoryKB < other.memoryKB || iterations < other.iterations;
+    }
+
+    public int getMemoryKB() {
+        return memoryKB;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PasswordHashParameters)) return false;
+        PasswordHashParameters that = (PasswordHashParameters) o;
+        return getMemoryKB() == that.getMemoryKB() &&
+                getIterations() == that.getIterations() &&
+                getParallelism() == that.getParallelism();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMemoryKB(), getIterations(), getParallelism());
+    }
+
+    @Override
+    public String toString() {
+        return "PasswordHashParameters{" +
+                "memoryKB=" + memoryKB +
+                ", iterations=" + iterations +
+                ", parallelism=" + parallelism +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.model;
+
+import org.example.utils.CredentialsUtility;
+
+/**
+ * Computes and checks the password hashes stored in {@link EmployeeCredentials}. Handlers pass an implementation
+ * that limits how many hashes run at once; {@link #DIRECT} hashes on the calling thread without any limit.
+ */
+public interface PasswordHasher {
+    PasswordHasher DIRECT = new PasswordHasher() {
+        @Override
+        public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+            return CredentialsUtility.hashPassword(password, salt, parameters);
+        }
+
+        @Override
+        public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+            return CredentialsUtility.verifyPassword(password, salt, hash, parameters);
+        }
+    };
+
+    /**
+     * @see CredentialsUtility#hashPassword(String, String, PasswordHashParameters)
+     */
+    String hashPassword(String password, String salt, PasswordHashParameters parameters);
+
+    /**
+     * @see CredentialsUtility#verifyPassword(String, String, String, PasswordHashParameters)
+     */
+    boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters);
+
+    /**
+     * @return the parameters new hashes are computed with. Stored hashes with other parameters are rehashed with
+     * these after a successful login.
+     */
+    default PasswordHashParameters getTargetParameters() {
+        return PasswordHashParameters.DEFAULT;
+    }
+
+    /**
+     * Hashes a password with the {@link #getTargetParameters() target parameters}.
+     */
+    default String hashPassword(String password, String salt) {
+        return hashPassword(password, salt, getTargetParameters());
+    }
+
+    /**
+     * Verifies a password against a hash computed with the {@link PasswordHashParameters#DEFAULT default parameters}.
+     */
+    default boolean verifyPassword(String password, String salt, String hash) {
+        return verifyPassword(password, salt, hash, PasswordHashParameters.DEFAULT);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.model;
+
+import java.util.Objects;
+
+/**
+ * The limit of a {@link TokenBucket}: up to {@code capacity} attempts in a burst, after which one more attempt is
+ * allowed every {@code refillMillis} milliseconds.
+ */
+public class RateLimit {
+    private final int capacity;
+    private final long refillMillis;
+
+    /**
+     * @param capacity the most attempts allowed in a burst, at least 1
+     * @param refillMillis the time it takes to earn back one attempt, at least 1
+     * @throws IllegalArgumentException if either value is less than 1
+     */
+    public RateLimit(int capacity, long refillMillis) {
+        if (capacity < 1 || refillMillis < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid rate limit: capacity %d, refill every %d ms.", capacity, refillMillis));
+        }
+        this.capacity = capacity;
+        this.refillMillis = refillMillis;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getRefillMillis() {
+        return refillMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RateLimit)) return false;
+        RateLimit that = (RateLimit) o;
+        return getCapacity() == that.getCapacity() &&
+                getRefillMillis() == that.getRefillMillis();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getCapacity(), getRefillMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{" +
+                "capacity=" + capacity +
+                ", refillMillis=" + refillMillis +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The verified contents of a signed session token issued at login. Handlers authorize requests with it instead of
+ * reading the employee's credentials again.
+ */
+public class SessionToken {
+    private final String employeeId;
+    private final PermissionLevel permissionLevel;
+    private final Instant expiresAt;
+
+    /**
+     * @param employeeId the ID of the employee who logged in
+     * @param permissionLevel the employee's permission level at login
+     * @param expiresAt when the token stops being accepted
+     */
+    public SessionToken(String employeeId, PermissionLevel permissionLevel, Instant expiresAt) {
+        this.employeeId = employeeId;
+        this.permissionLevel = permissionLevel;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public PermissionLevel getPermissionLevel() {
+        return permissionLevel;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * @param now the current time
+     * @return true if the token is no longer accepted at the given time
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SessionToken)) return false;
+        SessionToken that = (SessionToken) o;
+        return Objects.equals(getEmployeeId(), that.getEmployeeId()) &&
+                getPermissionLevel() == that.getPermissionLevel() &&
+                Objects.equals(getExpiresAt(), that.getExpiresAt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEmployeeId(), getPermissionLevel(), getExpiresAt());
+    }
+
+    @Override
+    public String toString() {
+        return "SessionToken{" +
+                "employeeId='" + employeeId + '\'' +
+                ", permissionLevel=" + permissionLevel +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
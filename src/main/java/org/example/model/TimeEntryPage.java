@@ -0,0 +1,56 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single page of {@link TimeEntry} objects read from the time entries table, along with the
+ * continuation token needed to request the following page.
+ */
+public class TimeEntryPage {
+    private final List<TimeEntry> timeEntries;
+    private final String nextToken;
+
+    /**
+     * @param timeEntries the time entries contained in this page
+     * @param nextToken the opaque token for the next page, or null if this is the last page
+     */
+    public TimeEntryPage(List<TimeEntry> timeEntries, String nextToken) {
+        this.timeEntries = timeEntries;
+        this.nextToken = nextToken;
+    }
+
+    public List<TimeEntry> getTimeEntries() {
+        return timeEntries;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasNextPage() {
+        return nextToken != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TimeEntryPage)) return false;
+        TimeEntryPage that = (TimeEntryPage) o;
+        return Objects.equals(getTimeEntries(), that.getTimeEntries()) &&
+                Objects.equals(getNextToken(), that.getNextToken());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTimeEntries(), getNextToken());
+    }
+
+    @Override
+    public String toString() {
+        return "TimeEntryPage{" +
+                "\ntimeEntries=" + timeEntries +
+                ", \nnextToken='" + (nextToken != null ? nextToken : "") + '\'' +
+                "\n}";
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.model;
+
+import java.util.Objects;
+
+/**
+ * The state of a token bucket at a point in time. Every attempt takes one token, and tokens are earned back
+ * continuously at the rate of a {@link RateLimit}, up to its capacity. The bucket is immutable, so the same state can
+ * be kept in memory or stored in a table and compared with a conditional write.
+ */
+public class TokenBucket {
+    private final double tokens;
+    private final long updatedAtMillis;
+
+    /**
+     * @param tokens the tokens left, which may be a fraction of a token
+     * @param updatedAtMillis the epoch millisecond the tokens were counted at
+     */
+    public TokenBucket(double tokens, long updatedAtMillis) {
+        this.tokens = tokens;
+        this.updatedAtMillis = updatedAtMillis;
+    }
+
+    /**
+     * @return a bucket that allows a full burst.
+     */
+    public static TokenBucket full(RateLimit limit, long nowMillis) {
+        return new TokenBucket(limit.getCapacity(), nowMillis);
+    }
+
+    /**
+     * Adds the tokens earned since the bucket was last updated. Clocks of different instances can disagree, so a
+     * bucket updated "in the future" is left as it is rather than drained.
+     *
+     * @return the bucket as of {@code nowMillis}.
+     */
+    public TokenBucket refill(RateLimit limit, long nowMillis) {
+        if (nowMillis <= updatedAtMillis) {
+            return this;
+        }
+        double earned = (double) (nowMillis - updatedAtMillis) / limit.getRefillMillis();
+        return new TokenBucket(Math.min(limit.getCapacity(), tokens + earned), nowMillis);
+    }
+
+    /**
+     * @return true if an attempt can be made now.
+     */
+    public boolean hasToken() {
+        return tokens >= 1;
+    }
+
+    /**
+     * @return the bucket after one attempt.
+     * @throws IllegalStateException if there is no whole token left.
+     */
+    public TokenBucket take() {
+        return take(1);
+    }
+
+    /**
+     * Takes the tokens of several attempts at once, as long as there is a token for one. The bucket may go below
+     * zero, so attempts that were already allowed elsewhere are still paid for by waiting longer.
+     *
+     * @param count the number of attempts.
+     * @return the bucket after the attempts.
+     * @throws IllegalStateException if there is no whole token left.
+     */
+    public TokenBucket take(int count) {
+        if (!hasToken()) {
+            throw new IllegalStateException("The bucket has no token left.");
+        }
+        return new TokenBucket(tokens - count, updatedAtMillis);
+    }
+
+    /**
+     * @return how long until the next attempt is allowed, or 0 if one is allowed now.
+     */
+    public long millisUntilToken(RateLimit limit) {
+        return hasToken() ? 0 : (long) Math.ceil((1 - tokens) * limit.getRefillMillis());
+    }
+
+    /**
+     * @return how long until the bucket is full again, after which it no longer needs to be kept.
+     */
+    public long millisUntilFull(RateLimit limit) {
+        return (long) Math.ceil(Math.max(0, limit.getCapacity() - tokens) * limit.getRefillMillis());
+    }
+
+    public double getTokens() {
+        return tokens;
+    }
+
+    public long getUpdatedAtMillis() {
+        return updatedAtMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TokenBucket)) return false;
+        TokenBucket that = (TokenBucket) o;
+        return Double.compare(that.getTokens(), getTokens()) == 0 &&
+                getUpdatedAtMillis() == that.getUpdatedAtMillis();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTokens(), getUpdatedAtMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucket{" +
+                "tokens=" + tokens +
+                ", updatedAtMillis=" + updatedAtMillis +
+                '}';
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.model.requests;
+
+import java.util.List;
+
+public class AdminBulkResetPasswordRequest {
+    private String sessionToken;
+    private List<AdminResetPasswordRequest> resetList;
+
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
+    /**
+     * @return the employees whose passwords are to be reset, each with its temporary password.
+     */
+    public List<AdminResetPasswordRequest> getResetList() {
+        return resetList;
+    }
+
+    public void setResetList(List<AdminResetPasswordRequest> resetList) {
+        this.resetList = resetList;
+    }
+
+    @Override
+    public String toString() {
+        return "AdminBulkResetPasswordRequest{\n" +
+                "\nresetList=" + resetList +
+                "\n}";
+    }
+}
@@ -2,6 +2,7 @@ package org.example.model.requests;
 
 public class AdminResetPasswordRequest {
     private String employeeId;
+    private String sessionToken;
     private String username;
     private String password;
 
@@ -13,6 +14,17 @@ public class AdminResetPasswordRequest {
         this.employeeId = employeeId;
     }
 
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -1,10 +1,11 @@
 package org.example.model.requests;
 
-import org.example.model.PermissionLevel;
+import java.util.List;
 
 public class GetAllEmployeesRequest {
     private String employeeId;
-    private PermissionLevel permissionLevel;
+    private String sessionToken;
+    private List<String> fields;
 
     public String getEmployeeId() {
         return employeeId;
@@ -14,11 +15,25 @@ public class GetAllEmployeesRequest {
         this.employeeId = employeeId;
     }
 
-    public PermissionLevel getPermissionLevel() {
-        return permissionLevel;
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
     }
 
-    public void setPermissionLevel(String permissionLevel) {
-        this.permissionLevel = PermissionLevel.valueOf(permissionLevel.toUpperCase());
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
+    /**
+     * @return the names of the fields to return (e.g. "firstName"), or null to return every field.
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<String> fields) {
+        this.fields = fields;
     }
 }
@@ -3,6 +3,7 @@ package org.example.model.requests;
 import org.example.model.PermissionLevel;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class GetEmployeeRequest {
     private String employeeId;
@@ -21,6 +22,7 @@ public class GetEmployeeRequest {
     private String zipCode;
     private String payRate;
     private PermissionLevel permissionAccess;
+    private List<String> fields;
 
     public String getEmployeeId() {
         return employeeId;
@@ -149,4 +151,15 @@ public class GetEmployeeRequest {
     public void setPermissionAccess(PermissionLevel permissionAccess) {
         this.permissionAccess = permissionAccess;
     }
+
+    /**
+     * @return the names of the fields to return (e.g. "firstName"), or null to return every field.
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<String> fields) {
+        this.fields = fields;
+    }
 }
@@ -0,0 +1,39 @@
+package org.example.model.requests;
+
+import java.util.List;
+
+public class GetEmployeesBatchRequest {
+    private String employeeId;
+    private String sessionToken;
+    private List<String> employeeIds;
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
+    /**
+     * @return the IDs of the employees to retrieve.
+     */
+    public List<String> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public void setEmployeeIds(List<String> employeeIds) {
+        this.employeeIds = employeeIds;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.model.requests;
+
+public class GetOpenShiftsRequest {
+    private String employeeId;
+    private String sessionToken;
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+}
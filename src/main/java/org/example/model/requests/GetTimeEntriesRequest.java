@@ -1,7 +1,15 @@
 package org.example.model.requests;
 
+import org.example.utils.ModelConverter;
+
+import java.time.LocalDate;
+
 public class GetTimeEntriesRequest {
     private String employeeId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Integer pageSize;
+    private String nextToken;
 
     public String getEmployeeId() {
         return employeeId;
@@ -10,4 +18,51 @@ public class GetTimeEntriesRequest {
     public void setEmployeeId(String employeeId) {
         this.employeeId = employeeId;
     }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(String fromDate) {
+        if (fromDate != null) {
+            this.fromDate = ModelConverter.convertStringToLocalDate(fromDate);
+        }
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(String toDate) {
+        if (toDate != null) {
+            this.toDate = ModelConverter.convertStringToLocalDate(toDate);
+        }
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    @Override
+    public String toString() {
+        return "GetTimeEntriesRequest{" +
+                "\nemployeeId='" + employeeId + '\'' +
+                ", \nfromDate=" + (fromDate != null ? fromDate : "") +
+                ", \ntoDate=" + (toDate != null ? toDate : "") +
+                ", \npageSize=" + pageSize +
+                ", \nnextToken='" + (nextToken != null ? nextToken : "") + '\'' +
+                "\n}";
+    }
 }
@@ -3,6 +3,7 @@ package org.example.model.requests;
 public class LoginRequest {
     private String username;
     private String password;
+    private RequestContext requestContext;
 
     public String getUsername() {
         return username;
@@ -19,4 +20,30 @@ public class LoginRequest {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    /**
+     * @return the API Gateway request context, which the integration maps from {@code $context} next to the body
+     * fields, or null if the integration does not pass it on. Only the mapping template in
+     * {@code API_Documentation/login_integration_request.vtl} fills it in, and it must be deployed on the login
+     * integration for the request context to be trusted.
+     */
+    public RequestContext getRequestContext() {
+        return requestContext;
+    }
+
+    public void setRequestContext(RequestContext requestContext) {
+        this.requestContext = requestContext;
+    }
+
+    /**
+     * @return the address the login came from, taken from {@code requestContext.identity.sourceIp} rather than from
+     * anything the client sends, or null if there is no request context. Used to throttle attempts per source, so
+     * logins are only limited per username when the mapping template is not deployed.
+     */
+    public String getSourceIp() {
+        if (requestContext == null || requestContext.getIdentity() == null) {
+            return null;
+        }
+        return requestContext.getIdentity().getSourceIp();
+    }
 }
@@ -6,6 +6,7 @@ import org.example.utils.ModelConverter;
 import java.time.LocalDate;
 
 public class NewEmployeeRequest {
+    private String sessionToken;
     private String firstName;
     private String lastName;
     private String middleName;
@@ -22,6 +23,17 @@ public class NewEmployeeRequest {
     private String username;
     private String password;
 
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
     public String getFirstName() {
         return firstName;
     }
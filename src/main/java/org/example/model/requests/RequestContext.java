@@ -0,0 +1,33 @@
+package org.example.model.requests;
+
+/**
+ * The part of API Gateway's request context that handlers read. It is filled in by the integration from
+ * {@code $context}, never from the client's JSON body, so it can be trusted where the body cannot.
+ */
+public class RequestContext {
+    private Identity identity;
+
+    public Identity getIdentity() {
+        return identity;
+    }
+
+    public void setIdentity(Identity identity) {
+        this.identity = identity;
+    }
+
+    public static class Identity {
+        private String sourceIp;
+
+        /**
+         * @return the address of the connection API Gateway received the request on,
+         * i.e. {@code $context.identity.sourceIp}.
+         */
+        public String getSourceIp() {
+            return sourceIp;
+        }
+
+        public void setSourceIp(String sourceIp) {
+            this.sourceIp = sourceIp;
+        }
+    }
+}
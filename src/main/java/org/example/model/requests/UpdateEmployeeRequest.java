@@ -10,6 +10,7 @@ import java.time.LocalDate;
  */
 public class UpdateEmployeeRequest {
     private String employeeId;
+    private String sessionToken;
     private String firstName;
     private String lastName;
     private String middleName;
@@ -25,6 +26,7 @@ public class UpdateEmployeeRequest {
     private String zipCode;
     private String payRate;
     private PermissionLevel permissionAccess;
+    private Long version;
 
     public String getEmployeeId() {
         return employeeId;
@@ -34,6 +36,17 @@ public class UpdateEmployeeRequest {
         this.employeeId = employeeId;
     }
 
+    /**
+     * @return the session token issued at login, which carries the caller's permission level.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public void setSessionToken(String sessionToken) {
+        this.sessionToken = sessionToken;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -175,6 +188,17 @@ public class UpdateEmployeeRequest {
         this.permissionAccess = PermissionLevel.valueOf(permissionAccess.toUpperCase());
     }
 
+    /**
+     * @return the version of the employee the changes were made against, or null to skip the version check.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "UpdateEmployeeRequest{" +
@@ -194,6 +218,7 @@ public class UpdateEmployeeRequest {
                 ", \nzipCode='" + (zipCode != null ? zipCode : "") + '\'' +
                 ", \npayRate='" + (payRate != null ? payRate : "") + '\'' +
                 ", \npermissionAccess=" + (permissionAccess != null ? permissionAccess.name() : "") +
+                ", \nversion=" + version +
                 "\n}";
     }
 }
@@ -0,0 +1,86 @@
+package org.example.model.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AdminBulkResetPasswordResult implements Result {
+    private final boolean passwordsReset;
+    private final int resetCount;
+    private final int failedCount;
+    private final List<AdminResetPasswordResult> resetList;
+    private final String error;
+
+    private AdminBulkResetPasswordResult(Builder builder) {
+        this.passwordsReset = builder.passwordsReset;
+        this.resetCount = builder.resetCount;
+        this.failedCount = builder.failedCount;
+        this.resetList = builder.resetList;
+        this.error = builder.error;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private boolean passwordsReset;
+        private int resetCount;
+        private int failedCount;
+        private List<AdminResetPasswordResult> resetList = new ArrayList<>();
+        private String error;
+
+        public Builder() {
+
+        }
+
+        public Builder withPasswordsReset(boolean passwordsReset) {
+            this.passwordsReset = passwordsReset;
+            return this;
+        }
+
+        public Builder withResetCount(int resetCount) {
+            this.resetCount = resetCount;
+            return this;
+        }
+
+        public Builder withFailedCount(int failedCount) {
+            this.failedCount = failedCount;
+            return this;
+        }
+
+        public Builder withResetList(List<AdminResetPasswordResult> resetList) {
+            this.resetList = resetList;
+            return this;
+        }
+
+        public Builder withError(String error) {
+            this.error = error;
+            return this;
+        }
+
+        public AdminBulkResetPasswordResult build() {
+            return new AdminBulkResetPasswordResult(this);
+        }
+
+    }
+
+    public boolean isPasswordsReset() {
+        return passwordsReset;
+    }
+
+    public int getResetCount() {
+        return resetCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public List<AdminResetPasswordResult> getResetList() {
+        return resetList;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
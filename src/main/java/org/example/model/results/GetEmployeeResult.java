@@ -22,6 +22,7 @@ public class GetEmployeeResult implements Result {
     private final String zipCode;
     private final String payRate;
     private final PermissionLevel permissionAccess;
+    private final Long version;
     private final String error;
 
     private GetEmployeeResult(Builder builder) {
@@ -42,6 +43,7 @@ public class GetEmployeeResult implements Result {
         this.zipCode = builder.zipCode;
         this.payRate = builder.payRate;
         this.permissionAccess = builder.permissionAccess;
+        this.version = builder.version;
         this.error = builder.error;
     }
 
@@ -67,6 +69,7 @@ public class GetEmployeeResult implements Result {
         private String zipCode;
         private String payRate;
         private PermissionLevel permissionAccess;
+        private Long version;
         private String error;
 
         public Builder() {
@@ -157,6 +160,11 @@ public class GetEmployeeResult implements Result {
             return this;
         }
 
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Builder withError(String error) {
             this.error = error;
             return this;
@@ -236,6 +244,10 @@ public class GetEmployeeResult implements Result {
         return permissionAccess;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getError() {
         return error;
     }
@@ -0,0 +1,75 @@
+package org.example.model.results;
+
+import org.example.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GetEmployeesBatchResult implements Result {
+    private final boolean employeesRetrieved;
+    private final List<Employee> employeeList;
+    private final List<String> notFoundEmployeeIds;
+    private final String error;
+
+    private GetEmployeesBatchResult(Builder builder) {
+        this.employeesRetrieved = builder.employeesRetrieved;
+        this.employeeList = builder.employeeList;
+        this.notFoundEmployeeIds = builder.notFoundEmployeeIds;
+        this.error = builder.error;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private boolean employeesRetrieved;
+        private List<Employee> employeeList = new ArrayList<>();
+        private List<String> notFoundEmployeeIds = new ArrayList<>();
+        private String error;
+
+        public Builder() {
+
+        }
+
+        public Builder withEmployeesRetrieved(boolean employeesRetrieved) {
+            this.employeesRetrieved = employeesRetrieved;
+            return this;
+        }
+
+        public Builder withEmployeeList(List<Employee> employeeList) {
+            this.employeeList = employeeList;
+            return this;
+        }
+
+        public Builder withNotFoundEmployeeIds(List<String> notFoundEmployeeIds) {
+            this.notFoundEmployeeIds = notFoundEmployeeIds;
+            return this;
+        }
+
+        public Builder withError(String error) {
+            this.error = error;
+            return this;
+        }
+
+        public GetEmployeesBatchResult build() {
+            return new GetEmployeesBatchResult(this);
+        }
+    }
+
+    public boolean isEmployeesRetrieved() {
+        return employeesRetrieved;
+    }
+
+    public List<Employee> getEmployeeList() {
+        return employeeList;
+    }
+
+    public List<String> getNotFoundEmployeeIds() {
+        return notFoundEmployeeIds;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
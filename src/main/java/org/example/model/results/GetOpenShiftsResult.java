@@ -0,0 +1,63 @@
+package org.example.model.results;
+
+import org.example.dynamodb.model.ClockStateModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GetOpenShiftsResult implements Result {
+    private final boolean openShiftsRetrieved;
+    private final List<ClockStateModel> openShiftList;
+    private final String error;
+
+    private GetOpenShiftsResult(Builder builder) {
+        this.openShiftsRetrieved = builder.openShiftsRetrieved;
+        this.openShiftList = builder.openShiftList;
+        this.error = builder.error;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private boolean openShiftsRetrieved;
+        private List<ClockStateModel> openShiftList = new ArrayList<>();
+        private String error;
+
+        public Builder() {
+
+        }
+
+        public Builder withOpenShiftsRetrieved(boolean openShiftsRetrieved) {
+            this.openShiftsRetrieved = openShiftsRetrieved;
+            return this;
+        }
+
+        public Builder withOpenShiftList(List<ClockStateModel> openShiftList) {
+            this.openShiftList = openShiftList;
+            return this;
+        }
+
+        public Builder withError(String error) {
+            this.error = error;
+            return this;
+        }
+
+        public GetOpenShiftsResult build() {
+            return new GetOpenShiftsResult(this);
+        }
+    }
+
+    public boolean isOpenShiftsRetrieved() {
+        return openShiftsRetrieved;
+    }
+
+    public List<ClockStateModel> getOpenShiftList() {
+        return openShiftList;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
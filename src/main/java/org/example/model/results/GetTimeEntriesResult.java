@@ -8,11 +8,13 @@ import java.util.List;
 public class GetTimeEntriesResult implements Result {
     private final boolean timeEntriesRetrieved;
     private final List<TimeEntry> timeEntryList;
+    private final String nextToken;
     private final String error;
 
     private GetTimeEntriesResult(Builder builder) {
         this.timeEntriesRetrieved = builder.timeEntriesRetrieved;
         this.timeEntryList = builder.timeEntryList;
+        this.nextToken = builder.nextToken;
         this.error = builder.error;
     }
 
@@ -23,6 +25,7 @@ public class GetTimeEntriesResult implements Result {
     public static class Builder {
         private boolean timeEntriesRetrieved;
         private List<TimeEntry> timeEntryList = new ArrayList<>();
+        private String nextToken;
         private String error;
 
         public Builder() {
@@ -39,6 +42,11 @@ public class GetTimeEntriesResult implements Result {
             return this;
         }
 
+        public Builder withNextToken(String nextToken) {
+            this.nextToken = nextToken;
+            return this;
+        }
+
         public Builder withError(String error) {
             this.error = error;
             return this;
@@ -58,6 +66,10 @@ public class GetTimeEntriesResult implements Result {
         return timeEntryList;
     }
 
+    public String getNextToken() {
+        return nextToken;
+    }
+
     public String getError() {
         return error;
     }
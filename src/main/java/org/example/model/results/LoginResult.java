@@ -6,6 +6,7 @@ public class LoginResult implements Result {
     private final String employeeId;
     private final boolean accountLocked;
     private final boolean forceChangeAfterLogin;
+    private final String sessionToken;
     private final String error;
 
     public LoginResult(Builder builder) {
@@ -14,6 +15,7 @@ public class LoginResult implements Result {
         this.employeeId = builder.employeeId;
         this.accountLocked = builder.accountLocked;
         this.forceChangeAfterLogin = builder.forceChangeAfterLogin;
+        this.sessionToken = builder.sessionToken;
         this.error = builder.error;
     }
 
@@ -27,6 +29,7 @@ public class LoginResult implements Result {
         private String employeeId;
         private boolean accountLocked;
         private boolean forceChangeAfterLogin;
+        private String sessionToken;
         private String error;
 
         public Builder() {
@@ -58,6 +61,11 @@ public class LoginResult implements Result {
             return this;
         }
 
+        public Builder withSessionToken(String sessionToken) {
+            this.sessionToken = sessionToken;
+            return this;
+        }
+
         public Builder withError(String error) {
             this.error = error;
             return this;
@@ -89,6 +97,13 @@ public class LoginResult implements Result {
         return forceChangeAfterLogin;
     }
 
+    /**
+     * @return the signed token that authorizes the employee's later requests, or null if the login failed.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
     public String getError() {
         return error;
     }
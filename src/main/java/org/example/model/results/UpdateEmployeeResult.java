@@ -27,6 +27,7 @@ public class UpdateEmployeeResult implements Result {
     private final String zipCode;
     private final String payRate;
     private final String permissionAccess;
+    private final Long version;
     private final String error;
 
     private UpdateEmployeeResult(Builder builder) {
@@ -47,6 +48,7 @@ public class UpdateEmployeeResult implements Result {
         this.zipCode = builder.zipCode;
         this.payRate = builder.payRate;
         this.permissionAccess = builder.permissionAccess;
+        this.version = builder.version;
         this.error = builder.error;
     }
 
@@ -72,6 +74,7 @@ public class UpdateEmployeeResult implements Result {
         private String zipCode;
         private String payRate;
         private String permissionAccess;
+        private Long version;
         private String error;
 
         public Builder() {
@@ -162,6 +165,11 @@ public class UpdateEmployeeResult implements Result {
             return this;
         }
 
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Builder withError(String error) {
             this.error = error;
             return this;
@@ -241,6 +249,10 @@ public class UpdateEmployeeResult implements Result {
         return permissionAccess;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getError() {
         return error;
     }
@@ -1,7 +1,6 @@
 package org.example.model.results;
 
 import org.example.dynamodb.model.TimeEntryModel;
-import org.example.model.TimeEntry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,12 +9,14 @@ public class UpdateTimeEntriesResult implements Result {
     private final boolean timeEntriesUpdated;
     private final String employeeId;
     private final List<TimeEntryModel> timeEntryList;
+    private final List<UpdateTimeEntryResult> failedTimeEntryList;
     private final String error;
 
     private UpdateTimeEntriesResult(Builder builder) {
         this.timeEntriesUpdated = builder.timeEntriesUpdated;
         this.employeeId = builder.employeeId;
         this.timeEntryList = builder.timeEntryList;
+        this.failedTimeEntryList = builder.failedTimeEntryList;
         this.error = builder.error;
     }
 
@@ -27,6 +28,7 @@ public class UpdateTimeEntriesResult implements Result {
         private boolean timeEntriesUpdated;
         private String employeeId;
         private List<TimeEntryModel> timeEntryList = new ArrayList<>();
+        private List<UpdateTimeEntryResult> failedTimeEntryList = new ArrayList<>();
         private String error;
 
         public Builder() {
@@ -48,6 +50,11 @@ public class UpdateTimeEntriesResult implements Result {
             return this;
         }
 
+        public Builder withFailedTimeEntryList(List<UpdateTimeEntryResult> failedTimeEntryList) {
+            this.failedTimeEntryList = failedTimeEntryList;
+            return this;
+        }
+
         public Builder withError(String error) {
             this.error = error;
             return this;
@@ -71,6 +78,13 @@ public class UpdateTimeEntriesResult implements Result {
         return timeEntryList;
     }
 
+    /**
+     * @return one result per time entry that could not be saved, each with the entry's ID and the error.
+     */
+    public List<UpdateTimeEntryResult> getFailedTimeEntryList() {
+        return failedTimeEntryList;
+    }
+
     public String getError() {
         return error;
     }
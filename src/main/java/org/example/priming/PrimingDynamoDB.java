@@ -0,0 +1,156 @@
+package org.example.priming;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsResult;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A DynamoDB client that never leaves the process, used to run the handlers before a snapshot is taken.
+ * Reads find nothing and writes succeed without storing anything, so priming has no side effects.
+ * Updates return the item they would create, so the code that reads the new values back is primed as well.
+ * Operations the DAOs do not use throw {@link UnsupportedOperationException}.
+ */
+class PrimingDynamoDB extends AbstractAmazonDynamoDB {
+    private static final Pattern CLAUSE = Pattern.compile("\\b(SET|ADD|REMOVE|DELETE)\\s+");
+    private static final Pattern TERM = Pattern.compile("[+-]|[^\\s+-]+");
+    private static final Pattern IF_NOT_EXISTS = Pattern.compile("if_not_exists\\(\\s*[^,]+,\\s*(:\\w+)\\s*\\)");
+
+    @Override
+    public GetItemResult getItem(GetItemRequest request) {
+        return new GetItemResult();
+    }
+
+    @Override
+    public QueryResult query(QueryRequest request) {
+        return new QueryResult().withItems(Collections.emptyList()).withCount(0).withScannedCount(0);
+    }
+
+    @Override
+    public ScanResult scan(ScanRequest request) {
+        return new ScanResult().withItems(Collections.emptyList()).withCount(0).withScannedCount(0);
+    }
+
+    @Override
+    public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+        return new BatchGetItemResult().withResponses(Collections.emptyMap()).withUnprocessedKeys(Collections.emptyMap());
+    }
+
+    @Override
+    public PutItemResult putItem(PutItemRequest request) {
+        return new PutItemResult();
+    }
+
+    /**
+     * Applies the request's SET and ADD actions to an empty item, as DynamoDB would for an item that does not
+     * exist yet, and returns the key together with the new values.
+     */
+    @Override
+    public UpdateItemResult updateItem(UpdateItemRequest request) {
+        Map<String, AttributeValue> attributes = new HashMap<>(request.getKey());
+        String updateExpression = request.getUpdateExpression();
+        if (updateExpression == null) {
+            return new UpdateItemResult().withAttributes(attributes);
+        }
+
+        Matcher clause = CLAUSE.matcher(updateExpression);
+        List<Integer> clauseStarts = new ArrayList<>();
+        while (clause.find()) {
+            clauseStarts.add(clause.start());
+        }
+        clauseStarts.add(updateExpression.length());
+        for (int i = 0; i < clauseStarts.size() - 1; i++) {
+            String[] keywordAndActions = updateExpression.substring(clauseStarts.get(i), clauseStarts.get(i + 1))
+                    .trim().split("\\s+", 2);
+            if (!"SET".equals(keywordAndActions[0]) && !"ADD".equals(keywordAndActions[0])) {
+                continue;
+            }
+            for (String action : keywordAndActions[1].split(",(?![^(]*\\))")) {
+                String[] pathAndValue = "SET".equals(keywordAndActions[0])
+                        ? action.split("=", 2) : action.trim().split("\\s+", 2);
+                AttributeValue value = evaluate(pathAndValue[1], request.getExpressionAttributeValues());
+                if (value != null) {
+                    attributes.put(attributeName(pathAndValue[0].trim(), request.getExpressionAttributeNames()), value);
+                }
+            }
+        }
+        return new UpdateItemResult().withAttributes(attributes);
+    }
+
+    /**
+     * Evaluates a value, an {@code if_not_exists} on a missing attribute, or a sum or difference of those.
+     *
+     * @return the value, or null if the operand is something else, such as another attribute of the item.
+     */
+    private static AttributeValue evaluate(String operand, Map<String, AttributeValue> values) {
+        Matcher terms = TERM.matcher(IF_NOT_EXISTS.matcher(operand).replaceAll("$1"));
+        AttributeValue result = null;
+        String operator = null;
+        while (terms.find()) {
+            String term = terms.group();
+            if ("+".equals(term) || "-".equals(term)) {
+                operator = term;
+                continue;
+            }
+            AttributeValue value = values == null ? null : values.get(term);
+            if (value == null) {
+                return null;
+            }
+            if (operator == null) {
+                result = value;
+            } else if (result.getN() == null || value.getN() == null) {
+                return null;
+            } else {
+                BigDecimal number = new BigDecimal(value.getN());
+                BigDecimal sum = "-".equals(operator)
+                        ? new BigDecimal(result.getN()).subtract(number) : new BigDecimal(result.getN()).add(number);
+                result = new AttributeValue().withN(sum.toPlainString());
+            }
+        }
+        return result;
+    }
+
+    private static String attributeName(String path, Map<String, String> names) {
+        return names != null && names.containsKey(path) ? names.get(path) : path;
+    }
+
+    @Override
+    public DeleteItemResult deleteItem(DeleteItemRequest request) {
+        return new DeleteItemResult();
+    }
+
+    @Override
+    public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+        return new BatchWriteItemResult().withUnprocessedItems(Collections.emptyMap());
+    }
+
+    @Override
+    public TransactWriteItemsResult transactWriteItems(TransactWriteItemsRequest request) {
+        return new TransactWriteItemsResult();
+    }
+}
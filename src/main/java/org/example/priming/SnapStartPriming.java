@@ -0,0 +1,201 @@
+package org.example.priming;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.example.dependency.AppComponent;
+import org.example.dependency.DaggerAppComponent;
+import org.example.dependency.DaoModule;
+import org.example.dependency.DynamoDBClientSettings;
+import org.example.lambda.*;
+import org.example.model.PermissionLevel;
+import org.example.model.requests.*;
+import org.example.utils.CredentialsUtility;
+import org.example.utils.gson.JsonUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpoint/restore hooks for snapshot-based startup, such as Lambda SnapStart.
+ * Before the checkpoint, every handler is run once against {@link PrimingDynamoDB}, which loads and initializes
+ * the classes a first request needs (the AWS SDK, the mapper models, Gson adapters, log4j and the Argon2
+ * generator) so that they are part of the snapshot. After a restore, the salt generator is reseeded and the
+ * DynamoDB connection is reopened, because both would otherwise be shared with every other restored copy.
+ * Set {@value #PRIME_HANDLERS_VARIABLE} to false to skip running the handlers.
+ */
+public class SnapStartPriming implements Resource {
+    private static final Logger log = LogManager.getLogger(SnapStartPriming.class);
+    static final String PRIME_HANDLERS_VARIABLE = "PRIME_HANDLERS_BEFORE_CHECKPOINT";
+    private static final String PRIMING_EMPLOYEE_ID = "Emp000000";
+    private static final String PRIMING_USERNAME = "priming";
+    private static final String PRIMING_PASSWORD = "Priming-Password-1";
+    private final AppComponent appComponent;
+    private final boolean primeHandlers;
+    private volatile long restoredAtNanos;
+
+    public SnapStartPriming(AppComponent appComponent) {
+        this(appComponent, !"false".equalsIgnoreCase(System.getenv(PRIME_HANDLERS_VARIABLE)));
+    }
+
+    SnapStartPriming(AppComponent appComponent, boolean primeHandlers) {
+        this.appComponent = appComponent;
+        this.primeHandlers = primeHandlers;
+    }
+
+    /**
+     * Creates the hooks for a component and registers them with the global checkpoint context.
+     * The global context may only hold a weak reference to it, so the caller must keep the result reachable.
+     *
+     * @param appComponent the process-wide component.
+     * @return the registered hooks.
+     */
+    public static SnapStartPriming register(AppComponent appComponent) {
+        SnapStartPriming priming = new SnapStartPriming(appComponent);
+        Core.getGlobalContext().register(priming);
+        return priming;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        long start = System.nanoTime();
+        if (primeHandlers) {
+            primeHandlers();
+            CredentialsUtility.hashPassword(PRIMING_PASSWORD, CredentialsUtility.generateSalt());
+        }
+        log.info("Priming before checkpoint finished in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        restoredAtNanos = System.nanoTime();
+        CredentialsUtility.reseed();
+        appComponent.dynamoDBWarmUp().openConnection();
+        log.info("Restore hooks finished in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - restoredAtNanos));
+    }
+
+    public boolean isPrimingHandlers() {
+        return primeHandlers;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the last restore started, or 0 if there has been none.
+     */
+    public long getRestoredAtNanos() {
+        return restoredAtNanos;
+    }
+
+    /**
+     * Runs every handler once with its DAOs swapped for ones backed by {@link PrimingDynamoDB}.
+     * The handlers are created as usual first, so the real component is fully built before the checkpoint.
+     */
+    void primeHandlers() {
+        AppComponent primingComponent = createPrimingComponent();
+        String employeeId = "\"employeeId\":\"" + PRIMING_EMPLOYEE_ID + "\"";
+        String credentials = "\"username\":\"" + PRIMING_USERNAME + "\",\"password\":\"" + PRIMING_PASSWORD + "\"";
+        String adminSessionToken = adminSessionToken(primingComponent);
+
+        LoginHandler loginHandler = new LoginHandler();
+        primingComponent.inject(loginHandler);
+        invoke(loginHandler, LoginRequest.class, "{" + credentials + "}");
+
+        NewEmployeeHandler newEmployeeHandler = new NewEmployeeHandler();
+        primingComponent.inject(newEmployeeHandler);
+        invoke(newEmployeeHandler, NewEmployeeRequest.class, "{\"firstName\":\"Prime\",\"lastName\":\"Employee\"," +
+                "\"email\":\"priming@example.com\",\"department\":\"Priming\",\"hireDate\":\"2020-01-01\"," +
+                "\"phone\":\"+1-555-555-5555\",\"address\":\"1 Main St\",\"city\":\"Denver\",\"state\":\"Colorado\"," +
+                "\"zipCode\":\"80202\",\"payRate\":\"1000/bw\",\"permissionAccess\":\"STANDARD\"," + credentials +
+                "," + adminSessionToken + "}");
+
+        UpdatePasswordHandler updatePasswordHandler = new UpdatePasswordHandler();
+        primingComponent.inject(updatePasswordHandler);
+        invoke(updatePasswordHandler, UpdateCredentialsRequest.class, "{" + employeeId + "," + credentials + "}");
+
+        AdminResetPasswordHandler adminResetPasswordHandler = new AdminResetPasswordHandler();
+        primingComponent.inject(adminResetPasswordHandler);
+        invoke(adminResetPasswordHandler, AdminResetPasswordRequest.class, "{" + employeeId + "," + credentials +
+                "," + adminSessionToken + "}");
+
+        GetEmployeeHandler getEmployeeHandler = new GetEmployeeHandler();
+        primingComponent.inject(getEmployeeHandler);
+        invoke(getEmployeeHandler, GetEmployeeRequest.class, "{" + employeeId + "}");
+
+        GetAllEmployeesHandler getAllEmployeesHandler = new GetAllEmployeesHandler();
+        primingComponent.inject(getAllEmployeesHandler);
+        invoke(getAllEmployeesHandler, GetAllEmployeesRequest.class, "{" + employeeId + "," + adminSessionToken + "}");
+
+        GetEmployeesBatchHandler getEmployeesBatchHandler = new GetEmployeesBatchHandler();
+        primingComponent.inject(getEmployeesBatchHandler);
+        invoke(getEmployeesBatchHandler, GetEmployeesBatchRequest.class, "{" + employeeId +
+                "," + adminSessionToken + ",\"employeeIds\":[\"" + PRIMING_EMPLOYEE_ID + "\"]}");
+
+        UpdateEmployeeHandler updateEmployeeHandler = new UpdateEmployeeHandler();
+        primingComponent.inject(updateEmployeeHandler);
+        invoke(updateEmployeeHandler, UpdateEmployeeRequest.class, "{" + employeeId +
+                "," + adminSessionToken + ",\"phone\":\"+1-555-555-5555\",\"version\":0}");
+
+        NewTimeEntryHandler newTimeEntryHandler = new NewTimeEntryHandler();
+        primingComponent.inject(newTimeEntryHandler);
+        invoke(newTimeEntryHandler, NewTimeEntryRequest.class, "{" + employeeId + "}");
+
+        UpdateTimeEntryHandler updateTimeEntryHandler = new UpdateTimeEntryHandler();
+        primingComponent.inject(updateTimeEntryHandler);
+        invoke(updateTimeEntryHandler, UpdateTimeEntryRequest.class, "{" + employeeId + ",\"entryId\":\"priming\"," +
+                "\"timeIn\":\"2020-01-01T08:00:00\",\"timeOut\":\"2020-01-01T16:00:00\",\"duration\":8.0}");
+
+        UpdateTimeEntriesHandler updateTimeEntriesHandler = new UpdateTimeEntriesHandler();
+        primingComponent.inject(updateTimeEntriesHandler);
+        invoke(updateTimeEntriesHandler, UpdateTimeEntriesRequest.class, "{" + employeeId + ",\"timeEntryList\":[]}");
+
+        GetLastFiveTimeEntriesHandler getLastFiveTimeEntriesHandler = new GetLastFiveTimeEntriesHandler();
+        primingComponent.inject(getLastFiveTimeEntriesHandler);
+        invoke(getLastFiveTimeEntriesHandler, GetLastFiveTimeEntriesRequest.class, "{" + employeeId + "}");
+
+        GetTimeEntriesHandler getTimeEntriesHandler = new GetTimeEntriesHandler();
+        primingComponent.inject(getTimeEntriesHandler);
+        invoke(getTimeEntriesHandler, GetTimeEntriesRequest.class, "{" + employeeId + ",\"fromDate\":\"2020-01-01\"}");
+
+        GetOpenShiftsHandler getOpenShiftsHandler = new GetOpenShiftsHandler();
+        primingComponent.inject(getOpenShiftsHandler);
+        invoke(getOpenShiftsHandler, GetOpenShiftsRequest.class, "{" + employeeId + "," + adminSessionToken + "}");
+    }
+
+    /**
+     * @return a request member carrying an ADMIN session token from the component's own token service, so the
+     * ADMIN-only handlers prime their authorized path rather than only the Unauthorized one.
+     */
+    static String adminSessionToken(AppComponent primingComponent) {
+        String token = primingComponent.sessionTokenService().issue(PRIMING_EMPLOYEE_ID, PermissionLevel.ADMIN);
+        return "\"sessionToken\":\"" + token + "\"";
+    }
+
+    /**
+     * @return a component whose DAOs use {@link PrimingDynamoDB} instead of the real client.
+     */
+    static AppComponent createPrimingComponent() {
+        return DaggerAppComponent.builder()
+                .daoModule(new DaoModule() {
+                    @Override
+                    public AmazonDynamoDB provideAmazonDynamoDB(DynamoDBClientSettings settings) {
+                        return new PrimingDynamoDB();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Deserializes the request the way a real invocation would and runs the handler. Handlers turn DAO errors
+     * into error results themselves, so anything thrown here is only logged; a failed priming call just leaves
+     * that work for the first real request.
+     */
+    private static <T> void invoke(RequestHandler<T, String> handler, Class<T> requestType, String requestJson) {
+        try {
+            handler.handleRequest(JsonUtil.fromJson(requestJson, requestType), null);
+        } catch (Exception e) {
+            log.warn("Priming {} failed.", handler.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package org.example.utils;
+
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.util.Pack;
+
+import java.util.Arrays;
+
+/**
+ * Argon2id (version 1.3, RFC 9106) with working memory that is kept between hashes.
+ * {@link org.bouncycastle.crypto.generators.Argon2BytesGenerator} allocates a new memory matrix every time it is
+ * initialized with a salt, which costs one full matrix of garbage per login. This engine allocates its matrix and
+ * scratch blocks once and reuses them, growing the matrix only if a hash asks for more memory than it has.
+ * <p>
+ * An engine is not thread-safe; {@link CredentialsUtility} hands each caller its own from a pool. Lanes are
+ * computed one after another, which gives the same output as computing them in parallel.
+ */
+final class Argon2Engine {
+    private static final int VERSION = 0x13;
+    private static final int TYPE_ID = 2;
+    private static final int BLOCK_SIZE = 1024;
+    private static final int QWORDS_IN_BLOCK = BLOCK_SIZE / 8;
+    private static final int SYNC_POINTS = 4;
+    private static final int PREHASH_LENGTH = 64;
+    private static final long M32L = 0xFFFFFFFFL;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private long[] memory;
+    private final long[] blockR = new long[QWORDS_IN_BLOCK];
+    private final long[] blockTmp = new long[QWORDS_IN_BLOCK];
+    private final long[] zeroBlock = new long[QWORDS_IN_BLOCK];
+    private final long[] inputBlock = new long[QWORDS_IN_BLOCK];
+    private final long[] addressBlock = new long[QWORDS_IN_BLOCK];
+    private final byte[] blockBytes = new byte[BLOCK_SIZE];
+    private final byte[] prehash = new byte[PREHASH_LENGTH + 8];
+    private final byte[] chain = new byte[PREHASH_LENGTH];
+    private final byte[] intBytes = new byte[4];
+    private final byte[] tag = new byte[PREHASH_LENGTH];
+    private final Blake2bDigest digest = new Blake2bDigest(PREHASH_LENGTH * 8);
+
+    private int usedQwords;
+    private int lanes;
+    private int laneLength;
+    private int segmentLength;
+
+    Argon2Engine(int memoryKB) {
+        this.memory = new long[memoryKB * QWORDS_IN_BLOCK];
+    }
+
+    /**
+     * Hashes a password into {@code out}, which must be between 4 and 64 bytes long.
+     */
+    void hash(byte[] password, byte[] salt, int memoryKB, int iterations, int parallelism, byte[] out) {
+        hash(password, salt, NO_BYTES, NO_BYTES, memoryKB, iterations, parallelism, out);
+    }
+
+    /**
+     * Hashes a password with a secret key and associated data, the optional inputs K and X of the specification.
+     */
+    void hash(byte[] password, byte[] salt, byte[] secret, byte[] additionalData, int memoryKB, int iterations,
+              int parallelism, byte[] out) {
+        hash(password, salt, secret, additionalData, memoryKB, iterations, parallelism, out.length);
+        System.arraycopy(tag, 0, out, 0, out.length);
+    }
+
+    /**
+     * Hashes a password and compares the result to {@code expected} in constant time, without copying the result out.
+     */
+    boolean verify(byte[] password, byte[] salt, int memoryKB, int iterations, int parallelism, byte[] expected) {
+        if (expected.length < 4 || expected.length > PREHASH_LENGTH) {
+            return false;
+        }
+        hash(password, salt, NO_BYTES, NO_BYTES, memoryKB, iterations, parallelism, expected.length);
+        int difference = 0;
+        for (int i = 0; i < expected.length; i++) {
+            difference |= tag[i] ^ expected[i];
+        }
+        return difference == 0;
+    }
+
+    /**
+     * Zeroes every block of the matrix the last hash used and every scratch buffer, so an idle engine holds
+     * nothing derived from a password.
+     */
+    void wipe() {
+        Arrays.fill(memory, 0, usedQwords, 0);
+        usedQwords = 0;
+        Arrays.fill(blockR, 0);
+        Arrays.fill(blockTmp, 0);
+        Arrays.fill(inputBlock, 0);
+        Arrays.fill(addressBlock, 0);
+        Arrays.fill(blockBytes, (byte) 0);
+        Arrays.fill(prehash, (byte) 0);
+        Arrays.fill(chain, (byte) 0);
+        Arrays.fill(tag, (byte) 0);
+        digest.reset();
+    }
+
+    /**
+     * @return the number of bytes of working memory this engine holds.
+     */
+    long getMemoryBytes() {
+        return memory.length * 8L;
+    }
+
+    private void hash(byte[] password, byte[] salt, byte[] secret, byte[] additionalData, int memoryKB,
+                      int iterations, int parallelism, int tagLength) {
+        if (parallelism < 1 || iterations < 1 || memoryKB < 8 * parallelism) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid Argon2 parameters: memory %d KB, %d iterations, parallelism %d.",
+                    memoryKB, iterations, parallelism));
+        }
+        lanes = parallelism;
+        segmentLength = memoryKB / (SYNC_POINTS * lanes);
+        laneLength = segmentLength * SYNC_POINTS;
+        int memoryBlocks = laneLength * lanes;
+        if (memory.length < memoryBlocks * QWORDS_IN_BLOCK) {
+            memory = new long[memoryBlocks * QWORDS_IN_BLOCK];
+        }
+        usedQwords = Math.max(usedQwords, memoryBlocks * QWORDS_IN_BLOCK);
+
+        initialHash(password, salt, secret, additionalData, memoryKB, iterations, tagLength);
+        fillFirstBlocks();
+        for (int pass = 0; pass < iterations; pass++) {
+            for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    fillSegment(pass, lane, slice, memoryBlocks, iterations);
+                }
+            }
+        }
+        finish(tagLength);
+    }
+
+    private void initialHash(byte[] password, byte[] salt, byte[] secret, byte[] additionalData, int memoryKB,
+                             int iterations, int tagLength) {
+        updateInt(lanes);
+        updateInt(tagLength);
+        updateInt(memoryKB);
+        updateInt(iterations);
+        updateInt(VERSION);
+        updateInt(TYPE_ID);
+        updateInt(password.length);
+        digest.update(password, 0, password.length);
+        updateInt(salt.length);
+        digest.update(salt, 0, salt.length);
+        updateInt(secret.length);
+        digest.update(secret, 0, secret.length);
+        updateInt(additionalData.length);
+        digest.update(additionalData, 0, additionalData.length);
+        digest.doFinal(prehash, 0);
+    }
+
+    private void fillFirstBlocks() {
+        for (int lane = 0; lane < lanes; lane++) {
+            Pack.intToLittleEndian(lane, prehash, PREHASH_LENGTH + 4);
+            for (int column = 0; column < 2; column++) {
+                Pack.intToLittleEndian(column, prehash, PREHASH_LENGTH);
+                variableLengthHash(prehash, prehash.length, blockBytes, BLOCK_SIZE);
+                Pack.littleEndianToLong(blockBytes, 0, memory, (lane * laneLength + column) * QWORDS_IN_BLOCK,
+                        QWORDS_IN_BLOCK);
+            }
+        }
+    }
+
+    private void fillSegment(int pass, int lane, int slice, int memoryBlocks, int iterations) {
+        boolean dataIndependent = pass == 0 && slice < SYNC_POINTS / 2;
+        int startingIndex = pass == 0 && slice == 0 ? 2 : 0;
+        if (dataIndependent) {
+            Arrays.fill(inputBlock, 0);
+            inputBlock[0] = pass;
+            inputBlock[1] = lane;
+            inputBlock[2] = slice;
+            inputBlock[3] = memoryBlocks;
+            inputBlock[4] = iterations;
+            inputBlock[5] = TYPE_ID;
+            if (startingIndex == 2) {
+                nextAddresses();
+            }
+        }
+
+        int currentOffset = lane * laneLength + slice * segmentLength + startingIndex;
+        int previousOffset = currentOffset % laneLength == 0 ? currentOffset + laneLength - 1 : currentOffset - 1;
+
+        for (int index = startingIndex; index < segmentLength; index++, currentOffset++, previousOffset++) {
+            if (currentOffset % laneLength == 1) {
+                previousOffset = currentOffset - 1;
+            }
+
+            long pseudoRandom;
+            if (dataIndependent) {
+                if (index % QWORDS_IN_BLOCK == 0) {
+                    nextAddresses();
+                }
+                pseudoRandom = addressBlock[index % QWORDS_IN_BLOCK];
+            } else {
+                pseudoRandom = memory[previousOffset * QWORDS_IN_BLOCK];
+            }
+
+            int referenceLane = pass == 0 && slice == 0 ? lane : (int) ((pseudoRandom >>> 32) % lanes);
+            int referenceIndex = referenceIndex(pass, slice, index, pseudoRandom & M32L, referenceLane == lane);
+            fillBlock(memory, previousOffset * QWORDS_IN_BLOCK,
+                    memory, (laneLength * referenceLane + referenceIndex) * QWORDS_IN_BLOCK,
+                    memory, currentOffset * QWORDS_IN_BLOCK, pass != 0);
+        }
+    }
+
+    private int referenceIndex(int pass, int slice, int index, long pseudoRandom, boolean sameLane) {
+        long referenceAreaSize;
+        if (pass == 0) {
+            if (slice == 0) {
+                referenceAreaSize = index - 1;
+            } else if (sameLane) {
+                referenceAreaSize = (long) slice * segmentLength + index - 1;
+            } else {
+                referenceAreaSize = (long) slice * segmentLength + (index == 0 ? -1 : 0);
+            }
+        } else if (sameLane) {
+            referenceAreaSize = laneLength - segmentLength + index - 1;
+        } else {
+            referenceAreaSize = laneLength - segmentLength + (index == 0 ? -1 : 0);
+        }
+
+        long relativePosition = (pseudoRandom * pseudoRandom) >>> 32;
+        relativePosition = referenceAreaSize - 1 - ((referenceAreaSize * relativePosition) >>> 32);
+        long startPosition = pass != 0 && slice != SYNC_POINTS - 1 ? (long) (slice + 1) * segmentLength : 0;
+        return (int) ((startPosition + relativePosition) % laneLength);
+    }
+
+    private void nextAddresses() {
+        inputBlock[6]++;
+        fillBlock(zeroBlock, 0, inputBlock, 0, addressBlock, 0, false);
+        fillBlock(zeroBlock, 0, addressBlock, 0, addressBlock, 0, false);
+    }
+
+    private void finish(int tagLength) {
+        int lastColumn = (laneLength - 1) * QWORDS_IN_BLOCK;
+        System.arraycopy(memory, lastColumn, blockR, 0, QWORDS_IN_BLOCK);
+        for (int lane = 1; lane < lanes; lane++) {
+            int offset = lane * laneLength * QWORDS_IN_BLOCK + lastColumn;
+            for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+                blockR[i] ^= memory[offset + i];
+            }
+        }
+        Pack.longToLittleEndian(blockR, blockBytes, 0);
+        variableLengthHash(blockBytes, BLOCK_SIZE, tag, tagLength);
+    }
+
+    /**
+     * The variable-length hash function H' from the specification.
+     */
+    private void variableLengthHash(byte[] input, int inputLength, byte[] out, int outLength) {
+        Pack.intToLittleEndian(outLength, intBytes, 0);
+        if (outLength <= PREHASH_LENGTH) {
+            Blake2bDigest shortDigest = outLength == PREHASH_LENGTH ? digest : new Blake2bDigest(outLength * 8);
+            shortDigest.update(intBytes, 0, intBytes.length);
+            shortDigest.update(input, 0, inputLength);
+            shortDigest.doFinal(out, 0);
+            return;
+        }
+
+        digest.update(intBytes, 0, intBytes.length);
+        digest.update(input, 0, inputLength);
+        digest.doFinal(chain, 0);
+        System.arraycopy(chain, 0, out, 0, PREHASH_LENGTH / 2);
+        int position = PREHASH_LENGTH / 2;
+        int remaining = outLength - PREHASH_LENGTH / 2;
+        while (remaining > PREHASH_LENGTH) {
+            digest.update(chain, 0, PREHASH_LENGTH);
+            digest.doFinal(chain, 0);
+            System.arraycopy(chain, 0, out, position, PREHASH_LENGTH / 2);
+            position += PREHASH_LENGTH / 2;
+            remaining -= PREHASH_LENGTH / 2;
+        }
+        Blake2bDigest lastDigest = remaining == PREHASH_LENGTH ? digest : new Blake2bDigest(remaining * 8);
+        lastDigest.update(chain, 0, PREHASH_LENGTH);
+        lastDigest.doFinal(out, position);
+    }
+
+    private void updateInt(int value) {
+        Pack.intToLittleEndian(value, intBytes, 0);
+        digest.update(intBytes, 0, intBytes.length);
+    }
+
+    /**
+     * The compression function G. Writes G(previous, reference) to the next block, or XORs it into the next block's
+     * current contents when {@code withXor} is set.
+     */
+    private void fillBlock(long[] previous, int previousOffset, long[] reference, int referenceOffset,
+                           long[] next, int nextOffset, boolean withXor) {
+        for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+            blockR[i] = previous[previousOffset + i] ^ reference[referenceOffset + i];
+        }
+        if (withXor) {
+            for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+                blockTmp[i] = blockR[i] ^ next[nextOffset + i];
+            }
+        } else {
+            System.arraycopy(blockR, 0, blockTmp, 0, QWORDS_IN_BLOCK);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            int row = 16 * i;
+            round(blockR, row, row + 1, row + 2, row + 3, row + 4, row + 5, row + 6, row + 7,
+                    row + 8, row + 9, row + 10, row + 11, row + 12, row + 13, row + 14, row + 15);
+        }
+        for (int i = 0; i < 8; i++) {
+            int column = 2 * i;
+            round(blockR, column, column + 1, column + 16, column + 17, column + 32, column + 33, column + 48,
+                    column + 49, column + 64, column + 65, column + 80, column + 81, column + 96, column + 97,
+                    column + 112, column + 113);
+        }
+
+        for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+            next[nextOffset + i] = blockTmp[i] ^ blockR[i];
+        }
+    }
+
+    private static void round(long[] v, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7,
+                              int v8, int v9, int v10, int v11, int v12, int v13, int v14, int v15) {
+        mix(v, v0, v4, v8, v12);
+        mix(v, v1, v5, v9, v13);
+        mix(v, v2, v6, v10, v14);
+        mix(v, v3, v7, v11, v15);
+        mix(v, v0, v5, v10, v15);
+        mix(v, v1, v6, v11, v12);
+        mix(v, v2, v7, v8, v13);
+        mix(v, v3, v4, v9, v14);
+    }
+
+    private static void mix(long[] v, int a, int b, int c, int d) {
+        v[a] = blaMka(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 32);
+        v[c] = blaMka(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 24);
+        v[a] = blaMka(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 16);
+        v[c] = blaMka(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 63);
+    }
+
+    private static long blaMka(long x, long y) {
+        return x + y + 2 * (x & M32L) * (y & M32L);
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHasher;
+import org.example.model.requests.AdminResetPasswordRequest;
+import org.example.model.results.AdminResetPasswordResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resets the passwords of many employees at once, e.g. after an incident.
+ * <p>
+ * The credentials are read with batched gets. The new passwords are then hashed on a fork-join pool with one worker
+ * per {@link PasswordHashingService#getPermits() hashing permit}, so the bulk reset uses every hash the Argon2
+ * memory budget allows without queueing work that could only wait for a permit. Each reset is stored as soon as its
+ * password is hashed, while the remaining passwords are still being hashed, with a conditional update that writes
+ * only the fields the reset changes. A password changed since the credentials were read is not overwritten.
+ * <p>
+ * Each employee's result is reported as soon as it is known, so callers can follow the progress of a large reset.
+ * A failure only fails the employees it affects, never the whole reset.
+ */
+public class BulkPasswordReset {
+    private static final Logger log = LogManager.getLogger(BulkPasswordReset.class);
+    private final EmployeeCredentialsDao credentialsDao;
+    private final int parallelism;
+
+    /**
+     * @param credentialsDao reads and saves the credentials.
+     * @param passwordHashingService sizes the hashing pool.
+     */
+    public BulkPasswordReset(EmployeeCredentialsDao credentialsDao, PasswordHashingService passwordHashingService) {
+        this.credentialsDao = credentialsDao;
+        this.parallelism = passwordHashingService.getPermits();
+    }
+
+    /**
+     * @return the number of passwords hashed at the same time.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Resets the password of each requested employee like {@link EmployeeCredentials#adminResetPassword(String)}.
+     * A request fails if its username does not exist or was already requested, if its password cannot be hashed
+     * or saved, or if its password changed after it was read.
+     *
+     * @param requests the employees to reset, each with its temporary password.
+     * @param passwordHasher computes the new hashes. It may be called from several threads at once.
+     * @param progress receives each employee's result as soon as it is known. It may be called from several
+     *                 threads, but never concurrently for the same employee.
+     * @return the result of each request, in request order.
+     */
+    public List<AdminResetPasswordResult> resetAll(List<AdminResetPasswordRequest> requests,
+                                                   PasswordHasher passwordHasher,
+                                                   Consumer<AdminResetPasswordResult> progress) {
+        Reset reset = new Reset(requests, progress);
+
+        Map<String, EmployeeCredentials> credentialsByUsername = new HashMap<>();
+        for (EmployeeCredentials credentials : credentialsDao.getEmployeeCredentialsList(
+                requests.stream().map(AdminResetPasswordRequest::getUsername).collect(Collectors.toList()))) {
+            credentialsByUsername.put(credentials.getUsername(), credentials);
+        }
+
+        List<Integer> toHash = new ArrayList<>();
+        Set<String> requestedUsernames = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String username = requests.get(i).getUsername();
+            if (!requestedUsernames.add(username)) {
+                reset.fail(i, String.format("Username \"%s\" was requested more than once.", username));
+            } else if (!credentialsByUsername.containsKey(username)) {
+                reset.fail(i, String.format("Username \"%s\" not found!", username));
+            } else {
+                toHash.add(i);
+            }
+        }
+
+        ForkJoinPool hashingPool = new ForkJoinPool(parallelism);
+        try {
+            hashingPool.submit(() -> toHash.parallelStream().forEach(i -> {
+                AdminResetPasswordRequest request = requests.get(i);
+                EmployeeCredentials credentials = credentialsByUsername.get(request.getUsername());
+                String previousPassword = credentials.getPassword();
+                try {
+                    credentials.adminResetPassword(request.getPassword(), passwordHasher);
+                } catch (Exception e) {
+                    log.warn("Could not hash the new password of \"{}\". ", request.getUsername(), e);
+                    reset.fail(i, e.getMessage());
+                    return;
+                }
+                reset.save(i, credentials, previousPassword);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Hashing passwords failed unexpectedly.", e.getCause());
+        } finally {
+            hashingPool.shutdown();
+        }
+
+        return Arrays.asList(reset.results);
+    }
+
+    /**
+     * The state of one {@link #resetAll} call.
+     */
+    private class Reset {
+        private final List<AdminResetPasswordRequest> requests;
+        private final Consumer<AdminResetPasswordResult> progress;
+        private final AdminResetPasswordResult[] results;
+
+        private Reset(List<AdminResetPasswordRequest> requests, Consumer<AdminResetPasswordResult> progress) {
+            this.requests = requests;
+            this.progress = progress;
+            this.results = new AdminResetPasswordResult[requests.size()];
+        }
+
+        private void save(int index, EmployeeCredentials credentials, String previousPassword) {
+            try {
+                if (!credentialsDao.resetPassword(credentials, previousPassword)) {
+                    fail(index, String.format("The password of username \"%s\" changed during the reset. "
+                            + "Please try again.", credentials.getUsername()));
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("Could not save the reset credentials of \"{}\". ", credentials.getUsername(), e);
+                fail(index, e.getMessage());
+                return;
+            }
+
+            report(index, AdminResetPasswordResult.builder()
+                    .withEmployeeCredentialsReset(true)
+                    .withEmployeeId(credentials.getEmployeeId())
+                    .withUsername(credentials.getUsername())
+                    .withLastUpdated(credentials.getLastUpdated().toString())
+                    .withAccountLocked(credentials.isAccountLocked())
+                    .withForceChangeAfterLogin(credentials.isForceChangeAfterLogin())
+                    .build());
+        }
+
+        private void fail(int index, String error) {
+            AdminResetPasswordRequest request = requests.get(index);
+            report(index, AdminResetPasswordResult.builder()
+                    .withEmployeeCredentialsReset(false)
+                    .withEmployeeId(request.getEmployeeId())
+                    .withUsername(request.getUsername())
+                    .withError(error)
+                    .build());
+        }
+
+        private void report(int index, AdminResetPasswordResult result) {
+            synchronized (this) {
+                results[index] = result;
+            }
+            progress.accept(result);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package org.example.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
-import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.example.model.PasswordHashParameters;
 
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for generating and verifying password hashes using the Argon2 algorithm.
@@ -15,6 +17,27 @@ public class CredentialsUtility {
     private static final Logger log = LogManager.getLogger(CredentialsUtility.class);
     private static final int SALT_LENGTH = 16;
     private static final int HASH_LENGTH = 32;
+    private static final int SEED_LENGTH = 32;
+    /**
+     * The size of the Argon2 memory matrix of a hash with the {@link PasswordHashParameters#DEFAULT default
+     * parameters}.
+     */
+    public static final int ARGON2_MEMORY_KB = 65536;
+    public static final int ARGON2_ITERATIONS = 3;
+    public static final int ARGON2_PARALLELISM = 1;
+    /**
+     * Idle engines are kept up to the number of hashes {@link PasswordHashingService} lets run at once, since more
+     * are never in use together. Each holds a full memory matrix, so until the service sets it only one is kept.
+     */
+    private static volatile int maxIdleEngines = 1;
+    /**
+     * Hashing with larger parameters than an engine was built for grows its matrix, and a pooled engine never
+     * shrinks, so engines that grew past this are dropped instead of kept.
+     */
+    private static volatile long maxIdleEngineMemoryBytes = ARGON2_MEMORY_KB * 1024L;
+    private static final Deque<Argon2Engine> idleEngines = new ConcurrentLinkedDeque<>();
+    private static final AtomicInteger idleEngineCount = new AtomicInteger();
+    private static volatile SecureRandom random = new SecureRandom();
 
     /**
      * Generates a random salt using a secure random number generator.
@@ -22,40 +45,63 @@ public class CredentialsUtility {
      * @return A base64-encoded string representing the generated salt.
      */
     public static String generateSalt() {
-        SecureRandom random = new SecureRandom();
         byte[] salt = new byte[SALT_LENGTH];
         random.nextBytes(salt);
         return Base64.getEncoder().encodeToString(salt);
     }
 
     /**
-     * Hashes a password using the Argon2 algorithm with the provided salt.
+     * Replaces the random number generator with a freshly seeded one.
+     * A process restored from a snapshot starts with the generator state that was captured in the snapshot, so
+     * every restored copy would produce the same salts until this is called.
+     */
+    public static void reseed() {
+        SecureRandom reseeded = new SecureRandom();
+        reseeded.setSeed(reseeded.generateSeed(SEED_LENGTH));
+        random = reseeded;
+        log.info("Reseeded the salt generator.");
+    }
+
+    /**
+     * Hashes a password using the Argon2 algorithm with the provided salt and the
+     * {@link PasswordHashParameters#DEFAULT default parameters}.
      *
      * @param password The password to hash.
      * @param salt     The salt to use in the hashing process.
      * @return A base64-encoded string representing the hashed password.
      */
     public static String hashPassword(String password, String salt) {
+        return hashPassword(password, salt, PasswordHashParameters.DEFAULT);
+    }
+
+    /**
+     * Hashes a password using the Argon2 algorithm with the provided salt and parameters.
+     * The Argon2 memory matrix is borrowed from a pool and reused, so a hash allocates almost nothing.
+     *
+     * @param password   The password to hash.
+     * @param salt       The salt to use in the hashing process.
+     * @param parameters The Argon2 cost parameters.
+     * @return A base64-encoded string representing the hashed password.
+     */
+    public static String hashPassword(String password, String salt, PasswordHashParameters parameters) {
         byte[] saltBytes = Base64.getDecoder().decode(salt);
         byte[] passwordBytes = password.getBytes();
         byte[] hash = new byte[HASH_LENGTH];
 
-        Argon2Parameters params = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
-                .withSalt(saltBytes)
-                .withParallelism(1)
-                .withMemoryAsKB(65536)
-                .withIterations(3)
-                .build();
-
-        Argon2BytesGenerator generator = new Argon2BytesGenerator();
-        generator.init(params);
-        generator.generateBytes(passwordBytes, hash);
+        Argon2Engine engine = borrowEngine();
+        try {
+            engine.hash(passwordBytes, saltBytes, parameters.getMemoryKB(), parameters.getIterations(),
+                    parameters.getParallelism(), hash);
+        } finally {
+            returnEngine(engine);
+        }
 
         return Base64.getEncoder().encodeToString(hash);
     }
 
     /**
-     * Verifies a password by comparing it to a previously computed hash.
+     * Verifies a password by comparing it to a hash previously computed with the
+     * {@link PasswordHashParameters#DEFAULT default parameters}.
      *
      * @param password The password to verify.
      * @param salt     The salt used in the original hashing process.
@@ -63,8 +109,90 @@ public class CredentialsUtility {
      * @return {@code true} if the password matches the hash, {@code false} otherwise.
      */
     public static boolean verifyPassword(String password, String salt, String hash) {
-        String computedHash = hashPassword(password, salt);
-        return computedHash.equals(hash);
+        return verifyPassword(password, salt, hash, PasswordHashParameters.DEFAULT);
+    }
+
+    /**
+     * Verifies a password by comparing it to a previously computed hash.
+     * The computed hash is compared to the decoded stored hash in constant time, so the time taken does not reveal
+     * how many leading bytes matched.
+     *
+     * @param password   The password to verify.
+     * @param salt       The salt used in the original hashing process.
+     * @param hash       The previously computed hash to compare against.
+     * @param parameters The Argon2 cost parameters the hash was computed with.
+     * @return {@code true} if the password matches the hash, {@code false} otherwise.
+     */
+    public static boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+        if (hash == null) {
+            return false;
+        }
+        byte[] saltBytes = Base64.getDecoder().decode(salt);
+        byte[] expectedHash;
+        try {
+            expectedHash = Base64.getDecoder().decode(hash);
+        } catch (IllegalArgumentException e) {
+            log.warn("Stored password hash is not valid Base64.");
+            return false;
+        }
+        if (expectedHash.length != HASH_LENGTH) {
+            return false;
+        }
+
+        Argon2Engine engine = borrowEngine();
+        try {
+            return engine.verify(password.getBytes(), saltBytes, parameters.getMemoryKB(), parameters.getIterations(),
+                    parameters.getParallelism(), expectedHash);
+        } finally {
+            returnEngine(engine);
+        }
+    }
+
+    /**
+     * Sets how many idle engines the pool keeps and how large they may be, and drops any idle engines beyond that.
+     *
+     * @param maxIdle the number of hashes that may run at once.
+     * @param maxEngineMemoryBytes the memory of the largest parameters new hashes are made with; engines that grew
+     *                             past it, or past the default parameters if those are larger, are not kept.
+     */
+    static void setMaxIdleEngines(int maxIdle, long maxEngineMemoryBytes) {
+        maxIdleEngines = maxIdle;
+        maxIdleEngineMemoryBytes = Math.max(maxEngineMemoryBytes, ARGON2_MEMORY_KB * 1024L);
+        while (idleEngineCount.get() > maxIdle && idleEngines.pollLast() != null) {
+            idleEngineCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of engines currently waiting in the pool.
+     */
+    static int getIdleEngineCount() {
+        return idleEngineCount.get();
+    }
+
+    private static Argon2Engine borrowEngine() {
+        Argon2Engine engine = idleEngines.pollFirst();
+        if (engine == null) {
+            return new Argon2Engine(ARGON2_MEMORY_KB);
+        }
+        idleEngineCount.decrementAndGet();
+        return engine;
+    }
+
+    /**
+     * Wipes the engine, so neither the pool nor the garbage collector keeps password-derived memory around, and
+     * keeps it if the pool has room and a stored hash with larger parameters did not grow it.
+     */
+    private static void returnEngine(Argon2Engine engine) {
+        engine.wipe();
+        if (engine.getMemoryBytes() > maxIdleEngineMemoryBytes) {
+            return;
+        }
+        if (idleEngineCount.incrementAndGet() <= maxIdleEngines) {
+            idleEngines.offerFirst(engine);
+        } else {
+            idleEngineCount.decrementAndGet();
+        }
     }
 
 }
@@ -0,0 +1,255 @@
+package org.example.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.dynamodb.LoginThrottleDao;
+import org.example.model.RateLimit;
+import org.example.model.TokenBucket;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits login attempts per username, and per request source when one is known, before any credentials are read
+ * or hashed. Each limit is a token bucket kept in two tiers:
+ * <ul>
+ *     <li>An in-memory tier in the warm container answers most denials without any I/O. It also remembers denials
+ *     from the persisted tier until the next token is due, so a burst against one key only reads the table once.</li>
+ *     <li>A persisted tier, the {@link LoginThrottleDao}, makes the limit hold across instances. It is only
+ *     consulted for attempts the in-memory tier allows, and only once the in-memory bucket is down to half its
+ *     capacity. The attempts allowed before that are charged to the persisted bucket when it is next consulted, so
+ *     an ordinary login makes no throttle calls at all. The cost is that each instance may allow up to half a burst
+ *     of a key before it sees the attempts of other instances. If the persisted tier fails, the attempt is allowed
+ *     and the in-memory tier is the only limit, as a throttle outage should not lock everyone out.</li>
+ * </ul>
+ * The source is checked first, so a throttled source does not use up the tokens of the usernames it tries.
+ * <p>
+ * The limits are configured from environment variables:
+ * <ul>
+ *     <li>{@code LOGIN_THROTTLE_USERNAME_CAPACITY} and {@code LOGIN_THROTTLE_USERNAME_REFILL_SECONDS} set the burst
+ *     of attempts per username and how long it takes to earn back one attempt.</li>
+ *     <li>{@code LOGIN_THROTTLE_SOURCE_CAPACITY} and {@code LOGIN_THROTTLE_SOURCE_REFILL_SECONDS} do the same per
+ *     source. Sources are often shared, e.g. by an office behind one address, so the default is more generous.</li>
+ *     <li>{@code LOGIN_THROTTLE_CACHE_SIZE} bounds the number of buckets of each kind kept in memory.</li>
+ * </ul>
+ */
+public class LoginThrottle {
+    private static final Logger log = LogManager.getLogger(LoginThrottle.class);
+    public static final String USERNAME_CAPACITY_ENV = "LOGIN_THROTTLE_USERNAME_CAPACITY";
+    public static final String USERNAME_REFILL_SECONDS_ENV = "LOGIN_THROTTLE_USERNAME_REFILL_SECONDS";
+    public static final String SOURCE_CAPACITY_ENV = "LOGIN_THROTTLE_SOURCE_CAPACITY";
+    public static final String SOURCE_REFILL_SECONDS_ENV = "LOGIN_THROTTLE_SOURCE_REFILL_SECONDS";
+    public static final String CACHE_SIZE_ENV = "LOGIN_THROTTLE_CACHE_SIZE";
+    public static final RateLimit DEFAULT_USERNAME_LIMIT = new RateLimit(5, TimeUnit.SECONDS.toMillis(60));
+    public static final RateLimit DEFAULT_SOURCE_LIMIT = new RateLimit(50, TimeUnit.SECONDS.toMillis(6));
+    public static final long DEFAULT_CACHE_SIZE = 10_000;
+    static final String USERNAME_KEY_PREFIX = "username#";
+    static final String SOURCE_KEY_PREFIX = "source#";
+    private final Limiter usernameLimiter;
+    private final Limiter sourceLimiter;
+    private final Clock clock;
+
+    /**
+     * @param loginThrottleDao the persisted tier.
+     * @param usernameLimit the limit per username.
+     * @param sourceLimit the limit per request source.
+     * @param cacheSize the most buckets of each kind kept in memory.
+     */
+    public LoginThrottle(LoginThrottleDao loginThrottleDao, RateLimit usernameLimit, RateLimit sourceLimit,
+                         long cacheSize) {
+        this(loginThrottleDao, usernameLimit, sourceLimit, cacheSize, Clock.systemUTC());
+    }
+
+    LoginThrottle(LoginThrottleDao loginThrottleDao, RateLimit usernameLimit, RateLimit sourceLimit, long cacheSize,
+                  Clock clock) {
+        this.usernameLimiter = new Limiter(USERNAME_KEY_PREFIX, usernameLimit, cacheSize, loginThrottleDao);
+        this.sourceLimiter = new Limiter(SOURCE_KEY_PREFIX, sourceLimit, cacheSize, loginThrottleDao);
+        this.clock = clock;
+    }
+
+    /**
+     * @param loginThrottleDao the persisted tier.
+     * @return a throttle configured from the current process environment.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static LoginThrottle fromEnvironment(LoginThrottleDao loginThrottleDao) {
+        return fromEnvironment(System.getenv(), loginThrottleDao);
+    }
+
+    /**
+     * @param environment the environment variables to read.
+     * @param loginThrottleDao the persisted tier.
+     * @return a throttle configured from the given variables.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static LoginThrottle fromEnvironment(Map<String, String> environment, LoginThrottleDao loginThrottleDao) {
+        RateLimit usernameLimit = readLimit(environment, USERNAME_CAPACITY_ENV, USERNAME_REFILL_SECONDS_ENV,
+                DEFAULT_USERNAME_LIMIT);
+        RateLimit sourceLimit = readLimit(environment, SOURCE_CAPACITY_ENV, SOURCE_REFILL_SECONDS_ENV,
+                DEFAULT_SOURCE_LIMIT);
+        long cacheSize = readLong(environment, CACHE_SIZE_ENV, DEFAULT_CACHE_SIZE);
+
+        log.info("Login attempts are limited to {} per username and {} per source.", usernameLimit, sourceLimit);
+        return new LoginThrottle(loginThrottleDao, usernameLimit, sourceLimit, cacheSize);
+    }
+
+    /**
+     * Takes one attempt from the source's bucket, if a source is given, and then from the username's.
+     *
+     * @param username the formatted username the attempt is for.
+     * @param source the address the attempt came from, or null if it is not known.
+     * @return 0 if the attempt may go ahead, or else how many milliseconds until it may be retried.
+     */
+    public long tryAcquire(String username, String source) {
+        long nowMillis = clock.millis();
+        if (source != null && !source.isBlank()) {
+            long sourceWaitMillis = sourceLimiter.tryAcquire(source.trim(), nowMillis);
+            if (sourceWaitMillis > 0) {
+                return sourceWaitMillis;
+            }
+        }
+        return usernameLimiter.tryAcquire(username, nowMillis);
+    }
+
+    public RateLimit getUsernameLimit() {
+        return usernameLimiter.rateLimit;
+    }
+
+    public RateLimit getSourceLimit() {
+        return sourceLimiter.rateLimit;
+    }
+
+    private static RateLimit readLimit(Map<String, String> environment, String capacityName, String refillName,
+                                       RateLimit defaultLimit) {
+        long capacity = readLong(environment, capacityName, defaultLimit.getCapacity());
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("%s must be at most %d, but was \"%d\".",
+                    capacityName, Integer.MAX_VALUE, capacity));
+        }
+        long refillSeconds = readLong(environment, refillName,
+                TimeUnit.MILLISECONDS.toSeconds(defaultLimit.getRefillMillis()));
+        return new RateLimit((int) capacity, TimeUnit.SECONDS.toMillis(refillSeconds));
+    }
+
+    private static long readLong(Map<String, String> environment, String name, long defaultValue) {
+        String value = environment.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a whole number of at least %d, but was \"%s\".",
+                name, 1, value));
+    }
+
+    /**
+     * The two tiers of one kind of key.
+     */
+    private static class Limiter {
+        private final String keyPrefix;
+        private final RateLimit rateLimit;
+        private final Cache<String, LocalBucket> localBuckets;
+        private final LoginThrottleDao loginThrottleDao;
+
+        private Limiter(String keyPrefix, RateLimit rateLimit, long cacheSize, LoginThrottleDao loginThrottleDao) {
+            this.keyPrefix = keyPrefix;
+            this.rateLimit = rateLimit;
+            // A bucket that has not been used for this long is full again, so dropping it loses nothing.
+            this.localBuckets = CacheBuilder.newBuilder()
+                    .maximumSize(cacheSize)
+                    .expireAfterAccess(Duration.ofMillis(rateLimit.getCapacity() * rateLimit.getRefillMillis()))
+                    .build();
+            this.loginThrottleDao = loginThrottleDao;
+        }
+
+        private long tryAcquire(String key, long nowMillis) {
+            String throttleKey = keyPrefix + key;
+            LocalBucket localBucket;
+            try {
+                localBucket = localBuckets.get(throttleKey,
+                        () -> new LocalBucket(TokenBucket.full(rateLimit, nowMillis)));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+
+            long localWaitMillis = localBucket.tryAcquire(rateLimit, nowMillis);
+            if (localWaitMillis > 0) {
+                return localWaitMillis;
+            }
+            int tokens = localBucket.tokensToCharge(rateLimit);
+            if (tokens == 0) {
+                return 0;
+            }
+
+            long persistedWaitMillis;
+            try {
+                persistedWaitMillis = loginThrottleDao.tryAcquire(throttleKey, rateLimit, nowMillis, tokens);
+            } catch (Exception e) {
+                log.warn("Could not check the persisted login throttle for \"{}\". Only the in-memory limit applies. ",
+                        throttleKey, e);
+                return 0;
+            }
+            if (persistedWaitMillis > 0) {
+                localBucket.denyUntil(nowMillis + persistedWaitMillis);
+            }
+            return persistedWaitMillis;
+        }
+    }
+
+    /**
+     * The in-memory bucket of one key, how long the persisted tier has denied it for, and how many attempts it
+     * allowed that the persisted tier has not been charged for yet.
+     */
+    private static class LocalBucket {
+        private TokenBucket tokenBucket;
+        private long deniedUntilMillis;
+        private int unchargedTokens;
+
+        private LocalBucket(TokenBucket tokenBucket) {
+            this.tokenBucket = tokenBucket;
+        }
+
+        private synchronized long tryAcquire(RateLimit rateLimit, long nowMillis) {
+            if (nowMillis < deniedUntilMillis) {
+                return deniedUntilMillis - nowMillis;
+            }
+            tokenBucket = tokenBucket.refill(rateLimit, nowMillis);
+            if (!tokenBucket.hasToken()) {
+                return tokenBucket.millisUntilToken(rateLimit);
+            }
+            tokenBucket = tokenBucket.take();
+            return 0;
+        }
+
+        /**
+         * Called after an attempt is allowed in memory.
+         *
+         * @return 0 while at least half the bucket is left, or else the tokens to take from the persisted tier for
+         * this attempt and the ones allowed before it.
+         */
+        private synchronized int tokensToCharge(RateLimit rateLimit) {
+            unchargedTokens++;
+            if (tokenBucket.getTokens() * 2 >= rateLimit.getCapacity()) {
+                return 0;
+            }
+            int tokens = unchargedTokens;
+            unchargedTokens = 0;
+            return tokens;
+        }
+
+        private synchronized void denyUntil(long millis) {
+            deniedUntilMillis = Math.max(deniedUntilMillis, millis);
+        }
+    }
+}
@@ -2,12 +2,16 @@ package org.example.utils;
 
 import org.example.dynamodb.model.EmployeeCredentialsModel;
 import org.example.dynamodb.model.EmployeeModel;
+import org.example.dynamodb.model.LoginThrottleModel;
 import org.example.dynamodb.model.TimeEntryModel;
 import org.example.exceptions.*;
 import org.example.model.Employee;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
 import org.example.model.PermissionLevel;
+import org.example.model.RateLimit;
 import org.example.model.TimeEntry;
+import org.example.model.TokenBucket;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -48,6 +52,7 @@ public class ModelConverter {
                 .withZipCode(employeeModel.getZipCode())
                 .withPayRate(employeeModel.getPayRate())
                 .withPermissionAccess(PermissionLevel.valueOf(employeeModel.getPermissionAccess().toUpperCase()))
+                .withVersion(employeeModel.getVersion())
                 .build();
     }
 
@@ -99,6 +104,7 @@ public class ModelConverter {
         employeeModel.setZipCode(employee.getZipCode());
         employeeModel.setPayRate(employee.getPayRate());
         employeeModel.setPermissionAccess(employee.getPermissionAccess().name());
+        employeeModel.setVersion(employee.getVersion());
 
         return employeeModel;
     }
@@ -211,6 +217,8 @@ public class ModelConverter {
      * Converts an {@link EmployeeCredentialsModel} object to an {@link EmployeeCredentials} object.
      * This method takes the data from an {@code EmployeeCredentialsModel} and constructs an equivalent
      * {@code EmployeeCredentials} object, converting the {@code lastUpdated} string to a {@code LocalDateTime}.
+     * Credentials saved before hash parameters were stored get the {@link PasswordHashParameters#DEFAULT default
+     * parameters}, which every hash was computed with until then.
      *
      * @param employeeCredentialsModel the {@link EmployeeCredentialsModel} object to be converted
      * @return the converted {@link EmployeeCredentials} object
@@ -222,8 +230,13 @@ public class ModelConverter {
 
         LocalDateTime lastUpdated = convertStringToLocalDateTime(employeeCredentialsModel.getLastUpdated());
 
+        PasswordHashParameters hashParameters = employeeCredentialsModel.getHashMemoryKB() == null
+                ? PasswordHashParameters.DEFAULT
+                : new PasswordHashParameters(employeeCredentialsModel.getHashMemoryKB(),
+                        employeeCredentialsModel.getHashIterations(), employeeCredentialsModel.getHashParallelism());
+
         return new EmployeeCredentials(employeeCredentialsModel.getEmployeeId(), employeeCredentialsModel.getUsername(),
-                employeeCredentialsModel.getSalt(), employeeCredentialsModel.getPassword(), lastUpdated,
+                employeeCredentialsModel.getSalt(), employeeCredentialsModel.getPassword(), hashParameters, lastUpdated,
                 employeeCredentialsModel.isAccountLocked(), employeeCredentialsModel.isForceChangeAfterLogin(),
                 employeeCredentialsModel.getFailedAttempts());
     }
@@ -249,6 +262,9 @@ public class ModelConverter {
         employeeCredentialsModel.setUsername(employeeCredentials.getUsername());
         employeeCredentialsModel.setSalt(employeeCredentials.getSalt());
         employeeCredentialsModel.setPassword(employeeCredentials.getPassword());
+        employeeCredentialsModel.setHashMemoryKB(employeeCredentials.getHashParameters().getMemoryKB());
+        employeeCredentialsModel.setHashIterations(employeeCredentials.getHashParameters().getIterations());
+        employeeCredentialsModel.setHashParallelism(employeeCredentials.getHashParameters().getParallelism());
         employeeCredentialsModel.setLastUpdated(employeeCredentials.getLastUpdated().toString());
         employeeCredentialsModel.setAccountLocked(employeeCredentials.isAccountLocked());
         employeeCredentialsModel.setForceChangeAfterLogin(employeeCredentials.isForceChangeAfterLogin());
@@ -257,6 +273,40 @@ public class ModelConverter {
         return employeeCredentialsModel;
     }
 
+    /**
+     * Converts a LoginThrottleModel object to a TokenBucket object.
+     *
+     * @param loginThrottleModel the LoginThrottleModel object to convert
+     * @return the converted TokenBucket object, or null if the input is null
+     */
+    public static TokenBucket fromLoginThrottleModel(LoginThrottleModel loginThrottleModel) {
+        if (loginThrottleModel == null) {
+            return null;
+        }
+        return new TokenBucket(loginThrottleModel.getTokens(), loginThrottleModel.getUpdatedAt());
+    }
+
+    /**
+     * Converts a TokenBucket object to a LoginThrottleModel object that expires once the bucket is full again.
+     * The version is left for the caller to set.
+     *
+     * @param throttleKey the key the bucket limits
+     * @param tokenBucket the TokenBucket object to convert
+     * @param rateLimit the limit the bucket refills at
+     * @return the converted LoginThrottleModel object
+     */
+    public static LoginThrottleModel fromTokenBucket(String throttleKey, TokenBucket tokenBucket, RateLimit rateLimit) {
+        LoginThrottleModel loginThrottleModel = new LoginThrottleModel();
+
+        loginThrottleModel.setThrottleKey(throttleKey);
+        loginThrottleModel.setTokens(tokenBucket.getTokens());
+        loginThrottleModel.setUpdatedAt(tokenBucket.getUpdatedAtMillis());
+        loginThrottleModel.setExpiresAt(
+                (tokenBucket.getUpdatedAtMillis() + tokenBucket.millisUntilFull(rateLimit)) / 1000 + 1);
+
+        return loginThrottleModel;
+    }
+
     /**
      * Converts a String to a LocalDate.
      *
@@ -0,0 +1,93 @@
+package org.example.utils;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.example.exceptions.InvalidInputFormatException;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for converting a DynamoDB {@code LastEvaluatedKey} into an opaque, URL safe continuation token
+ * and back again. Only string and number key attributes are supported, which covers every table key in this project.
+ */
+public class PageTokenUtility {
+    private static final Gson gson = new Gson();
+    private static final Type TOKEN_TYPE = new TypeToken<Map<String, Map<String, String>>>() {}.getType();
+    private static final String STRING_TYPE = "S";
+    private static final String NUMBER_TYPE = "N";
+
+    private PageTokenUtility() {}
+
+    /**
+     * Encodes the last evaluated key of a query or scan page as a continuation token.
+     *
+     * @param lastEvaluatedKey the key returned by DynamoDB for the page.
+     * @return the encoded token, or null if there are no more pages.
+     */
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, String>> token = new LinkedHashMap<>();
+        for (Map.Entry<String, AttributeValue> entry : lastEvaluatedKey.entrySet()) {
+            AttributeValue value = entry.getValue();
+            Map<String, String> typedValue = new LinkedHashMap<>();
+            if (value.getS() != null) {
+                typedValue.put(STRING_TYPE, value.getS());
+            } else if (value.getN() != null) {
+                typedValue.put(NUMBER_TYPE, value.getN());
+            } else {
+                throw new IllegalStateException("Unsupported key attribute type for attribute: " + entry.getKey());
+            }
+            token.put(entry.getKey(), typedValue);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(gson.toJson(token, TOKEN_TYPE).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token created by {@link #encode(Map)} into an exclusive start key.
+     *
+     * @param token the continuation token supplied by the client.
+     * @return the exclusive start key, or null if the token is null or empty.
+     * @throws InvalidInputFormatException if the token is malformed.
+     */
+    public static Map<String, AttributeValue> decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            Map<String, Map<String, String>> decoded = gson.fromJson(json, TOKEN_TYPE);
+            if (decoded == null || decoded.isEmpty()) {
+                throw new InvalidInputFormatException("Invalid page token.");
+            }
+
+            Map<String, AttributeValue> exclusiveStartKey = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, String>> entry : decoded.entrySet()) {
+                Map<String, String> typedValue = entry.getValue();
+                if (typedValue != null && typedValue.containsKey(STRING_TYPE)) {
+                    exclusiveStartKey.put(entry.getKey(), new AttributeValue().withS(typedValue.get(STRING_TYPE)));
+                } else if (typedValue != null && typedValue.containsKey(NUMBER_TYPE)) {
+                    exclusiveStartKey.put(entry.getKey(), new AttributeValue().withN(typedValue.get(NUMBER_TYPE)));
+                } else {
+                    throw new InvalidInputFormatException("Invalid page token.");
+                }
+            }
+            return exclusiveStartKey;
+        } catch (InvalidInputFormatException e) {
+            throw e;
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new InvalidInputFormatException("Invalid page token.", e);
+        }
+    }
+}
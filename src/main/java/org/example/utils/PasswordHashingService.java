@@ -0,0 +1,326 @@
+package org.example.utils;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.exceptions.PasswordHashingUnavailableException;
+import org.example.model.PasswordHashParameters;
+import org.example.model.PasswordHasher;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many Argon2 hashes run at once. Every hash works in a memory matrix of at least
+ * {@value CredentialsUtility#ARGON2_MEMORY_KB} KB, so an unbounded burst of logins can use gigabytes at once.
+ * Callers beyond the permit count wait in a fair (first in, first out) queue, and give up with a
+ * {@link PasswordHashingUnavailableException} once their deadline passes. The permit count also sizes
+ * {@link CredentialsUtility}'s pool of idle Argon2 engines.
+ * <p>
+ * The service also holds the target parameters that new hashes are computed with. The limits and parameters are
+ * read from environment variables:
+ * <ul>
+ *     <li>{@code PASSWORD_HASH_PERMITS} sets the permit count directly.</li>
+ *     <li>Otherwise {@code PASSWORD_HASH_MEMORY_BUDGET_MB}, which defaults to half of the maximum heap, is divided
+ *     by the memory of one hash, and the result is capped at the number of available processors.</li>
+ *     <li>{@code PASSWORD_HASH_MAX_WAIT_MILLIS} bounds the time a caller waits for a permit.</li>
+ *     <li>{@code PASSWORD_HASH_MEMORY_KB} and {@code PASSWORD_HASH_ITERATIONS} set the target parameters, each
+ *     defaulting to {@link PasswordHashParameters#DEFAULT}. They are calibrated offline with
+ *     {@code ./gradlew calibratePasswordHash}, so every container hashes with the same parameters.</li>
+ * </ul>
+ */
+public class PasswordHashingService implements PasswordHasher {
+    private static final Logger log = LogManager.getLogger(PasswordHashingService.class);
+    public static final String PERMITS_ENV = "PASSWORD_HASH_PERMITS";
+    public static final String MEMORY_BUDGET_MB_ENV = "PASSWORD_HASH_MEMORY_BUDGET_MB";
+    public static final String MAX_WAIT_MILLIS_ENV = "PASSWORD_HASH_MAX_WAIT_MILLIS";
+    public static final String MEMORY_KB_ENV = "PASSWORD_HASH_MEMORY_KB";
+    public static final String ITERATIONS_ENV = "PASSWORD_HASH_ITERATIONS";
+    public static final long HASH_MEMORY_BYTES = CredentialsUtility.ARGON2_MEMORY_KB * 1024L;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 5_000;
+    /**
+     * The least memory a target hash may use, the OWASP minimum for Argon2id.
+     */
+    public static final int MIN_MEMORY_KB = 19456;
+    /**
+     * Time left for the rest of a Lambda invocation once the hash is done, such as saving and responding.
+     */
+    static final long RESPONSE_MARGIN_MILLIS = 1_000;
+
+    private final PasswordHasher delegate;
+    private final PasswordHashParameters targetParameters;
+    private final int permits;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param permits the number of hashes that may run at once.
+     * @param maxWaitMillis the longest a caller waits for a permit.
+     */
+    public PasswordHashingService(int permits, long maxWaitMillis) {
+        this(permits, maxWaitMillis, PasswordHashParameters.DEFAULT);
+    }
+
+    /**
+     * @param permits the number of hashes that may run at once.
+     * @param maxWaitMillis the longest a caller waits for a permit.
+     * @param targetParameters the parameters new hashes are computed with.
+     */
+    public PasswordHashingService(int permits, long maxWaitMillis, PasswordHashParameters targetParameters) {
+        this(PasswordHasher.DIRECT, permits, maxWaitMillis, targetParameters);
+    }
+
+    PasswordHashingService(PasswordHasher delegate, int permits, long maxWaitMillis) {
+        this(delegate, permits, maxWaitMillis, PasswordHashParameters.DEFAULT);
+    }
+
+    PasswordHashingService(PasswordHasher delegate, int permits, long maxWaitMillis,
+                           PasswordHashParameters targetParameters) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Password hashing needs at least one permit.");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("The maximum wait for a password hashing permit cannot be negative.");
+        }
+        this.delegate = delegate;
+        this.targetParameters = targetParameters;
+        this.permits = permits;
+        this.maxWaitMillis = maxWaitMillis;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * @return a service configured from the current process environment and JVM.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static PasswordHashingService fromEnvironment() {
+        return fromEnvironment(System.getenv(), Runtime.getRuntime().maxMemory(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param environment the environment variables to read.
+     * @param maxMemoryBytes the maximum heap size.
+     * @param availableProcessors the number of processors the JVM may use.
+     * @return a service configured from the given variables.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     */
+    public static PasswordHashingService fromEnvironment(Map<String, String> environment, long maxMemoryBytes,
+                                                         int availableProcessors) {
+        PasswordHashParameters targetParameters = targetParametersFromEnvironment(environment);
+        // Stored hashes keep the default parameters until they are rehashed, so permits are sized for the larger.
+        long hashMemoryBytes = Math.max(targetParameters.getMemoryKB() * 1024L, HASH_MEMORY_BYTES);
+        long memoryBudgetBytes = readLong(environment, MEMORY_BUDGET_MB_ENV, maxMemoryBytes / 2 / (1024 * 1024), 1)
+                * 1024 * 1024;
+        int permits = (int) readLong(environment, PERMITS_ENV,
+                permitsFor(memoryBudgetBytes, availableProcessors, hashMemoryBytes), 1);
+        long maxWaitMillis = readLong(environment, MAX_WAIT_MILLIS_ENV, DEFAULT_MAX_WAIT_MILLIS, 0);
+
+        PasswordHashingService service = new PasswordHashingService(permits, maxWaitMillis, targetParameters);
+        CredentialsUtility.setMaxIdleEngines(permits, hashMemoryBytes);
+        log.info("Password hashing limited to {} concurrent hashes, waiting at most {} ms. New hashes use {}.",
+                permits, maxWaitMillis, targetParameters);
+        return service;
+    }
+
+    private static PasswordHashParameters targetParametersFromEnvironment(Map<String, String> environment) {
+        int memoryKB = (int) readLong(environment, MEMORY_KB_ENV, PasswordHashParameters.DEFAULT.getMemoryKB(),
+                MIN_MEMORY_KB);
+        int iterations = (int) readLong(environment, ITERATIONS_ENV, PasswordHashParameters.DEFAULT.getIterations(), 1);
+        return new PasswordHashParameters(memoryKB, iterations, PasswordHashParameters.DEFAULT.getParallelism());
+    }
+
+    /**
+     * @return how many hashes with the default parameters fit in the memory budget, but no more than one per
+     * processor and at least one.
+     */
+    public static int permitsFor(long memoryBudgetBytes, int availableProcessors) {
+        return permitsFor(memoryBudgetBytes, availableProcessors, HASH_MEMORY_BYTES);
+    }
+
+    /**
+     * @return how many hashes of the given size fit in the memory budget, but no more than one per processor and at
+     * least one.
+     */
+    public static int permitsFor(long memoryBudgetBytes, int availableProcessors, long hashMemoryBytes) {
+        long fitInMemory = memoryBudgetBytes / hashMemoryBytes;
+        return (int) Math.max(1, Math.min(fitInMemory, availableProcessors));
+    }
+
+    @Override
+    public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+        return withPermit(maxWaitMillis, () -> delegate.hashPassword(password, salt, parameters));
+    }
+
+    @Override
+    public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+        return withPermit(maxWaitMillis, () -> delegate.verifyPassword(password, salt, hash, parameters));
+    }
+
+    @Override
+    public PasswordHashParameters getTargetParameters() {
+        return targetParameters;
+    }
+
+    /**
+     * Returns a hasher whose callers also give up in time for the Lambda invocation to respond, leaving
+     * {@value #RESPONSE_MARGIN_MILLIS} ms of the remaining time for the rest of the request.
+     *
+     * @param context the Lambda execution context, or null outside Lambda.
+     * @return a hasher that shares this service's permits.
+     */
+    public PasswordHasher forContext(Context context) {
+        if (context == null) {
+            return this;
+        }
+        long waitMillis = Math.max(0, Math.min(maxWaitMillis, context.getRemainingTimeInMillis() - RESPONSE_MARGIN_MILLIS));
+        return new PasswordHasher() {
+            @Override
+            public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+                return withPermit(waitMillis, () -> delegate.hashPassword(password, salt, parameters));
+            }
+
+            @Override
+            public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+                return withPermit(waitMillis, () -> delegate.verifyPassword(password, salt, hash, parameters));
+            }
+
+            @Override
+            public PasswordHashParameters getTargetParameters() {
+                return targetParameters;
+            }
+        };
+    }
+
+    private <T> T withPermit(long waitMillis, Supplier<T> hash) {
+        long start = System.nanoTime();
+        boolean permitted;
+        try {
+            permitted = semaphore.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.incrementAndGet();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting to hash a password.", e);
+        }
+        long waitNanos = System.nanoTime() - start;
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+
+        if (!permitted) {
+            rejected.incrementAndGet();
+            log.warn("Gave up waiting {} ms to hash a password. {}", waitMillis, getStats());
+            throw new PasswordHashingUnavailableException("The server is busy. Please try again in a moment.");
+        }
+        acquired.incrementAndGet();
+        try {
+            return hash.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * @return a snapshot of the queue depth and wait times since the service was created.
+     */
+    public Stats getStats() {
+        return new Stats(permits, semaphore.availablePermits(), semaphore.getQueueLength(), acquired.get(),
+                rejected.get(), totalWaitNanos.get(), maxWaitNanos.get());
+    }
+
+    private static long readLong(Map<String, String> environment, String name, long defaultValue, long minimum) {
+        String value = environment.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= minimum && parsed <= Integer.MAX_VALUE) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a whole number of at least %d, but was \"%s\".",
+                name, minimum, value));
+    }
+
+    /**
+     * Point-in-time hashing metrics. The queue depth is an estimate, since callers join and leave the queue
+     * while it is read.
+     */
+    public static class Stats {
+        private final int permits;
+        private final int availablePermits;
+        private final int queueDepth;
+        private final long acquired;
+        private final long rejected;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+
+        Stats(int permits, int availablePermits, int queueDepth, long acquired, long rejected,
+              long totalWaitNanos, long maxWaitNanos) {
+            this.permits = permits;
+            this.availablePermits = availablePermits;
+            this.queueDepth = queueDepth;
+            this.acquired = acquired;
+            this.rejected = rejected;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        public int getPermits() {
+            return permits;
+        }
+
+        public int getAvailablePermits() {
+            return availablePermits;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getAcquired() {
+            return acquired;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * @return the mean time callers waited for a permit, including callers that gave up.
+         */
+        public double getAverageWaitMillis() {
+            long waits = acquired + rejected;
+            return waits == 0 ? 0 : totalWaitNanos / (double) waits / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PasswordHashingStats{permits=%d, availablePermits=%d, queueDepth=%d, acquired=%d, " +
+                            "rejected=%d, averageWaitMillis=%.1f, maxWaitMillis=%.1f}", permits, availablePermits,
+                    queueDepth, acquired, rejected, getAverageWaitMillis(), getMaxWaitMillis());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package org.example.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issues and verifies the short-lived session tokens that {@link org.example.lambda.LoginHandler} hands out. A
+ * token is a JWT signed with HMAC-SHA256 that carries the employee ID and permission level, so handlers can
+ * authorize a request with a CPU-only check instead of reading the credentials table and hashing a password.
+ * <p>
+ * Tokens name the key they were signed with. The first key signs new tokens, and every key verifies, so a key can
+ * be rotated by putting a new key first and dropping the old one once its last tokens have expired. Tokens that
+ * were already verified are kept in a size-bounded cache until they expire, so a repeated token skips the
+ * signature check. The cache belongs to the current keys and is replaced with them on rotation.
+ * <p>
+ * The service is configured from environment variables:
+ * <ul>
+ *     <li>{@code SESSION_TOKEN_KEYS} lists the keys as comma-separated {@code keyId:base64Secret} pairs, signing
+ *     key first. Each secret must be at least {@value #MIN_SECRET_BYTES} bytes, e.g. 32 random bytes from
+ *     {@code openssl rand -base64 32}. Every function must list the same keys, since a token issued by one
+ *     container is verified by others. It is required in Lambda, where {@code AWS_LAMBDA_FUNCTION_NAME} is set.
+ *     Elsewhere, e.g. in tests and local runs, a random key is generated if it is not set, and tokens are only
+ *     accepted by the process that issued them.</li>
+ *     <li>{@code SESSION_TOKEN_TTL_SECONDS} sets how long a token is accepted.</li>
+ *     <li>{@code SESSION_TOKEN_CACHE_SIZE} bounds the number of verified tokens kept in memory.</li>
+ * </ul>
+ */
+public class SessionTokenService {
+    private static final Logger log = LogManager.getLogger(SessionTokenService.class);
+    public static final String KEYS_ENV = "SESSION_TOKEN_KEYS";
+    public static final String TIME_TO_LIVE_SECONDS_ENV = "SESSION_TOKEN_TTL_SECONDS";
+    public static final String CACHE_SIZE_ENV = "SESSION_TOKEN_CACHE_SIZE";
+    static final String LAMBDA_FUNCTION_NAME_ENV = "AWS_LAMBDA_FUNCTION_NAME";
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(15);
+    public static final long DEFAULT_CACHE_SIZE = 10_000;
+    public static final int MIN_SECRET_BYTES = 32;
+    static final String ISSUER = "employee-management-system";
+    static final String PERMISSION_LEVEL_CLAIM = "permissionLevel";
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid or expired session token. Please log in again.";
+
+    private final Duration timeToLive;
+    private final long cacheSize;
+    private final Clock clock;
+    private volatile Keys keys;
+
+    /**
+     * @param signingKeys the keys that verify tokens, the first of which also signs new tokens.
+     * @param timeToLive how long a token is accepted.
+     * @param cacheSize the most verified tokens kept in memory.
+     */
+    public SessionTokenService(List<SigningKey> signingKeys, Duration timeToLive, long cacheSize) {
+        this(signingKeys, timeToLive, cacheSize, Clock.systemUTC());
+    }
+
+    SessionTokenService(List<SigningKey> signingKeys, Duration timeToLive, long cacheSize, Clock clock) {
+        if (timeToLive.getSeconds() < 1) {
+            throw new IllegalArgumentException("Session tokens must be accepted for at least one second.");
+        }
+        this.timeToLive = timeToLive;
+        this.cacheSize = cacheSize;
+        this.clock = clock;
+        this.keys = new Keys(signingKeys, timeToLive, cacheSize, clock);
+    }
+
+    /**
+     * @return a service configured from the current process environment.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     * @throws IllegalStateException if the keys are not set in Lambda.
+     */
+    public static SessionTokenService fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * @param environment the environment variables to read.
+     * @return a service configured from the given variables.
+     * @throws IllegalArgumentException if a variable is set to an invalid value.
+     * @throws IllegalStateException if the keys are not set in Lambda.
+     */
+    public static SessionTokenService fromEnvironment(Map<String, String> environment) {
+        String keys = environment.get(KEYS_ENV);
+        List<SigningKey> signingKeys;
+        if ((keys == null || keys.isBlank()) && environment.get(LAMBDA_FUNCTION_NAME_ENV) != null) {
+            // A random key per container would make tokens fail on every container but the one that issued them.
+            throw new IllegalStateException(KEYS_ENV + " must be set when running in Lambda.");
+        } else if (keys == null || keys.isBlank()) {
+            log.warn("{} is not set. Session tokens are signed with a random key and only this process accepts them.",
+                    KEYS_ENV);
+            signingKeys = List.of(SigningKey.random("local"));
+        } else {
+            signingKeys = SigningKey.parseAll(keys);
+        }
+        long timeToLiveSeconds = readLong(environment, TIME_TO_LIVE_SECONDS_ENV, DEFAULT_TIME_TO_LIVE.getSeconds());
+        long cacheSize = readLong(environment, CACHE_SIZE_ENV, DEFAULT_CACHE_SIZE);
+
+        SessionTokenService service = new SessionTokenService(signingKeys, Duration.ofSeconds(timeToLiveSeconds),
+                cacheSize);
+        log.info("Session tokens are signed with key \"{}\" and accepted for {} seconds.", signingKeys.get(0).getId(),
+                timeToLiveSeconds);
+        return service;
+    }
+
+    /**
+     * Issues a token for an employee who just logged in.
+     *
+     * @param employeeId the ID of the employee.
+     * @param permissionLevel the employee's permission level.
+     * @return the signed token.
+     */
+    public String issue(String employeeId, PermissionLevel permissionLevel) {
+        Keys current = keys;
+        Instant now = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        return JWT.create()
+                .withKeyId(current.signingKeyId)
+                .withIssuer(ISSUER)
+                .withSubject(employeeId)
+                .withClaim(PERMISSION_LEVEL_CLAIM, permissionLevel.name())
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(timeToLive))
+                .sign(current.algorithms.get(current.signingKeyId));
+    }
+
+    /**
+     * Verifies a token's signature and expiry, or finds it among the tokens that were already verified.
+     *
+     * @param token the token from the request.
+     * @return the contents of the token.
+     * @throws UnauthorizedAccessException if the token is missing, malformed, expired, or not signed by a current key.
+     */
+    public SessionToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new UnauthorizedAccessException("A session token is required. Please log in.");
+        }
+        Keys current = keys;
+        SessionToken sessionToken = current.verifiedTokens.getIfPresent(token);
+        if (sessionToken == null) {
+            sessionToken = verifySignature(token, current);
+            current.verifiedTokens.put(token, sessionToken);
+        }
+        if (sessionToken.isExpired(clock.instant())) {
+            current.verifiedTokens.invalidate(token);
+            throw new UnauthorizedAccessException(INVALID_TOKEN_MESSAGE);
+        }
+        return sessionToken;
+    }
+
+    private SessionToken verifySignature(String token, Keys current) {
+        try {
+            DecodedJWT decoded = JWT.decode(token);
+            JWTVerifier verifier = current.verifiers.get(decoded.getKeyId());
+            if (verifier == null) {
+                throw new UnauthorizedAccessException(INVALID_TOKEN_MESSAGE);
+            }
+            verifier.verify(decoded);
+            String permissionLevel = decoded.getClaim(PERMISSION_LEVEL_CLAIM).asString();
+            if (decoded.getSubject() == null || permissionLevel == null || decoded.getExpiresAtAsInstant() == null) {
+                throw new UnauthorizedAccessException(INVALID_TOKEN_MESSAGE);
+            }
+            return new SessionToken(decoded.getSubject(), PermissionLevel.valueOf(permissionLevel),
+                    decoded.getExpiresAtAsInstant());
+        } catch (JWTVerificationException | IllegalArgumentException e) {
+            log.warn("Rejected a session token: {}", e.getMessage());
+            throw new UnauthorizedAccessException(INVALID_TOKEN_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Replaces the keys. Tokens signed with a key that is no longer listed are rejected from now on, including
+     * tokens that were already verified.
+     *
+     * @param signingKeys the new keys, the first of which signs new tokens.
+     */
+    public void rotateKeys(List<SigningKey> signingKeys) {
+        keys = new Keys(signingKeys, timeToLive, cacheSize, clock);
+        log.info("Rotated session token keys. New tokens are signed with key \"{}\".", signingKeys.get(0).getId());
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return the hit, miss and eviction counters of the verified token cache since the keys were last rotated.
+     */
+    public CacheStats getCacheStats() {
+        return keys.verifiedTokens.stats();
+    }
+
+    private static long readLong(Map<String, String> environment, String name, long defaultValue) {
+        String value = environment.get(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values.
+        }
+        throw new IllegalArgumentException(String.format("%s must be a whole number of at least %d, but was \"%s\".",
+                name, 1, value));
+    }
+
+    /**
+     * An HMAC secret and the ID that tokens signed with it carry in their header.
+     */
+    public static class SigningKey {
+        private final String id;
+        private final byte[] secret;
+
+        /**
+         * @param id the key ID.
+         * @param secret the HMAC secret, at least {@value #MIN_SECRET_BYTES} bytes.
+         */
+        public SigningKey(String id, byte[] secret) {
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("A session token key needs an ID.");
+            }
+            if (secret == null || secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalArgumentException(String.format(
+                        "Session token key \"%s\" must be at least %d bytes.", id, MIN_SECRET_BYTES));
+            }
+            this.id = id;
+            this.secret = secret.clone();
+        }
+
+        static SigningKey random(String id) {
+            byte[] secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+            return new SigningKey(id, secret);
+        }
+
+        /**
+         * @param keys comma-separated {@code keyId:base64Secret} pairs.
+         * @return the keys in the order they were listed.
+         * @throws IllegalArgumentException if a pair is malformed.
+         */
+        public static List<SigningKey> parseAll(String keys) {
+            List<SigningKey> signingKeys = new ArrayList<>();
+            for (String pair : keys.split(",")) {
+                int separator = pair.indexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException(String.format(
+                            "%s must list keyId:base64Secret pairs, but one entry had no key ID.", KEYS_ENV));
+                }
+                signingKeys.add(new SigningKey(pair.substring(0, separator).trim(),
+                        Base64.getDecoder().decode(pair.substring(separator + 1).trim())));
+            }
+            return signingKeys;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    /**
+     * The keys and the tokens verified with them, swapped as a whole on rotation.
+     */
+    private static class Keys {
+        private final String signingKeyId;
+        private final Map<String, Algorithm> algorithms;
+        private final Map<String, JWTVerifier> verifiers;
+        private final Cache<String, SessionToken> verifiedTokens;
+
+        Keys(List<SigningKey> signingKeys, Duration timeToLive, long cacheSize, Clock clock) {
+            if (signingKeys.isEmpty()) {
+                throw new IllegalArgumentException("At least one session token key is required.");
+            }
+            Map<String, Algorithm> algorithms = new LinkedHashMap<>();
+            Map<String, JWTVerifier> verifiers = new LinkedHashMap<>();
+            for (SigningKey signingKey : signingKeys) {
+                Algorithm algorithm = Algorithm.HMAC256(signingKey.secret);
+                if (algorithms.put(signingKey.id, algorithm) != null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Session token key \"%s\" is listed more than once.", signingKey.id));
+                }
+                verifiers.put(signingKey.id, ((JWTVerifier.BaseVerification) JWT.require(algorithm)
+                        .withIssuer(ISSUER)
+                        .withClaimPresence(PERMISSION_LEVEL_CLAIM))
+                        .build(clock));
+            }
+            this.signingKeyId = signingKeys.get(0).id;
+            this.algorithms = Collections.unmodifiableMap(algorithms);
+            this.verifiers = Collections.unmodifiableMap(verifiers);
+            this.verifiedTokens = CacheBuilder.newBuilder()
+                    .maximumSize(cacheSize)
+                    .expireAfterWrite(timeToLive)
+                    .recordStats()
+                    .build();
+        }
+    }
+}
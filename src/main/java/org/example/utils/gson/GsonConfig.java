@@ -8,12 +8,20 @@ import java.time.LocalDateTime;
 
 public class GsonConfig {
     public static Gson createGson() {
+        return createGsonBuilder()
+                .registerTypeAdapterFactory(new ResultTypeAdapters())
+                //.setPrettyPrinting()
+                .create();
+    }
+
+    /**
+     * @return a builder with every adapter {@link #createGson()} registers except the result adapters.
+     */
+    static GsonBuilder createGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(LocalDate.class, new CustomSerializers.LocalDateSerializer())
                 .registerTypeAdapter(LocalDate.class, new CustomSerializers.LocalDateDeserializer())
                 .registerTypeAdapter(LocalDateTime.class, new CustomSerializers.LocalDateTimeSerializer())
-                .registerTypeAdapter(LocalDateTime.class, new CustomSerializers.LocalDateTimeDeserializer())
-                //.setPrettyPrinting()
-                .create();
+                .registerTypeAdapter(LocalDateTime.class, new CustomSerializers.LocalDateTimeDeserializer());
     }
 }
@@ -1,8 +1,14 @@
 package org.example.utils.gson;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
 import org.example.model.results.Result;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Iterator;
+
 public class JsonUtil {
     private static final Gson gson = GsonConfig.createGson();
 
@@ -12,6 +18,34 @@ public class JsonUtil {
         return gson.toJson(result);
     }
 
+    /**
+     * Serializes a list response one element at a time, so the elements never need to be collected into a list.
+     * The output has the same shape as a {@link Result} with a boolean success field and a list field, e.g.
+     * <code>{"employeesRetrieved":true,"employeeList":[...]}</code>.
+     *
+     * @param successField the name of the boolean success field, which is written as true.
+     * @param listField the name of the list field.
+     * @param elements the elements to write to the list field.
+     * @return the JSON response.
+     */
+    public static String createJsonListResponse(String successField, String listField, Iterator<?> elements) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = gson.newJsonWriter(stringWriter)) {
+            jsonWriter.beginObject();
+            jsonWriter.name(successField).value(true);
+            jsonWriter.name(listField).beginArray();
+            while (elements.hasNext()) {
+                Object element = elements.next();
+                gson.toJson(element, element.getClass(), jsonWriter);
+            }
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return stringWriter.toString();
+    }
+
     public static <T> T fromJson(String json, Class<T> clazz) {
         return gson.fromJson(json, clazz);
     }
@@ -0,0 +1,788 @@
+package org.example.utils.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.TimeEntry;
+import org.example.model.results.AdminBulkResetPasswordResult;
+import org.example.model.results.AdminResetPasswordResult;
+import org.example.model.results.GetAllEmployeesResult;
+import org.example.model.results.GetEmployeeResult;
+import org.example.model.results.GetEmployeesBatchResult;
+import org.example.model.results.GetLastFiveTimeEntriesResult;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.model.results.GetTimeEntriesResult;
+import org.example.model.results.LoginResult;
+import org.example.model.results.NewEmployeeResult;
+import org.example.model.results.NewTimeEntryResult;
+import org.example.model.results.Result;
+import org.example.model.results.UpdateCredentialsResult;
+import org.example.model.results.UpdateEmployeeResult;
+import org.example.model.results.UpdateTimeEntriesResult;
+import org.example.model.results.UpdateTimeEntryResult;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Hand-written {@link TypeAdapter}s for every {@link Result}, so responses are serialized without Gson's reflective
+ * adapter. Each adapter writes the fields through their getters in declaration order and reads them back through
+ * the result's builder, so there is no field discovery when an adapter is first created and no reflective field
+ * access or boxing per response. The output is the same as the reflective adapter's, including leaving out null
+ * fields.
+ * <p>
+ * Nested values (employees, time entries, dates, ...) are still written by the adapters the {@link Gson} instance
+ * has for them. A new field on a result must be added to its adapter here, or it is left out of the response.
+ */
+public class ResultTypeAdapters implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        // A plain if chain rather than a map of constructor references, since bootstrapping lambdas costs more on a
+        // cold start than the reflection these adapters replace. The adapter is held as an Object so that verifying
+        // this method does not load every adapter class, only the one that is created.
+        Class<? super T> rawType = type.getRawType();
+        Object adapter;
+        if (rawType == AdminBulkResetPasswordResult.class) {
+            adapter = new AdminBulkResetPasswordResultAdapter(gson);
+        } else if (rawType == AdminResetPasswordResult.class) {
+            adapter = new AdminResetPasswordResultAdapter();
+        } else if (rawType == GetAllEmployeesResult.class) {
+            adapter = new GetAllEmployeesResultAdapter(gson);
+        } else if (rawType == GetEmployeeResult.class) {
+            adapter = new GetEmployeeResultAdapter(gson);
+        } else if (rawType == GetEmployeesBatchResult.class) {
+            adapter = new GetEmployeesBatchResultAdapter(gson);
+        } else if (rawType == GetLastFiveTimeEntriesResult.class) {
+            adapter = new GetLastFiveTimeEntriesResultAdapter(gson);
+        } else if (rawType == GetOpenShiftsResult.class) {
+            adapter = new GetOpenShiftsResultAdapter(gson);
+        } else if (rawType == GetTimeEntriesResult.class) {
+            adapter = new GetTimeEntriesResultAdapter(gson);
+        } else if (rawType == LoginResult.class) {
+            adapter = new LoginResultAdapter();
+        } else if (rawType == NewEmployeeResult.class) {
+            adapter = new NewEmployeeResultAdapter();
+        } else if (rawType == NewTimeEntryResult.class) {
+            adapter = new NewTimeEntryResultAdapter();
+        } else if (rawType == UpdateCredentialsResult.class) {
+            adapter = new UpdateCredentialsResultAdapter();
+        } else if (rawType == UpdateEmployeeResult.class) {
+            adapter = new UpdateEmployeeResultAdapter();
+        } else if (rawType == UpdateTimeEntriesResult.class) {
+            adapter = new UpdateTimeEntriesResultAdapter(gson);
+        } else if (rawType == UpdateTimeEntryResult.class) {
+            adapter = new UpdateTimeEntryResultAdapter();
+        } else {
+            return null;
+        }
+        return ((TypeAdapter<T>) adapter).nullSafe();
+    }
+
+    /**
+     * Writes a result as a JSON object, and reads one field at a time into the result's builder. Null values and
+     * unknown fields are skipped, leaving the builder's defaults.
+     */
+    private abstract static class ResultAdapter<R extends Result, B> extends TypeAdapter<R> {
+        @Override
+        public void write(JsonWriter out, R result) throws IOException {
+            out.beginObject();
+            writeFields(out, result);
+            out.endObject();
+        }
+
+        @Override
+        public R read(JsonReader in) throws IOException {
+            B builder = newBuilder();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                } else if (!readField(in, name, builder)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return build(builder);
+        }
+
+        abstract void writeFields(JsonWriter out, R result) throws IOException;
+
+        abstract B newBuilder();
+
+        /**
+         * @return true if the field was read, false if it is unknown and still needs to be skipped.
+         */
+        abstract boolean readField(JsonReader in, String name, B builder) throws IOException;
+
+        abstract R build(B builder);
+    }
+
+    private static class AdminBulkResetPasswordResultAdapter
+            extends ResultAdapter<AdminBulkResetPasswordResult, AdminBulkResetPasswordResult.Builder> {
+        private final TypeAdapter<List<AdminResetPasswordResult>> resetListAdapter;
+
+        private AdminBulkResetPasswordResultAdapter(Gson gson) {
+            this.resetListAdapter = gson.getAdapter(new TypeToken<List<AdminResetPasswordResult>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, AdminBulkResetPasswordResult result) throws IOException {
+            out.name("passwordsReset").value(result.isPasswordsReset());
+            out.name("resetCount").value(result.getResetCount());
+            out.name("failedCount").value(result.getFailedCount());
+            out.name("resetList");
+            resetListAdapter.write(out, result.getResetList());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        AdminBulkResetPasswordResult.Builder newBuilder() {
+            return AdminBulkResetPasswordResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, AdminBulkResetPasswordResult.Builder builder) throws IOException {
+            switch (name) {
+                case "passwordsReset": builder.withPasswordsReset(in.nextBoolean()); return true;
+                case "resetCount": builder.withResetCount(in.nextInt()); return true;
+                case "failedCount": builder.withFailedCount(in.nextInt()); return true;
+                case "resetList": builder.withResetList(resetListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        AdminBulkResetPasswordResult build(AdminBulkResetPasswordResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class AdminResetPasswordResultAdapter
+            extends ResultAdapter<AdminResetPasswordResult, AdminResetPasswordResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, AdminResetPasswordResult result) throws IOException {
+            out.name("employeeCredentialsReset").value(result.isEmployeeCredentialsReset());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("username").value(result.getUsername());
+            out.name("lastUpdated").value(result.getLastUpdated());
+            out.name("accountLocked").value(result.isAccountLocked());
+            out.name("forceChangeAfterLogin").value(result.isForceChangeAfterLogin());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        AdminResetPasswordResult.Builder newBuilder() {
+            return AdminResetPasswordResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, AdminResetPasswordResult.Builder builder) throws IOException {
+            switch (name) {
+                case "employeeCredentialsReset": builder.withEmployeeCredentialsReset(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "username": builder.withUsername(in.nextString()); return true;
+                case "lastUpdated": builder.withLastUpdated(in.nextString()); return true;
+                case "accountLocked": builder.withAccountLocked(in.nextBoolean()); return true;
+                case "forceChangeAfterLogin": builder.withForceChangeAfterLogin(in.nextBoolean()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        AdminResetPasswordResult build(AdminResetPasswordResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetAllEmployeesResultAdapter
+            extends ResultAdapter<GetAllEmployeesResult, GetAllEmployeesResult.Builder> {
+        private final TypeAdapter<List<Employee>> employeeListAdapter;
+
+        private GetAllEmployeesResultAdapter(Gson gson) {
+            this.employeeListAdapter = gson.getAdapter(new TypeToken<List<Employee>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetAllEmployeesResult result) throws IOException {
+            out.name("employeesRetrieved").value(result.isEmployeesRetrieved());
+            out.name("employeeList");
+            employeeListAdapter.write(out, result.getEmployeeList());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetAllEmployeesResult.Builder newBuilder() {
+            return GetAllEmployeesResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetAllEmployeesResult.Builder builder) throws IOException {
+            switch (name) {
+                case "employeesRetrieved": builder.withEmployeesRetrieved(in.nextBoolean()); return true;
+                case "employeeList": builder.withEmployeesList(employeeListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetAllEmployeesResult build(GetAllEmployeesResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetEmployeeResultAdapter
+            extends ResultAdapter<GetEmployeeResult, GetEmployeeResult.Builder> {
+        private final TypeAdapter<LocalDate> localDateAdapter;
+        private final TypeAdapter<PermissionLevel> permissionLevelAdapter;
+
+        private GetEmployeeResultAdapter(Gson gson) {
+            this.localDateAdapter = gson.getAdapter(LocalDate.class);
+            this.permissionLevelAdapter = gson.getAdapter(PermissionLevel.class);
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetEmployeeResult result) throws IOException {
+            out.name("employeeRetrieved").value(result.isEmployeeRetrieved());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("firstName").value(result.getFirstName());
+            out.name("lastName").value(result.getLastName());
+            out.name("middleName").value(result.getMiddleName());
+            out.name("email").value(result.getEmail());
+            out.name("department").value(result.getDepartment());
+            out.name("hireDate");
+            localDateAdapter.write(out, result.getHireDate());
+            out.name("currentlyEmployed").value(result.isCurrentlyEmployed());
+            out.name("terminatedDate");
+            localDateAdapter.write(out, result.getTerminatedDate());
+            out.name("phone").value(result.getPhone());
+            out.name("address").value(result.getAddress());
+            out.name("city").value(result.getCity());
+            out.name("state").value(result.getState());
+            out.name("zipCode").value(result.getZipCode());
+            out.name("payRate").value(result.getPayRate());
+            out.name("permissionAccess");
+            permissionLevelAdapter.write(out, result.getPermissionAccess());
+            out.name("version").value(result.getVersion());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetEmployeeResult.Builder newBuilder() {
+            return GetEmployeeResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetEmployeeResult.Builder builder) throws IOException {
+            switch (name) {
+                case "employeeRetrieved": builder.withEmployeeRetrieved(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "firstName": builder.withFirstName(in.nextString()); return true;
+                case "lastName": builder.withLastName(in.nextString()); return true;
+                case "middleName": builder.withMiddleName(in.nextString()); return true;
+                case "email": builder.withEmail(in.nextString()); return true;
+                case "department": builder.withDepartment(in.nextString()); return true;
+                case "hireDate": builder.withHireDate(localDateAdapter.read(in)); return true;
+                case "currentlyEmployed": builder.withCurrentlyEmployed(in.nextBoolean()); return true;
+                case "terminatedDate": builder.withTerminatedDate(localDateAdapter.read(in)); return true;
+                case "phone": builder.withPhone(in.nextString()); return true;
+                case "address": builder.withAddress(in.nextString()); return true;
+                case "city": builder.withCity(in.nextString()); return true;
+                case "state": builder.withState(in.nextString()); return true;
+                case "zipCode": builder.withZipCode(in.nextString()); return true;
+                case "payRate": builder.withPayRate(in.nextString()); return true;
+                case "permissionAccess": builder.withPermissionAccess(permissionLevelAdapter.read(in)); return true;
+                case "version": builder.withVersion(in.nextLong()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetEmployeeResult build(GetEmployeeResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetEmployeesBatchResultAdapter
+            extends ResultAdapter<GetEmployeesBatchResult, GetEmployeesBatchResult.Builder> {
+        private final TypeAdapter<List<Employee>> employeeListAdapter;
+        private final TypeAdapter<List<String>> stringListAdapter;
+
+        private GetEmployeesBatchResultAdapter(Gson gson) {
+            this.employeeListAdapter = gson.getAdapter(new TypeToken<List<Employee>>() {});
+            this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetEmployeesBatchResult result) throws IOException {
+            out.name("employeesRetrieved").value(result.isEmployeesRetrieved());
+            out.name("employeeList");
+            employeeListAdapter.write(out, result.getEmployeeList());
+            out.name("notFoundEmployeeIds");
+            stringListAdapter.write(out, result.getNotFoundEmployeeIds());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetEmployeesBatchResult.Builder newBuilder() {
+            return GetEmployeesBatchResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetEmployeesBatchResult.Builder builder) throws IOException {
+            switch (name) {
+                case "employeesRetrieved": builder.withEmployeesRetrieved(in.nextBoolean()); return true;
+                case "employeeList": builder.withEmployeeList(employeeListAdapter.read(in)); return true;
+                case "notFoundEmployeeIds": builder.withNotFoundEmployeeIds(stringListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetEmployeesBatchResult build(GetEmployeesBatchResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetLastFiveTimeEntriesResultAdapter
+            extends ResultAdapter<GetLastFiveTimeEntriesResult, GetLastFiveTimeEntriesResult.Builder> {
+        private final TypeAdapter<List<TimeEntry>> timeEntryListAdapter;
+
+        private GetLastFiveTimeEntriesResultAdapter(Gson gson) {
+            this.timeEntryListAdapter = gson.getAdapter(new TypeToken<List<TimeEntry>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetLastFiveTimeEntriesResult result) throws IOException {
+            out.name("lastFiveTimeEntriesRetrieved").value(result.isLastFiveTimeEntriesRetrieved());
+            out.name("timeEntryList");
+            timeEntryListAdapter.write(out, result.getTimeEntryList());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetLastFiveTimeEntriesResult.Builder newBuilder() {
+            return GetLastFiveTimeEntriesResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetLastFiveTimeEntriesResult.Builder builder) throws IOException {
+            switch (name) {
+                case "lastFiveTimeEntriesRetrieved": builder.withLastFiveTimeEntriesRetrieved(in.nextBoolean()); return true;
+                case "timeEntryList": builder.withTimeEntryList(timeEntryListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetLastFiveTimeEntriesResult build(GetLastFiveTimeEntriesResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetOpenShiftsResultAdapter
+            extends ResultAdapter<GetOpenShiftsResult, GetOpenShiftsResult.Builder> {
+        private final TypeAdapter<List<ClockStateModel>> openShiftListAdapter;
+
+        private GetOpenShiftsResultAdapter(Gson gson) {
+            this.openShiftListAdapter = gson.getAdapter(new TypeToken<List<ClockStateModel>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetOpenShiftsResult result) throws IOException {
+            out.name("openShiftsRetrieved").value(result.isOpenShiftsRetrieved());
+            out.name("openShiftList");
+            openShiftListAdapter.write(out, result.getOpenShiftList());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetOpenShiftsResult.Builder newBuilder() {
+            return GetOpenShiftsResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetOpenShiftsResult.Builder builder) throws IOException {
+            switch (name) {
+                case "openShiftsRetrieved": builder.withOpenShiftsRetrieved(in.nextBoolean()); return true;
+                case "openShiftList": builder.withOpenShiftList(openShiftListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetOpenShiftsResult build(GetOpenShiftsResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class GetTimeEntriesResultAdapter
+            extends ResultAdapter<GetTimeEntriesResult, GetTimeEntriesResult.Builder> {
+        private final TypeAdapter<List<TimeEntry>> timeEntryListAdapter;
+
+        private GetTimeEntriesResultAdapter(Gson gson) {
+            this.timeEntryListAdapter = gson.getAdapter(new TypeToken<List<TimeEntry>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, GetTimeEntriesResult result) throws IOException {
+            out.name("timeEntriesRetrieved").value(result.isTimeEntriesRetrieved());
+            out.name("timeEntryList");
+            timeEntryListAdapter.write(out, result.getTimeEntryList());
+            out.name("nextToken").value(result.getNextToken());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        GetTimeEntriesResult.Builder newBuilder() {
+            return GetTimeEntriesResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, GetTimeEntriesResult.Builder builder) throws IOException {
+            switch (name) {
+                case "timeEntriesRetrieved": builder.withTimeEntriesRetrieved(in.nextBoolean()); return true;
+                case "timeEntryList": builder.withTimeEntryList(timeEntryListAdapter.read(in)); return true;
+                case "nextToken": builder.withNextToken(in.nextString()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        GetTimeEntriesResult build(GetTimeEntriesResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class LoginResultAdapter extends ResultAdapter<LoginResult, LoginResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, LoginResult result) throws IOException {
+            out.name("loginSuccess").value(result.isLoginSuccess());
+            out.name("username").value(result.getUsername());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("accountLocked").value(result.isAccountLocked());
+            out.name("forceChangeAfterLogin").value(result.isForceChangeAfterLogin());
+            out.name("sessionToken").value(result.getSessionToken());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        LoginResult.Builder newBuilder() {
+            return LoginResult.build();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, LoginResult.Builder builder) throws IOException {
+            switch (name) {
+                case "loginSuccess": builder.withLoginSuccess(in.nextBoolean()); return true;
+                case "username": builder.withUsername(in.nextString()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "accountLocked": builder.withAccountLocked(in.nextBoolean()); return true;
+                case "forceChangeAfterLogin": builder.withForceChangeAfterLogin(in.nextBoolean()); return true;
+                case "sessionToken": builder.withSessionToken(in.nextString()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        LoginResult build(LoginResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class NewEmployeeResultAdapter extends ResultAdapter<NewEmployeeResult, NewEmployeeResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, NewEmployeeResult result) throws IOException {
+            out.name("newEmployeeCreated").value(result.isNewEmployeeCreated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("firstName").value(result.getFirstName());
+            out.name("lastName").value(result.getLastName());
+            out.name("middleName").value(result.getMiddleName());
+            out.name("email").value(result.getEmail());
+            out.name("department").value(result.getDepartment());
+            out.name("hireDate").value(result.getHireDate());
+            out.name("phone").value(result.getPhone());
+            out.name("address").value(result.getAddress());
+            out.name("city").value(result.getCity());
+            out.name("state").value(result.getState());
+            out.name("zipCode").value(result.getZipCode());
+            out.name("payRate").value(result.getPayRate());
+            out.name("permissionAccess").value(result.getPermissionAccess());
+            out.name("username").value(result.getUsername());
+            out.name("password").value(result.getPassword());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        NewEmployeeResult.Builder newBuilder() {
+            return NewEmployeeResult.build();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, NewEmployeeResult.Builder builder) throws IOException {
+            switch (name) {
+                case "newEmployeeCreated": builder.withNewEmployeeCreated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "firstName": builder.withFirstName(in.nextString()); return true;
+                case "lastName": builder.withLastName(in.nextString()); return true;
+                case "middleName": builder.withMiddleName(in.nextString()); return true;
+                case "email": builder.withEmail(in.nextString()); return true;
+                case "department": builder.withDepartment(in.nextString()); return true;
+                case "hireDate": builder.withHireDate(in.nextString()); return true;
+                case "phone": builder.withPhone(in.nextString()); return true;
+                case "address": builder.withAddress(in.nextString()); return true;
+                case "city": builder.withCity(in.nextString()); return true;
+                case "state": builder.withState(in.nextString()); return true;
+                case "zipCode": builder.withZipCode(in.nextString()); return true;
+                case "payRate": builder.withPayRate(in.nextString()); return true;
+                case "permissionAccess": builder.withPermissionAccess(in.nextString()); return true;
+                case "username": builder.withUsername(in.nextString()); return true;
+                case "password": builder.withPassword(in.nextString()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        NewEmployeeResult build(NewEmployeeResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class NewTimeEntryResultAdapter
+            extends ResultAdapter<NewTimeEntryResult, NewTimeEntryResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, NewTimeEntryResult result) throws IOException {
+            out.name("newTimeEntryCreated").value(result.isNewTimeEntryCreated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("entryId").value(result.getEntryId());
+            out.name("timeIn").value(result.getTimeIn());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        NewTimeEntryResult.Builder newBuilder() {
+            return NewTimeEntryResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, NewTimeEntryResult.Builder builder) throws IOException {
+            switch (name) {
+                case "newTimeEntryCreated": builder.withNewTimeEntryCreated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "entryId": builder.withEntryId(in.nextString()); return true;
+                case "timeIn": builder.withTimeIn(in.nextString()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        NewTimeEntryResult build(NewTimeEntryResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class UpdateCredentialsResultAdapter
+            extends ResultAdapter<UpdateCredentialsResult, UpdateCredentialsResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, UpdateCredentialsResult result) throws IOException {
+            out.name("credentialsUpdated").value(result.isCredentialsUpdated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("username").value(result.getUsername());
+            out.name("lastUpdated").value(result.getLastUpdated());
+            out.name("accountLocked").value(result.isAccountLocked());
+            out.name("forceChangeAfterLogin").value(result.isForceChangeAfterLogin());
+            out.name("failedAttempts").value(result.getFailedAttempts());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        UpdateCredentialsResult.Builder newBuilder() {
+            return UpdateCredentialsResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, UpdateCredentialsResult.Builder builder) throws IOException {
+            switch (name) {
+                case "credentialsUpdated": builder.withCredentialsUpdated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "username": builder.withUsername(in.nextString()); return true;
+                case "lastUpdated": builder.withLastUpdated(in.nextString()); return true;
+                case "accountLocked": builder.withAccountLocked(in.nextBoolean()); return true;
+                case "forceChangeAfterLogin": builder.withForceChangeAfterLogin(in.nextBoolean()); return true;
+                case "failedAttempts": builder.withFailedAttempts(in.nextInt()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        UpdateCredentialsResult build(UpdateCredentialsResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class UpdateEmployeeResultAdapter
+            extends ResultAdapter<UpdateEmployeeResult, UpdateEmployeeResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, UpdateEmployeeResult result) throws IOException {
+            out.name("employeeUpdated").value(result.isEmployeeUpdated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("firstName").value(result.getFirstName());
+            out.name("lastName").value(result.getLastName());
+            out.name("middleName").value(result.getMiddleName());
+            out.name("email").value(result.getEmail());
+            out.name("department").value(result.getDepartment());
+            out.name("hireDate").value(result.getHireDate());
+            out.name("currentlyEmployed").value(result.isCurrentlyEmployed());
+            out.name("terminatedDate").value(result.getTerminatedDate());
+            out.name("phone").value(result.getPhone());
+            out.name("address").value(result.getAddress());
+            out.name("city").value(result.getCity());
+            out.name("state").value(result.getState());
+            out.name("zipCode").value(result.getZipCode());
+            out.name("payRate").value(result.getPayRate());
+            out.name("permissionAccess").value(result.getPermissionAccess());
+            out.name("version").value(result.getVersion());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        UpdateEmployeeResult.Builder newBuilder() {
+            return UpdateEmployeeResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, UpdateEmployeeResult.Builder builder) throws IOException {
+            switch (name) {
+                case "employeeUpdated": builder.withEmployeeUpdated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "firstName": builder.withFirstName(in.nextString()); return true;
+                case "lastName": builder.withLastName(in.nextString()); return true;
+                case "middleName": builder.withMiddleName(in.nextString()); return true;
+                case "email": builder.withEmail(in.nextString()); return true;
+                case "department": builder.withDepartment(in.nextString()); return true;
+                case "hireDate": builder.withHireDate(in.nextString()); return true;
+                case "currentlyEmployed": builder.withCurrentlyEmployed(in.nextBoolean()); return true;
+                case "terminatedDate": builder.withTerminatedDate(in.nextString()); return true;
+                case "phone": builder.withPhone(in.nextString()); return true;
+                case "address": builder.withAddress(in.nextString()); return true;
+                case "city": builder.withCity(in.nextString()); return true;
+                case "state": builder.withState(in.nextString()); return true;
+                case "zipCode": builder.withZipCode(in.nextString()); return true;
+                case "payRate": builder.withPayRate(in.nextString()); return true;
+                case "permissionAccess": builder.withPermissionAccess(in.nextString()); return true;
+                case "version": builder.withVersion(in.nextLong()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        UpdateEmployeeResult build(UpdateEmployeeResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class UpdateTimeEntriesResultAdapter
+            extends ResultAdapter<UpdateTimeEntriesResult, UpdateTimeEntriesResult.Builder> {
+        private final TypeAdapter<List<TimeEntryModel>> timeEntryListAdapter;
+        private final TypeAdapter<List<UpdateTimeEntryResult>> failedTimeEntryListAdapter;
+
+        private UpdateTimeEntriesResultAdapter(Gson gson) {
+            this.timeEntryListAdapter = gson.getAdapter(new TypeToken<List<TimeEntryModel>>() {});
+            this.failedTimeEntryListAdapter = gson.getAdapter(new TypeToken<List<UpdateTimeEntryResult>>() {});
+        }
+
+        @Override
+        void writeFields(JsonWriter out, UpdateTimeEntriesResult result) throws IOException {
+            out.name("timeEntriesUpdated").value(result.isTimeEntriesUpdated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("timeEntryList");
+            timeEntryListAdapter.write(out, result.getTimeEntryList());
+            out.name("failedTimeEntryList");
+            failedTimeEntryListAdapter.write(out, result.getFailedTimeEntryList());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        UpdateTimeEntriesResult.Builder newBuilder() {
+            return UpdateTimeEntriesResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, UpdateTimeEntriesResult.Builder builder) throws IOException {
+            switch (name) {
+                case "timeEntriesUpdated": builder.withTimeEntriesUpdated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "timeEntryList": builder.withTimeEntryList(timeEntryListAdapter.read(in)); return true;
+                case "failedTimeEntryList": builder.withFailedTimeEntryList(failedTimeEntryListAdapter.read(in)); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        UpdateTimeEntriesResult build(UpdateTimeEntriesResult.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    private static class UpdateTimeEntryResultAdapter
+            extends ResultAdapter<UpdateTimeEntryResult, UpdateTimeEntryResult.Builder> {
+        @Override
+        void writeFields(JsonWriter out, UpdateTimeEntryResult result) throws IOException {
+            out.name("timeEntryUpdated").value(result.isTimeEntryUpdated());
+            out.name("employeeId").value(result.getEmployeeId());
+            out.name("entryId").value(result.getEntryId());
+            out.name("timeIn").value(result.getTimeIn());
+            out.name("timeOut").value(result.getTimeOut());
+            out.name("duration").value(result.getDuration());
+            out.name("error").value(result.getError());
+        }
+
+        @Override
+        UpdateTimeEntryResult.Builder newBuilder() {
+            return UpdateTimeEntryResult.builder();
+        }
+
+        @Override
+        boolean readField(JsonReader in, String name, UpdateTimeEntryResult.Builder builder) throws IOException {
+            switch (name) {
+                case "timeEntryUpdated": builder.withTimeUpdated(in.nextBoolean()); return true;
+                case "employeeId": builder.withEmployeeId(in.nextString()); return true;
+                case "entryId": builder.withEntryId(in.nextString()); return true;
+                case "timeIn": builder.withTimeIn(in.nextString()); return true;
+                case "timeOut": builder.withTimeOut(in.nextString()); return true;
+                case "duration": builder.withDuration(in.nextDouble()); return true;
+                case "error": builder.withError(in.nextString()); return true;
+                default: return false;
+            }
+        }
+
+        @Override
+        UpdateTimeEntryResult build(UpdateTimeEntryResult.Builder builder) {
+            return builder.build();
+        }
+    }
+}
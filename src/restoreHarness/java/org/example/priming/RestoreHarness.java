@@ -0,0 +1,46 @@
+package org.example.priming;
+
+import org.crac.Core;
+import org.example.dependency.AppComponents;
+import org.example.lambda.NewTimeEntryHandler;
+import org.example.model.requests.NewTimeEntryRequest;
+import org.example.utils.gson.JsonUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from a restore to the first clock-in response.
+ * On a JDK with checkpoint/restore support, run it with {@code -XX:CRaCCheckpointTo=<dir>} and restore with
+ * {@code -XX:CRaCRestoreFrom=<dir>}. On any other JDK the hooks are called directly, which measures the same
+ * work without the snapshot itself. Set {@code PRIME_HANDLERS_BEFORE_CHECKPOINT=false} for a baseline without
+ * handler priming.
+ * The clock-in runs against {@link PrimingDynamoDB}, so the numbers cover startup work and not network time.
+ */
+public class RestoreHarness {
+
+    public static void main(String[] args) throws Exception {
+        AppComponents.get();
+        SnapStartPriming priming = AppComponents.priming();
+
+        boolean simulated;
+        try {
+            Core.checkpointRestore();
+            simulated = false;
+        } catch (UnsupportedOperationException e) {
+            priming.beforeCheckpoint(null);
+            priming.afterRestore(null);
+            simulated = true;
+        }
+
+        NewTimeEntryHandler handler = new NewTimeEntryHandler();
+        SnapStartPriming.createPrimingComponent().inject(handler);
+        String response = handler.handleRequest(
+                JsonUtil.fromJson("{\"employeeId\":\"Emp000000\"}", NewTimeEntryRequest.class), null);
+        long restoreToFirstResponse = System.nanoTime() - priming.getRestoredAtNanos();
+
+        System.out.printf("Restore to first response: %d ms (%s restore, handler priming %s)%n",
+                TimeUnit.NANOSECONDS.toMillis(restoreToFirstResponse),
+                simulated ? "simulated" : "real", priming.isPrimingHandlers() ? "on" : "off");
+        System.out.println("First response: " + response);
+    }
+}
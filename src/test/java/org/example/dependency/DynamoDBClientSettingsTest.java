@@ -0,0 +1,101 @@
+package org.example.dependency;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DynamoDBClientSettingsTest {
+
+    @Test
+    public void fromEnvironment_withNoVariables_usesDefaults() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of());
+
+        ClientConfiguration configuration = settings.toClientConfiguration();
+
+        assertEquals(DynamoDBClientSettings.DEFAULT_MAX_CONNECTIONS, configuration.getMaxConnections());
+        assertTrue(configuration.useTcpKeepAlive());
+        assertEquals(DynamoDBClientSettings.DEFAULT_SOCKET_TIMEOUT_MILLIS, configuration.getSocketTimeout());
+        assertEquals(DynamoDBClientSettings.DEFAULT_OPERATION_SETTINGS.getRequestTimeoutMillis(), configuration.getRequestTimeout());
+        assertEquals(8, configuration.getRetryPolicy().getMaxErrorRetry());
+        assertEquals(1, settings.forOperation("TransactWriteItems").getMaxErrorRetry());
+        assertEquals(8, settings.forOperation("Scan").getMaxErrorRetry());
+        assertEquals(3, settings.forOperation("GetItem").getMaxErrorRetry());
+    }
+
+    @Test
+    public void fromEnvironment_readsClientAndOperationVariables() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of(
+                "DYNAMODB_MAX_CONNECTIONS", "16",
+                "DYNAMODB_TCP_KEEP_ALIVE", "false",
+                "DYNAMODB_MAX_ERROR_RETRY", "2",
+                "DYNAMODB_TRANSACT_WRITE_ITEMS_CLIENT_EXECUTION_TIMEOUT_MILLIS", "1500",
+                "DYNAMODB_GET_ITEM_REQUEST_TIMEOUT_MILLIS", "500"));
+
+        assertEquals(16, settings.getMaxConnections());
+        assertFalse(settings.isTcpKeepAlive());
+        assertEquals(2, settings.forOperation("PutItem").getMaxErrorRetry());
+        assertEquals(1500, settings.forOperation("TransactWriteItems").getClientExecutionTimeoutMillis());
+        assertEquals(1, settings.forOperation("TransactWriteItems").getMaxErrorRetry());
+        assertEquals(500, settings.forOperation("GetItem").getRequestTimeoutMillis());
+        assertEquals(2, settings.forOperation("GetItem").getMaxErrorRetry());
+    }
+
+    @Test
+    public void fromEnvironment_withInvalidValue_throwsIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBClientSettings.fromEnvironment(Map.of("DYNAMODB_MAX_CONNECTIONS", "0")));
+        assertEquals("DYNAMODB_MAX_CONNECTIONS must be a whole number of at least 1, but was \"0\".", exception.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBClientSettings.fromEnvironment(Map.of("DYNAMODB_SCAN_MAX_ERROR_RETRY", "many")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDBClientSettings.fromEnvironment(Map.of("DYNAMODB_TCP_KEEP_ALIVE", "yes")));
+    }
+
+    @Test
+    public void shouldRetry_stopsAtOperationLimit() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of());
+        ProvisionedThroughputExceededException throttled = new ProvisionedThroughputExceededException("Throttled");
+        throttled.setErrorCode("ProvisionedThroughputExceededException");
+        throttled.setStatusCode(400);
+
+        assertTrue(settings.shouldRetry(new TransactWriteItemsRequest(), throttled, 0));
+        assertFalse(settings.shouldRetry(new TransactWriteItemsRequest(), throttled, 1));
+        assertTrue(settings.shouldRetry(new ScanRequest(), throttled, 7));
+        assertFalse(settings.shouldRetry(new ScanRequest(), throttled, 8));
+    }
+
+    @Test
+    public void shouldRetry_withClientError_doesNotRetry() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of());
+        AmazonServiceException validationError = new AmazonServiceException("Bad request");
+        validationError.setErrorCode("ValidationException");
+        validationError.setStatusCode(400);
+
+        assertFalse(settings.shouldRetry(new GetItemRequest(), validationError, 0));
+    }
+
+    @Test
+    public void operationTimeouts_setsTimeoutsUnlessAlreadySet() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of());
+        TransactWriteItemsRequest transactWrite = new TransactWriteItemsRequest();
+        ScanRequest scan = new ScanRequest();
+        scan.setSdkClientExecutionTimeout(60_000);
+
+        settings.operationTimeouts().beforeExecution(transactWrite);
+        settings.operationTimeouts().beforeExecution(scan);
+
+        assertEquals(1_000, transactWrite.getSdkRequestTimeout());
+        assertEquals(2_500, transactWrite.getSdkClientExecutionTimeout());
+        assertEquals(10_000, scan.getSdkRequestTimeout());
+        assertEquals(60_000, scan.getSdkClientExecutionTimeout());
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.dependency;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class DynamoDBWarmUpTest {
+    private AutoCloseable mocks;
+    @Mock
+    private AmazonDynamoDB amazonDynamoDB;
+
+    private DynamoDBMapper dynamoDBMapper;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+        dynamoDBMapper = new DynamoDBMapper(amazonDynamoDB);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void warmUp_withoutConnection_primesTableModelsOnly() {
+        DynamoDBMapper spyMapper = spy(dynamoDBMapper);
+
+        new DynamoDBWarmUp(spyMapper, false).warmUp();
+
+        for (Class<?> modelClass : DynamoDBWarmUp.TABLE_MODELS) {
+            verify(spyMapper).getTableModel(modelClass);
+        }
+        verifyNoInteractions(amazonDynamoDB);
+    }
+
+    @Test
+    public void warmUp_withConnection_readsWarmUpKey() {
+        when(amazonDynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult());
+        ArgumentCaptor<GetItemRequest> requestCaptor = ArgumentCaptor.forClass(GetItemRequest.class);
+
+        new DynamoDBWarmUp(dynamoDBMapper, true).warmUp();
+
+        verify(amazonDynamoDB).getItem(requestCaptor.capture());
+        assertEquals("employee", requestCaptor.getValue().getTableName());
+        assertEquals(DynamoDBWarmUp.WARM_UP_KEY, requestCaptor.getValue().getKey().get("employee_id").getS());
+    }
+
+    @Test
+    public void warmUp_withFailingRead_doesNotThrow() {
+        when(amazonDynamoDB.getItem(any(GetItemRequest.class))).thenThrow(new AmazonDynamoDBException("AccessDenied"));
+
+        assertDoesNotThrow(() -> new DynamoDBWarmUp(dynamoDBMapper, true).warmUp());
+    }
+}
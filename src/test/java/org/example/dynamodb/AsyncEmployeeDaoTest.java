@@ -0,0 +1,71 @@
+package org.example.dynamodb;
+
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class AsyncEmployeeDaoTest {
+    private AutoCloseable mocks;
+    @Mock
+    private EmployeeDao employeeDao;
+    @Mock
+    private Employee employee;
+    @Mock
+    private Employee otherEmployee;
+
+    private AsyncEmployeeDao asyncEmployeeDao;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+        asyncEmployeeDao = new AsyncEmployeeDao(employeeDao, new DaoExecutor(4));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void independentCalls_runConcurrently() {
+        // Each call only returns once the other one has started, so running them one after another would time out.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(employeeDao.getEmployee("Emp1")).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return employee;
+        });
+        when(employeeDao.getEmployee("Emp2")).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return otherEmployee;
+        });
+
+        CompletableFuture<Employee> employeeFuture = asyncEmployeeDao.getEmployee("Emp1");
+        CompletableFuture<Employee> otherEmployeeFuture = asyncEmployeeDao.getEmployee("Emp2");
+
+        assertSame(employee, DaoExecutor.join(employeeFuture));
+        assertSame(otherEmployee, DaoExecutor.join(otherEmployeeFuture));
+    }
+
+    @Test
+    public void getEmployee_withMissingEmployee_completesExceptionally() {
+        when(employeeDao.getEmployee("Emp1")).thenThrow(new EmployeeNotFoundException("Could not find employee with Employee ID: Emp1"));
+
+        CompletableFuture<Employee> future = asyncEmployeeDao.getEmployee("Emp1");
+
+        assertThrows(EmployeeNotFoundException.class, () -> DaoExecutor.join(future));
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.dynamodb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class BatchWriterTest {
+    private static final Function<String, String> ITEM_KEY = Function.identity();
+    private static final Function<Map<String, AttributeValue>, String> ATTRIBUTE_KEY = item -> item.get("id").getS();
+    private AutoCloseable mocks;
+    @Mock
+    private DynamoDBMapper dynamoDBMapper;
+
+    private BatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+        batchWriter = new BatchWriter(dynamoDBMapper, 4, 3, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void saveAll_splitsItemsIntoChunksOfTwentyFive() {
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenAnswer(invocation -> {
+                    Iterable<?> chunk = invocation.getArgument(0);
+                    chunkSizes.add((int) chunk.spliterator().getExactSizeIfKnown());
+                    return new ArrayList<>();
+                });
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(60), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertTrue(result.isComplete());
+        assertEquals(60, result.getSavedItems().size());
+        assertEquals(List.of(10, 25, 25), chunkSizes.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void saveAll_retriesUnprocessedItemsUntilWritten() {
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(List.of(failedBatch(null, "item-1", "item-2")))
+                .thenReturn(List.of(failedBatch(null, "item-2")))
+                .thenReturn(new ArrayList<>());
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(3), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertTrue(result.isComplete());
+        assertEquals(List.of("item-0", "item-1", "item-2"), result.getSavedItems());
+        verify(dynamoDBMapper, times(3)).batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void saveAll_withItemsStillUnprocessed_reportsThemAsFailed() {
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(List.of(failedBatch(null, "item-1")));
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(2), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertEquals(List.of("item-0"), result.getSavedItems());
+        assertEquals(1, result.getFailedItems().size());
+        assertEquals("item-1", result.getFailedItems().get(0).getItem());
+        assertEquals(3, result.getFailedItems().get(0).getAttempts());
+    }
+
+    @Test
+    public void saveAll_withThrottledBatch_retriesWholeBatch() {
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(List.of(failedBatch(throttlingException(), "item-0", "item-1")))
+                .thenReturn(new ArrayList<>());
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(2), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getSavedItems().size());
+    }
+
+    @Test
+    public void saveAll_withNonRetryableError_failsItemsWithoutRetrying() {
+        AmazonServiceException validationException = new AmazonServiceException("Invalid item.");
+        validationException.setErrorCode("ValidationException");
+        validationException.setStatusCode(400);
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(List.of(failedBatch(validationException, "item-0", "item-1")));
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(2), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertTrue(result.getSavedItems().isEmpty());
+        assertEquals(2, result.getFailedItems().size());
+        assertTrue(result.getFailedItems().get(0).getError().startsWith("Invalid item."));
+        verify(dynamoDBMapper, times(1)).batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void saveAll_limitsConcurrentBatches() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenAnswer(invocation -> {
+                    threads.add(Thread.currentThread());
+                    return new ArrayList<>();
+                });
+
+        BatchWriteResult<String> result = batchWriter.saveAll(items(250), ITEM_KEY, ATTRIBUTE_KEY);
+
+        assertEquals(250, result.getSavedItems().size());
+        assertTrue(threads.size() <= 4);
+    }
+
+    private static List<String> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "item-" + i).collect(Collectors.toList());
+    }
+
+    private static DynamoDBMapper.FailedBatch failedBatch(Exception exception, String... ids) {
+        List<WriteRequest> writeRequests = new ArrayList<>();
+        for (String id : ids) {
+            writeRequests.add(new WriteRequest(new PutRequest(Map.of("id", new AttributeValue(id)))));
+        }
+        DynamoDBMapper.FailedBatch failedBatch = new DynamoDBMapper.FailedBatch();
+        failedBatch.setUnprocessedItems(Map.of("table", writeRequests));
+        failedBatch.setException(exception);
+        return failedBatch;
+    }
+
+    private static AmazonServiceException throttlingException() {
+        ProvisionedThroughputExceededException exception = new ProvisionedThroughputExceededException("Throttled.");
+        exception.setErrorCode("ProvisionedThroughputExceededException");
+        exception.setStatusCode(400);
+        return exception;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.dynamodb;
+
+import org.example.exceptions.EmployeeNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DaoExecutorTest {
+
+    @Test
+    public void join_rethrowsDaoExceptionUnwrapped() {
+        DaoExecutor daoExecutor = new DaoExecutor(2);
+
+        CompletableFuture<String> future = daoExecutor.supply(() -> {
+            throw new EmployeeNotFoundException("Could not find employee with Employee ID: Emp1");
+        });
+
+        EmployeeNotFoundException exception = assertThrows(EmployeeNotFoundException.class, () -> DaoExecutor.join(future));
+        assertEquals("Could not find employee with Employee ID: Emp1", exception.getMessage());
+    }
+
+    @Test
+    public void supply_withFullPoolAndQueue_runsOnCallingThread() throws InterruptedException {
+        DaoExecutor daoExecutor = new DaoExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = daoExecutor.run(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = daoExecutor.run(() -> { });
+        String overflowThread = DaoExecutor.join(daoExecutor.supply(() -> Thread.currentThread().getName()));
+
+        assertEquals(Thread.currentThread().getName(), overflowThread);
+        assertEquals(1, daoExecutor.getQueuedCalls());
+        release.countDown();
+        DaoExecutor.join(running);
+        DaoExecutor.join(queued);
+    }
+
+    @Test
+    public void constructor_withInvalidSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DaoExecutor(0));
+        assertThrows(IllegalArgumentException.class, () -> new DaoExecutor(1, 0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.EmployeeCredentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class DynamoDBEmployeeCredentialsDaoTest {
+    AutoCloseable mocks;
+    @Mock
+    private DynamoDBMapper dynamoDBMapper;
+    @Mock
+    private AmazonDynamoDB amazonDynamoDB;
+
+    @InjectMocks
+    private DynamoDBEmployeeCredentialsDao employeeCredentialsDao;
+
+    private EmployeeCredentialsModel employeeCredentialsModel;
+    private EmployeeCredentials employeeCredentials;
+
+    private final String username = "testUser";
+    private final String employeeId = "Emp123";
+    private final String salt = "randomSalt";
+    private final String password = "hashedPassword";
+    private final LocalDateTime lastUpdated = LocalDateTime.now();
+    private final boolean accountLocked = false;
+    private final boolean forceChangeAfterLogin = true;
+    private final int failedAttempts = 0;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = openMocks(this);
+        employeeCredentialsModel = new EmployeeCredentialsModel();
+        employeeCredentialsModel.setUsername(username);
+        employeeCredentialsModel.setEmployeeId(employeeId);
+        employeeCredentialsModel.setSalt(salt);
+        employeeCredentialsModel.setPassword(password);
+        employeeCredentialsModel.setLastUpdated(lastUpdated.toString());
+        employeeCredentialsModel.setAccountLocked(accountLocked);
+        employeeCredentialsModel.setForceChangeAfterLogin(forceChangeAfterLogin);
+        employeeCredentialsModel.setFailedAttempts(failedAttempts);
+
+        employeeCredentials = new EmployeeCredentials(employeeId, username, salt, password, lastUpdated, accountLocked, forceChangeAfterLogin, failedAttempts);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void getEmployeeCredentials_returnsEmployeeCredentials() {
+        when(dynamoDBMapper.load(EmployeeCredentialsModel.class, username)).thenReturn(employeeCredentialsModel);
+
+        EmployeeCredentials result = employeeCredentialsDao.getEmployeeCredentials(username);
+
+        assertNotNull(result);
+        assertEquals(employeeCredentials, result);
+        verify(dynamoDBMapper, times(1)).load(EmployeeCredentialsModel.class, username);
+    }
+
+    @Test
+    public void getEmployeeCredentials_throwsUsernameNotFoundException() {
+        when(dynamoDBMapper.load(EmployeeCredentialsModel.class, username)).thenReturn(null);
+
+        assertThrows(UsernameNotFoundException.class, () -> employeeCredentialsDao.getEmployeeCredentials(username));
+        verify(dynamoDBMapper, times(1)).load(EmployeeCredentialsModel.class, username);
+    }
+
+    @Test
+    public void saveEmployeeCredentials_savesEmployeeCredentials() {
+        doNothing().when(dynamoDBMapper).save(any(EmployeeCredentialsModel.class));
+
+        EmployeeCredentialsModel result = employeeCredentialsDao.saveEmployeeCredentials(employeeCredentials);
+
+        assertNotNull(result);
+        assertEquals(employeeCredentialsModel.getUsername(), result.getUsername());
+        verify(dynamoDBMapper, times(1)).save(any(EmployeeCredentialsModel.class));
+    }
+
+    @Test
+    public void saveEmployeeCredentials_throwsException() {
+        doThrow(new RuntimeException("Error saving")).when(dynamoDBMapper).save(any(EmployeeCredentialsModel.class));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> employeeCredentialsDao.saveEmployeeCredentials(employeeCredentials));
+        assertEquals("Error saving", exception.getMessage());
+        verify(dynamoDBMapper, times(1)).save(any(EmployeeCredentialsModel.class));
+    }
+
+    @Test
+    public void recordFailedLogin_incrementsCounterAtomically() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(failedAttemptsResult(1));
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+
+        int result = employeeCredentialsDao.recordFailedLogin(username);
+
+        assertEquals(1, result);
+        verify(amazonDynamoDB, times(1)).updateItem(requestCaptor.capture());
+        verify(dynamoDBMapper, never()).save(any(EmployeeCredentialsModel.class));
+        UpdateItemRequest request = requestCaptor.getValue();
+        assertEquals("employee_credentials", request.getTableName());
+        assertEquals(username, request.getKey().get("username").getS());
+        assertEquals("ADD #failedAttempts :one", request.getUpdateExpression());
+        assertEquals("attribute_exists(#username)", request.getConditionExpression());
+    }
+
+    @Test
+    public void recordFailedLogin_reachingLimit_locksAccountConditionally() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(failedAttemptsResult(EmployeeCredentials.MAX_FAILED_ATTEMPTS))
+                .thenReturn(new UpdateItemResult());
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+
+        int result = employeeCredentialsDao.recordFailedLogin(username);
+
+        assertEquals(EmployeeCredentials.MAX_FAILED_ATTEMPTS, result);
+        verify(amazonDynamoDB, times(2)).updateItem(requestCaptor.capture());
+        UpdateItemRequest lockRequest = requestCaptor.getAllValues().get(1);
+        assertEquals("SET #accountLocked = :locked", lockRequest.getUpdateExpression());
+        assertEquals("#failedAttempts >= :maxFailedAttempts AND #accountLocked <> :locked", lockRequest.getConditionExpression());
+        assertEquals("1", lockRequest.getExpressionAttributeValues().get(":locked").getN());
+    }
+
+    @Test
+    public void recordFailedLogin_whenAlreadyLockedConcurrently_returnsCount() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(failedAttemptsResult(4))
+                .thenThrow(new ConditionalCheckFailedException("Already locked."));
+
+        assertEquals(4, employeeCredentialsDao.recordFailedLogin(username));
+    }
+
+    @Test
+    public void recordFailedLogin_withUnknownUsername_throwsUsernameNotFoundException() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Missing."));
+
+        assertThrows(UsernameNotFoundException.class, () -> employeeCredentialsDao.recordFailedLogin(username));
+    }
+
+    @Test
+    public void resetFailedLogins_ignoresConditionalCheckFailure() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Locked."));
+
+        assertDoesNotThrow(() -> employeeCredentialsDao.resetFailedLogins(username));
+        verify(amazonDynamoDB).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    public void updatePasswordHash_setsOnlyTheHashConditionedOnThePreviousHash() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult());
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+
+        assertTrue(employeeCredentialsDao.updatePasswordHash(employeeCredentials, "previousHash"));
+
+        verify(amazonDynamoDB).updateItem(requestCaptor.capture());
+        verify(dynamoDBMapper, never()).save(any(EmployeeCredentialsModel.class));
+        UpdateItemRequest request = requestCaptor.getValue();
+        assertEquals(username, request.getKey().get("username").getS());
+        assertEquals("SET #password = :password, #salt = :salt, #hashMemoryKB = :hashMemoryKB, "
+                + "#hashIterations = :hashIterations, #hashParallelism = :hashParallelism", request.getUpdateExpression());
+        assertEquals("#password = :previousPassword", request.getConditionExpression());
+        assertEquals(password, request.getExpressionAttributeValues().get(":password").getS());
+        assertEquals("previousHash", request.getExpressionAttributeValues().get(":previousPassword").getS());
+        assertFalse(request.getExpressionAttributeNames().containsValue("accountLocked"));
+        assertFalse(request.getExpressionAttributeNames().containsValue("failedAttempts"));
+    }
+
+    @Test
+    public void updatePasswordHash_afterConcurrentPasswordChange_returnsFalse() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Changed."));
+
+        assertFalse(employeeCredentialsDao.updatePasswordHash(employeeCredentials, "previousHash"));
+    }
+
+    @Test
+    public void resetPassword_setsOnlyTheResetFieldsConditionedOnThePreviousHash() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult());
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        employeeCredentials.adminResetPassword("T3mpP@ssw0rd");
+
+        assertTrue(employeeCredentialsDao.resetPassword(employeeCredentials, "previousHash"));
+
+        verify(amazonDynamoDB).updateItem(requestCaptor.capture());
+        verify(dynamoDBMapper, never()).save(any(EmployeeCredentialsModel.class));
+        UpdateItemRequest request = requestCaptor.getValue();
+        assertEquals(username, request.getKey().get("username").getS());
+        assertEquals("#password = :previousPassword", request.getConditionExpression());
+        Map<String, AttributeValue> values = request.getExpressionAttributeValues();
+        assertEquals(employeeCredentials.getPassword(), values.get(":password").getS());
+        assertEquals(employeeCredentials.getLastUpdated().toString(), values.get(":lastUpdated").getS());
+        assertEquals("0", values.get(":accountLocked").getN());
+        assertEquals("1", values.get(":forceChangeAfterLogin").getN());
+        assertEquals("0", values.get(":failedAttempts").getN());
+        assertEquals("previousHash", values.get(":previousPassword").getS());
+        assertFalse(request.getExpressionAttributeNames().containsValue("employeeId"));
+    }
+
+    @Test
+    public void resetPassword_afterConcurrentPasswordChange_returnsFalse() {
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Changed."));
+
+        assertFalse(employeeCredentialsDao.resetPassword(employeeCredentials, "previousHash"));
+    }
+
+    private static UpdateItemResult failedAttemptsResult(int failedAttempts) {
+        return new UpdateItemResult().withAttributes(
+                Map.of("failedAttempts", new AttributeValue().withN(String.valueOf(failedAttempts))));
+    }
+
+    @Test
+    public void getEmployeeCredentialsList_returnsFoundCredentialsInRequestOrder() {
+        EmployeeCredentialsModel otherModel = new EmployeeCredentialsModel();
+        otherModel.setUsername("otherUser");
+        otherModel.setEmployeeId("Emp456");
+        otherModel.setSalt(salt);
+        otherModel.setPassword(password);
+        otherModel.setLastUpdated(lastUpdated.toString());
+        when(dynamoDBMapper.batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class))).thenReturn(Map.of(
+                "employee_credentials", List.of(otherModel, employeeCredentialsModel)));
+
+        List<EmployeeCredentials> credentials = employeeCredentialsDao.getEmployeeCredentialsList(
+                List.of(username, "missingUser", "otherUser", username));
+
+        assertEquals(List.of(username, "otherUser"),
+                List.of(credentials.get(0).getUsername(), credentials.get(1).getUsername()));
+        assertEquals(employeeCredentials, credentials.get(0));
+        verify(dynamoDBMapper, times(1)).batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+}
@@ -0,0 +1,533 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import org.example.dynamodb.model.EmployeeCredentialsModel;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UsernameAlreadyExistsException;
+import org.example.model.Employee;
+import org.example.model.EmployeeCredentials;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
+import org.example.model.PermissionLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class DynamoDBEmployeeDaoTest {
+    AutoCloseable mocks;
+    @Mock
+    DynamoDBMapper dynamoDBMapper;
+    @Mock
+    AmazonDynamoDB amazonDynamoDB;
+
+    @InjectMocks
+    DynamoDBEmployeeDao employeeDao;
+
+    Employee employee;
+    EmployeeModel employeeModel;
+    List<EmployeeModel> employeeModelList = new ArrayList<>();
+
+    private final String employeeId = "Emp123456";
+    private final String firstName = "John";
+    private final String lastName = "Doe";
+    private final String middleName = "Middle";
+    private final String email = "john_doe@example.com";
+    private final String department = "Department Name";
+    private final String phone = "+1-123-123-4567";
+    private final String address = "123 Example Ave";
+    private final String city = "Example City";
+    private final String state = "Colorado";
+    private final String zipCode = "12345";
+    private final String payRate = "2500/bw";
+    private final PermissionLevel permissionLevel = PermissionLevel.ADMIN;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+
+        // Employee Setup
+        employee = Employee.builder()
+                .withEmployeeId(employeeId)
+                .withFirstName(firstName)
+                .withLastName(lastName)
+                .withMiddleName(middleName)
+                .withEmail(email)
+                .withDepartment(department)
+                .withHireDate(LocalDate.of(2020, 1,1))
+                .withPhone(phone)
+                .withAddress(address)
+                .withCity(city)
+                .withState(state)
+                .withZipCode(zipCode)
+                .withPayRate(payRate)
+                .withPermissionAccess(permissionLevel)
+                .build();
+
+        // EmployeeModel Setup
+        employeeModel = new EmployeeModel();
+        employeeModel.setEmployeeId(employeeId);
+        employeeModel.setFirstName(firstName);
+        employeeModel.setLastName(lastName);
+        employeeModel.setMiddleName(middleName);
+        employeeModel.setEmail(email);
+        employeeModel.setDepartment(department);
+        employeeModel.setCurrentlyEmployed(true);
+        employeeModel.setHireDate("2020-01-01");
+        employeeModel.setPhone(phone);
+        employeeModel.setAddress(address);
+        employeeModel.setCity(city);
+        employeeModel.setState(state);
+        employeeModel.setZipCode(zipCode);
+        employeeModel.setPayRate(payRate);
+        employeeModel.setPermissionAccess("Admin");
+
+        // EmployeeModel List Setup
+        EmployeeModel employeeModel1 = new EmployeeModel();
+        employeeModel1.setEmployeeId("Emp654321");
+        employeeModel1.setFirstName("Jane");
+        employeeModel1.setLastName("Doe");
+        employeeModel1.setEmail("jane_doe@example.com");
+        employeeModel1.setDepartment(department);
+        employeeModel1.setHireDate("2022-06-26");
+        employeeModel1.setCurrentlyEmployed(true);
+        employeeModel1.setPhone(phone);
+        employeeModel1.setAddress(address);
+        employeeModel1.setCity(city);
+        employeeModel1.setState(state);
+        employeeModel1.setZipCode(zipCode);
+        employeeModel1.setPayRate(payRate);
+        employeeModel1.setPermissionAccess("Standard");
+
+        employeeModelList.add(employeeModel);
+        employeeModelList.add(employeeModel1);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void getEmployee_returnsInstanceOfEmployee() {
+        when(dynamoDBMapper.load(any(), anyString())).thenReturn(employeeModel);
+
+        assertInstanceOf(Employee.class, employeeDao.getEmployee(employeeId));
+    }
+
+    @Test
+    public void getEmployee_withInvalidEmployeeId_throwsEmployeeNotFoundException() {
+        when(dynamoDBMapper.load(any(), anyString())).thenReturn(null);
+
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeDao.getEmployee("Invalid Employee ID");
+        });
+    }
+
+    @Test
+    public void getEmployee_calledTwice_loadsOnceFromCache() {
+        when(dynamoDBMapper.load(EmployeeModel.class, employeeId)).thenReturn(employeeModel);
+
+        Employee first = employeeDao.getEmployee(employeeId);
+        Employee second = employeeDao.getEmployee(employeeId);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        verify(dynamoDBMapper, times(1)).load(EmployeeModel.class, employeeId);
+        assertEquals(1, employeeDao.getCacheStats().hitCount());
+        assertEquals(1, employeeDao.getCacheStats().missCount());
+    }
+
+    @Test
+    public void getEmployee_withInvalidEmployeeId_doesNotCacheMiss() {
+        when(dynamoDBMapper.load(any(), anyString())).thenReturn(null);
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDao.getEmployee("Emp000000"));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDao.getEmployee("Emp000000"));
+
+        verify(dynamoDBMapper, times(2)).load(EmployeeModel.class, "Emp000000");
+    }
+
+    @Test
+    public void saveEmployee_invalidatesCachedEmployee() {
+        when(dynamoDBMapper.load(EmployeeModel.class, employeeId)).thenReturn(employeeModel);
+        employeeDao.getEmployee(employeeId);
+
+        employeeDao.saveEmployee(employee);
+        employeeDao.getEmployee(employeeId);
+
+        verify(dynamoDBMapper, times(2)).load(EmployeeModel.class, employeeId);
+    }
+
+    @Test
+    public void saveEmployee_savesEmployeeToTable() {
+        doNothing().when(dynamoDBMapper).save(any(EmployeeModel.class));
+
+        EmployeeModel savedEmployeeModel = employeeDao.saveEmployee(employee);
+
+        assertNotNull(savedEmployeeModel);
+        verify(dynamoDBMapper, times(1)).save(any(EmployeeModel.class));
+    }
+
+    @Test
+    public void saveEmployee_withInvalidEmployee_throwsException() {
+        doNothing().when(dynamoDBMapper).save(any(EmployeeModel.class));
+
+        assertThrows(Exception.class, () -> {
+            employeeDao.saveEmployee(null);
+        });
+    }
+
+    @Test
+    public void createEmployee_writesEmployeeAndCredentialsInOneTransaction() {
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, "jdoe", "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, true, 0);
+
+        EmployeeModel savedEmployeeModel = employeeDao.createEmployee(employee, credentials);
+
+        assertEquals(employeeId, savedEmployeeModel.getEmployeeId());
+        verify(dynamoDBMapper, times(1)).transactionWrite(any(TransactionWriteRequest.class));
+        verify(dynamoDBMapper, never()).load(eq(EmployeeCredentialsModel.class), anyString());
+        verify(dynamoDBMapper, never()).save(any());
+    }
+
+    @Test
+    public void createEmployee_withTakenUsername_throwsUsernameAlreadyExistsException() {
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, "jdoe", "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, true, 0);
+        doThrow(transactionCanceled("ConditionalCheckFailed", "None"))
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        UsernameAlreadyExistsException exception = assertThrows(UsernameAlreadyExistsException.class,
+                () -> employeeDao.createEmployee(employee, credentials));
+        assertEquals("Username \"jdoe\" is already taken. Please choose another.", exception.getMessage());
+    }
+
+    @Test
+    public void createEmployee_withOtherCancellation_rethrows() {
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, "jdoe", "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, true, 0);
+        doThrow(transactionCanceled("None", "ConditionalCheckFailed"))
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        assertThrows(TransactionCanceledException.class, () -> employeeDao.createEmployee(employee, credentials));
+    }
+
+    @Test
+    public void getAllEmployees_retrievesAllEmployees() {
+        // GIVEN
+        PaginatedScanList<EmployeeModel> mockPaginatedScanList = mock(PaginatedScanList.class);
+        when(mockPaginatedScanList.iterator()).thenReturn(employeeModelList.iterator());
+        when(mockPaginatedScanList.size()).thenReturn(employeeModelList.size());
+        when(dynamoDBMapper.scan(eq(EmployeeModel.class), any(DynamoDBScanExpression.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(mockPaginatedScanList);
+
+        // WHEN
+        List<Employee> employeeList = employeeDao.getAllEmployees();
+
+        // THEN
+        assertFalse(employeeList.isEmpty(), "List of Employees should not be empty!");
+        assertInstanceOf(Employee.class, employeeList.get(0));
+    }
+
+    @Test
+    public void streamAllEmployees_convertsLazilyWithIterationOnlyScan() {
+        // GIVEN
+        PaginatedScanList<EmployeeModel> mockPaginatedScanList = mock(PaginatedScanList.class);
+        when(mockPaginatedScanList.iterator()).thenReturn(employeeModelList.iterator());
+        ArgumentCaptor<DynamoDBMapperConfig> configCaptor = ArgumentCaptor.forClass(DynamoDBMapperConfig.class);
+        when(dynamoDBMapper.scan(eq(EmployeeModel.class), any(DynamoDBScanExpression.class), configCaptor.capture()))
+                .thenReturn(mockPaginatedScanList);
+
+        // WHEN
+        List<Employee> employeeList;
+        try (Stream<Employee> employees = employeeDao.streamAllEmployees()) {
+            employeeList = employees.collect(Collectors.toList());
+        }
+
+        // THEN
+        assertEquals(employeeModelList.size(), employeeList.size());
+        assertEquals(employeeId, employeeList.get(0).getEmployeeId());
+        assertEquals(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY,
+                configCaptor.getValue().getPaginationLoadingStrategy());
+        verify(mockPaginatedScanList, never()).size();
+        verify(mockPaginatedScanList, never()).get(anyInt());
+    }
+
+
+    @Test
+    public void getAllEmployeesParallel_mergesSegmentsInSegmentOrder() {
+        // GIVEN
+        when(dynamoDBMapper.scanPage(eq(EmployeeModel.class), any(DynamoDBScanExpression.class))).thenAnswer(invocation -> {
+            DynamoDBScanExpression expression = invocation.getArgument(1);
+            int segment = expression.getSegment();
+            ScanResultPage<EmployeeModel> page = new ScanResultPage<>();
+            if (segment == 1 && expression.getExclusiveStartKey() == null) {
+                // Segment 1 has a second page, and is slower than the other segments
+                Thread.sleep(50);
+                page.setResults(List.of(employeeModelWithId("SEG1PG1")));
+                page.setLastEvaluatedKey(Map.of("employee_id", new AttributeValue().withS("SEG1PG1")));
+            } else if (segment == 1) {
+                page.setResults(List.of(employeeModelWithId("SEG1PG2")));
+            } else {
+                page.setResults(List.of(employeeModelWithId("SEG" + segment)));
+            }
+            return page;
+        });
+
+        // WHEN
+        List<Employee> employeeList = employeeDao.getAllEmployees(3);
+
+        // THEN
+        List<String> employeeIds = employeeList.stream().map(Employee::getEmployeeId).collect(Collectors.toList());
+        assertEquals(List.of("SEG0", "SEG1PG1", "SEG1PG2", "SEG2"), employeeIds);
+        verify(dynamoDBMapper, times(4)).scanPage(eq(EmployeeModel.class), any(DynamoDBScanExpression.class));
+    }
+
+    @Test
+    public void getAllEmployeesParallel_segmentFailure_throwsOriginalException() {
+        when(dynamoDBMapper.scanPage(eq(EmployeeModel.class), any(DynamoDBScanExpression.class)))
+                .thenThrow(new IllegalStateException("Segment failed"));
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> employeeDao.getAllEmployees(2));
+
+        assertEquals("Segment failed", thrown.getMessage());
+    }
+
+    @Test
+    public void getAllEmployeesParallel_withInvalidSegmentCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> employeeDao.getAllEmployees(0));
+        assertThrows(IllegalArgumentException.class, () -> employeeDao.getAllEmployees(DynamoDBEmployeeDao.MAX_SCAN_SEGMENTS + 1));
+
+        verifyNoInteractions(dynamoDBMapper);
+    }
+
+    @Test
+    public void getEmployeeWithFields_queriesWithProjection() {
+        QueryResultPage<EmployeeModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(List.of(employeeModelWithId(employeeId)));
+        ArgumentCaptor<DynamoDBQueryExpression<EmployeeModel>> captor = ArgumentCaptor.forClass(DynamoDBQueryExpression.class);
+        when(dynamoDBMapper.queryPage(eq(EmployeeModel.class), captor.capture())).thenReturn(queryResultPage);
+
+        Employee projectedEmployee = employeeDao.getEmployee(employeeId, EmployeeField.fromFieldNames(List.of("department")));
+
+        DynamoDBQueryExpression<EmployeeModel> queryExpression = captor.getValue();
+        assertEquals(employeeId, projectedEmployee.getEmployeeId());
+        assertNull(projectedEmployee.getPayRate());
+        assertTrue(queryExpression.getProjectionExpression().contains("#department"));
+        assertFalse(queryExpression.getProjectionExpression().contains("#payRate"));
+        assertEquals("department", queryExpression.getExpressionAttributeNames().get("#department"));
+        verify(dynamoDBMapper, never()).load(any(), anyString());
+    }
+
+    @Test
+    public void getEmployeeWithFields_notFound_throwsEmployeeNotFoundException() {
+        QueryResultPage<EmployeeModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(new ArrayList<>());
+        when(dynamoDBMapper.queryPage(eq(EmployeeModel.class), any(DynamoDBQueryExpression.class))).thenReturn(queryResultPage);
+
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeDao.getEmployee("Invalid", EmployeeField.fromFieldNames(List.of("email")));
+        });
+    }
+
+    @Test
+    public void getEmployeeWithAllFields_loadsWholeItem() {
+        when(dynamoDBMapper.load(any(), anyString())).thenReturn(employeeModel);
+
+        Employee loadedEmployee = employeeDao.getEmployee(employeeId, EmployeeField.fromFieldNames(null));
+
+        assertEquals(employeeId, loadedEmployee.getEmployeeId());
+        verify(dynamoDBMapper, never()).queryPage(any(), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void streamAllEmployeesWithFields_scansWithProjection() {
+        PaginatedScanList<EmployeeModel> mockPaginatedScanList = mock(PaginatedScanList.class);
+        when(mockPaginatedScanList.iterator()).thenReturn(List.of(employeeModelWithId(employeeId)).iterator());
+        ArgumentCaptor<DynamoDBScanExpression> captor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+        when(dynamoDBMapper.scan(eq(EmployeeModel.class), captor.capture(), any(DynamoDBMapperConfig.class)))
+                .thenReturn(mockPaginatedScanList);
+
+        List<Employee> employeeList;
+        try (Stream<Employee> employees = employeeDao.streamAllEmployees(EmployeeField.fromFieldNames(List.of("department")))) {
+            employeeList = employees.collect(Collectors.toList());
+        }
+
+        assertEquals(1, employeeList.size());
+        assertTrue(captor.getValue().getProjectionExpression().contains("#department"));
+        assertEquals("first_name", captor.getValue().getExpressionAttributeNames().get("#firstName"));
+    }
+
+    @Test
+    public void getEmployees_returnsFoundEmployeesInRequestOrder() {
+        when(dynamoDBMapper.batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class))).thenReturn(Map.of(
+                "employees", List.of(employeeModelWithId("B"), employeeModelWithId("A"))));
+
+        List<Employee> employees = employeeDao.getEmployees(List.of("A", "Missing", "B", "A"));
+
+        assertEquals(List.of("A", "B"), employees.stream().map(Employee::getEmployeeId).collect(Collectors.toList()));
+        verify(dynamoDBMapper, times(1)).batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void getEmployees_withMoreThanOneHundredIds_loadsInChunks() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(dynamoDBMapper.batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class))).thenAnswer(invocation -> {
+            List<EmployeeModel> keys = invocation.getArgument(0);
+            chunkSizes.add(keys.size());
+            List<Object> models = new ArrayList<>();
+            for (EmployeeModel key : keys) {
+                models.add(employeeModelWithId(key.getEmployeeId()));
+            }
+            return Map.of("employees", models);
+        });
+        List<String> employeeIds = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            employeeIds.add("ID" + i);
+        }
+
+        List<Employee> employees = employeeDao.getEmployees(employeeIds);
+
+        assertEquals(250, employees.size());
+        assertEquals("ID249", employees.get(249).getEmployeeId());
+        assertEquals(List.of(100, 100, 50), chunkSizes);
+    }
+
+    @Test
+    public void getEmployees_withEmptyIds_doesNotCallDynamoDB() {
+        assertTrue(employeeDao.getEmployees(List.of()).isEmpty());
+        verify(dynamoDBMapper, never()).batchLoad(any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void updateEmployee_sendsOnlyChangedAttributesWithVersionCondition() {
+        // GIVEN
+        EmployeePatch patch = EmployeePatch.builder()
+                .withEmployeeId(employeeId)
+                .withExpectedVersion(3L)
+                .withPhone("+1-555-555-5555")
+                .withCurrentlyEmployed(false)
+                .build();
+        EmployeeModel updatedModel = employeeModelWithId(employeeId);
+        updatedModel.setVersion(4L);
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult().withAttributes(Map.of()));
+        when(dynamoDBMapper.marshallIntoObject(eq(EmployeeModel.class), any(Map.class))).thenReturn(updatedModel);
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+
+        // WHEN
+        EmployeeModel result = employeeDao.updateEmployee(patch);
+
+        // THEN
+        verify(amazonDynamoDB).updateItem(requestCaptor.capture());
+        verify(dynamoDBMapper, never()).load(eq(EmployeeModel.class), anyString());
+        UpdateItemRequest request = requestCaptor.getValue();
+        assertEquals("employee", request.getTableName());
+        assertEquals(employeeId, request.getKey().get("employee_id").getS());
+        assertEquals("SET #currentlyEmployed = :currentlyEmployed, #phone = :phone, " +
+                "#version = if_not_exists(#version, :zero) + :one", request.getUpdateExpression());
+        assertEquals("attribute_exists(#employeeId) AND #version = :expectedVersion", request.getConditionExpression());
+        assertEquals("currently_employed", request.getExpressionAttributeNames().get("#currentlyEmployed"));
+        assertEquals(false, request.getExpressionAttributeValues().get(":currentlyEmployed").getBOOL());
+        assertEquals("+1-555-555-5555", request.getExpressionAttributeValues().get(":phone").getS());
+        assertEquals("3", request.getExpressionAttributeValues().get(":expectedVersion").getN());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    public void updateEmployee_cachesUpdatedEmployee() {
+        EmployeePatch patch = EmployeePatch.builder().withEmployeeId(employeeId).withCity("Denver").build();
+        EmployeeModel updatedModel = employeeModelWithId(employeeId);
+        updatedModel.setCity("Denver");
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult().withAttributes(Map.of()));
+        when(dynamoDBMapper.marshallIntoObject(eq(EmployeeModel.class), any(Map.class))).thenReturn(updatedModel);
+
+        employeeDao.updateEmployee(patch);
+        Employee cachedEmployee = employeeDao.getEmployee(employeeId);
+
+        assertEquals("Denver", cachedEmployee.getCity());
+        verify(dynamoDBMapper, never()).load(EmployeeModel.class, employeeId);
+    }
+
+    @Test
+    public void updateEmployee_withVersionZero_requiresUnversionedEmployee() {
+        EmployeePatch patch = EmployeePatch.builder().withEmployeeId(employeeId).withExpectedVersion(0L).withCity("Denver").build();
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult().withAttributes(Map.of()));
+        when(dynamoDBMapper.marshallIntoObject(eq(EmployeeModel.class), any(Map.class))).thenReturn(employeeModelWithId(employeeId));
+        ArgumentCaptor<UpdateItemRequest> requestCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+
+        employeeDao.updateEmployee(patch);
+
+        verify(amazonDynamoDB).updateItem(requestCaptor.capture());
+        assertEquals("attribute_exists(#employeeId) AND attribute_not_exists(#version)",
+                requestCaptor.getValue().getConditionExpression());
+    }
+
+    @Test
+    public void updateEmployee_withStaleVersion_throwsEmployeeVersionConflictException() {
+        EmployeePatch patch = EmployeePatch.builder().withEmployeeId(employeeId).withExpectedVersion(3L).withCity("Denver").build();
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Condition failed."));
+        when(dynamoDBMapper.load(EmployeeModel.class, employeeId)).thenReturn(employeeModel);
+
+        assertThrows(EmployeeVersionConflictException.class, () -> employeeDao.updateEmployee(patch));
+    }
+
+    @Test
+    public void updateEmployee_withMissingEmployee_throwsEmployeeNotFoundException() {
+        EmployeePatch patch = EmployeePatch.builder().withEmployeeId(employeeId).withCity("Denver").build();
+        when(amazonDynamoDB.updateItem(any(UpdateItemRequest.class))).thenThrow(new ConditionalCheckFailedException("Condition failed."));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDao.updateEmployee(patch));
+        verify(dynamoDBMapper, never()).load(eq(EmployeeModel.class), anyString());
+    }
+
+    private static TransactionCanceledException transactionCanceled(String... reasonCodes) {
+        List<CancellationReason> reasons = new ArrayList<>();
+        for (String reasonCode : reasonCodes) {
+            reasons.add(new CancellationReason().withCode(reasonCode));
+        }
+        return new TransactionCanceledException("Transaction cancelled").withCancellationReasons(reasons);
+    }
+
+    private EmployeeModel employeeModelWithId(String id) {
+        EmployeeModel model = new EmployeeModel();
+        model.setEmployeeId(id);
+        model.setFirstName(firstName);
+        model.setLastName(lastName);
+        model.setPermissionAccess(permissionLevel.name());
+        return model;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import org.example.dynamodb.model.LoginThrottleModel;
+import org.example.model.RateLimit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class DynamoDBLoginThrottleDaoTest {
+    private static final RateLimit LIMIT = new RateLimit(5, 1_000);
+    private static final long NOW = 1_717_243_200_000L;
+    private static final String KEY = "username#jdoe";
+
+    AutoCloseable mocks;
+    @Mock
+    private DynamoDBMapper dynamoDBMapper;
+
+    @InjectMocks
+    private DynamoDBLoginThrottleDao loginThrottleDao;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = openMocks(this);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void tryAcquire_withoutBucket_savesFullBucketLessOneToken() {
+        // Given
+        when(dynamoDBMapper.load(eq(LoginThrottleModel.class), eq(KEY), any(DynamoDBMapperConfig.class)))
+                .thenReturn(null);
+
+        // When
+        long wait = loginThrottleDao.tryAcquire(KEY, LIMIT, NOW, 1);
+
+        // Then
+        ArgumentCaptor<LoginThrottleModel> saved = ArgumentCaptor.forClass(LoginThrottleModel.class);
+        ArgumentCaptor<DynamoDBSaveExpression> condition = ArgumentCaptor.forClass(DynamoDBSaveExpression.class);
+        verify(dynamoDBMapper).save(saved.capture(), condition.capture());
+        assertEquals(0, wait);
+        assertEquals(4.0, saved.getValue().getTokens());
+        assertEquals(NOW, saved.getValue().getUpdatedAt());
+        assertEquals(1L, saved.getValue().getVersion());
+        assertFalse(condition.getValue().getExpected().get("throttle_key").getExists());
+    }
+
+    @Test
+    public void tryAcquire_withEmptyBucket_returnsWaitWithoutSaving() {
+        // Given
+        when(dynamoDBMapper.load(eq(LoginThrottleModel.class), eq(KEY), any(DynamoDBMapperConfig.class)))
+                .thenReturn(bucket(0.5, 7L));
+
+        // When
+        long wait = loginThrottleDao.tryAcquire(KEY, LIMIT, NOW, 1);
+
+        // Then
+        assertEquals(500, wait);
+        verify(dynamoDBMapper, never()).save(any(LoginThrottleModel.class), any(DynamoDBSaveExpression.class));
+    }
+
+    @Test
+    public void tryAcquire_whenContended_retriesThenDenies() {
+        // Given
+        when(dynamoDBMapper.load(eq(LoginThrottleModel.class), eq(KEY), any(DynamoDBMapperConfig.class)))
+                .thenReturn(bucket(3.0, 7L));
+        doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+                .when(dynamoDBMapper).save(any(LoginThrottleModel.class), any(DynamoDBSaveExpression.class));
+
+        // When
+        long wait = loginThrottleDao.tryAcquire(KEY, LIMIT, NOW, 1);
+
+        // Then
+        ArgumentCaptor<DynamoDBSaveExpression> condition = ArgumentCaptor.forClass(DynamoDBSaveExpression.class);
+        verify(dynamoDBMapper, times(DynamoDBLoginThrottleDao.MAX_CONDITIONAL_WRITES))
+                .save(any(LoginThrottleModel.class), condition.capture());
+        assertEquals(LIMIT.getRefillMillis(), wait);
+        assertEquals("7", condition.getValue().getExpected().get("version").getValue().getN());
+    }
+
+    private static LoginThrottleModel bucket(double tokens, Long version) {
+        LoginThrottleModel loginThrottleModel = new LoginThrottleModel();
+        loginThrottleModel.setThrottleKey(KEY);
+        loginThrottleModel.setTokens(tokens);
+        loginThrottleModel.setUpdatedAt(NOW);
+        loginThrottleModel.setVersion(version);
+        return loginThrottleModel;
+    }
+}
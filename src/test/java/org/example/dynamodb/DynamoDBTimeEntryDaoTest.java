@@ -0,0 +1,574 @@
+package org.example.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBDeleteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.TimeEntriesNotFoundException;
+import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
+import org.example.utils.ModelConverter;
+import org.example.utils.PageTokenUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class DynamoDBTimeEntryDaoTest {
+    private AutoCloseable mocks;
+    @Mock
+    DynamoDBMapper dynamoDBMapper;
+    @InjectMocks
+    DynamoDBTimeEntryDao timeEntryDao;
+
+    private TimeEntryModel timeEntryModel;
+    private TimeEntry timeEntry;
+    private final String employeeId = "employee1";
+    private final String entryId = "TE123456";
+    private final LocalDateTime timeIn = LocalDateTime.of(2024, 5, 28, 9, 0);
+    private final LocalDateTime timeOut = LocalDateTime.of(2024, 5, 28, 17, 0);
+
+    private List<TimeEntryModel> timeEntryModelList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        mocks = openMocks(this);
+
+        // TimeEntry Setup
+        timeEntry = TimeEntry.builder()
+                .withEmployeeId(employeeId)
+                .withEntryId(entryId)
+                .withTimeIn(timeIn)
+                .withTimeOut(timeOut)
+                .build();
+
+        // TimeEntryModel Setup
+        timeEntryModel = new TimeEntryModel();
+
+        timeEntryModel.setEmployeeId(employeeId);
+        timeEntryModel.setEntryId(entryId);
+        timeEntryModel.setTimeIn(timeIn.toString());
+        timeEntryModel.setTimeOut(timeOut.toString());
+        timeEntryModel.setDuration(8.0);
+
+        TimeEntryModel timeEntryModel1 = new TimeEntryModel();
+
+        timeEntryModel1.setEmployeeId(employeeId);
+        timeEntryModel1.setEntryId(entryId);
+        timeEntryModel1.setTimeIn(LocalDateTime.of(2024, 5, 29, 9, 0).toString());
+        timeEntryModel1.setTimeOut(LocalDateTime.of(2024, 5, 29, 17, 0).toString());
+        timeEntryModel1.setDuration(8.0);
+
+        TimeEntryModel timeEntryModel2 = new TimeEntryModel();
+
+        timeEntryModel2.setEmployeeId(employeeId);
+        timeEntryModel2.setEntryId(entryId);
+        timeEntryModel2.setTimeIn(LocalDateTime.of(2024, 5, 31, 9, 0).toString());
+        timeEntryModel2.setTimeOut(LocalDateTime.of(2024, 5, 31, 17, 0).toString());
+        timeEntryModel2.setDuration(8.0);
+
+        TimeEntryModel timeEntryModel3 = new TimeEntryModel();
+
+        timeEntryModel3.setEmployeeId(employeeId);
+        timeEntryModel3.setEntryId(entryId);
+        timeEntryModel3.setTimeIn(LocalDateTime.of(2024, 6, 1, 9, 0).toString());
+        timeEntryModel3.setTimeOut(LocalDateTime.of(2024, 6, 1, 17, 0).toString());
+        timeEntryModel3.setDuration(8.0);
+
+        TimeEntryModel timeEntryModel4 = new TimeEntryModel();
+
+        timeEntryModel4.setEmployeeId(employeeId);
+        timeEntryModel4.setEntryId(entryId);
+        timeEntryModel4.setTimeIn(LocalDateTime.of(2024, 6, 2, 9, 0).toString());
+        timeEntryModel4.setTimeOut(LocalDateTime.of(2024, 6, 2, 17, 0).toString());
+        timeEntryModel4.setDuration(8.0);
+
+        TimeEntryModel timeEntryModel5 = new TimeEntryModel();
+
+        timeEntryModel5.setEmployeeId(employeeId);
+        timeEntryModel5.setEntryId(entryId);
+        timeEntryModel5.setTimeIn(LocalDateTime.of(2024, 5, 24, 9, 0).toString());
+        timeEntryModel5.setTimeOut(LocalDateTime.of(2024, 5, 24, 17, 0).toString());
+        timeEntryModel5.setDuration(8.0);
+
+        // List of TimeEntries Setup
+        timeEntryModelList.add(timeEntryModel);
+        timeEntryModelList.add(timeEntryModel1);
+        timeEntryModelList.add(timeEntryModel2);
+        timeEntryModelList.add(timeEntryModel3);
+        timeEntryModelList.add(timeEntryModel4);
+
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void getTimeEntry_returnsInstanceOfTimeEntry() {
+        when(dynamoDBMapper.load(any(), anyString(), anyString())).thenReturn(timeEntryModel);
+
+        assertInstanceOf(TimeEntry.class, timeEntryDao.getTimeEntry(employeeId, entryId));
+    }
+
+    @Test
+    public void getTimeEntry_withInvalidSearchCriteria_throwsTimeEntriesNotFoundException() {
+        when(dynamoDBMapper.load(any(), anyString(), anyString())).thenReturn(null);
+
+        assertThrows(TimeEntriesNotFoundException.class, () -> {
+            timeEntryDao.getTimeEntry("Invalid", "Invalid");
+        });
+    }
+
+    @Test
+    public void getLastFiveTimeEntries_successfullyRetrievesEntries() {
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(timeEntryModelList);
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class)))
+                .thenReturn(queryResultPage);
+
+        List<TimeEntry> timeEntries = timeEntryDao.getLastFiveTimeEntries(employeeId);
+
+        assertNotNull(timeEntries);
+        assertEquals(5, timeEntries.size());
+        verify(dynamoDBMapper, times(1)).queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+        verify(dynamoDBMapper, never()).query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void getLastFiveTimeEntries_noEntriesFoundThrowsException() {
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(new ArrayList<>());
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class)))
+                .thenReturn(queryResultPage);
+
+        assertThrows(TimeEntriesNotFoundException.class, () -> {
+            timeEntryDao.getLastFiveTimeEntries("InvalidEmployeeId");
+        });
+
+        verify(dynamoDBMapper, times(1)).queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void getLatestTimeEntries_queriesTimeInIndexDescendingWithLimit() {
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(timeEntryModelList.subList(0, 3));
+        ArgumentCaptor<DynamoDBQueryExpression<TimeEntryModel>> captor = ArgumentCaptor.forClass(DynamoDBQueryExpression.class);
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), captor.capture())).thenReturn(queryResultPage);
+
+        List<TimeEntry> timeEntries = timeEntryDao.getLatestTimeEntries(employeeId, 3);
+
+        DynamoDBQueryExpression<TimeEntryModel> queryExpression = captor.getValue();
+        assertEquals(3, timeEntries.size());
+        assertEquals(TimeEntryModel.TIME_IN_INDEX, queryExpression.getIndexName());
+        assertFalse(queryExpression.isScanIndexForward());
+        assertEquals(3, queryExpression.getLimit());
+    }
+
+    @Test
+    public void getLatestTimeEntries_withInvalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            timeEntryDao.getLatestTimeEntries(employeeId, 0);
+        });
+
+        verifyNoInteractions(dynamoDBMapper);
+    }
+
+    @Test
+    public void getTimeEntries_successfullyRetrievesEntries() {
+        List<TimeEntry> timeEntryList = ModelConverter.fromTimeEntryModelList(timeEntryModelList);
+
+        PaginatedQueryList<TimeEntryModel> mockPaginatedQueryList = mock(PaginatedQueryList.class);
+        when(mockPaginatedQueryList.iterator()).thenReturn(timeEntryModelList.iterator());
+        when(mockPaginatedQueryList.size()).thenReturn(timeEntryModelList.size());
+        when(dynamoDBMapper.query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class)))
+                .thenReturn(mockPaginatedQueryList);
+
+        List<TimeEntry> retrievedTimeEntries = timeEntryDao.getTimeEntries(employeeId);
+
+        assertNotNull(retrievedTimeEntries);
+        assertEquals(timeEntryList.size(), retrievedTimeEntries.size());
+        verify(dynamoDBMapper, times(1)).query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void getTimeEntries_noEntriesFoundThrowsException() {
+        PaginatedQueryList<TimeEntryModel> mockPaginatedQueryList = mock(PaginatedQueryList.class);
+        when(mockPaginatedQueryList.iterator()).thenReturn(new ArrayList<TimeEntryModel>().iterator());
+        when(mockPaginatedQueryList.size()).thenReturn(0);
+        when(mockPaginatedQueryList.isEmpty()).thenReturn(true);
+        when(dynamoDBMapper.query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class)))
+                .thenReturn(mockPaginatedQueryList);
+
+        assertThrows(TimeEntriesNotFoundException.class, () -> {
+            timeEntryDao.getTimeEntries("InvalidEmployeeId");
+        });
+
+        verify(dynamoDBMapper, times(1)).query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void getTimeEntries_unexpectedErrorThrowsException() {
+        when(dynamoDBMapper.query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class)))
+                .thenThrow(new RuntimeException("Unexpected error"));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
+            timeEntryDao.getTimeEntries(employeeId);
+        });
+
+        assertEquals("Unexpected error", thrown.getMessage());
+        verify(dynamoDBMapper, times(1)).query(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class));
+    }
+
+    @Test
+    public void getTimeEntriesPage_withRange_queriesIndexAndReturnsNextToken() {
+        Map<String, AttributeValue> lastEvaluatedKey = new HashMap<>();
+        lastEvaluatedKey.put("employee_id", new AttributeValue().withS(employeeId));
+        lastEvaluatedKey.put("entry_id", new AttributeValue().withS(entryId));
+        lastEvaluatedKey.put("time_in", new AttributeValue().withS(timeIn.toString()));
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(timeEntryModelList.subList(0, 2));
+        queryResultPage.setLastEvaluatedKey(lastEvaluatedKey);
+        ArgumentCaptor<DynamoDBQueryExpression<TimeEntryModel>> captor = ArgumentCaptor.forClass(DynamoDBQueryExpression.class);
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), captor.capture())).thenReturn(queryResultPage);
+
+        TimeEntryPage page = timeEntryDao.getTimeEntries(employeeId, LocalDate.of(2024, 5, 28),
+                LocalDate.of(2024, 5, 29), 2, null);
+
+        DynamoDBQueryExpression<TimeEntryModel> queryExpression = captor.getValue();
+        assertEquals(2, page.getTimeEntries().size());
+        assertTrue(page.hasNextPage());
+        assertEquals(lastEvaluatedKey, PageTokenUtility.decode(page.getNextToken()));
+        assertEquals(TimeEntryModel.TIME_IN_INDEX, queryExpression.getIndexName());
+        assertEquals("employee_id = :employeeId AND time_in BETWEEN :fromTime AND :toTime", queryExpression.getKeyConditionExpression());
+        assertEquals("2024-05-28T00:00", queryExpression.getExpressionAttributeValues().get(":fromTime").getS());
+        assertEquals(2, queryExpression.getLimit());
+        assertNull(queryExpression.getExclusiveStartKey());
+    }
+
+    @Test
+    public void getTimeEntriesPage_withNextToken_continuesFromToken() {
+        Map<String, AttributeValue> startKey = new HashMap<>();
+        startKey.put("employee_id", new AttributeValue().withS(employeeId));
+        startKey.put("entry_id", new AttributeValue().withS(entryId));
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(new ArrayList<>());
+        ArgumentCaptor<DynamoDBQueryExpression<TimeEntryModel>> captor = ArgumentCaptor.forClass(DynamoDBQueryExpression.class);
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), captor.capture())).thenReturn(queryResultPage);
+
+        TimeEntryPage page = timeEntryDao.getTimeEntries(employeeId, null, null, 10, PageTokenUtility.encode(startKey));
+
+        assertTrue(page.getTimeEntries().isEmpty());
+        assertFalse(page.hasNextPage());
+        assertEquals(startKey, captor.getValue().getExclusiveStartKey());
+    }
+
+    @Test
+    public void getTimeEntriesPage_withTokenForAnotherEmployee_throwsInvalidInputFormatException() {
+        Map<String, AttributeValue> startKey = new HashMap<>();
+        startKey.put("employee_id", new AttributeValue().withS("someoneElse"));
+        startKey.put("entry_id", new AttributeValue().withS(entryId));
+
+        assertThrows(InvalidInputFormatException.class, () -> {
+            timeEntryDao.getTimeEntries(employeeId, null, null, 10, PageTokenUtility.encode(startKey));
+        });
+
+        verifyNoInteractions(dynamoDBMapper);
+    }
+
+    @Test
+    public void getTimeEntriesPage_withInvalidRangeOrPageSize_throwsInvalidInputFormatException() {
+        assertThrows(InvalidInputFormatException.class, () -> {
+            timeEntryDao.getTimeEntries(employeeId, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 5, 1), 10, null);
+        });
+        assertThrows(InvalidInputFormatException.class, () -> {
+            timeEntryDao.getTimeEntries(employeeId, null, null, DynamoDBTimeEntryDao.MAX_PAGE_SIZE + 1, null);
+        });
+
+        verifyNoInteractions(dynamoDBMapper);
+    }
+
+    @Test
+    public void getTimeEntriesPage_firstPageEmpty_throwsTimeEntriesNotFoundException() {
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(new ArrayList<>());
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class))).thenReturn(queryResultPage);
+
+        assertThrows(TimeEntriesNotFoundException.class, () -> {
+            timeEntryDao.getTimeEntries(employeeId, null, null, 10, null);
+        });
+    }
+
+    @Test
+    public void getTimeEntriesPage_dateRangeWithoutEntries_returnsEmptyPage() {
+        QueryResultPage<TimeEntryModel> queryResultPage = new QueryResultPage<>();
+        queryResultPage.setResults(new ArrayList<>());
+        when(dynamoDBMapper.queryPage(eq(TimeEntryModel.class), any(DynamoDBQueryExpression.class))).thenReturn(queryResultPage);
+
+        TimeEntryPage page = timeEntryDao.getTimeEntries(employeeId, LocalDate.of(2024, 6, 3), LocalDate.of(2024, 6, 16), 10, null);
+
+        assertTrue(page.getTimeEntries().isEmpty());
+        assertNull(page.getNextToken());
+    }
+
+    @Test
+    public void saveTimeEntry_savesTimeEntryToTable() {
+        doNothing().when(dynamoDBMapper).save(any(TimeEntryModel.class));
+
+        TimeEntryModel savedTimeEntryModel = timeEntryDao.saveTimeEntry(timeEntry);
+
+        assertNotNull(savedTimeEntryModel);
+        verify(dynamoDBMapper, times(1)).save(any(TimeEntryModel.class));
+    }
+
+    @Test
+    public void saveTimeEntry_withInvalidCriteria_throwsException() {
+        doNothing().when(dynamoDBMapper).save(any(TimeEntryModel.class));
+
+        assertThrows(Exception.class, () -> {
+            timeEntryDao.saveTimeEntry(null);
+        });
+    }
+
+    @Test
+    public void saveTimeEntries_savesTimeEntriesToTable() {
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(new ArrayList<>());
+
+        List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(withDistinctEntryIds(timeEntryModelList));
+        BatchWriteResult<TimeEntryModel> result = timeEntryDao.saveTimeEntries(timeEntries);
+
+        assertTrue(result.isComplete());
+        assertEquals(timeEntryModelList.size(), result.getSavedItems().size());
+        verify(dynamoDBMapper, times(1)).batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void saveTimeEntries_withUnprocessedEntries_retriesUnprocessedEntries() {
+        TimeEntryModel unprocessedModel = withDistinctEntryIds(timeEntryModelList).get(0);
+        DynamoDBMapper.FailedBatch failedBatch = new DynamoDBMapper.FailedBatch();
+        failedBatch.setUnprocessedItems(Map.of("employee_time_entries", List.of(new WriteRequest(new PutRequest(Map.of(
+                "employee_id", new AttributeValue(unprocessedModel.getEmployeeId()),
+                "entry_id", new AttributeValue(unprocessedModel.getEntryId())))))));
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(List.of(failedBatch))
+                .thenReturn(new ArrayList<>());
+
+        List<TimeEntry> timeEntries = ModelConverter.fromTimeEntryModelList(withDistinctEntryIds(timeEntryModelList));
+        BatchWriteResult<TimeEntryModel> result = timeEntryDao.saveTimeEntries(timeEntries);
+
+        assertTrue(result.isComplete());
+        assertEquals(timeEntryModelList.size(), result.getSavedItems().size());
+        assertEquals(unprocessedModel.getEntryId(), result.getSavedItems().get(result.getSavedItems().size() - 1).getEntryId());
+        verify(dynamoDBMapper, times(2)).batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class));
+    }
+
+    @Test
+    public void saveTimeEntries_withDuplicateKeys_writesLastEntryOnce() {
+        when(dynamoDBMapper.batchWrite(any(Iterable.class), any(Iterable.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(new ArrayList<>());
+
+        BatchWriteResult<TimeEntryModel> result = timeEntryDao.saveTimeEntries(
+                ModelConverter.fromTimeEntryModelList(timeEntryModelList));
+
+        assertEquals(1, result.getSavedItems().size());
+        assertEquals(timeEntryModelList.get(timeEntryModelList.size() - 1).getTimeIn(),
+                result.getSavedItems().get(0).getTimeIn());
+    }
+
+    @Test
+    public void clockIn_writesClockStateAndTimeEntryInOneTransaction() {
+        TimeEntryModel timeEntryModel = timeEntryDao.clockIn(employeeId);
+
+        assertEquals(employeeId, timeEntryModel.getEmployeeId());
+        assertNotNull(timeEntryModel.getTimeIn());
+        assertNull(timeEntryModel.getTimeOut());
+        verify(dynamoDBMapper, times(1)).transactionWrite(any(TransactionWriteRequest.class));
+        verify(dynamoDBMapper, never()).save(any(TimeEntryModel.class));
+    }
+
+    @Test
+    public void clockIn_whenAlreadyClockedIn_throwsClockStateConflictException() {
+        doThrow(transactionCanceled("ConditionalCheckFailed", "None"))
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockIn(employeeId));
+    }
+
+    @Test
+    public void clockIn_whenTransactionConflicts_rethrowsException() {
+        doThrow(transactionCanceled("TransactionConflict", "None"))
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        assertThrows(TransactionCanceledException.class, () -> timeEntryDao.clockIn(employeeId));
+    }
+
+    @Test
+    public void clockOut_completesOpenShiftFromClockState() {
+        when(dynamoDBMapper.load(eq(ClockStateModel.class), eq(employeeId), any(DynamoDBMapperConfig.class)))
+                .thenReturn(clockState(entryId));
+
+        TimeEntryModel timeEntryModel = timeEntryDao.clockOut(employeeId, null);
+
+        assertEquals(entryId, timeEntryModel.getEntryId());
+        assertEquals(timeIn.toString(), timeEntryModel.getTimeIn());
+        assertNotNull(timeEntryModel.getTimeOut());
+        verify(dynamoDBMapper, times(1)).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clockOut_withEntryIdAndTimeIn_closesShiftWithoutReadingClockState() {
+        TimeEntryModel timeEntryModel = timeEntryDao.clockOut(employeeId, entryId, timeIn);
+
+        assertEquals(entryId, timeEntryModel.getEntryId());
+        assertEquals(timeIn.toString(), timeEntryModel.getTimeIn());
+        assertNotNull(timeEntryModel.getTimeOut());
+        verify(dynamoDBMapper, never()).load(eq(ClockStateModel.class), any(), any(DynamoDBMapperConfig.class));
+        verify(dynamoDBMapper, times(1)).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clockOut_withStaleTimeIn_readsClockStateAndClosesShift() {
+        when(dynamoDBMapper.load(eq(ClockStateModel.class), eq(employeeId), any(DynamoDBMapperConfig.class)))
+                .thenReturn(clockState(entryId));
+        doThrow(transactionCanceled("ConditionalCheckFailed", "None"))
+                .doNothing()
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        TimeEntryModel timeEntryModel = timeEntryDao.clockOut(employeeId, entryId, timeIn.minusHours(1));
+
+        assertEquals(timeIn.toString(), timeEntryModel.getTimeIn());
+        assertNotNull(timeEntryModel.getTimeOut());
+        verify(dynamoDBMapper, times(2)).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clockOut_whenNotClockedIn_throwsClockStateConflictException() {
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockOut(employeeId, null));
+        verify(dynamoDBMapper, never()).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clockOut_withDifferentEntryId_throwsClockStateConflictException() {
+        when(dynamoDBMapper.load(eq(ClockStateModel.class), eq(employeeId), any(DynamoDBMapperConfig.class)))
+                .thenReturn(clockState(entryId));
+
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockOut(employeeId, "Other"));
+        verify(dynamoDBMapper, never()).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clockOut_whenAlreadyClockedOut_throwsClockStateConflictException() {
+        when(dynamoDBMapper.load(eq(ClockStateModel.class), eq(employeeId), any(DynamoDBMapperConfig.class)))
+                .thenReturn(clockState(entryId));
+        doThrow(transactionCanceled("ConditionalCheckFailed", "ConditionalCheckFailed"))
+                .when(dynamoDBMapper).transactionWrite(any(TransactionWriteRequest.class));
+
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockOut(employeeId, entryId));
+    }
+
+    @Test
+    public void clockOut_withoutClockState_closesEntryById() {
+        TimeEntryModel openEntry = new TimeEntryModel();
+        openEntry.setEmployeeId(employeeId);
+        openEntry.setEntryId(entryId);
+        openEntry.setTimeIn(timeIn.toString());
+        when(dynamoDBMapper.load(TimeEntryModel.class, employeeId, entryId)).thenReturn(openEntry);
+
+        TimeEntryModel timeEntryModel = timeEntryDao.clockOut(employeeId, entryId);
+
+        assertNotNull(timeEntryModel.getTimeOut());
+        verify(dynamoDBMapper).save(any(TimeEntryModel.class), any(DynamoDBSaveExpression.class));
+        verify(dynamoDBMapper, never()).transactionWrite(any(TransactionWriteRequest.class));
+    }
+
+    @Test
+    public void clearClockState_whenNotOpenShift_ignoresConditionFailure() {
+        doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+                .when(dynamoDBMapper).delete(any(ClockStateModel.class), any(DynamoDBDeleteExpression.class));
+
+        assertDoesNotThrow(() -> timeEntryDao.clearClockState(employeeId, entryId));
+    }
+
+    @Test
+    public void getOpenShifts_returnsClockStatesByTimeIn() {
+        ClockStateModel later = clockState("TE2");
+        later.setEmployeeId("Emp2");
+        later.setTimeIn(timeIn.plusHours(1).toString());
+        PaginatedScanList<ClockStateModel> scanList = mock(PaginatedScanList.class);
+        doAnswer(invocation -> {
+            Consumer<ClockStateModel> consumer = invocation.getArgument(0);
+            consumer.accept(later);
+            consumer.accept(clockState(entryId));
+            return null;
+        }).when(scanList).forEach(any());
+        when(dynamoDBMapper.scan(eq(ClockStateModel.class), any(DynamoDBScanExpression.class), any(DynamoDBMapperConfig.class)))
+                .thenReturn(scanList);
+
+        List<ClockStateModel> openShifts = timeEntryDao.getOpenShifts();
+
+        assertEquals(List.of(entryId, "TE2"), List.of(openShifts.get(0).getEntryId(), openShifts.get(1).getEntryId()));
+    }
+
+    @Test
+    public void saveTimeEntries_withInvalidCriteria_throwsException() {
+        assertThrows(Exception.class, () -> {
+            timeEntryDao.saveTimeEntries(null);
+        });
+    }
+
+    private ClockStateModel clockState(String openEntryId) {
+        ClockStateModel clockState = new ClockStateModel();
+        clockState.setEmployeeId(employeeId);
+        clockState.setEntryId(openEntryId);
+        clockState.setTimeIn(timeIn.toString());
+        return clockState;
+    }
+
+    private static TransactionCanceledException transactionCanceled(String... reasonCodes) {
+        List<CancellationReason> reasons = new ArrayList<>();
+        for (String reasonCode : reasonCodes) {
+            reasons.add(new CancellationReason().withCode(reasonCode));
+        }
+        return new TransactionCanceledException("Transaction cancelled").withCancellationReasons(reasons);
+    }
+
+    private List<TimeEntryModel> withDistinctEntryIds(List<TimeEntryModel> timeEntryModels) {
+        for (int i = 0; i < timeEntryModels.size(); i++) {
+            timeEntryModels.get(i).setEntryId(entryId + "-" + i);
+        }
+        return timeEntryModels;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.dynamodb;
+
+import com.google.common.base.Ticker;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    public void get_afterTimeToLive_loadsAgain() {
+        EmployeeCache cache = new EmployeeCache(10, Duration.ofSeconds(10), ticker);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("Emp1", () -> employeeModel("Emp1", loads.incrementAndGet()));
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.get("Emp1", () -> employeeModel("Emp1", loads.incrementAndGet()));
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        EmployeeModel reloaded = cache.get("Emp1", () -> employeeModel("Emp1", loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(2L, reloaded.getVersion());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void get_overMaximumSize_evictsEntries() {
+        EmployeeCache cache = new EmployeeCache(2, Duration.ofSeconds(10), ticker);
+
+        for (int i = 0; i < 5; i++) {
+            String employeeId = "Emp" + i;
+            cache.get(employeeId, () -> employeeModel(employeeId, 1));
+        }
+
+        assertTrue(cache.size() <= 2);
+        assertTrue(cache.stats().evictionCount() >= 3);
+    }
+
+    @Test
+    public void get_withFailingLoader_rethrowsAndCachesNothing() {
+        EmployeeCache cache = new EmployeeCache(10, Duration.ofSeconds(10), ticker);
+
+        assertThrows(EmployeeNotFoundException.class, () -> cache.get("Emp1", () -> {
+            throw new EmployeeNotFoundException("Could not find employee with Employee ID: Emp1");
+        }));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_returnsCopiesThatDoNotChangeTheCache() {
+        EmployeeCache cache = new EmployeeCache(10, Duration.ofSeconds(10), ticker);
+
+        cache.get("Emp1", () -> employeeModel("Emp1", 1)).setCity("Changed");
+
+        assertEquals("Denver", cache.get("Emp1", () -> employeeModel("Emp1", 2)).getCity());
+    }
+
+    @Test
+    public void invalidate_removesEntry() {
+        EmployeeCache cache = new EmployeeCache(10, Duration.ofSeconds(10), ticker);
+        cache.put(employeeModel("Emp1", 1));
+
+        cache.invalidate("Emp1");
+
+        assertEquals(2L, cache.get("Emp1", () -> employeeModel("Emp1", 2)).getVersion());
+    }
+
+    private static EmployeeModel employeeModel(String employeeId, long version) {
+        EmployeeModel employeeModel = new EmployeeModel();
+        employeeModel.setEmployeeId(employeeId);
+        employeeModel.setCity("Denver");
+        employeeModel.setVersion(version);
+        return employeeModel;
+    }
+}
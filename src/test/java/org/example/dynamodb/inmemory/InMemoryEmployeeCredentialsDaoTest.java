@@ -0,0 +1,105 @@
+package org.example.dynamodb.inmemory;
+
+import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryEmployeeCredentialsDaoTest {
+    private final InMemoryEmployeeCredentialsDao employeeCredentialsDao =
+            new InMemoryEmployeeCredentialsDao(new InMemoryDynamoDB());
+
+    @Test
+    public void recordFailedLogin_concurrently_countsEveryAttemptAndLocks() {
+        employeeCredentialsDao.saveEmployeeCredentials(credentials("jdoe"));
+
+        List<CompletableFuture<Integer>> attempts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            attempts.add(CompletableFuture.supplyAsync(() -> employeeCredentialsDao.recordFailedLogin("jdoe")));
+        }
+        attempts.forEach(CompletableFuture::join);
+
+        EmployeeCredentials stored = employeeCredentialsDao.getEmployeeCredentials("jdoe");
+        assertEquals(10, stored.getFailedAttempts());
+        assertTrue(stored.isAccountLocked());
+    }
+
+    @Test
+    public void resetFailedLogins_clearsCounterUnlessLocked() {
+        employeeCredentialsDao.saveEmployeeCredentials(credentials("jdoe"));
+        employeeCredentialsDao.recordFailedLogin("jdoe");
+
+        employeeCredentialsDao.resetFailedLogins("jdoe");
+
+        assertEquals(0, employeeCredentialsDao.getEmployeeCredentials("jdoe").getFailedAttempts());
+        assertThrows(UsernameNotFoundException.class, () -> employeeCredentialsDao.recordFailedLogin("nobody"));
+    }
+
+    @Test
+    public void updatePasswordHash_keepsLockRecordedConcurrently() {
+        employeeCredentialsDao.saveEmployeeCredentials(credentials("jdoe"));
+        EmployeeCredentials rehashed = new EmployeeCredentials("Emp1", "jdoe", "newSalt", "newHash",
+                new PasswordHashParameters(1024, 2, 1), LocalDateTime.of(2024, 1, 1, 0, 0), false, false, 0);
+        for (int i = 0; i < EmployeeCredentials.MAX_FAILED_ATTEMPTS; i++) {
+            employeeCredentialsDao.recordFailedLogin("jdoe");
+        }
+
+        assertTrue(employeeCredentialsDao.updatePasswordHash(rehashed, "hash"));
+        assertFalse(employeeCredentialsDao.updatePasswordHash(rehashed, "hash"));
+
+        EmployeeCredentials stored = employeeCredentialsDao.getEmployeeCredentials("jdoe");
+        assertEquals("newHash", stored.getPassword());
+        assertEquals("newSalt", stored.getSalt());
+        assertEquals(new PasswordHashParameters(1024, 2, 1), stored.getHashParameters());
+        assertTrue(stored.isAccountLocked());
+        assertEquals(EmployeeCredentials.MAX_FAILED_ATTEMPTS, stored.getFailedAttempts());
+    }
+
+    @Test
+    public void getEmployeeCredentialsList_returnsFoundCredentialsInRequestOrder() {
+        List<EmployeeCredentials> credentialsList = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            credentialsList.add(credentials("user" + i));
+            employeeCredentialsDao.saveEmployeeCredentials(credentialsList.get(i));
+        }
+
+        List<EmployeeCredentials> loaded = employeeCredentialsDao.getEmployeeCredentialsList(
+                List.of("user29", "nobody", "user0", "user29"));
+
+        assertEquals(List.of(credentialsList.get(29), credentialsList.get(0)), loaded);
+    }
+
+    @Test
+    public void resetPassword_writesOnlyResetFieldsConditionedOnThePreviousHash() {
+        EmployeeCredentials read = credentials("jdoe");
+        employeeCredentialsDao.saveEmployeeCredentials(read);
+        read.adminResetPassword("T3mpP@ssw0rd");
+        EmployeeCredentials changedByEmployee = new EmployeeCredentials("Emp2", "jdoe", "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, false, 0);
+        employeeCredentialsDao.saveEmployeeCredentials(changedByEmployee);
+
+        assertTrue(employeeCredentialsDao.resetPassword(read, "hash"));
+        assertFalse(employeeCredentialsDao.resetPassword(read, "hash"));
+
+        EmployeeCredentials stored = employeeCredentialsDao.getEmployeeCredentials("jdoe");
+        assertEquals(read.getPassword(), stored.getPassword());
+        assertEquals(read.getSalt(), stored.getSalt());
+        assertEquals(read.getLastUpdated(), stored.getLastUpdated());
+        assertTrue(stored.isForceChangeAfterLogin());
+        assertFalse(stored.isAccountLocked());
+        assertEquals(0, stored.getFailedAttempts());
+        assertEquals("Emp2", stored.getEmployeeId());
+    }
+
+    private static EmployeeCredentials credentials(String username) {
+        return new EmployeeCredentials("Emp1", username, "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, false, 0);
+    }
+}
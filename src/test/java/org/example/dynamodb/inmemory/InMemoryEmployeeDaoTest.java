@@ -0,0 +1,112 @@
+package org.example.dynamodb.inmemory;
+
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
+import org.example.exceptions.UsernameAlreadyExistsException;
+import org.example.model.Employee;
+import org.example.model.EmployeeCredentials;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
+import org.example.model.PermissionLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryEmployeeDaoTest {
+    private final InMemoryDynamoDB dynamoDB = new InMemoryDynamoDB();
+    private final InMemoryEmployeeDao employeeDao = new InMemoryEmployeeDao(dynamoDB);
+
+    @Test
+    public void createEmployee_withTakenUsername_writesNothing() {
+        employeeDao.createEmployee(employee("Emp1"), credentials("Emp1", "jdoe"));
+
+        assertThrows(UsernameAlreadyExistsException.class,
+                () -> employeeDao.createEmployee(employee("Emp2"), credentials("Emp2", "jdoe")));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDao.getEmployee("Emp2"));
+        assertEquals("Emp1", new InMemoryEmployeeCredentialsDao(dynamoDB).getEmployeeCredentials("jdoe").getEmployeeId());
+    }
+
+    @Test
+    public void updateEmployee_incrementsVersionAndRejectsStaleVersion() {
+        employeeDao.saveEmployee(employee("Emp1"));
+
+        EmployeeModel updated = employeeDao.updateEmployee(EmployeePatch.builder()
+                .withEmployeeId("Emp1")
+                .withExpectedVersion(0L)
+                .withCity("Denver")
+                .withCurrentlyEmployed(false)
+                .build());
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals("Denver", updated.getCity());
+        assertFalse(employeeDao.getEmployee("Emp1").isCurrentlyEmployed());
+        assertThrows(EmployeeVersionConflictException.class, () -> employeeDao.updateEmployee(EmployeePatch.builder()
+                .withEmployeeId("Emp1")
+                .withExpectedVersion(0L)
+                .withCity("Boulder")
+                .build()));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDao.updateEmployee(EmployeePatch.builder()
+                .withEmployeeId("Emp2")
+                .withCity("Boulder")
+                .build()));
+    }
+
+    @Test
+    public void getAllEmployees_withSegments_matchesSequentialScan() {
+        for (int i = 0; i < 250; i++) {
+            employeeDao.saveEmployee(employee("Emp" + i));
+        }
+
+        List<String> sequentialIds = employeeIds(employeeDao.getAllEmployees());
+        List<String> parallelIds = employeeIds(employeeDao.getAllEmployees(4));
+
+        assertEquals(250, sequentialIds.size());
+        assertEquals(Set.copyOf(sequentialIds), Set.copyOf(parallelIds));
+        assertEquals(parallelIds, employeeIds(employeeDao.getAllEmployees(4)));
+    }
+
+    @Test
+    public void getEmployee_withFields_leavesOtherFieldsNull() {
+        employeeDao.saveEmployee(employee("Emp1"));
+
+        Employee employee = employeeDao.getEmployee("Emp1", Set.of(EmployeeField.CITY));
+
+        assertEquals("Example City", employee.getCity());
+        assertNull(employee.getPhone());
+        assertEquals(List.of("Emp1"), employeeIds(employeeDao.getEmployees(List.of("Emp1", "Emp2", "Emp1"))));
+    }
+
+    private static List<String> employeeIds(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeId).collect(Collectors.toList());
+    }
+
+    private static Employee employee(String employeeId) {
+        return Employee.builder()
+                .withEmployeeId(employeeId)
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withEmail("john_doe@example.com")
+                .withDepartment("Department Name")
+                .withHireDate(LocalDate.of(2020, 1, 1))
+                .withPhone("+1-123-123-4567")
+                .withAddress("123 Example Ave")
+                .withCity("Example City")
+                .withState("Colorado")
+                .withZipCode("12345")
+                .withPayRate("2500/bw")
+                .withPermissionAccess(PermissionLevel.STANDARD)
+                .build();
+    }
+
+    private static EmployeeCredentials credentials(String employeeId, String username) {
+        return new EmployeeCredentials(employeeId, username, "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), false, false, 0);
+    }
+}
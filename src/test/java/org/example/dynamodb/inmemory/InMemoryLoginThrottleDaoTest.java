@@ -0,0 +1,56 @@
+package org.example.dynamodb.inmemory;
+
+import org.example.dynamodb.model.LoginThrottleModel;
+import org.example.model.RateLimit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryLoginThrottleDaoTest {
+    private static final RateLimit LIMIT = new RateLimit(5, 1_000);
+    private static final long NOW = 1_717_243_200_000L;
+
+    private final InMemoryDynamoDB dynamoDB = new InMemoryDynamoDB();
+    private final InMemoryLoginThrottleDao loginThrottleDao = new InMemoryLoginThrottleDao(dynamoDB);
+
+    @Test
+    public void tryAcquire_concurrently_takesEachTokenOnce() {
+        List<CompletableFuture<Long>> attempts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            attempts.add(CompletableFuture.supplyAsync(() -> loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 1)));
+        }
+
+        long allowed = attempts.stream().map(CompletableFuture::join).filter(wait -> wait == 0).count();
+
+        assertEquals(5, allowed);
+        LoginThrottleModel stored = dynamoDB.table(LoginThrottleModel.class).load("username#jdoe", null);
+        assertEquals(0.0, stored.getTokens());
+        assertEquals(5L, stored.getVersion());
+        assertEquals(NOW / 1000 + 6, stored.getExpiresAt());
+    }
+
+    @Test
+    public void tryAcquire_afterRefill_allowsAgain() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 1));
+        }
+
+        assertEquals(1_000, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 1));
+        assertEquals(250, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW + 750, 1));
+        assertEquals(0, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW + 1_000, 1));
+        assertEquals(0, loginThrottleDao.tryAcquire("username#asmith", LIMIT, NOW, 1));
+    }
+
+    @Test
+    public void tryAcquire_severalTokens_chargesThemAllWhileOneIsLeft() {
+        assertEquals(0, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 4));
+        assertEquals(0, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 3));
+
+        assertEquals(3_000, loginThrottleDao.tryAcquire("username#jdoe", LIMIT, NOW, 1));
+        assertEquals(-2.0, dynamoDB.table(LoginThrottleModel.class).load("username#jdoe", null).getTokens());
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.dynamodb.inmemory;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import org.example.dependency.DynamoDBClientSettings;
+import org.example.dynamodb.model.EmployeeModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryTableTest {
+    private final InMemoryDynamoDB dynamoDB = new InMemoryDynamoDB();
+
+    @Test
+    public void query_onIndex_ordersByIndexRangeKeyAndPages() {
+        InMemoryTable<TimeEntryModel> table = dynamoDB.table(TimeEntryModel.class);
+        table.save(timeEntryModel("Emp1", "TE3", "2024-01-03T08:00"));
+        table.save(timeEntryModel("Emp1", "TE1", "2024-01-05T08:00"));
+        table.save(timeEntryModel("Emp1", "TE2", "2024-01-01T08:00"));
+        table.save(timeEntryModel("Emp2", "TE4", "2024-01-02T08:00"));
+
+        InMemoryTable.Page<TimeEntryModel> firstPage = table.query("Emp1", TimeEntryModel.TIME_IN_INDEX,
+                null, null, false, 2, null);
+        InMemoryTable.Page<TimeEntryModel> secondPage = table.query("Emp1", TimeEntryModel.TIME_IN_INDEX,
+                null, null, false, 2, firstPage.getLastEvaluatedKey());
+
+        assertEquals(List.of("TE1", "TE3"), entryIds(firstPage.getResults()));
+        assertEquals(Set.of("employee_id", "entry_id", "time_in"), firstPage.getLastEvaluatedKey().keySet());
+        assertEquals(List.of("TE2"), entryIds(secondPage.getResults()));
+        assertNull(secondPage.getLastEvaluatedKey());
+    }
+
+    @Test
+    public void query_onTable_ordersByRangeKeyWithinBounds() {
+        InMemoryTable<TimeEntryModel> table = dynamoDB.table(TimeEntryModel.class);
+        for (String entryId : List.of("TE4", "TE2", "TE1", "TE3")) {
+            table.save(timeEntryModel("Emp1", entryId, "2024-01-01T08:00"));
+        }
+
+        InMemoryTable.Page<TimeEntryModel> page = table.query("Emp1", null, "TE2", "TE3", true, 10, null);
+
+        assertEquals(List.of("TE2", "TE3"), entryIds(page.getResults()));
+        assertNull(page.getLastEvaluatedKey());
+    }
+
+    @Test
+    public void scan_withSegmentsAndPages_readsEveryItemOnce() {
+        InMemoryTable<EmployeeModel> table = dynamoDB.table(EmployeeModel.class);
+        for (int i = 0; i < 50; i++) {
+            table.save(employeeModel("Emp" + i));
+        }
+
+        List<String> scannedIds = new ArrayList<>();
+        for (int segment = 0; segment < 4; segment++) {
+            Map<String, AttributeValue> exclusiveStartKey = null;
+            do {
+                InMemoryTable.Page<EmployeeModel> page = table.scan(segment, 4, 7, exclusiveStartKey, null);
+                assertTrue(page.getResults().size() <= 7);
+                page.getResults().forEach(employeeModel -> scannedIds.add(employeeModel.getEmployeeId()));
+                exclusiveStartKey = page.getLastEvaluatedKey();
+            } while (exclusiveStartKey != null);
+        }
+
+        assertEquals(50, scannedIds.size());
+        assertEquals(50, new HashSet<>(scannedIds).size());
+    }
+
+    @Test
+    public void batchLimits_areEnforced() {
+        InMemoryTable<EmployeeModel> table = dynamoDB.table(EmployeeModel.class);
+        List<EmployeeModel> keys = new ArrayList<>();
+        for (int i = 0; i <= InMemoryDynamoDB.MAX_BATCH_GET_SIZE; i++) {
+            keys.add(employeeModel("Emp" + i));
+        }
+
+        assertThrows(AmazonDynamoDBException.class, () -> table.batchLoad(keys));
+        assertThrows(AmazonDynamoDBException.class,
+                () -> table.batchWrite(new ArrayList<>(keys.subList(0, InMemoryDynamoDB.MAX_BATCH_WRITE_SIZE + 1))));
+        assertTrue(table.batchWrite(new ArrayList<>(keys.subList(0, InMemoryDynamoDB.MAX_BATCH_WRITE_SIZE))).isEmpty());
+        assertEquals(InMemoryDynamoDB.MAX_BATCH_WRITE_SIZE, table.batchLoad(keys.subList(0, 50)).size());
+    }
+
+    @Test
+    public void throttling_retriesThenFails() {
+        Map<String, String> environment = Map.of("DYNAMODB_MAX_ERROR_RETRY", "2", "DYNAMODB_RETRY_BASE_DELAY_MILLIS", "1",
+                "DYNAMODB_RETRY_MAX_BACKOFF_MILLIS", "1");
+        InMemoryDynamoDB throttledDynamoDB = new InMemoryDynamoDB(DynamoDBClientSettings.fromEnvironment(environment), 0, 1);
+        InMemoryTable<EmployeeModel> table = throttledDynamoDB.table(EmployeeModel.class);
+
+        assertThrows(ProvisionedThroughputExceededException.class, () -> table.load("Emp1", null));
+        assertEquals(3, throttledDynamoDB.getThrottledCount());
+
+        List<DynamoDBMapper.FailedBatch> failedBatches = table.batchWrite(List.of(employeeModel("Emp1")));
+        assertEquals(1, failedBatches.get(0).getUnprocessedItems().get("employee").size());
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void fromEnvironment_withInvalidThrottleRate_throwsIllegalArgumentException() {
+        DynamoDBClientSettings settings = DynamoDBClientSettings.fromEnvironment(Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> InMemoryDynamoDB.fromEnvironment(settings,
+                Map.of(InMemoryDynamoDB.THROTTLE_RATE_ENV, "1.5")));
+        assertThrows(IllegalArgumentException.class, () -> InMemoryDynamoDB.fromEnvironment(settings,
+                Map.of(InMemoryDynamoDB.LATENCY_MILLIS_ENV, "-1")));
+    }
+
+    private static List<String> entryIds(List<TimeEntryModel> timeEntryModels) {
+        return timeEntryModels.stream().map(TimeEntryModel::getEntryId).collect(Collectors.toList());
+    }
+
+    private static TimeEntryModel timeEntryModel(String employeeId, String entryId, String timeIn) {
+        TimeEntryModel timeEntryModel = new TimeEntryModel();
+        timeEntryModel.setEmployeeId(employeeId);
+        timeEntryModel.setEntryId(entryId);
+        timeEntryModel.setTimeIn(timeIn);
+        return timeEntryModel;
+    }
+
+    private static EmployeeModel employeeModel(String employeeId) {
+        EmployeeModel employeeModel = new EmployeeModel();
+        employeeModel.setEmployeeId(employeeId);
+        employeeModel.setFirstName("John");
+        return employeeModel;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.dynamodb.inmemory;
+
+import org.example.dynamodb.BatchWriteResult;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.exceptions.ClockStateConflictException;
+import org.example.exceptions.InvalidInputFormatException;
+import org.example.exceptions.TimeEntriesNotFoundException;
+import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryTimeEntryDaoTest {
+    private final InMemoryTimeEntryDao timeEntryDao = new InMemoryTimeEntryDao(new InMemoryDynamoDB());
+
+    @Test
+    public void clockInAndOut_opensAndClosesOneShift() {
+        TimeEntryModel openEntry = timeEntryDao.clockIn("Emp1");
+
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockIn("Emp1"));
+        assertEquals(List.of(openEntry.getEntryId()), timeEntryDao.getOpenShifts().stream()
+                .map(clockState -> clockState.getEntryId()).collect(Collectors.toList()));
+
+        TimeEntryModel closedEntry = timeEntryDao.clockOut("Emp1", null);
+
+        assertEquals(openEntry.getEntryId(), closedEntry.getEntryId());
+        assertNotNull(timeEntryDao.getTimeEntry("Emp1", openEntry.getEntryId()).getTimeOut());
+        assertTrue(timeEntryDao.getOpenShifts().isEmpty());
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockOut("Emp1", null));
+    }
+
+    @Test
+    public void clockOut_withEntryIdAndTimeIn_closesOnlyTheMatchingShift() {
+        TimeEntryModel openEntry = timeEntryDao.clockIn("Emp1");
+        LocalDateTime timeIn = LocalDateTime.parse(openEntry.getTimeIn());
+
+        assertThrows(ClockStateConflictException.class, () -> timeEntryDao.clockOut("Emp1", "Other", timeIn));
+        TimeEntryModel closedEntry = timeEntryDao.clockOut("Emp1", openEntry.getEntryId(), timeIn);
+
+        assertEquals(openEntry.getTimeIn(), closedEntry.getTimeIn());
+        assertNotNull(closedEntry.getTimeOut());
+        assertTrue(timeEntryDao.getOpenShifts().isEmpty());
+        assertThrows(ClockStateConflictException.class,
+                () -> timeEntryDao.clockOut("Emp1", openEntry.getEntryId(), timeIn));
+    }
+
+    @Test
+    public void getTimeEntries_withPageToken_pagesThroughDateRange() {
+        List<TimeEntry> timeEntries = new ArrayList<>();
+        for (int day = 1; day <= 9; day++) {
+            timeEntries.add(timeEntry("Emp1", "TE" + day, LocalDateTime.of(2024, 1, day, 8, 0)));
+        }
+        BatchWriteResult<TimeEntryModel> result = timeEntryDao.saveTimeEntries(timeEntries);
+        assertTrue(result.isComplete());
+
+        List<String> entryIds = new ArrayList<>();
+        String nextToken = null;
+        do {
+            TimeEntryPage page = timeEntryDao.getTimeEntries("Emp1", LocalDate.of(2024, 1, 2),
+                    LocalDate.of(2024, 1, 8), 3, nextToken);
+            page.getTimeEntries().forEach(timeEntry -> entryIds.add(timeEntry.getEntryId()));
+            nextToken = page.getNextToken();
+        } while (nextToken != null);
+
+        assertEquals(List.of("TE2", "TE3", "TE4", "TE5", "TE6", "TE7", "TE8"), entryIds);
+        assertEquals(List.of("TE9", "TE8", "TE7", "TE6", "TE5"), timeEntryDao.getLastFiveTimeEntries("Emp1").stream()
+                .map(TimeEntry::getEntryId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getTimeEntries_withAnotherEmployeesToken_throwsInvalidInputFormatException() {
+        timeEntryDao.saveTimeEntries(List.of(
+                timeEntry("Emp1", "TE1", LocalDateTime.of(2024, 1, 1, 8, 0)),
+                timeEntry("Emp1", "TE2", LocalDateTime.of(2024, 1, 2, 8, 0))));
+        String nextToken = timeEntryDao.getTimeEntries("Emp1", null, null, 1, null).getNextToken();
+
+        assertThrows(InvalidInputFormatException.class, () -> timeEntryDao.getTimeEntries("Emp2", null, null, 1, nextToken));
+        assertThrows(TimeEntriesNotFoundException.class, () -> timeEntryDao.getTimeEntries("Emp2"));
+    }
+
+    private static TimeEntry timeEntry(String employeeId, String entryId, LocalDateTime timeIn) {
+        return TimeEntry.builder()
+                .withEmployeeId(employeeId)
+                .withEntryId(entryId)
+                .withTimeIn(timeIn)
+                .withTimeOut(timeIn.plusHours(8))
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.lambda;
+
+import org.example.model.PermissionLevel;
+import org.example.model.requests.AdminBulkResetPasswordRequest;
+import org.example.model.requests.AdminResetPasswordRequest;
+import org.example.model.results.AdminBulkResetPasswordResult;
+import org.example.model.results.AdminResetPasswordResult;
+import org.example.utils.BulkPasswordReset;
+import org.example.utils.gson.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class AdminBulkResetPasswordHandlerTest {
+    private AutoCloseable mocks;
+    @Mock
+    private BulkPasswordReset bulkPasswordReset;
+    @InjectMocks
+    private AdminBulkResetPasswordHandler bulkResetPasswordHandler;
+
+    private List<AdminResetPasswordRequest> resetList;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+        resetList = List.of(resetRequest("Emp1", "jdoe"), resetRequest("Emp2", "asmith"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void handleRequest_reportsEachEmployeeAndCountsFailures() {
+        AdminResetPasswordResult reset = AdminResetPasswordResult.builder()
+                .withEmployeeCredentialsReset(true)
+                .withEmployeeId("Emp1")
+                .withUsername("jdoe")
+                .withForceChangeAfterLogin(true)
+                .build();
+        AdminResetPasswordResult failed = AdminResetPasswordResult.builder()
+                .withEmployeeCredentialsReset(false)
+                .withEmployeeId("Emp2")
+                .withUsername("asmith")
+                .withError("Username \"asmith\" not found!")
+                .build();
+        when(bulkPasswordReset.resetAll(eq(resetList), any(), any())).thenAnswer(invocation -> {
+            Consumer<AdminResetPasswordResult> progress = invocation.getArgument(2);
+            progress.accept(failed);
+            progress.accept(reset);
+            return List.of(reset, failed);
+        });
+
+        AdminBulkResetPasswordResult result = JsonUtil.fromJson(
+                bulkResetPasswordHandler.handleRequest(adminRequest(resetList), null), AdminBulkResetPasswordResult.class);
+
+        assertFalse(result.isPasswordsReset());
+        assertEquals(1, result.getResetCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals("1 of 2 passwords could not be reset.", result.getError());
+        assertEquals(List.of("jdoe", "asmith"), List.of(result.getResetList().get(0).getUsername(),
+                result.getResetList().get(1).getUsername()));
+        assertTrue(result.getResetList().get(0).isEmployeeCredentialsReset());
+        assertEquals("Username \"asmith\" not found!", result.getResetList().get(1).getError());
+    }
+
+    @Test
+    public void handleRequest_withAllReset_returnsNoError() {
+        when(bulkPasswordReset.resetAll(eq(resetList), any(), any())).thenReturn(List.of(
+                AdminResetPasswordResult.builder().withEmployeeCredentialsReset(true).withUsername("jdoe").build(),
+                AdminResetPasswordResult.builder().withEmployeeCredentialsReset(true).withUsername("asmith").build()));
+
+        AdminBulkResetPasswordResult result = JsonUtil.fromJson(
+                bulkResetPasswordHandler.handleRequest(adminRequest(resetList), null), AdminBulkResetPasswordResult.class);
+
+        assertTrue(result.isPasswordsReset());
+        assertEquals(2, result.getResetCount());
+        assertEquals(0, result.getFailedCount());
+        assertNull(result.getError());
+    }
+
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        AdminBulkResetPasswordRequest request = adminRequest(resetList);
+        request.setSessionToken(bulkResetPasswordHandler.sessionTokenService.issue("Emp2", PermissionLevel.STANDARD));
+
+        AdminBulkResetPasswordResult result = JsonUtil.fromJson(
+                bulkResetPasswordHandler.handleRequest(request, null), AdminBulkResetPasswordResult.class);
+
+        verifyNoInteractions(bulkPasswordReset);
+        assertFalse(result.isPasswordsReset());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
+    }
+
+    @Test
+    public void handleRequest_withNoEmployees_returnsError() {
+        AdminBulkResetPasswordResult result = JsonUtil.fromJson(
+                bulkResetPasswordHandler.handleRequest(adminRequest(List.of()), null), AdminBulkResetPasswordResult.class);
+
+        verifyNoInteractions(bulkPasswordReset);
+        assertFalse(result.isPasswordsReset());
+        assertEquals("At least one employee is required.", result.getError());
+    }
+
+    @Test
+    public void handleRequest_withUnexpectedException_returnsError() {
+        when(bulkPasswordReset.resetAll(anyList(), any(), any())).thenThrow(new RuntimeException("An unexpected error occurred."));
+
+        AdminBulkResetPasswordResult result = JsonUtil.fromJson(
+                bulkResetPasswordHandler.handleRequest(adminRequest(resetList), null), AdminBulkResetPasswordResult.class);
+
+        assertFalse(result.isPasswordsReset());
+        assertEquals("An unexpected error occurred.", result.getError());
+    }
+
+    private AdminBulkResetPasswordRequest adminRequest(List<AdminResetPasswordRequest> resetList) {
+        AdminBulkResetPasswordRequest request = new AdminBulkResetPasswordRequest();
+        request.setSessionToken(bulkResetPasswordHandler.sessionTokenService.issue("Emp1", PermissionLevel.ADMIN));
+        request.setResetList(resetList);
+        return request;
+    }
+
+    private static AdminResetPasswordRequest resetRequest(String employeeId, String username) {
+        AdminResetPasswordRequest request = new AdminResetPasswordRequest();
+        request.setEmployeeId(employeeId);
+        request.setUsername(username);
+        request.setPassword("TempPassword1!");
+        return request;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.lambda;
 import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.exceptions.UsernameNotFoundException;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PermissionLevel;
 import org.example.model.requests.AdminResetPasswordRequest;
 import org.example.model.results.AdminResetPasswordResult;
 import org.example.utils.ModelConverter;
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -62,6 +64,7 @@ public class AdminResetPasswordHandlerTest {
         request.setEmployeeId(employeeCredentials.getEmployeeId());
         request.setUsername(employeeCredentials.getUsername());
         request.setPassword("NewPassword");
+        request.setSessionToken(adminSessionToken());
 
         // Mock the initial getEmployeeCredentials call
         when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
@@ -98,6 +101,7 @@ public class AdminResetPasswordHandlerTest {
         request.setUsername(employeeCredentials.getUsername());
         request.setEmployeeId(employeeCredentials.getEmployeeId());
         request.setPassword("NewPassword");
+        request.setSessionToken(adminSessionToken());
 
         when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenThrow(new UsernameNotFoundException("Username not found"));
 
@@ -110,6 +114,25 @@ public class AdminResetPasswordHandlerTest {
         assertEquals("Username not found", result.getError());
     }
 
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        // Given
+        AdminResetPasswordRequest request = new AdminResetPasswordRequest();
+        request.setUsername(employeeCredentials.getUsername());
+        request.setEmployeeId(employeeCredentials.getEmployeeId());
+        request.setPassword("NewPassword");
+        request.setSessionToken(adminResetPasswordHandler.sessionTokenService.issue(employeeCredentials.getEmployeeId(), PermissionLevel.STANDARD));
+
+        // When
+        AdminResetPasswordResult result = JsonUtil.fromJson(adminResetPasswordHandler.handleRequest(request, null), AdminResetPasswordResult.class);
+
+        // Then
+        verifyNoInteractions(credentialsDao);
+        assertFalse(result.isEmployeeCredentialsReset());
+        assertEquals(request.getUsername(), result.getUsername());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
+    }
+
     @Test
     public void handleRequest_validRequest_throwsException() {
         // Given
@@ -117,6 +140,7 @@ public class AdminResetPasswordHandlerTest {
         request.setUsername(employeeCredentials.getUsername());
         request.setEmployeeId(employeeCredentials.getEmployeeId());
         request.setPassword("NewPassword");
+        request.setSessionToken(adminSessionToken());
 
         when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenThrow(new RuntimeException("An unexpected error occurred. "));
 
@@ -130,4 +154,7 @@ public class AdminResetPasswordHandlerTest {
         assertEquals("An unexpected error occurred. ", result.getError());
     }
 
+    private String adminSessionToken() {
+        return adminResetPasswordHandler.sessionTokenService.issue("Emp000001", PermissionLevel.ADMIN);
+    }
 }
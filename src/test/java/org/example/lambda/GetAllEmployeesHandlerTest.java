@@ -3,6 +3,7 @@ package org.example.lambda;
 import org.example.dynamodb.EmployeeDao;
 import org.example.exceptions.EmployeeNotFoundException;
 import org.example.model.Employee;
+import org.example.model.EmployeeField;
 import org.example.model.PermissionLevel;
 import org.example.model.requests.GetAllEmployeesRequest;
 import org.example.model.results.GetAllEmployeesResult;
@@ -16,10 +17,12 @@ import org.mockito.Mock;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -98,10 +101,10 @@ public class GetAllEmployeesHandlerTest {
 
     @Test
     public void handleRequest_retrievesAllEmployees() {
-        when(employeeDao.getAllEmployees()).thenReturn(employeeList);
+        when(employeeDao.streamAllEmployees()).thenReturn(employeeList.stream());
         GetAllEmployeesRequest request = new GetAllEmployeesRequest();
         request.setEmployeeId(employee1.getEmployeeId());
-        request.setPermissionLevel(employee1.getPermissionAccess().toString());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee1.getEmployeeId(), employee1.getPermissionAccess()));
 
         GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
         List<Employee> retrievedEmployees = result.getEmployeeList();
@@ -110,6 +113,51 @@ public class GetAllEmployeesHandlerTest {
         assertTrue(result.isEmployeesRetrieved());
         assertEquals(employee1, retrievedEmployees.get(0));
         assertEquals(employee2, retrievedEmployees.get(1));
+        verify(employeeDao, never()).getAllEmployees();
+    }
+
+    @Test
+    public void handleRequest_withScanSegments_usesParallelScan() {
+        when(employeeDao.getAllEmployees(4)).thenReturn(employeeList);
+        employeeHandler.scanSegments = 4;
+        GetAllEmployeesRequest request = new GetAllEmployeesRequest();
+        request.setEmployeeId(employee1.getEmployeeId());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee1.getEmployeeId(), employee1.getPermissionAccess()));
+
+        GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
+
+        verify(employeeDao, never()).streamAllEmployees();
+        assertTrue(result.isEmployeesRetrieved());
+        assertEquals(employeeList, result.getEmployeeList());
+    }
+
+    @Test
+    public void handleRequest_withFields_streamsProjectedEmployees() {
+        when(employeeDao.streamAllEmployees(anySet())).thenReturn(employeeList.stream());
+        GetAllEmployeesRequest request = new GetAllEmployeesRequest();
+        request.setEmployeeId(employee1.getEmployeeId());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee1.getEmployeeId(), employee1.getPermissionAccess()));
+        request.setFields(List.of("department", "email"));
+
+        GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
+
+        verify(employeeDao, never()).streamAllEmployees();
+        verify(employeeDao).streamAllEmployees(EmployeeField.fromFieldNames(List.of("department", "email")));
+        assertTrue(result.isEmployeesRetrieved());
+    }
+
+    @Test
+    public void handleRequest_withNoEmployees_returnsEmptyList() {
+        when(employeeDao.streamAllEmployees()).thenReturn(Stream.empty());
+        GetAllEmployeesRequest request = new GetAllEmployeesRequest();
+        request.setEmployeeId(employee1.getEmployeeId());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee1.getEmployeeId(), employee1.getPermissionAccess()));
+
+        GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
+
+        assertTrue(result.isEmployeesRetrieved());
+        assertTrue(result.getEmployeeList().isEmpty());
+        assertNull(result.getError());
     }
 
     @Test
@@ -118,7 +166,7 @@ public class GetAllEmployeesHandlerTest {
         when(employeeDao.getEmployee(anyString())).thenThrow(new EmployeeNotFoundException(errorMessage));
         GetAllEmployeesRequest request = new GetAllEmployeesRequest();
         request.setEmployeeId(employee2.getEmployeeId());
-        request.setPermissionLevel(employee2.getPermissionAccess().toString());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee2.getEmployeeId(), employee2.getPermissionAccess()));
 
         GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
 
@@ -127,13 +175,26 @@ public class GetAllEmployeesHandlerTest {
         assertEquals(errorMessage, result.getError());
     }
 
+    @Test
+    public void handleRequest_withInvalidSessionToken_returnsUnauthorized() {
+        GetAllEmployeesRequest request = new GetAllEmployeesRequest();
+        request.setEmployeeId(employee1.getEmployeeId());
+        request.setSessionToken("not.a.token");
+
+        GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
+
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isEmployeesRetrieved());
+        assertEquals("Invalid or expired session token. Please log in again.", result.getError());
+    }
+
     @Test
     public void handleRequest_throwsUnexpectedException() {
         String errorMessage = "An unexpected error occurred.";
-        when(employeeDao.getAllEmployees()).thenThrow(new RuntimeException(errorMessage));
+        when(employeeDao.streamAllEmployees()).thenThrow(new RuntimeException(errorMessage));
         GetAllEmployeesRequest request = new GetAllEmployeesRequest();
         request.setEmployeeId(employee1.getEmployeeId());
-        request.setPermissionLevel(employee1.getPermissionAccess().toString());
+        request.setSessionToken(employeeHandler.sessionTokenService.issue(employee1.getEmployeeId(), employee1.getPermissionAccess()));
 
         GetAllEmployeesResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetAllEmployeesResult.class);
 
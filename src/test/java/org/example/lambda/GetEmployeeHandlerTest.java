@@ -14,9 +14,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -112,6 +115,43 @@ public class GetEmployeeHandlerTest {
         assertEquals("Unexpected error", result.getError());
     }
 
+    @Test
+    public void handleRequest_withFields_returnsOnlyRequestedFields() {
+        Employee projectedEmployee = Employee.builder()
+                .withEmployeeId(employee.getEmployeeId())
+                .withFirstName(employee.getFirstName())
+                .withLastName(employee.getLastName())
+                .withDepartment(employee.getDepartment())
+                .withPermissionAccess(employee.getPermissionAccess())
+                .build();
+        when(employeeDao.getEmployee(eq(employee.getEmployeeId()), anySet())).thenReturn(projectedEmployee);
+        GetEmployeeRequest request = new GetEmployeeRequest();
+        request.setEmployeeId(employee.getEmployeeId());
+        request.setFields(List.of("department"));
+
+        String response = employeeHandler.handleRequest(request, null);
+        GetEmployeeResult result = JsonUtil.fromJson(response, GetEmployeeResult.class);
+
+        verify(employeeDao, never()).getEmployee(anyString());
+        assertTrue(result.isEmployeeRetrieved());
+        assertEquals(employee.getDepartment(), result.getDepartment());
+        assertFalse(response.contains("payRate"));
+        assertFalse(response.contains("address"));
+    }
+
+    @Test
+    public void handleRequest_withUnknownField_returnsError() {
+        GetEmployeeRequest request = new GetEmployeeRequest();
+        request.setEmployeeId(employee.getEmployeeId());
+        request.setFields(List.of("salary"));
+
+        GetEmployeeResult result = JsonUtil.fromJson(employeeHandler.handleRequest(request, null), GetEmployeeResult.class);
+
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isEmployeeRetrieved());
+        assertEquals("Unknown employee field: salary", result.getError());
+    }
+
     private Employee convertResultToEmployee(GetEmployeeResult result) {
         return Employee.builder()
                 .withEmployeeId(result.getEmployeeId())
@@ -0,0 +1,130 @@
+package org.example.lambda;
+
+import org.example.dynamodb.EmployeeDao;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.requests.GetEmployeesBatchRequest;
+import org.example.model.results.GetEmployeesBatchResult;
+import org.example.utils.gson.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class GetEmployeesBatchHandlerTest {
+    private AutoCloseable mocks;
+    @Mock
+    private EmployeeDao employeeDao;
+    @InjectMocks
+    private GetEmployeesBatchHandler employeesBatchHandler;
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+
+        employee1 = Employee.builder()
+                .withEmployeeId("Q7RWVU3O")
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withEmail("john.doe@example.com")
+                .withDepartment("Engineering")
+                .withHireDate(LocalDate.of(2024, 6, 5))
+                .withCurrentlyEmployed(true)
+                .withPermissionAccess(PermissionLevel.ADMIN)
+                .build();
+
+        employee2 = Employee.builder()
+                .withEmployeeId("Z7GWRU96")
+                .withFirstName("Jane")
+                .withLastName("Doe")
+                .withEmail("jane.doe@example.com")
+                .withDepartment("Sales")
+                .withHireDate(LocalDate.of(2024, 6, 5))
+                .withCurrentlyEmployed(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void handleRequest_retrievesRequestedEmployees() {
+        when(employeeDao.getEmployees(anyCollection())).thenReturn(List.of(employee1, employee2));
+        GetEmployeesBatchRequest request = adminRequest(List.of("Q7RWVU3O", "MISSING1", "Z7GWRU96"));
+
+        GetEmployeesBatchResult result = JsonUtil.fromJson(employeesBatchHandler.handleRequest(request, null), GetEmployeesBatchResult.class);
+
+        verify(employeeDao).getEmployees(List.of("Q7RWVU3O", "MISSING1", "Z7GWRU96"));
+        assertTrue(result.isEmployeesRetrieved());
+        assertEquals(List.of(employee1, employee2), result.getEmployeeList());
+        assertEquals(List.of("MISSING1"), result.getNotFoundEmployeeIds());
+        assertNull(result.getError());
+    }
+
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        GetEmployeesBatchRequest request = adminRequest(List.of("Q7RWVU3O"));
+        request.setSessionToken(employeesBatchHandler.sessionTokenService.issue(employee2.getEmployeeId(),
+                PermissionLevel.STANDARD));
+
+        GetEmployeesBatchResult result = JsonUtil.fromJson(employeesBatchHandler.handleRequest(request, null), GetEmployeesBatchResult.class);
+
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isEmployeesRetrieved());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
+    }
+
+    @Test
+    public void handleRequest_withoutSessionToken_returnsUnauthorized() {
+        GetEmployeesBatchRequest request = adminRequest(List.of("Q7RWVU3O"));
+        request.setSessionToken(null);
+
+        GetEmployeesBatchResult result = JsonUtil.fromJson(employeesBatchHandler.handleRequest(request, null), GetEmployeesBatchResult.class);
+
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isEmployeesRetrieved());
+        assertEquals("A session token is required. Please log in.", result.getError());
+    }
+
+    @Test
+    public void handleRequest_withNoEmployeeIds_returnsError() {
+        GetEmployeesBatchResult result = JsonUtil.fromJson(employeesBatchHandler.handleRequest(adminRequest(List.of()), null), GetEmployeesBatchResult.class);
+
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isEmployeesRetrieved());
+        assertEquals("At least one employee ID is required.", result.getError());
+    }
+
+    @Test
+    public void handleRequest_withUnexpectedException_returnsError() {
+        when(employeeDao.getEmployees(anyCollection())).thenThrow(new RuntimeException("An unexpected error occurred."));
+
+        GetEmployeesBatchResult result = JsonUtil.fromJson(employeesBatchHandler.handleRequest(adminRequest(List.of("Q7RWVU3O")), null), GetEmployeesBatchResult.class);
+
+        assertFalse(result.isEmployeesRetrieved());
+        assertEquals("An unexpected error occurred.", result.getError());
+    }
+
+    private GetEmployeesBatchRequest adminRequest(List<String> employeeIds) {
+        GetEmployeesBatchRequest request = new GetEmployeesBatchRequest();
+        request.setEmployeeId(employee1.getEmployeeId());
+        request.setSessionToken(employeesBatchHandler.sessionTokenService.issue(employee1.getEmployeeId(),
+                PermissionLevel.ADMIN));
+        request.setEmployeeIds(employeeIds);
+        return request;
+    }
+}
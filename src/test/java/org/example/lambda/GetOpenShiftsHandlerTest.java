@@ -0,0 +1,81 @@
+package org.example.lambda;
+
+import org.example.dynamodb.TimeEntryDao;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.model.PermissionLevel;
+import org.example.model.requests.GetOpenShiftsRequest;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.utils.gson.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class GetOpenShiftsHandlerTest {
+    private AutoCloseable mocks;
+    @Mock
+    private TimeEntryDao timeEntryDao;
+    @InjectMocks
+    private GetOpenShiftsHandler openShiftsHandler;
+
+    private GetOpenShiftsRequest request;
+    private ClockStateModel clockState;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+
+        request = new GetOpenShiftsRequest();
+        request.setEmployeeId("ADMIN123");
+        request.setSessionToken(openShiftsHandler.sessionTokenService.issue("ADMIN123", PermissionLevel.ADMIN));
+
+        clockState = new ClockStateModel();
+        clockState.setEmployeeId("Emp123");
+        clockState.setEntryId("TE123");
+        clockState.setTimeIn("2024-06-05T08:30:31");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void handleRequest_returnsOpenShifts() {
+        when(timeEntryDao.getOpenShifts()).thenReturn(List.of(clockState));
+
+        GetOpenShiftsResult result = JsonUtil.fromJson(openShiftsHandler.handleRequest(request, null), GetOpenShiftsResult.class);
+
+        assertTrue(result.isOpenShiftsRetrieved());
+        assertEquals(List.of(clockState), result.getOpenShiftList());
+        assertNull(result.getError());
+    }
+
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        request.setSessionToken(openShiftsHandler.sessionTokenService.issue("Emp123", PermissionLevel.STANDARD));
+
+        GetOpenShiftsResult result = JsonUtil.fromJson(openShiftsHandler.handleRequest(request, null), GetOpenShiftsResult.class);
+
+        verifyNoInteractions(timeEntryDao);
+        assertFalse(result.isOpenShiftsRetrieved());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
+    }
+
+    @Test
+    public void handleRequest_withUnexpectedException_returnsError() {
+        when(timeEntryDao.getOpenShifts()).thenThrow(new RuntimeException("An unexpected error occurred."));
+
+        GetOpenShiftsResult result = JsonUtil.fromJson(openShiftsHandler.handleRequest(request, null), GetOpenShiftsResult.class);
+
+        assertFalse(result.isOpenShiftsRetrieved());
+        assertEquals("An unexpected error occurred.", result.getError());
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.lambda;
 
 import org.example.dynamodb.TimeEntryDao;
+import org.example.exceptions.InvalidInputFormatException;
 import org.example.exceptions.TimeEntriesNotFoundException;
 import org.example.model.TimeEntry;
+import org.example.model.TimeEntryPage;
 import org.example.model.requests.GetTimeEntriesRequest;
 import org.example.model.results.GetTimeEntriesResult;
 import org.example.utils.gson.JsonUtil;
@@ -12,13 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -104,7 +111,7 @@ public class GetTimeEntriesTest {
 
     @Test
     public void requestHandler_retrievesTimeEntries() {
-        when(timeEntryDao.getTimeEntries(anyString())).thenReturn(timeEntryList);
+        when(timeEntryDao.getTimeEntries(anyString(), any(), any(), anyInt(), any())).thenReturn(new TimeEntryPage(timeEntryList, null));
         GetTimeEntriesRequest request = new GetTimeEntriesRequest();
         request.setEmployeeId(employeeId);
 
@@ -117,7 +124,7 @@ public class GetTimeEntriesTest {
 
     @Test
     public void requestHandler_throwsTimeEntriesNotFoundException() {
-        when(timeEntryDao.getTimeEntries(anyString())).thenThrow(new TimeEntriesNotFoundException("Time Entries Not Found."));
+        when(timeEntryDao.getTimeEntries(anyString(), any(), any(), anyInt(), any())).thenThrow(new TimeEntriesNotFoundException("Time Entries Not Found."));
         GetTimeEntriesRequest request = new GetTimeEntriesRequest();
         request.setEmployeeId(employeeId);
 
@@ -131,7 +138,7 @@ public class GetTimeEntriesTest {
 
     @Test
     public void requestHandler_throwsException() {
-        when(timeEntryDao.getTimeEntries(anyString())).thenThrow(new RuntimeException("An unexpected error occurred"));
+        when(timeEntryDao.getTimeEntries(anyString(), any(), any(), anyInt(), any())).thenThrow(new RuntimeException("An unexpected error occurred"));
         GetTimeEntriesRequest request = new GetTimeEntriesRequest();
         request.setEmployeeId(employeeId);
 
@@ -142,4 +149,49 @@ public class GetTimeEntriesTest {
         assertTrue(result.getTimeEntryList().isEmpty());
         assertEquals("An unexpected error occurred", result.getError());
     }
+
+    @Test
+    public void requestHandler_withRangeAndPageSize_returnsPageAndNextToken() {
+        LocalDate fromDate = LocalDate.of(2024, 5, 27);
+        LocalDate toDate = LocalDate.of(2024, 6, 9);
+        when(timeEntryDao.getTimeEntries(eq(employeeId), eq(fromDate), eq(toDate), eq(2), isNull()))
+                .thenReturn(new TimeEntryPage(timeEntryList.subList(0, 2), "token"));
+        GetTimeEntriesRequest request = new GetTimeEntriesRequest();
+        request.setEmployeeId(employeeId);
+        request.setFromDate("2024-05-27");
+        request.setToDate("2024-06-09");
+        request.setPageSize(2);
+
+        GetTimeEntriesResult result = JsonUtil.fromJson(timeEntriesHandler.handleRequest(request, null), GetTimeEntriesResult.class);
+
+        assertTrue(result.isTimeEntriesRetrieved());
+        assertEquals(2, result.getTimeEntryList().size());
+        assertEquals("token", result.getNextToken());
+    }
+
+    @Test
+    public void requestHandler_withoutPageSize_usesDefaultPageSize() {
+        when(timeEntryDao.getTimeEntries(anyString(), any(), any(), anyInt(), any())).thenReturn(new TimeEntryPage(timeEntryList, null));
+        GetTimeEntriesRequest request = new GetTimeEntriesRequest();
+        request.setEmployeeId(employeeId);
+
+        GetTimeEntriesResult result = JsonUtil.fromJson(timeEntriesHandler.handleRequest(request, null), GetTimeEntriesResult.class);
+
+        verify(timeEntryDao).getTimeEntries(eq(employeeId), isNull(), isNull(), eq(TimeEntryDao.DEFAULT_PAGE_SIZE), isNull());
+        assertTrue(result.isTimeEntriesRetrieved());
+        assertNull(result.getNextToken());
+    }
+
+    @Test
+    public void requestHandler_withInvalidInput_returnsError() {
+        when(timeEntryDao.getTimeEntries(anyString(), any(), any(), anyInt(), any())).thenThrow(new InvalidInputFormatException("Invalid page token."));
+        GetTimeEntriesRequest request = new GetTimeEntriesRequest();
+        request.setEmployeeId(employeeId);
+        request.setNextToken("not-a-token");
+
+        GetTimeEntriesResult result = JsonUtil.fromJson(timeEntriesHandler.handleRequest(request, null), GetTimeEntriesResult.class);
+
+        assertFalse(result.isTimeEntriesRetrieved());
+        assertEquals("Invalid page token.", result.getError());
+    }
 }
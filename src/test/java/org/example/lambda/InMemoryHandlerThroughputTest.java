@@ -0,0 +1,89 @@
+package org.example.lambda;
+
+import org.example.dependency.DaggerInMemoryAppComponent;
+import org.example.dependency.DynamoDBClientSettings;
+import org.example.dependency.InMemoryAppComponent;
+import org.example.dependency.InMemoryDaoModule;
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+import org.example.model.PermissionLevel;
+import org.example.model.requests.GetOpenShiftsRequest;
+import org.example.model.requests.NewTimeEntryRequest;
+import org.example.model.requests.UpdateTimeEntryRequest;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.model.results.NewTimeEntryResult;
+import org.example.model.results.UpdateTimeEntryResult;
+import org.example.utils.gson.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the clock-in and clock-out handlers end to end against the in-memory DAOs, with injected latency and
+ * throttling, to check that concurrent shifts are neither lost nor duplicated.
+ */
+public class InMemoryHandlerThroughputTest {
+    private static final int EMPLOYEES = 100;
+    private static final int THREADS = 8;
+
+    @Test
+    public void clockInAndOut_concurrently_completesEveryShift() throws Exception {
+        InMemoryDynamoDB dynamoDB = new InMemoryDynamoDB(DynamoDBClientSettings.fromEnvironment(Map.of(
+                "DYNAMODB_MAX_ERROR_RETRY", "10", "DYNAMODB_TRANSACT_WRITE_ITEMS_MAX_ERROR_RETRY", "10",
+                "DYNAMODB_RETRY_BASE_DELAY_MILLIS", "1", "DYNAMODB_RETRY_MAX_BACKOFF_MILLIS", "2")), 1, 0.05);
+        InMemoryAppComponent component = DaggerInMemoryAppComponent.builder()
+                .inMemoryDaoModule(new InMemoryDaoModule(dynamoDB))
+                .build();
+        NewTimeEntryHandler newTimeEntryHandler = new NewTimeEntryHandler();
+        component.inject(newTimeEntryHandler);
+        UpdateTimeEntryHandler updateTimeEntryHandler = new UpdateTimeEntryHandler();
+        component.inject(updateTimeEntryHandler);
+        GetOpenShiftsHandler getOpenShiftsHandler = new GetOpenShiftsHandler();
+        component.inject(getOpenShiftsHandler);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<CompletableFuture<NewTimeEntryResult>> clockIns = new ArrayList<>();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                NewTimeEntryRequest request = new NewTimeEntryRequest();
+                request.setEmployeeId("Emp" + i);
+                clockIns.add(CompletableFuture.supplyAsync(() -> JsonUtil.fromJson(
+                        newTimeEntryHandler.handleRequest(request, null), NewTimeEntryResult.class), executor));
+            }
+            for (CompletableFuture<NewTimeEntryResult> clockIn : clockIns) {
+                assertTrue(clockIn.get(30, TimeUnit.SECONDS).isNewTimeEntryCreated());
+            }
+            assertEquals(EMPLOYEES, openShifts(getOpenShiftsHandler).getOpenShiftList().size());
+
+            List<CompletableFuture<UpdateTimeEntryResult>> clockOuts = new ArrayList<>();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                String employeeId = "Emp" + i;
+                clockOuts.add(CompletableFuture.supplyAsync(() -> JsonUtil.fromJson(updateTimeEntryHandler.handleRequest(
+                        JsonUtil.fromJson("{\"employeeId\":\"" + employeeId + "\",\"employeeClockOut\":true}",
+                                UpdateTimeEntryRequest.class), null), UpdateTimeEntryResult.class), executor));
+            }
+            for (CompletableFuture<UpdateTimeEntryResult> clockOut : clockOuts) {
+                assertNotNull(clockOut.get(30, TimeUnit.SECONDS).getTimeOut());
+            }
+
+            assertTrue(openShifts(getOpenShiftsHandler).getOpenShiftList().isEmpty());
+            assertTrue(dynamoDB.getThrottledCount() > 0, "Some requests should have been throttled and retried.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static GetOpenShiftsResult openShifts(GetOpenShiftsHandler handler) {
+        GetOpenShiftsRequest request = new GetOpenShiftsRequest();
+        request.setEmployeeId("Emp0");
+        request.setSessionToken(handler.sessionTokenService.issue("Emp0", PermissionLevel.ADMIN));
+        return JsonUtil.fromJson(handler.handleRequest(request, null), GetOpenShiftsResult.class);
+    }
+}
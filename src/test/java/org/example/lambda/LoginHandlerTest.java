@@ -1,11 +1,22 @@
 package org.example.lambda;
 
+import org.example.dynamodb.AsyncEmployeeDao;
+import org.example.dynamodb.DaoExecutor;
 import org.example.dynamodb.EmployeeCredentialsDao;
+import org.example.dynamodb.EmployeeDao;
 import org.example.exceptions.AccountLockedException;
+import org.example.exceptions.PasswordHashingUnavailableException;
 import org.example.exceptions.UsernameNotFoundException;
+import org.example.model.Employee;
 import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
+import org.example.model.PasswordHasher;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
 import org.example.model.requests.LoginRequest;
 import org.example.model.results.LoginResult;
+import org.example.utils.LoginThrottle;
+import org.example.utils.PasswordHashingService;
 import org.example.utils.gson.JsonUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +24,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -26,6 +41,12 @@ public class LoginHandlerTest {
     @Mock
     private EmployeeCredentialsDao credentialsDao;
 
+    @Mock
+    private EmployeeDao employeeDao;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private LoginHandler loginHandler;
 
@@ -35,6 +56,7 @@ public class LoginHandlerTest {
     @BeforeEach
     void setUp() {
         mocks = openMocks(this);
+        loginHandler.asyncEmployeeDao = new AsyncEmployeeDao(employeeDao, new DaoExecutor(1));
         request = new LoginRequest();
         request.setUsername("jdoe");
         request.setPassword("p@ssw0rd");
@@ -59,6 +81,15 @@ public class LoginHandlerTest {
                 forceChangeAfterLogin,
                 failedAttempts
         );
+        when(employeeDao.getEmployee(employeeId)).thenReturn(Employee.builder()
+                .withEmployeeId(employeeId)
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withEmail("john.doe@example.com")
+                .withDepartment("Engineering")
+                .withHireDate(LocalDate.of(2024, 6, 1))
+                .withPermissionAccess(PermissionLevel.ADMIN)
+                .build());
     }
 
     @AfterEach
@@ -76,27 +107,168 @@ public class LoginHandlerTest {
 
         // Then
         verify(credentialsDao, never()).saveEmployeeCredentials(any(EmployeeCredentials.class));
+        verify(credentialsDao, never()).resetFailedLogins(anyString());
         assertTrue(result.isLoginSuccess());
         assertEquals("jdoe", result.getUsername());
         assertEquals("Emp123456", result.getEmployeeId());
         assertFalse(result.isForceChangeAfterLogin());
+        SessionToken sessionToken = loginHandler.sessionTokenService.verify(result.getSessionToken());
+        assertEquals("Emp123456", sessionToken.getEmployeeId());
+        assertEquals(PermissionLevel.ADMIN, sessionToken.getPermissionLevel());
+    }
+
+    @Test
+    public void handleRequest_validCredentials_readsPermissionLevelWhileHashing() throws Exception {
+        // Given the hash only finishes once the permission level is being read
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        CountDownLatch employeeRead = new CountDownLatch(1);
+        Employee employee = employeeDao.getEmployee(employeeCredentials.getEmployeeId());
+        when(employeeDao.getEmployee(employeeCredentials.getEmployeeId())).thenAnswer(invocation -> {
+            employeeRead.countDown();
+            return employee;
+        });
+        PasswordHasher waitingHasher = mock(PasswordHasher.class);
+        when(waitingHasher.verifyPassword(anyString(), anyString(), anyString(), any(PasswordHashParameters.class)))
+                .thenAnswer(invocation -> employeeRead.await(5, TimeUnit.SECONDS));
+        loginHandler.passwordHashingService = mock(PasswordHashingService.class);
+        when(loginHandler.passwordHashingService.forContext(any())).thenReturn(waitingHasher);
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        assertTrue(result.isLoginSuccess());
+        assertEquals(PermissionLevel.ADMIN,
+                loginHandler.sessionTokenService.verify(result.getSessionToken()).getPermissionLevel());
     }
 
     @Test
     public void handleRequest_invalidPassword_loginFail() throws Exception {
         // Given
         when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
-        when(credentialsDao.saveEmployeeCredentials(any(EmployeeCredentials.class))).thenReturn(null);
+        when(credentialsDao.recordFailedLogin("jdoe")).thenReturn(1);
 
         // When
         request.setPassword("Invalid Password");
         LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
 
         // Then
-        verify(credentialsDao).saveEmployeeCredentials(any(EmployeeCredentials.class));
+        verify(credentialsDao).recordFailedLogin("jdoe");
+        verify(credentialsDao, never()).saveEmployeeCredentials(any(EmployeeCredentials.class));
         assertFalse(result.isLoginSuccess());
+        assertFalse(result.isAccountLocked());
         assertEquals("jdoe", result.getUsername());
         assertEquals("Invalid Password!", result.getError());
+        assertNull(result.getSessionToken());
+    }
+
+    @Test
+    public void handleRequest_invalidPasswordReachingLimit_locksAccount() throws Exception {
+        // Given
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        when(credentialsDao.recordFailedLogin("jdoe")).thenReturn(EmployeeCredentials.MAX_FAILED_ATTEMPTS);
+
+        // When
+        request.setPassword("Invalid Password");
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        assertFalse(result.isLoginSuccess());
+        assertTrue(result.isAccountLocked());
+        assertEquals("Account is locked due to too many failed login attempts.", result.getError());
+    }
+
+    @Test
+    public void handleRequest_validCredentialsAfterFailures_resetsFailedLogins() throws Exception {
+        // Given
+        EmployeeCredentials credentialsWithFailures = new EmployeeCredentials(employeeCredentials.getEmployeeId(),
+                employeeCredentials.getUsername(), employeeCredentials.getSalt(), employeeCredentials.getPassword(),
+                employeeCredentials.getLastUpdated(), false, false, 2);
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(credentialsWithFailures);
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        assertTrue(result.isLoginSuccess());
+        verify(credentialsDao).resetFailedLogins("jdoe");
+        verify(credentialsDao, never()).recordFailedLogin(anyString());
+    }
+
+    @Test
+    public void handleRequest_validCredentialsWithOutdatedHash_rehashesAndUpdatesOnlyTheHash() throws Exception {
+        // Given
+        PasswordHashParameters targetParameters = new PasswordHashParameters(65536, 4, 1);
+        String previousPassword = employeeCredentials.getPassword();
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        when(credentialsDao.updatePasswordHash(employeeCredentials, previousPassword)).thenReturn(true);
+        loginHandler.passwordHashingService = new PasswordHashingService(1, 1_000, targetParameters);
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        assertTrue(result.isLoginSuccess());
+        verify(credentialsDao).updatePasswordHash(employeeCredentials, previousPassword);
+        verify(credentialsDao, never()).saveEmployeeCredentials(any(EmployeeCredentials.class));
+        assertEquals(targetParameters, employeeCredentials.getHashParameters());
+        assertTrue(employeeCredentials.verifyCredentials(request.getPassword(), credentialsDao,
+                loginHandler.passwordHashingService));
+    }
+
+    @Test
+    public void handleRequest_rehashSaveFails_loginSuccess() throws Exception {
+        // Given
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        when(credentialsDao.updatePasswordHash(any(EmployeeCredentials.class), anyString()))
+                .thenThrow(new RuntimeException("Unexpected error"));
+        loginHandler.passwordHashingService = new PasswordHashingService(1, 1_000,
+                new PasswordHashParameters(65536, 4, 1));
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        assertTrue(result.isLoginSuccess());
+        assertNull(result.getError());
+    }
+
+    @Test
+    public void handleRequest_throttled_loginFailWithoutReadingCredentials() throws Exception {
+        // Given
+        request = JsonUtil.fromJson("{\"username\":\"jdoe\",\"password\":\"p@ssw0rd\"," +
+                "\"requestContext\":{\"identity\":{\"sourceIp\":\"203.0.113.7\"}}}", LoginRequest.class);
+        when(loginThrottle.tryAcquire("jdoe", "203.0.113.7")).thenReturn(42_500L);
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        verify(credentialsDao, never()).getEmployeeCredentials(anyString());
+        verify(credentialsDao, never()).recordFailedLogin(anyString());
+        assertFalse(result.isLoginSuccess());
+        assertEquals("jdoe", result.getUsername());
+        assertEquals("Too many login attempts. Please try again in 43 seconds.", result.getError());
+    }
+
+    @Test
+    public void handleRequest_hashingUnavailable_loginFailWithoutCountingAttempt() throws Exception {
+        // Given
+        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        PasswordHasher busyHasher = mock(PasswordHasher.class);
+        when(busyHasher.verifyPassword(anyString(), anyString(), anyString(), any(PasswordHashParameters.class)))
+                .thenThrow(new PasswordHashingUnavailableException("The server is busy. Please try again in a moment."));
+        loginHandler.passwordHashingService = mock(PasswordHashingService.class);
+        when(loginHandler.passwordHashingService.forContext(any())).thenReturn(busyHasher);
+
+        // When
+        LoginResult result = JsonUtil.fromJson(loginHandler.handleRequest(request, null), LoginResult.class);
+
+        // Then
+        verify(credentialsDao, never()).recordFailedLogin(anyString());
+        assertFalse(result.isLoginSuccess());
+        assertFalse(result.isAccountLocked());
+        assertEquals("The server is busy. Please try again in a moment.", result.getError());
     }
 
     @Test
@@ -1,8 +1,7 @@
 package org.example.lambda;
 
-import org.example.dynamodb.EmployeeCredentialsDao;
 import org.example.dynamodb.EmployeeDao;
-import org.example.exceptions.UsernameNotFoundException;
+import org.example.exceptions.UsernameAlreadyExistsException;
 import org.example.model.Employee;
 import org.example.model.EmployeeCredentials;
 import org.example.model.PermissionLevel;
@@ -26,9 +25,6 @@ import static org.mockito.MockitoAnnotations.openMocks;
 public class NewEmployeeHandlerTest {
     private AutoCloseable mocks;
 
-    @Mock
-    private EmployeeCredentialsDao credentialsDao;
-
     @Mock
     private EmployeeDao employeeDao;
 
@@ -82,6 +78,7 @@ public class NewEmployeeHandlerTest {
         request.setPermissionAccess(permissionAccess.toString().toUpperCase());
         request.setUsername(username);
         request.setPassword(password);
+        request.setSessionToken(newEmployeeHandler.sessionTokenService.issue("Emp000001", PermissionLevel.ADMIN));
 
         newEmployee = Employee.builder()
                 .withEmployeeId(employeeId)
@@ -111,16 +108,14 @@ public class NewEmployeeHandlerTest {
     @Test
     public void handleRequest_validRequest_createsNewEmployee() {
         // Given
-        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenThrow(new UsernameNotFoundException("Username not found"));
-        when(employeeDao.saveEmployee(any(Employee.class))).thenReturn(ModelConverter.fromEmployee(newEmployee));
-        when(credentialsDao.saveEmployeeCredentials(any(EmployeeCredentials.class))).thenReturn(ModelConverter.fromEmployeeCredentials(employeeCredentials));
+        when(employeeDao.createEmployee(any(Employee.class), any(EmployeeCredentials.class))).thenReturn(ModelConverter.fromEmployee(newEmployee));
 
         // When
         NewEmployeeResult result = JsonUtil.fromJson(newEmployeeHandler.handleRequest(request, null), NewEmployeeResult.class);
 
         // Then
-        verify(employeeDao).saveEmployee(any(Employee.class));
-        verify(credentialsDao).saveEmployeeCredentials(any(EmployeeCredentials.class));
+        verify(employeeDao).createEmployee(any(Employee.class), argThat(credentials -> request.getUsername().equals(credentials.getUsername())));
+        verify(employeeDao, never()).saveEmployee(any(Employee.class));
 
         assertTrue(result.isNewEmployeeCreated());
         assertEquals(request.getFirstName(), result.getFirstName());
@@ -128,10 +123,25 @@ public class NewEmployeeHandlerTest {
         assertEquals(request.getUsername(), result.getUsername());
     }
 
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        // Given
+        request.setSessionToken(newEmployeeHandler.sessionTokenService.issue("Emp000001", PermissionLevel.STANDARD));
+
+        // When
+        NewEmployeeResult result = JsonUtil.fromJson(newEmployeeHandler.handleRequest(request, null), NewEmployeeResult.class);
+
+        // Then
+        verifyNoInteractions(employeeDao);
+        assertFalse(result.isNewEmployeeCreated());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
+    }
+
     @Test
     public void handleRequest_existingUsername_throwsUsernameAlreadyExistsException() {
         // Given
-        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenReturn(employeeCredentials);
+        when(employeeDao.createEmployee(any(Employee.class), any(EmployeeCredentials.class)))
+                .thenThrow(new UsernameAlreadyExistsException("Username \"jdoe\" is already taken. Please choose another."));
 
         // When
         NewEmployeeResult result = JsonUtil.fromJson(newEmployeeHandler.handleRequest(request, null), NewEmployeeResult.class);
@@ -144,7 +154,7 @@ public class NewEmployeeHandlerTest {
     @Test
     public void handleRequest_validRequest_throwsException() {
         // Given
-        when(credentialsDao.getEmployeeCredentials(request.getUsername())).thenThrow(new RuntimeException("An unexpected error occurred."));
+        when(employeeDao.createEmployee(any(Employee.class), any(EmployeeCredentials.class))).thenThrow(new RuntimeException("An unexpected error occurred."));
 
         // When
         NewEmployeeResult result = JsonUtil.fromJson(newEmployeeHandler.handleRequest(request, null), NewEmployeeResult.class);
@@ -1,6 +1,7 @@
 package org.example.lambda;
 
 import org.example.dynamodb.TimeEntryDao;
+import org.example.exceptions.ClockStateConflictException;
 import org.example.model.TimeEntry;
 import org.example.model.requests.NewTimeEntryRequest;
 import org.example.model.results.NewTimeEntryResult;
@@ -15,7 +16,7 @@ import org.mockito.Mock;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -55,13 +56,13 @@ public class NewTimeEntryHandlerTest {
     @Test
     public void requestHandler_createsNewTimeEntry() {
         // Given
-        when(timeEntryDao.saveTimeEntry(any(TimeEntry.class))).thenReturn(ModelConverter.fromTimeEntry(timeEntry));
+        when(timeEntryDao.clockIn(anyString())).thenReturn(ModelConverter.fromTimeEntry(timeEntry));
 
         // When
         NewTimeEntryResult result = JsonUtil.fromJson(timeEntryHandler.handleRequest(timeEntryRequest, null), NewTimeEntryResult.class);
 
         // Then
-        verify(timeEntryDao).saveTimeEntry(any(TimeEntry.class));
+        verify(timeEntryDao).clockIn(timeEntry.getEmployeeId());
 
         assertTrue(result.isNewTimeEntryCreated(), "isNewTimeEntryCreated should return true.");
         assertEquals(timeEntry.getEmployeeId(), result.getEmployeeId(), "Employee IDs should match.");
@@ -73,7 +74,7 @@ public class NewTimeEntryHandlerTest {
     @Test
     public void requestHandler_throwsUnexpectedException() {
         // Given
-        when(timeEntryDao.saveTimeEntry(any(TimeEntry.class))).thenThrow(new RuntimeException("An unexpected error occurred."));
+        when(timeEntryDao.clockIn(anyString())).thenThrow(new RuntimeException("An unexpected error occurred."));
 
         // When
         NewTimeEntryResult result = JsonUtil.fromJson(timeEntryHandler.handleRequest(timeEntryRequest, null), NewTimeEntryResult.class);
@@ -84,5 +85,16 @@ public class NewTimeEntryHandlerTest {
         assertEquals("An unexpected error occurred.", result.getError());
     }
 
+    @Test
+    public void requestHandler_whenAlreadyClockedIn_returnsError() {
+        // Given
+        when(timeEntryDao.clockIn(anyString())).thenThrow(new ClockStateConflictException("Employee is already clocked in."));
 
+        // When
+        NewTimeEntryResult result = JsonUtil.fromJson(timeEntryHandler.handleRequest(timeEntryRequest, null), NewTimeEntryResult.class);
+
+        // Then
+        assertFalse(result.isNewTimeEntryCreated());
+        assertEquals("Employee is already clocked in.", result.getError());
+    }
 }
@@ -2,7 +2,11 @@ package org.example.lambda;
 
 import org.example.dynamodb.EmployeeDao;
 import org.example.dynamodb.model.EmployeeModel;
+import org.example.exceptions.EmployeeNotFoundException;
+import org.example.exceptions.EmployeeVersionConflictException;
 import org.example.model.Employee;
+import org.example.model.EmployeeField;
+import org.example.model.EmployeePatch;
 import org.example.model.PermissionLevel;
 import org.example.model.requests.UpdateEmployeeRequest;
 import org.example.model.results.UpdateEmployeeResult;
@@ -11,14 +15,16 @@ import org.example.utils.gson.JsonUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -84,6 +90,7 @@ public class UpdateEmployeeHandlerTest {
         request.setZipCode(zipCode);
         request.setPayRate("6500/bw");
         request.setPermissionAccess("ADMIN");
+        request.setSessionToken(updateEmployeeHandler.sessionTokenService.issue("Emp000001", PermissionLevel.ADMIN));
 
     }
 
@@ -100,26 +107,113 @@ public class UpdateEmployeeHandlerTest {
         EmployeeModel employeeModel = ModelConverter.fromEmployee(employee);
         employeeModel.setPayRate(request.getPayRate());
         employeeModel.setPermissionAccess(request.getPermissionAccess().name());
-        when(employeeDao.getEmployee(anyString())).thenReturn(employee);
-        when(employeeDao.saveEmployee(any(Employee.class))).thenReturn(employeeModel);
+        employeeModel.setVersion(1L);
+        when(employeeDao.updateEmployee(any(EmployeePatch.class))).thenReturn(employeeModel);
 
         // When
         UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
 
         // Then
-        verify(employeeDao).saveEmployee(any(Employee.class));
+        verify(employeeDao).updateEmployee(any(EmployeePatch.class));
+        verify(employeeDao, never()).getEmployee(employee.getEmployeeId());
+        verify(employeeDao, never()).saveEmployee(any(Employee.class));
 
         assertTrue(result.isEmployeeUpdated(), "Result isEmployeeUpdated should return true.");
         assertNotEquals(originalEmployee, convertResultToEmployee(result), "Updated Employee should not be equal to the original Employee Instance.");
         assertNotEquals(originalPayRate, convertResultToEmployee(result).getPayRate(), "Pay rates shouldn't match after update.");
         assertEquals(PermissionLevel.ADMIN, convertResultToEmployee(result).getPermissionAccess(), "Permission access shouldn't match after update.");
+        assertEquals(1L, result.getVersion());
+    }
+
+    @Test
+    public void handleRequest_partialRequest_patchesOnlyRequestedFields() {
+        // Given
+        UpdateEmployeeRequest phoneRequest = new UpdateEmployeeRequest();
+        phoneRequest.setEmployeeId(employee.getEmployeeId());
+        phoneRequest.setSessionToken(request.getSessionToken());
+        phoneRequest.setPhone("+1-555-555-5555");
+        phoneRequest.setVersion(3L);
+        EmployeeModel employeeModel = ModelConverter.fromEmployee(employee);
+        employeeModel.setPhone(phoneRequest.getPhone());
+        employeeModel.setVersion(4L);
+        when(employeeDao.updateEmployee(any(EmployeePatch.class))).thenReturn(employeeModel);
+        ArgumentCaptor<EmployeePatch> patchCaptor = ArgumentCaptor.forClass(EmployeePatch.class);
+
+        // When
+        UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(phoneRequest, null), UpdateEmployeeResult.class);
+
+        // Then
+        verify(employeeDao).updateEmployee(patchCaptor.capture());
+        EmployeePatch patch = patchCaptor.getValue();
+        assertEquals(Map.of(EmployeeField.PHONE, "+1-555-555-5555"), patch.getChanges());
+        assertEquals(3L, patch.getExpectedVersion());
+        assertTrue(result.isEmployeeUpdated());
+        assertEquals(employee.getFirstName(), result.getFirstName());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    public void handleRequest_staleVersion_returnsConflictError() {
+        // Given
+        request.setVersion(2L);
+        when(employeeDao.updateEmployee(any(EmployeePatch.class)))
+                .thenThrow(new EmployeeVersionConflictException("Employee was changed by someone else."));
+
+        // When
+        UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
+
+        // Then
+        assertFalse(result.isEmployeeUpdated());
+        assertEquals("Employee was changed by someone else.", result.getError());
+        assertEquals(2L, result.getVersion());
+    }
+
+    @Test
+    public void handleRequest_employeeNotFound_returnsError() {
+        // Given
+        when(employeeDao.updateEmployee(any(EmployeePatch.class)))
+                .thenThrow(new EmployeeNotFoundException("Could not find employee with Employee ID: Emp123456"));
+
+        // When
+        UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
+
+        // Then
+        assertFalse(result.isEmployeeUpdated());
+        assertEquals("Could not find employee with Employee ID: Emp123456", result.getError());
+    }
+
+    @Test
+    public void handleRequest_invalidField_returnsErrorWithoutUpdating() {
+        // Given
+        request.setPhone("555");
+
+        // When
+        UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
+
+        // Then
+        verify(employeeDao, never()).updateEmployee(any(EmployeePatch.class));
+        assertFalse(result.isEmployeeUpdated());
+        assertTrue(result.getError().startsWith("Invalid phone format: 555."));
+    }
+
+    @Test
+    public void handleRequest_withStandardUser_returnsUnauthorized() {
+        // Given
+        request.setSessionToken(updateEmployeeHandler.sessionTokenService.issue(employee.getEmployeeId(), PermissionLevel.STANDARD));
+
+        // When
+        UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
+
+        // Then
+        verify(employeeDao, never()).updateEmployee(any(EmployeePatch.class));
+        assertFalse(result.isEmployeeUpdated());
+        assertTrue(result.getError().startsWith("User does not have permission to access this resource."));
     }
 
     @Test
     public void handleRequest_validRequest_throwsException() {
         // Given
-        when(employeeDao.getEmployee(anyString())).thenReturn(employee);
-        when(employeeDao.saveEmployee(any(Employee.class))).thenThrow(new RuntimeException("An unexpected error occurred."));
+        when(employeeDao.updateEmployee(any(EmployeePatch.class))).thenThrow(new RuntimeException("An unexpected error occurred."));
 
         // When
         UpdateEmployeeResult result = JsonUtil.fromJson(updateEmployeeHandler.handleRequest(request, null), UpdateEmployeeResult.class);
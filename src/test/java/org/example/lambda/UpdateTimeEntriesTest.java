@@ -1,6 +1,8 @@
 package org.example.lambda;
 
+import org.example.dynamodb.BatchWriteResult;
 import org.example.dynamodb.TimeEntryDao;
+import org.example.dynamodb.model.TimeEntryModel;
 import org.example.model.TimeEntry;
 import org.example.model.requests.UpdateTimeEntriesRequest;
 import org.example.model.results.NewTimeEntryResult;
@@ -76,7 +78,8 @@ public class UpdateTimeEntriesTest {
     public void handleRequest_updatesListOfTimeEntries() {
         // Given
         List<TimeEntry> originalList = new ArrayList<>(timeEntryList);
-        when(timeEntryDao.saveTimeEntries(anyList())).thenReturn(ModelConverter.fromTimeEntryList(timeEntryList));
+        when(timeEntryDao.saveTimeEntries(anyList())).thenReturn(
+                new BatchWriteResult<>(ModelConverter.fromTimeEntryList(timeEntryList), new ArrayList<>()));
 
         // When
         timeEntryList.get(2).setTimeOut(LocalDateTime.of(2024,5,26,17,30));
@@ -92,6 +95,29 @@ public class UpdateTimeEntriesTest {
         assertNotEquals(updatedList, originalList);
     }
 
+    @Test
+    public void handleRequest_withFailedTimeEntries_reportsFailures() {
+        // Given
+        List<TimeEntryModel> timeEntryModels = ModelConverter.fromTimeEntryList(timeEntryList);
+        when(timeEntryDao.saveTimeEntries(anyList())).thenReturn(new BatchWriteResult<>(
+                timeEntryModels.subList(0, 2),
+                List.of(new BatchWriteResult.FailedWrite<>(timeEntryModels.get(2), "Throttled.", 8))));
+
+        // When
+        UpdateTimeEntriesRequest request = new UpdateTimeEntriesRequest();
+        request.setTimeEntryList(timeEntryList);
+        UpdateTimeEntriesResult result = JsonUtil.fromJson(updateTimeEntriesHandler.handleRequest(request, null), UpdateTimeEntriesResult.class);
+
+        // Then
+        assertFalse(result.isTimeEntriesUpdated());
+        assertEquals(2, result.getTimeEntryList().size());
+        assertEquals(1, result.getFailedTimeEntryList().size());
+        assertEquals("TE123", result.getFailedTimeEntryList().get(0).getEntryId());
+        assertFalse(result.getFailedTimeEntryList().get(0).isTimeEntryUpdated());
+        assertEquals("Throttled.", result.getFailedTimeEntryList().get(0).getError());
+        assertEquals("1 of 3 time entries could not be updated.", result.getError());
+    }
+
     @Test
     public void requestHandler_throwsUnexpectedException() {
         // Given
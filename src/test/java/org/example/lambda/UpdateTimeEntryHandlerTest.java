@@ -1,6 +1,7 @@
 package org.example.lambda;
 
 import org.example.dynamodb.TimeEntryDao;
+import org.example.exceptions.ClockStateConflictException;
 import org.example.model.TimeEntry;
 import org.example.model.requests.UpdateTimeEntryRequest;
 import org.example.model.results.UpdateTimeEntryResult;
@@ -17,6 +18,8 @@ import java.time.LocalDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -48,7 +51,8 @@ public class UpdateTimeEntryHandlerTest {
         updateTimeEntryRequest.setEmployeeId(employeeId);
         updateTimeEntryRequest.setEntryId(entryId);
         updateTimeEntryRequest.setTimeIn(timeIn.toString());
-        updateTimeEntryRequest.setTimeOut(LocalDateTime.of(2024,06,05,4,30,15).toString());
+        updateTimeEntryRequest.setTimeOut(LocalDateTime.of(2024,06,05,17,30,15).toString());
+        when(timeEntryDao.getTimeEntry(employeeId, entryId)).thenReturn(timeEntry);
     }
 
     @AfterEach
@@ -89,4 +93,38 @@ public class UpdateTimeEntryHandlerTest {
         assertEquals("An unexpected error occurred.", result.getError());
     }
 
+    @Test
+    public void requestHandler_clockOut_usesClockState() {
+        // Given
+        timeEntry.recordTimeOut();
+        when(timeEntryDao.clockOut(timeEntry.getEmployeeId(), timeEntry.getEntryId(), updateTimeEntryRequest.getTimeIn()))
+                .thenReturn(ModelConverter.fromTimeEntry(timeEntry));
+        updateTimeEntryRequest.setEmployeeClockOut(true);
+
+        // When
+        UpdateTimeEntryResult result = JsonUtil.fromJson(updateTimeEntryHandler.handleRequest(updateTimeEntryRequest, null), UpdateTimeEntryResult.class);
+
+        // Then
+        verify(timeEntryDao, never()).getTimeEntry(anyString(), anyString());
+        verify(timeEntryDao, never()).saveTimeEntry(any(TimeEntry.class));
+        assertTrue(result.isTimeEntryUpdated());
+        assertEquals(timeEntry.getEntryId(), result.getEntryId());
+        assertNotNull(result.getTimeOut());
+    }
+
+    @Test
+    public void requestHandler_clockOutWhenNotClockedIn_returnsError() {
+        // Given
+        when(timeEntryDao.clockOut(anyString(), any(), any())).thenThrow(new ClockStateConflictException("Employee is not clocked in."));
+        UpdateTimeEntryRequest clockOutRequest = new UpdateTimeEntryRequest();
+        clockOutRequest.setEmployeeId(timeEntry.getEmployeeId());
+        clockOutRequest.setEmployeeClockOut(true);
+
+        // When
+        UpdateTimeEntryResult result = JsonUtil.fromJson(updateTimeEntryHandler.handleRequest(clockOutRequest, null), UpdateTimeEntryResult.class);
+
+        // Then
+        assertFalse(result.isTimeEntryUpdated());
+        assertEquals("Employee is not clocked in.", result.getError());
+    }
 }
@@ -9,7 +9,9 @@ import org.mockito.MockedStatic;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 public class EmployeeCredentialsTest {
     private EmployeeCredentials employeeCredentials;
@@ -63,7 +65,7 @@ public class EmployeeCredentialsTest {
 
         try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
             credentialsUtilityMock.when(CredentialsUtility::generateSalt).thenReturn(newSalt);
-            credentialsUtilityMock.when(() -> CredentialsUtility.hashPassword(newPassword, newSalt)).thenReturn(newHashedPassword);
+            credentialsUtilityMock.when(() -> CredentialsUtility.hashPassword(newPassword, newSalt, PasswordHashParameters.DEFAULT)).thenReturn(newHashedPassword);
 
             employeeCredentials.updatePassword(newPassword);
 
@@ -76,7 +78,7 @@ public class EmployeeCredentialsTest {
     @Test
     public void testVerifyCredentials_Success() {
         try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
-            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword)).thenReturn(true);
+            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword, PasswordHashParameters.DEFAULT)).thenReturn(true);
 
             boolean result = employeeCredentials.verifyCredentials(password);
 
@@ -88,7 +90,7 @@ public class EmployeeCredentialsTest {
     @Test
     public void testVerifyCredentials_Failure() {
         try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
-            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword)).thenReturn(false);
+            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword, PasswordHashParameters.DEFAULT)).thenReturn(false);
 
             boolean result = employeeCredentials.verifyCredentials(password);
 
@@ -120,7 +122,7 @@ public class EmployeeCredentialsTest {
 
         try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
             credentialsUtilityMock.when(CredentialsUtility::generateSalt).thenReturn(newSalt);
-            credentialsUtilityMock.when(() -> CredentialsUtility.hashPassword(newPassword, newSalt)).thenReturn(newHashedPassword);
+            credentialsUtilityMock.when(() -> CredentialsUtility.hashPassword(newPassword, newSalt, PasswordHashParameters.DEFAULT)).thenReturn(newHashedPassword);
 
             employeeCredentials.adminResetPassword(newPassword);
 
@@ -173,4 +175,104 @@ public class EmployeeCredentialsTest {
         assertNotEquals(originalIsAccountLocked, employeeCredentials.isAccountLocked());
         assertTrue(employeeCredentials.isAccountLocked());
     }
+
+    @Test
+    public void verifyCredentials_withRecorder_usesRecordedFailedAttempts() {
+        LoginAttemptRecorder recorder = mock(LoginAttemptRecorder.class);
+        when(recorder.recordFailedLogin(username)).thenReturn(2);
+        try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
+            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword, PasswordHashParameters.DEFAULT)).thenReturn(false);
+
+            boolean result = employeeCredentials.verifyCredentials(password, recorder);
+
+            assertFalse(result);
+            assertEquals(2, employeeCredentials.getFailedAttempts());
+            assertFalse(employeeCredentials.isAccountLocked());
+            verify(recorder, never()).resetFailedLogins(anyString());
+        }
+    }
+
+    @Test
+    public void verifyCredentials_withRecorderReachingLimit_locksAccount() {
+        LoginAttemptRecorder recorder = mock(LoginAttemptRecorder.class);
+        when(recorder.recordFailedLogin(username)).thenReturn(EmployeeCredentials.MAX_FAILED_ATTEMPTS);
+        try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
+            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword, PasswordHashParameters.DEFAULT)).thenReturn(false);
+
+            employeeCredentials.verifyCredentials(password, recorder);
+
+            assertTrue(employeeCredentials.isAccountLocked());
+            assertThrows(AccountLockedException.class, () -> employeeCredentials.verifyCredentials(password, recorder));
+            verify(recorder, times(1)).recordFailedLogin(username);
+        }
+    }
+
+    @Test
+    public void verifyCredentials_withRecorderAfterFailures_resetsFailedAttempts() {
+        LoginAttemptRecorder recorder = mock(LoginAttemptRecorder.class);
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, username, salt, hashedPassword,
+                lastUpdated, false, false, 2);
+        try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
+            credentialsUtilityMock.when(() -> CredentialsUtility.verifyPassword(password, salt, hashedPassword, PasswordHashParameters.DEFAULT)).thenReturn(true);
+
+            assertTrue(credentials.verifyCredentials(password, recorder));
+
+            assertEquals(0, credentials.getFailedAttempts());
+            verify(recorder).resetFailedLogins(username);
+        }
+    }
+
+    @Test
+    public void rehashIfOutdated_withStrongerTargetParameters_rehashesAndKeepsLastUpdated() {
+        PasswordHashParameters targetParameters = new PasswordHashParameters(131072, 3, 1);
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.getTargetParameters()).thenReturn(targetParameters);
+        when(passwordHasher.hashPassword(password, "newRandomSalt", targetParameters)).thenReturn("rehashedPassword");
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, username, salt, hashedPassword,
+                lastUpdated, false, false, 0);
+        try (MockedStatic<CredentialsUtility> credentialsUtilityMock = mockStatic(CredentialsUtility.class)) {
+            credentialsUtilityMock.when(CredentialsUtility::generateSalt).thenReturn("newRandomSalt");
+
+            assertTrue(credentials.rehashIfOutdated(password, passwordHasher));
+        }
+
+        assertEquals("newRandomSalt", credentials.getSalt());
+        assertEquals("rehashedPassword", credentials.getPassword());
+        assertEquals(targetParameters, credentials.getHashParameters());
+        assertEquals(lastUpdated, credentials.getLastUpdated());
+    }
+
+    @Test
+    public void rehashIfOutdated_withCurrentParameters_keepsHash() {
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.getTargetParameters()).thenReturn(PasswordHashParameters.DEFAULT);
+
+        assertFalse(employeeCredentials.rehashIfOutdated(password, passwordHasher));
+
+        assertEquals(hashedPassword, employeeCredentials.getPassword());
+        verify(passwordHasher, never()).hashPassword(anyString(), anyString(), any(PasswordHashParameters.class));
+    }
+
+    @Test
+    public void rehashIfOutdated_withWeakerTargetParameters_keepsHash() {
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.getTargetParameters()).thenReturn(new PasswordHashParameters(32768, 3, 1));
+
+        assertFalse(employeeCredentials.rehashIfOutdated(password, passwordHasher));
+
+        assertEquals(hashedPassword, employeeCredentials.getPassword());
+        assertEquals(PasswordHashParameters.DEFAULT, employeeCredentials.getHashParameters());
+        verify(passwordHasher, never()).hashPassword(anyString(), anyString(), any(PasswordHashParameters.class));
+    }
+
+    @Test
+    public void verifyCredentials_withRecorder_verifiesWithStoredParameters() {
+        PasswordHashParameters storedParameters = new PasswordHashParameters(32768, 4, 1);
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.verifyPassword(password, salt, hashedPassword, storedParameters)).thenReturn(true);
+        EmployeeCredentials credentials = new EmployeeCredentials(employeeId, username, salt, hashedPassword,
+                storedParameters, lastUpdated, false, false, 0);
+
+        assertTrue(credentials.verifyCredentials(password, mock(LoginAttemptRecorder.class), passwordHasher));
+    }
 }
@@ -0,0 +1,47 @@
+package org.example.model;
+
+import org.example.exceptions.InvalidInputFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeFieldTest {
+    @Test
+    public void fromFieldNames_addsRequiredFields() {
+        Set<EmployeeField> fields = EmployeeField.fromFieldNames(List.of("department"));
+
+        assertTrue(fields.containsAll(EmployeeField.REQUIRED_FIELDS));
+        assertTrue(fields.contains(EmployeeField.DEPARTMENT));
+        assertFalse(fields.contains(EmployeeField.PAY_RATE));
+        assertFalse(EmployeeField.isAllFields(fields));
+    }
+
+    @Test
+    public void fromFieldNames_withNullOrEmpty_returnsAllFields() {
+        assertTrue(EmployeeField.isAllFields(EmployeeField.fromFieldNames(null)));
+        assertTrue(EmployeeField.isAllFields(EmployeeField.fromFieldNames(List.of())));
+    }
+
+    @Test
+    public void fromFieldNames_withUnknownField_throwsInvalidInputFormatException() {
+        assertThrows(InvalidInputFormatException.class, () -> EmployeeField.fromFieldNames(List.of("salary")));
+    }
+
+    @Test
+    public void toProjectionExpression_usesExpressionAttributeNames() {
+        Map<String, String> expressionAttributeNames = new HashMap<>();
+
+        String projectionExpression = EmployeeField.toProjectionExpression(
+                EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.STATE), expressionAttributeNames);
+
+        assertEquals("#employeeId, #state", projectionExpression);
+        assertEquals("employee_id", expressionAttributeNames.get("#employeeId"));
+        assertEquals("state", expressionAttributeNames.get("#state"));
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.model;
+
+import org.example.exceptions.InvalidInputFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeePatchTest {
+    @Test
+    public void build_ignoresUnsetFields() {
+        EmployeePatch patch = EmployeePatch.builder()
+                .withEmployeeId("Emp123456")
+                .withPhone("+1-555-555-5555")
+                .withMiddleName(null)
+                .withHireDate(LocalDate.of(2020, 1, 1))
+                .build();
+
+        assertEquals(Map.of(EmployeeField.PHONE, "+1-555-555-5555", EmployeeField.HIRE_DATE, LocalDate.of(2020, 1, 1)),
+                patch.getChanges());
+        assertNull(patch.getExpectedVersion());
+    }
+
+    @Test
+    public void getChanges_iteratesInFieldOrder() {
+        EmployeePatch patch = EmployeePatch.builder()
+                .withEmployeeId("Emp123456")
+                .withZipCode("12345")
+                .withFirstName("John")
+                .withPermissionAccess(PermissionLevel.ADMIN)
+                .build();
+
+        assertEquals(List.of(EmployeeField.FIRST_NAME, EmployeeField.ZIP_CODE, EmployeeField.PERMISSION_ACCESS),
+                List.copyOf(patch.getChanges().keySet()));
+    }
+
+    @Test
+    public void build_withoutEmployeeId_throwsInvalidInputFormatException() {
+        assertThrows(InvalidInputFormatException.class, () -> EmployeePatch.builder().withCity("Denver").build());
+    }
+
+    @Test
+    public void build_withInvalidField_throwsInvalidInputFormatException() {
+        EmployeePatch.Builder builder = EmployeePatch.builder()
+                .withEmployeeId("Emp123456")
+                .withEmail("not-an-email");
+
+        InvalidInputFormatException exception = assertThrows(InvalidInputFormatException.class, builder::build);
+        assertEquals("Invalid email format: not-an-email", exception.getMessage());
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.priming;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import org.example.dependency.AppComponent;
+import org.example.dependency.DynamoDBWarmUp;
+import org.example.lambda.GetEmployeeHandler;
+import org.example.lambda.GetOpenShiftsHandler;
+import org.example.lambda.UpdateEmployeeHandler;
+import org.example.model.requests.GetEmployeeRequest;
+import org.example.model.requests.GetOpenShiftsRequest;
+import org.example.model.requests.UpdateEmployeeRequest;
+import org.example.model.results.GetEmployeeResult;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.model.results.UpdateEmployeeResult;
+import org.example.utils.gson.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class SnapStartPrimingTest {
+    private AutoCloseable mocks;
+    @Mock
+    private AppComponent appComponent;
+    @Mock
+    private DynamoDBWarmUp dynamoDBWarmUp;
+
+    @BeforeEach
+    void setUp() {
+        mocks = openMocks(this);
+        when(appComponent.dynamoDBWarmUp()).thenReturn(dynamoDBWarmUp);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void beforeCheckpoint_runsHandlersWithoutFailing() {
+        SnapStartPriming priming = new SnapStartPriming(appComponent, true);
+
+        assertDoesNotThrow(() -> priming.beforeCheckpoint(null));
+        verifyNoInteractions(appComponent);
+    }
+
+    @Test
+    public void afterRestore_reopensConnectionAndRecordsRestoreTime() {
+        SnapStartPriming priming = new SnapStartPriming(appComponent, false);
+
+        priming.afterRestore(null);
+
+        verify(dynamoDBWarmUp, times(1)).openConnection();
+        assertNotEquals(0, priming.getRestoredAtNanos());
+    }
+
+    @Test
+    public void createPrimingComponent_readsFindNothing() {
+        GetEmployeeHandler handler = new GetEmployeeHandler();
+        SnapStartPriming.createPrimingComponent().inject(handler);
+        GetEmployeeRequest request = JsonUtil.fromJson("{\"employeeId\":\"Emp000000\"}", GetEmployeeRequest.class);
+
+        GetEmployeeResult result = JsonUtil.fromJson(handler.handleRequest(request, null), GetEmployeeResult.class);
+
+        assertFalse(result.isEmployeeRetrieved());
+        assertEquals("Could not find employee with Employee ID: Emp000000", result.getError());
+    }
+
+    @Test
+    public void adminSessionToken_primesTheAuthorizedPath() {
+        AppComponent primingComponent = SnapStartPriming.createPrimingComponent();
+        GetOpenShiftsHandler handler = new GetOpenShiftsHandler();
+        primingComponent.inject(handler);
+        GetOpenShiftsRequest request = JsonUtil.fromJson("{\"employeeId\":\"Emp000000\","
+                + SnapStartPriming.adminSessionToken(primingComponent) + "}", GetOpenShiftsRequest.class);
+
+        GetOpenShiftsResult result = JsonUtil.fromJson(handler.handleRequest(request, null), GetOpenShiftsResult.class);
+
+        assertTrue(result.isOpenShiftsRetrieved());
+        assertNull(result.getError());
+    }
+
+    @Test
+    public void createPrimingComponent_updatesReturnTheNewValues() {
+        AppComponent primingComponent = SnapStartPriming.createPrimingComponent();
+        UpdateEmployeeHandler handler = new UpdateEmployeeHandler();
+        primingComponent.inject(handler);
+        UpdateEmployeeRequest request = JsonUtil.fromJson("{\"employeeId\":\"Emp000000\","
+                + SnapStartPriming.adminSessionToken(primingComponent) + ",\"phone\":\"+1-555-555-5555\",\"version\":0}", UpdateEmployeeRequest.class);
+
+        UpdateEmployeeResult result = JsonUtil.fromJson(handler.handleRequest(request, null), UpdateEmployeeResult.class);
+
+        assertTrue(result.isEmployeeUpdated());
+        assertEquals("+1-555-555-5555", result.getPhone());
+        assertEquals(1L, result.getVersion());
+    }
+
+    @Test
+    public void updateItem_addToMissingAttribute_returnsAddedValue() {
+        UpdateItemRequest request = new UpdateItemRequest()
+                .withKey(Map.of("username", new AttributeValue().withS("priming")))
+                .withUpdateExpression("ADD #failedAttempts :one")
+                .withExpressionAttributeNames(Map.of("#failedAttempts", "failedAttempts"))
+                .withExpressionAttributeValues(Map.of(":one", new AttributeValue().withN("1")));
+
+        Map<String, AttributeValue> attributes = new PrimingDynamoDB().updateItem(request).getAttributes();
+
+        assertEquals("priming", attributes.get("username").getS());
+        assertEquals("1", attributes.get("failedAttempts").getN());
+    }
+}
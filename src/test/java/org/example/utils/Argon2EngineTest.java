@@ -0,0 +1,141 @@
+package org.example.utils;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Argon2EngineTest {
+
+    @Test
+    public void hash_matchesBouncyCastle() {
+        Argon2Engine engine = new Argon2Engine(64);
+        assertMatchesBouncyCastle(engine, "password", "somesalt12345678", 64, 1, 1, 32);
+        assertMatchesBouncyCastle(engine, "TestPassword123!", "another-salt-val", 256, 3, 1, 32);
+        assertMatchesBouncyCastle(engine, "", "sixteen byte slt", 128, 2, 1, 16);
+        assertMatchesBouncyCastle(engine, "Password1!", "0123456789abcdef", 512, 2, 2, 32);
+        assertMatchesBouncyCastle(engine, "Password1!", "0123456789abcdef", 1024, 1, 4, 64);
+    }
+
+    @Test
+    public void hash_reusedEngine_producesSameHashAsFreshEngine() {
+        Argon2Engine reused = new Argon2Engine(64);
+        byte[] first = new byte[32];
+        byte[] second = new byte[32];
+        byte[] fresh = new byte[32];
+
+        reused.hash(bytes("first"), bytes("saltsaltsaltsalt"), 1024, 2, 1, first);
+        reused.hash(bytes("second"), bytes("othersaltothersa"), 256, 2, 1, second);
+        new Argon2Engine(256).hash(bytes("second"), bytes("othersaltothersa"), 256, 2, 1, fresh);
+
+        assertArrayEquals(fresh, second);
+        assertEquals(1024 * 1024, reused.getMemoryBytes());
+    }
+
+    @Test
+    public void verify_comparesAgainstExpectedHash() {
+        Argon2Engine engine = new Argon2Engine(128);
+        byte[] hash = new byte[32];
+        engine.hash(bytes("Password1!"), bytes("0123456789abcdef"), 128, 2, 1, hash);
+        byte[] tampered = hash.clone();
+        tampered[31] ^= 1;
+
+        assertTrue(engine.verify(bytes("Password1!"), bytes("0123456789abcdef"), 128, 2, 1, hash));
+        assertFalse(engine.verify(bytes("Password2!"), bytes("0123456789abcdef"), 128, 2, 1, hash));
+        assertFalse(engine.verify(bytes("Password1!"), bytes("0123456789abcdef"), 128, 2, 1, tampered));
+    }
+
+    @Test
+    public void wipe_clearsPasswordDerivedMemory_andEngineStillHashes() throws ReflectiveOperationException {
+        Argon2Engine engine = new Argon2Engine(128);
+        byte[] hash = new byte[32];
+        engine.hash(bytes("Password1!"), bytes("0123456789abcdef"), 128, 2, 1, hash);
+        assertFalse(isZero(matrixOf(engine)));
+
+        engine.wipe();
+
+        assertTrue(isZero(matrixOf(engine)));
+        assertEquals(128 * 1024, engine.getMemoryBytes());
+        assertTrue(engine.verify(bytes("Password1!"), bytes("0123456789abcdef"), 128, 2, 1, hash));
+    }
+
+    @Test
+    public void hash_matchesRfc9106TestVector() {
+        // RFC 9106 section 5.3, which also sets the secret and associated data inputs
+        byte[] tag = new byte[32];
+        new Argon2Engine(32).hash(filled(32, 0x01), filled(16, 0x02), filled(8, 0x03), filled(12, 0x04),
+                32, 3, 4, tag);
+
+        assertArrayEquals(hex("0d640df58d78766c08c037a34a8b53c9d01ef0452d75b65eb52520e96b01e659"), tag);
+    }
+
+    @Test
+    public void hash_defaultParameters_matchesBouncyCastle() {
+        assertMatchesBouncyCastle(new Argon2Engine(CredentialsUtility.ARGON2_MEMORY_KB), "TestPassword123!",
+                "another-salt-val", CredentialsUtility.ARGON2_MEMORY_KB, CredentialsUtility.ARGON2_ITERATIONS,
+                CredentialsUtility.ARGON2_PARALLELISM, 32);
+    }
+
+    @Test
+    public void hash_invalidParameters_throwsIllegalArgumentException() {
+        Argon2Engine engine = new Argon2Engine(64);
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.hash(bytes("password"), bytes("saltsaltsaltsalt"), 8, 1, 2, new byte[32]));
+    }
+
+    private static long[] matrixOf(Argon2Engine engine) throws ReflectiveOperationException {
+        Field memory = Argon2Engine.class.getDeclaredField("memory");
+        memory.setAccessible(true);
+        return (long[]) memory.get(engine);
+    }
+
+    private static boolean isZero(long[] values) {
+        for (long value : values) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    private static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static void assertMatchesBouncyCastle(Argon2Engine engine, String password, String salt, int memoryKB,
+                                                  int iterations, int parallelism, int hashLength) {
+        byte[] expected = new byte[hashLength];
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withSalt(bytes(salt))
+                .withParallelism(parallelism)
+                .withMemoryAsKB(memoryKB)
+                .withIterations(iterations)
+                .build());
+        generator.generateBytes(bytes(password), expected);
+
+        byte[] actual = new byte[hashLength];
+        engine.hash(bytes(password), bytes(salt), memoryKB, iterations, parallelism, actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
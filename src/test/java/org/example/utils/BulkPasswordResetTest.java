@@ -0,0 +1,158 @@
+package org.example.utils;
+
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+import org.example.dynamodb.inmemory.InMemoryEmployeeCredentialsDao;
+import org.example.exceptions.PasswordHashingUnavailableException;
+import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
+import org.example.model.PasswordHasher;
+import org.example.model.requests.AdminResetPasswordRequest;
+import org.example.model.results.AdminResetPasswordResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkPasswordResetTest {
+    private static final int PERMITS = 4;
+
+    private final InMemoryEmployeeCredentialsDao credentialsDao =
+            new InMemoryEmployeeCredentialsDao(new InMemoryDynamoDB());
+    private final BulkPasswordReset bulkPasswordReset =
+            new BulkPasswordReset(credentialsDao, new PasswordHashingService(PERMITS, 1_000));
+
+    @Test
+    public void resetAll_manyEmployees_resetsEveryEmployeeAndReportsEach() {
+        List<AdminResetPasswordRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 53; i++) {
+            credentialsDao.saveEmployeeCredentials(lockedCredentials("user" + i));
+            requests.add(request("user" + i));
+        }
+        Map<String, AdminResetPasswordResult> reported = new ConcurrentHashMap<>();
+        CountingHasher hasher = new CountingHasher(null);
+
+        List<AdminResetPasswordResult> results = bulkPasswordReset.resetAll(requests, hasher,
+                result -> assertNull(reported.put(result.getUsername(), result)));
+
+        assertEquals(requests.size(), results.size());
+        assertEquals(requests.size(), reported.size());
+        assertTrue(hasher.maxConcurrent.get() <= PERMITS);
+        for (int i = 0; i < requests.size(); i++) {
+            AdminResetPasswordResult result = results.get(i);
+            assertEquals("user" + i, result.getUsername());
+            assertTrue(result.isEmployeeCredentialsReset());
+            assertTrue(result.isForceChangeAfterLogin());
+            assertFalse(result.isAccountLocked());
+            assertSame(result, reported.get("user" + i));
+
+            EmployeeCredentials stored = credentialsDao.getEmployeeCredentials("user" + i);
+            assertEquals("hash:temp-user" + i, stored.getPassword());
+            assertEquals(0, stored.getFailedAttempts());
+        }
+    }
+
+    @Test
+    public void resetAll_withMissingDuplicateAndUnhashableUsers_failsOnlyThoseUsers() {
+        credentialsDao.saveEmployeeCredentials(lockedCredentials("jdoe"));
+        credentialsDao.saveEmployeeCredentials(lockedCredentials("asmith"));
+        List<AdminResetPasswordRequest> requests = List.of(request("jdoe"), request("nobody"), request("jdoe"),
+                request("asmith"));
+        List<AdminResetPasswordResult> reported = new ArrayList<>();
+
+        List<AdminResetPasswordResult> results = bulkPasswordReset.resetAll(requests,
+                new CountingHasher("temp-asmith"), result -> {
+                    synchronized (reported) {
+                        reported.add(result);
+                    }
+                });
+
+        assertTrue(results.get(0).isEmployeeCredentialsReset());
+        assertFalse(results.get(1).isEmployeeCredentialsReset());
+        assertEquals("Username \"nobody\" not found!", results.get(1).getError());
+        assertFalse(results.get(2).isEmployeeCredentialsReset());
+        assertEquals("Username \"jdoe\" was requested more than once.", results.get(2).getError());
+        assertFalse(results.get(3).isEmployeeCredentialsReset());
+        assertEquals("The server is busy. Please try again in a moment.", results.get(3).getError());
+        assertEquals(4, reported.size());
+        assertTrue(credentialsDao.getEmployeeCredentials("asmith").isAccountLocked());
+    }
+
+    @Test
+    public void resetAll_passwordChangedWhileHashing_keepsTheChangeAndFailsOnlyThatEmployee() {
+        credentialsDao.saveEmployeeCredentials(lockedCredentials("jdoe"));
+        credentialsDao.saveEmployeeCredentials(lockedCredentials("asmith"));
+        EmployeeCredentials changed = new EmployeeCredentials("Emp-asmith", "asmith", "salt", "hash:changed",
+                LocalDateTime.of(2024, 1, 2, 0, 0), false, false, 0);
+        PasswordHasher hasher = new CountingHasher(null) {
+            @Override
+            public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+                if (password.equals("temp-asmith")) {
+                    credentialsDao.saveEmployeeCredentials(changed);
+                }
+                return super.hashPassword(password, salt, parameters);
+            }
+        };
+
+        List<AdminResetPasswordResult> results = bulkPasswordReset.resetAll(
+                List.of(request("jdoe"), request("asmith")), hasher, result -> {});
+
+        assertTrue(results.get(0).isEmployeeCredentialsReset());
+        assertFalse(results.get(1).isEmployeeCredentialsReset());
+        assertEquals("The password of username \"asmith\" changed during the reset. Please try again.",
+                results.get(1).getError());
+        assertEquals("hash:temp-jdoe", credentialsDao.getEmployeeCredentials("jdoe").getPassword());
+        assertEquals("hash:changed", credentialsDao.getEmployeeCredentials("asmith").getPassword());
+    }
+
+    private static AdminResetPasswordRequest request(String username) {
+        AdminResetPasswordRequest request = new AdminResetPasswordRequest();
+        request.setEmployeeId("Emp-" + username);
+        request.setUsername(username);
+        request.setPassword("temp-" + username);
+        return request;
+    }
+
+    private static EmployeeCredentials lockedCredentials(String username) {
+        return new EmployeeCredentials("Emp-" + username, username, "salt", "hash",
+                LocalDateTime.of(2024, 1, 1, 0, 0), true, false, EmployeeCredentials.MAX_FAILED_ATTEMPTS);
+    }
+
+    /**
+     * Hashes instantly and records how many hashes ran at once. Fails for one password, if given.
+     */
+    private static class CountingHasher implements PasswordHasher {
+        private final String unavailableFor;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        CountingHasher(String unavailableFor) {
+            this.unavailableFor = unavailableFor;
+        }
+
+        @Override
+        public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+            if (password.equals(unavailableFor)) {
+                throw new PasswordHashingUnavailableException("The server is busy. Please try again in a moment.");
+            }
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+            return "hash:" + password;
+        }
+
+        @Override
+        public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+            return hash.equals("hash:" + password);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.example.utils;
 
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.example.model.PasswordHashParameters;
 import org.junit.jupiter.api.Test;
 
 import java.util.Base64;
@@ -15,6 +18,17 @@ public class CredentialsUtilityTest {
         assertEquals(16, saltBytes.length);
     }
 
+    @Test
+    public void reseed_keepsGeneratingDistinctSalts() {
+        String before = CredentialsUtility.generateSalt();
+
+        CredentialsUtility.reseed();
+        String after = CredentialsUtility.generateSalt();
+
+        assertEquals(16, Base64.getDecoder().decode(after).length);
+        assertNotEquals(before, after);
+    }
+
     @Test
     public void hashPassword_generatesConsistentHash() {
         String password = "TestPassword123!";
@@ -80,4 +94,66 @@ public class CredentialsUtilityTest {
 
         assertFalse(CredentialsUtility.verifyPassword(password, salt2, hash));
     }
+
+    @Test
+    public void hashPassword_matchesBouncyCastleArgon2id() {
+        String password = "TestPassword123!";
+        String salt = CredentialsUtility.generateSalt();
+        byte[] expected = new byte[32];
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withSalt(Base64.getDecoder().decode(salt))
+                .withParallelism(1)
+                .withMemoryAsKB(CredentialsUtility.ARGON2_MEMORY_KB)
+                .withIterations(3)
+                .build());
+        generator.generateBytes(password.getBytes(), expected);
+
+        assertEquals(Base64.getEncoder().encodeToString(expected), CredentialsUtility.hashPassword(password, salt));
+    }
+
+    @Test
+    public void verifyPassword_failsForMalformedHash() {
+        String salt = CredentialsUtility.generateSalt();
+
+        assertFalse(CredentialsUtility.verifyPassword("TestPassword123!", salt, "not base64!"));
+        assertFalse(CredentialsUtility.verifyPassword("TestPassword123!", salt, "c2hvcnQ="));
+        assertFalse(CredentialsUtility.verifyPassword("TestPassword123!", salt, null));
+    }
+
+    @Test
+    public void setMaxIdleEngines_keepsNoMoreIdleEnginesThanPermits() {
+        PasswordHashParameters parameters = new PasswordHashParameters(1024, 1, 1);
+        String salt = CredentialsUtility.generateSalt();
+        try {
+            CredentialsUtility.setMaxIdleEngines(0, PasswordHashingService.HASH_MEMORY_BYTES);
+            CredentialsUtility.hashPassword("TestPassword123!", salt, parameters);
+            assertEquals(0, CredentialsUtility.getIdleEngineCount());
+
+            CredentialsUtility.setMaxIdleEngines(1, PasswordHashingService.HASH_MEMORY_BYTES);
+            CredentialsUtility.hashPassword("TestPassword123!", salt, parameters);
+            assertEquals(1, CredentialsUtility.getIdleEngineCount());
+        } finally {
+            CredentialsUtility.setMaxIdleEngines(1, PasswordHashingService.HASH_MEMORY_BYTES);
+        }
+    }
+
+    @Test
+    public void returnEngine_grownPastLargestParameters_isNotPooled() {
+        PasswordHashParameters larger = new PasswordHashParameters(CredentialsUtility.ARGON2_MEMORY_KB + 1024, 1, 1);
+        String salt = CredentialsUtility.generateSalt();
+        try {
+            CredentialsUtility.setMaxIdleEngines(0, PasswordHashingService.HASH_MEMORY_BYTES);
+            CredentialsUtility.setMaxIdleEngines(1, PasswordHashingService.HASH_MEMORY_BYTES);
+            CredentialsUtility.hashPassword("TestPassword123!", salt, larger);
+            assertEquals(0, CredentialsUtility.getIdleEngineCount());
+
+            CredentialsUtility.setMaxIdleEngines(1, larger.getMemoryKB() * 1024L);
+            CredentialsUtility.hashPassword("TestPassword123!", salt, larger);
+            assertEquals(1, CredentialsUtility.getIdleEngineCount());
+        } finally {
+            CredentialsUtility.setMaxIdleEngines(0, PasswordHashingService.HASH_MEMORY_BYTES);
+            CredentialsUtility.setMaxIdleEngines(1, PasswordHashingService.HASH_MEMORY_BYTES);
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package org.example.utils;
+
+import org.example.dynamodb.LoginThrottleDao;
+import org.example.dynamodb.inmemory.InMemoryDynamoDB;
+import org.example.dynamodb.inmemory.InMemoryLoginThrottleDao;
+import org.example.model.RateLimit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginThrottleTest {
+    private static final RateLimit USERNAME_LIMIT = new RateLimit(3, 10_000);
+    private static final RateLimit SOURCE_LIMIT = new RateLimit(5, 1_000);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T12:00:00Z"));
+
+    @Test
+    public void tryAcquire_pastBurst_deniesInMemoryUntilRefilled() {
+        CountingDao dao = new CountingDao((key, limit, now, tokens) -> 0);
+        LoginThrottle throttle = new LoginThrottle(dao, USERNAME_LIMIT, SOURCE_LIMIT, 100, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire("jdoe", null));
+        }
+        assertEquals(10_000, throttle.tryAcquire("jdoe", null));
+        assertEquals(2, dao.calls.get());
+
+        clock.advance(4_000);
+        assertEquals(6_000, throttle.tryAcquire("jdoe", null));
+        clock.advance(6_000);
+        assertEquals(0, throttle.tryAcquire("jdoe", null));
+        assertEquals(0, throttle.tryAcquire("asmith", null));
+        assertEquals(3, dao.calls.get());
+    }
+
+    @Test
+    public void tryAcquire_whileHalfTheBucketIsLeft_skipsPersistedTierAndChargesItLater() {
+        CountingDao dao = new CountingDao((key, limit, now, tokens) -> 0);
+        LoginThrottle throttle = new LoginThrottle(dao, new RateLimit(6, 10_000), SOURCE_LIMIT, 100, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire("jdoe", null));
+        }
+        assertEquals(0, dao.calls.get());
+
+        assertEquals(0, throttle.tryAcquire("jdoe", null));
+        assertEquals(List.of(4), dao.tokens);
+    }
+
+    @Test
+    public void tryAcquire_deniedByPersistedTier_remembersDenialInMemory() {
+        CountingDao dao = new CountingDao((key, limit, now, tokens) -> 2_500);
+        LoginThrottle throttle = new LoginThrottle(dao, USERNAME_LIMIT, SOURCE_LIMIT, 100, clock);
+
+        assertEquals(0, throttle.tryAcquire("jdoe", null));
+        assertEquals(2_500, throttle.tryAcquire("jdoe", null));
+        clock.advance(1_000);
+        assertEquals(1_500, throttle.tryAcquire("jdoe", null));
+
+        assertEquals(1, dao.calls.get());
+    }
+
+    @Test
+    public void tryAcquire_whenPersistedTierFails_allowsWithinInMemoryLimit() {
+        CountingDao dao = new CountingDao((key, limit, now, tokens) -> {
+            throw new IllegalStateException("DynamoDB is unavailable.");
+        });
+        LoginThrottle throttle = new LoginThrottle(dao, USERNAME_LIMIT, SOURCE_LIMIT, 100, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire("jdoe", null));
+        }
+        assertTrue(throttle.tryAcquire("jdoe", null) > 0);
+    }
+
+    @Test
+    public void tryAcquire_throttledSource_doesNotUseUpUsernameTokens() {
+        LoginThrottle throttle = new LoginThrottle(new InMemoryLoginThrottleDao(new InMemoryDynamoDB()),
+                USERNAME_LIMIT, new RateLimit(1, 1_000), 100, clock);
+
+        assertEquals(0, throttle.tryAcquire("jdoe", "203.0.113.7"));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1_000, throttle.tryAcquire("jdoe", "203.0.113.7"));
+        }
+
+        assertEquals(0, throttle.tryAcquire("jdoe", "198.51.100.2"));
+        assertEquals(0, throttle.tryAcquire("jdoe", null));
+        assertEquals(10_000, throttle.tryAcquire("jdoe", null));
+    }
+
+    @Test
+    public void tryAcquire_acrossInstances_sharesPersistedBuckets() {
+        LoginThrottleDao dao = new InMemoryLoginThrottleDao(new InMemoryDynamoDB());
+        LoginThrottle first = new LoginThrottle(dao, USERNAME_LIMIT, SOURCE_LIMIT, 100, clock);
+        LoginThrottle second = new LoginThrottle(dao, USERNAME_LIMIT, SOURCE_LIMIT, 100, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, first.tryAcquire("jdoe", null));
+        }
+
+        // The second instance allows the first attempt from memory, and is denied once it charges the bucket.
+        assertEquals(0, second.tryAcquire("jdoe", null));
+        assertEquals(10_000, second.tryAcquire("jdoe", null));
+    }
+
+    @Test
+    public void fromEnvironment_readsLimitsAndRejectsInvalidValues() {
+        LoginThrottleDao dao = (key, limit, now, tokens) -> 0;
+
+        LoginThrottle defaults = LoginThrottle.fromEnvironment(Map.of(), dao);
+        LoginThrottle configured = LoginThrottle.fromEnvironment(Map.of(
+                LoginThrottle.USERNAME_CAPACITY_ENV, "10",
+                LoginThrottle.USERNAME_REFILL_SECONDS_ENV, "30",
+                LoginThrottle.SOURCE_CAPACITY_ENV, "100"), dao);
+
+        assertEquals(LoginThrottle.DEFAULT_USERNAME_LIMIT, defaults.getUsernameLimit());
+        assertEquals(LoginThrottle.DEFAULT_SOURCE_LIMIT, defaults.getSourceLimit());
+        assertEquals(new RateLimit(10, 30_000), configured.getUsernameLimit());
+        assertEquals(new RateLimit(100, LoginThrottle.DEFAULT_SOURCE_LIMIT.getRefillMillis()),
+                configured.getSourceLimit());
+        assertThrows(IllegalArgumentException.class, () -> LoginThrottle.fromEnvironment(
+                Map.of(LoginThrottle.USERNAME_CAPACITY_ENV, "0"), dao));
+        assertThrows(IllegalArgumentException.class, () -> LoginThrottle.fromEnvironment(
+                Map.of(LoginThrottle.SOURCE_REFILL_SECONDS_ENV, "soon"), dao));
+    }
+
+    private static class CountingDao implements LoginThrottleDao {
+        private final LoginThrottleDao delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<Integer> tokens = new CopyOnWriteArrayList<>();
+
+        CountingDao(LoginThrottleDao delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long tryAcquire(String throttleKey, RateLimit rateLimit, long nowMillis, int tokens) {
+            calls.incrementAndGet();
+            this.tokens.add(tokens);
+            return delegate.tryAcquire(throttleKey, rateLimit, nowMillis, tokens);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.utils;
 
+import org.example.dynamodb.model.EmployeeCredentialsModel;
 import org.example.dynamodb.model.EmployeeModel;
 import org.example.dynamodb.model.TimeEntryModel;
 import org.example.exceptions.InvalidEmployeeException;
@@ -7,6 +8,8 @@ import org.example.exceptions.InvalidEmployeeModelException;
 import org.example.exceptions.InvalidTimeEntryException;
 import org.example.exceptions.InvalidTimeEntryModelException;
 import org.example.model.Employee;
+import org.example.model.EmployeeCredentials;
+import org.example.model.PasswordHashParameters;
 import org.example.model.PermissionLevel;
 import org.example.model.TimeEntry;
 import org.junit.jupiter.api.BeforeEach;
@@ -457,4 +460,32 @@ public class ModelConverterTest {
         assertTrue(ModelConverter.fromTimeEntryModelList(emptyList).isEmpty(),
                 "When provided an empty list, this method should return an empty list!");
     }
+
+    @Test
+    public void fromEmployeeCredentialsModel_withoutHashParameters_usesDefaultParameters() {
+        EmployeeCredentialsModel model = new EmployeeCredentialsModel();
+        model.setEmployeeId("Emp123456");
+        model.setUsername("jdoe");
+        model.setSalt("salt");
+        model.setPassword("hash");
+        model.setLastUpdated("2024-06-01T12:23:37");
+
+        EmployeeCredentials credentials = ModelConverter.fromEmployeeCredentialsModel(model);
+
+        assertEquals(PasswordHashParameters.DEFAULT, credentials.getHashParameters());
+    }
+
+    @Test
+    public void fromEmployeeCredentials_roundTrip_keepsHashParameters() {
+        PasswordHashParameters hashParameters = new PasswordHashParameters(32768, 4, 1);
+        EmployeeCredentials credentials = new EmployeeCredentials("Emp123456", "jdoe", "salt", "hash",
+                hashParameters, LocalDateTime.of(2024, 6, 1, 12, 23, 37), false, false, 0);
+
+        EmployeeCredentialsModel model = ModelConverter.fromEmployeeCredentials(credentials);
+
+        assertEquals(32768, model.getHashMemoryKB());
+        assertEquals(4, model.getHashIterations());
+        assertEquals(1, model.getHashParallelism());
+        assertEquals(credentials, ModelConverter.fromEmployeeCredentialsModel(model));
+    }
 }
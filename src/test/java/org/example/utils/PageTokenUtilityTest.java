@@ -0,0 +1,45 @@
+package org.example.utils;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.example.exceptions.InvalidInputFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageTokenUtilityTest {
+    @Test
+    public void encode_thenDecode_returnsOriginalKey() {
+        Map<String, AttributeValue> lastEvaluatedKey = new HashMap<>();
+        lastEvaluatedKey.put("employee_id", new AttributeValue().withS("ABTH4DPH"));
+        lastEvaluatedKey.put("time_in", new AttributeValue().withS("2024-06-05T04:01:30.050627"));
+        lastEvaluatedKey.put("version", new AttributeValue().withN("3"));
+
+        String token = PageTokenUtility.encode(lastEvaluatedKey);
+
+        assertNotNull(token);
+        assertFalse(token.contains("employee_id"));
+        assertEquals(lastEvaluatedKey, PageTokenUtility.decode(token));
+    }
+
+    @Test
+    public void encode_withNullOrEmptyKey_returnsNull() {
+        assertNull(PageTokenUtility.encode(null));
+        assertNull(PageTokenUtility.encode(new HashMap<>()));
+    }
+
+    @Test
+    public void decode_withNullOrEmptyToken_returnsNull() {
+        assertNull(PageTokenUtility.decode(null));
+        assertNull(PageTokenUtility.decode(""));
+    }
+
+    @Test
+    public void decode_withMalformedToken_throwsInvalidInputFormatException() {
+        assertThrows(InvalidInputFormatException.class, () -> PageTokenUtility.decode("not a token!"));
+        assertThrows(InvalidInputFormatException.class, () -> PageTokenUtility.decode("bm90IGpzb24"));
+        assertThrows(InvalidInputFormatException.class, () -> PageTokenUtility.decode("e30"));
+    }
+}
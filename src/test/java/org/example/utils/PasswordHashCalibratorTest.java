@@ -0,0 +1,60 @@
+package org.example.utils;
+
+import org.example.model.PasswordHashParameters;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashCalibratorTest {
+    /**
+     * A hash that takes one microsecond per kilobyte per iteration, so 64 MB with 2 iterations takes about 134 ms.
+     */
+    private static final PasswordHashCalibrator ONE_MICROSECOND_PER_KB = new PasswordHashCalibrator(
+            parameters -> (long) parameters.getMemoryKB() * parameters.getIterations() * 1_000);
+
+    @Test
+    public void calibrate_fastHardware_keepsMemoryLimitAndAddsIterations() {
+        PasswordHashParameters parameters = ONE_MICROSECOND_PER_KB.calibrate(500, 65536);
+
+        assertEquals(65536, parameters.getMemoryKB());
+        assertEquals(7, parameters.getIterations());
+        assertEquals(1, parameters.getParallelism());
+    }
+
+    @Test
+    public void calibrate_slowHardware_halvesMemoryUntilTargetIsMet() {
+        PasswordHashParameters parameters = ONE_MICROSECOND_PER_KB.calibrate(80, 131072);
+
+        assertEquals(32768, parameters.getMemoryKB());
+        assertEquals(PasswordHashCalibrator.MIN_ITERATIONS, parameters.getIterations());
+    }
+
+    @Test
+    public void calibrate_targetBelowMinimum_usesMinimumParameters() {
+        List<PasswordHashParameters> timed = new ArrayList<>();
+        PasswordHashCalibrator calibrator = new PasswordHashCalibrator(parameters -> {
+            timed.add(parameters);
+            return 1_000_000_000L;
+        });
+
+        PasswordHashParameters parameters = calibrator.calibrate(1, 65536);
+
+        assertEquals(new PasswordHashParameters(32768, PasswordHashCalibrator.MIN_ITERATIONS, 1), parameters);
+        assertEquals(2, timed.size());
+        assertTrue(parameters.getMemoryKB() >= PasswordHashCalibrator.MIN_MEMORY_KB);
+    }
+
+    @Test
+    public void calibrate_realHashes_returnsUsableParameters() {
+        PasswordHashParameters parameters = new PasswordHashCalibrator().calibrate(1, PasswordHashCalibrator.MIN_MEMORY_KB);
+        String salt = CredentialsUtility.generateSalt();
+
+        assertEquals(new PasswordHashParameters(PasswordHashCalibrator.MIN_MEMORY_KB,
+                PasswordHashCalibrator.MIN_ITERATIONS, 1), parameters);
+        assertTrue(CredentialsUtility.verifyPassword("Password1!", salt,
+                CredentialsUtility.hashPassword("Password1!", salt, parameters), parameters));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.utils;
+
+import org.example.exceptions.PasswordHashingUnavailableException;
+import org.example.model.PasswordHashParameters;
+import org.example.model.PasswordHasher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingServiceTest {
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    public void permitsFor_isBoundedByMemoryAndProcessors() {
+        assertEquals(4, PasswordHashingService.permitsFor(1024 * MB, 4));
+        assertEquals(2, PasswordHashingService.permitsFor(128 * MB, 8));
+        assertEquals(1, PasswordHashingService.permitsFor(32 * MB, 8));
+    }
+
+    @Test
+    public void fromEnvironment_readsVariablesAndRejectsInvalidValues() {
+        PasswordHashingService defaults = PasswordHashingService.fromEnvironment(Map.of(), 512 * MB, 8);
+        PasswordHashingService configured = PasswordHashingService.fromEnvironment(Map.of(
+                PasswordHashingService.MEMORY_BUDGET_MB_ENV, "192",
+                PasswordHashingService.MAX_WAIT_MILLIS_ENV, "250"), 512 * MB, 8);
+
+        assertEquals(4, defaults.getPermits());
+        assertEquals(PasswordHashingService.DEFAULT_MAX_WAIT_MILLIS, defaults.getMaxWaitMillis());
+        assertEquals(3, configured.getPermits());
+        assertEquals(250, configured.getMaxWaitMillis());
+        assertEquals(6, PasswordHashingService.fromEnvironment(Map.of(PasswordHashingService.PERMITS_ENV, "6"),
+                512 * MB, 8).getPermits());
+        assertThrows(IllegalArgumentException.class, () -> PasswordHashingService.fromEnvironment(
+                Map.of(PasswordHashingService.PERMITS_ENV, "0"), 512 * MB, 8));
+    }
+
+    @Test
+    public void fromEnvironment_readsTargetParameters() {
+        PasswordHashingService defaults = PasswordHashingService.fromEnvironment(Map.of(), 512 * MB, 8);
+        PasswordHashingService configured = PasswordHashingService.fromEnvironment(Map.of(
+                PasswordHashingService.MEMORY_KB_ENV, "131072",
+                PasswordHashingService.ITERATIONS_ENV, "2"), 512 * MB, 8);
+
+        assertEquals(PasswordHashParameters.DEFAULT, defaults.getTargetParameters());
+        assertEquals(new PasswordHashParameters(131072, 2, 1), configured.getTargetParameters());
+        assertEquals(2, configured.getPermits());
+        assertEquals(new PasswordHashParameters(131072, 2, 1), configured.forContext(null).getTargetParameters());
+        assertThrows(IllegalArgumentException.class, () -> PasswordHashingService.fromEnvironment(
+                Map.of(PasswordHashingService.MEMORY_KB_ENV, "1024"), 512 * MB, 8));
+    }
+
+    @Test
+    public void hashPassword_concurrently_neverExceedsPermits() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PasswordHashingService service = new PasswordHashingService(new PasswordHasher() {
+            @Override
+            public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return password + salt;
+            }
+
+            @Override
+            public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+                return hashPassword(password, salt, parameters).equals(hash);
+            }
+        }, 2, 10_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> hashes = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                hashes.add(CompletableFuture.supplyAsync(() -> service.hashPassword("password", "salt"), executor));
+            }
+            for (CompletableFuture<String> hash : hashes) {
+                assertEquals("passwordsalt", hash.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxRunning.get());
+        assertEquals(40, service.getStats().getAcquired());
+        assertEquals(2, service.getStats().getAvailablePermits());
+        assertTrue(service.getStats().getMaxWaitMillis() > 0);
+    }
+
+    @Test
+    public void verifyPassword_whenSaturatedPastDeadline_throwsPasswordHashingUnavailableException() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = new PasswordHashingService(new PasswordHasher() {
+            @Override
+            public String hashPassword(String password, String salt, PasswordHashParameters parameters) {
+                hashing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean verifyPassword(String password, String salt, String hash, PasswordHashParameters parameters) {
+                return true;
+            }
+        }, 1, 20);
+
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> service.hashPassword("password", "salt"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> service.verifyPassword("password", "salt", "hash"));
+        assertEquals(1, service.getStats().getRejected());
+        assertEquals(0, service.getStats().getAvailablePermits());
+
+        release.countDown();
+        assertEquals("hash", holder.get(5, TimeUnit.SECONDS));
+        assertTrue(service.verifyPassword("password", "salt", "hash"));
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.utils;
+
+import org.example.exceptions.UnauthorizedAccessException;
+import org.example.model.PermissionLevel;
+import org.example.model.SessionToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionTokenServiceTest {
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final SessionTokenService.SigningKey KEY_1 = key("k1", (byte) 1);
+    private static final SessionTokenService.SigningKey KEY_2 = key("k2", (byte) 2);
+
+    @Test
+    public void verify_issuedToken_returnsEmployeeAndPermissionLevel() {
+        SessionTokenService service = service(List.of(KEY_1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        SessionToken sessionToken = service.verify(service.issue("Emp123456", PermissionLevel.ADMIN));
+
+        assertEquals(new SessionToken("Emp123456", PermissionLevel.ADMIN, NOW.plusSeconds(900)), sessionToken);
+    }
+
+    @Test
+    public void verify_repeatedToken_isServedFromCache() {
+        SessionTokenService service = service(List.of(KEY_1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = service.issue("Emp123456", PermissionLevel.STANDARD);
+
+        service.verify(token);
+        service.verify(token);
+        service.verify(token);
+
+        assertEquals(1, service.getCacheStats().missCount());
+        assertEquals(2, service.getCacheStats().hitCount());
+    }
+
+    @Test
+    public void verify_expiredToken_throwsUnauthorizedAccessException() {
+        String token = service(List.of(KEY_1), Clock.fixed(NOW, ZoneOffset.UTC))
+                .issue("Emp123456", PermissionLevel.ADMIN);
+        SessionTokenService later = service(List.of(KEY_1), Clock.fixed(NOW.plusSeconds(901), ZoneOffset.UTC));
+
+        assertThrows(UnauthorizedAccessException.class, () -> later.verify(token));
+    }
+
+    @Test
+    public void verify_cachedTokenPastExpiry_throwsUnauthorizedAccessException() {
+        MutableClock clock = new MutableClock(NOW);
+        SessionTokenService service = service(List.of(KEY_1), clock);
+        String token = service.issue("Emp123456", PermissionLevel.ADMIN);
+        service.verify(token);
+
+        clock.now = NOW.plusSeconds(900);
+
+        assertThrows(UnauthorizedAccessException.class, () -> service.verify(token));
+    }
+
+    @Test
+    public void verify_tamperedOrForeignToken_throwsUnauthorizedAccessException() {
+        SessionTokenService service = service(List.of(KEY_1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = service.issue("Emp123456", PermissionLevel.STANDARD);
+        String[] parts = token.split("\\.");
+        String elevatedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1])).replace("STANDARD", "ADMIN").getBytes());
+        String foreignToken = service(List.of(key("k1", (byte) 9)), Clock.fixed(NOW, ZoneOffset.UTC))
+                .issue("Emp123456", PermissionLevel.ADMIN);
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> service.verify(parts[0] + "." + elevatedPayload + "." + parts[2]));
+        assertThrows(UnauthorizedAccessException.class, () -> service.verify(foreignToken));
+        assertThrows(UnauthorizedAccessException.class, () -> service.verify("not.a.token"));
+        assertThrows(UnauthorizedAccessException.class, () -> service.verify(null));
+    }
+
+    @Test
+    public void rotateKeys_acceptsListedKeysAndRejectsDroppedKeys() {
+        SessionTokenService service = service(List.of(KEY_1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String oldToken = service.issue("Emp123456", PermissionLevel.ADMIN);
+        service.verify(oldToken);
+
+        service.rotateKeys(List.of(KEY_2, KEY_1));
+        String newToken = service.issue("Emp123456", PermissionLevel.ADMIN);
+
+        assertEquals("Emp123456", service.verify(oldToken).getEmployeeId());
+        assertEquals("Emp123456", service.verify(newToken).getEmployeeId());
+
+        service.rotateKeys(List.of(KEY_2));
+
+        assertThrows(UnauthorizedAccessException.class, () -> service.verify(oldToken));
+        assertEquals("Emp123456", service.verify(newToken).getEmployeeId());
+    }
+
+    @Test
+    public void fromEnvironment_readsKeysAndRejectsInvalidValues() {
+        String secret = Base64.getEncoder().encodeToString(new byte[32]);
+        SessionTokenService service = SessionTokenService.fromEnvironment(Map.of(
+                SessionTokenService.KEYS_ENV, "new:" + secret + ", old:" + secret,
+                SessionTokenService.TIME_TO_LIVE_SECONDS_ENV, "60"));
+
+        assertEquals(Duration.ofSeconds(60), service.getTimeToLive());
+        assertEquals(PermissionLevel.STANDARD,
+                service.verify(service.issue("Emp123456", PermissionLevel.STANDARD)).getPermissionLevel());
+        assertThrows(IllegalArgumentException.class, () -> SessionTokenService.fromEnvironment(
+                Map.of(SessionTokenService.KEYS_ENV, "short:" + Base64.getEncoder().encodeToString(new byte[8]))));
+        assertThrows(IllegalArgumentException.class, () -> SessionTokenService.fromEnvironment(
+                Map.of(SessionTokenService.KEYS_ENV, secret)));
+        assertThrows(IllegalArgumentException.class, () -> SessionTokenService.fromEnvironment(
+                Map.of(SessionTokenService.TIME_TO_LIVE_SECONDS_ENV, "0")));
+    }
+
+    @Test
+    public void fromEnvironment_withoutKeys_generatesKeyLocallyButFailsInLambda() {
+        SessionTokenService local = SessionTokenService.fromEnvironment(Map.of());
+
+        assertEquals("Emp123456", local.verify(local.issue("Emp123456", PermissionLevel.ADMIN)).getEmployeeId());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                SessionTokenService.fromEnvironment(Map.of("AWS_LAMBDA_FUNCTION_NAME", "LoginHandler")));
+        assertEquals("SESSION_TOKEN_KEYS must be set when running in Lambda.", exception.getMessage());
+    }
+
+    private static SessionTokenService service(List<SessionTokenService.SigningKey> keys, Clock clock) {
+        return new SessionTokenService(keys, SessionTokenService.DEFAULT_TIME_TO_LIVE, 100, clock);
+    }
+
+    private static SessionTokenService.SigningKey key(String id, byte fill) {
+        byte[] secret = new byte[SessionTokenService.MIN_SECRET_BYTES];
+        Arrays.fill(secret, fill);
+        return new SessionTokenService.SigningKey(id, secret);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
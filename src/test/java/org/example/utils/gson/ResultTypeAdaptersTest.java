@@ -0,0 +1,337 @@
+package org.example.utils.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.annotations.SerializedName;
+import org.example.dynamodb.model.ClockStateModel;
+import org.example.dynamodb.model.TimeEntryModel;
+import org.example.model.Employee;
+import org.example.model.PermissionLevel;
+import org.example.model.TimeEntry;
+import org.example.model.results.AdminBulkResetPasswordResult;
+import org.example.model.results.AdminResetPasswordResult;
+import org.example.model.results.GetAllEmployeesResult;
+import org.example.model.results.GetEmployeeResult;
+import org.example.model.results.GetEmployeesBatchResult;
+import org.example.model.results.GetLastFiveTimeEntriesResult;
+import org.example.model.results.GetOpenShiftsResult;
+import org.example.model.results.GetTimeEntriesResult;
+import org.example.model.results.LoginResult;
+import org.example.model.results.NewEmployeeResult;
+import org.example.model.results.NewTimeEntryResult;
+import org.example.model.results.Result;
+import org.example.model.results.UpdateCredentialsResult;
+import org.example.model.results.UpdateEmployeeResult;
+import org.example.model.results.UpdateTimeEntriesResult;
+import org.example.model.results.UpdateTimeEntryResult;
+import org.example.utils.ModelConverter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultTypeAdaptersTest {
+    private final Gson gson = GsonConfig.createGson();
+    private final Gson reflectiveGson = ReflectiveGson.create();
+
+    @Test
+    public void toJson_matchesReflectiveAdapterForEveryResult() {
+        for (Result result : results()) {
+            assertNotSame(reflectiveGson.getAdapter(result.getClass()).getClass(),
+                    gson.getAdapter(result.getClass()).getClass(), result.getClass().getSimpleName());
+            assertEquals(reflectiveGson.toJson(result), gson.toJson(result), result.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void toJson_writesEveryDeclaredFieldOfEveryResult() throws Exception {
+        List<Class<? extends Result>> resultClasses = resultClasses();
+        assertFalse(resultClasses.isEmpty());
+        for (Class<? extends Result> resultClass : resultClasses) {
+            Result result = reflectiveGson.fromJson("{}", resultClass);
+            List<String> fieldNames = new ArrayList<>();
+            for (Field field : resultClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                field.set(result, sampleValue(field));
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                fieldNames.add(serializedName == null ? field.getName() : serializedName.value());
+            }
+
+            JsonObject json = new JsonParser().parse(gson.toJson(result)).getAsJsonObject();
+
+            for (String fieldName : fieldNames) {
+                assertTrue(json.has(fieldName), resultClass.getSimpleName() + "." + fieldName + " is not written");
+            }
+            assertEquals(reflectiveGson.toJson(result), gson.toJson(result), resultClass.getSimpleName());
+        }
+    }
+
+    @Test
+    public void fromJson_readsBackEveryResult() {
+        for (Result result : results()) {
+            String json = gson.toJson(result);
+
+            Result read = gson.fromJson(json, result.getClass());
+
+            assertEquals(json, gson.toJson(read), result.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void fromJson_skipsNullAndUnknownFields() {
+        UpdateTimeEntryResult result = gson.fromJson("{\"timeEntryUpdated\":true,\"employeeId\":null," +
+                "\"extra\":{\"nested\":[1,2]},\"duration\":1.5,\"error\":\"Late\"}", UpdateTimeEntryResult.class);
+
+        assertTrue(result.isTimeEntryUpdated());
+        assertNull(result.getEmployeeId());
+        assertEquals(1.5, result.getDuration());
+        assertEquals("Late", result.getError());
+        assertNull(gson.fromJson("null", UpdateTimeEntryResult.class));
+    }
+
+    /**
+     * @return every class implementing {@link Result} in its package, so a new result is covered without being
+     * listed here.
+     */
+    private static List<Class<? extends Result>> resultClasses() throws Exception {
+        String packageName = Result.class.getPackage().getName();
+        URL packageUrl = Result.class.getClassLoader().getResource(packageName.replace('.', '/'));
+        List<Class<? extends Result>> resultClasses = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Paths.get(packageUrl.toURI()))) {
+            for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(".class") || fileName.contains("$")) {
+                    continue;
+                }
+                Class<?> type = Class.forName(packageName + "." + fileName.substring(0, fileName.length() - 6));
+                if (Result.class.isAssignableFrom(type) && !type.isInterface()) {
+                    resultClasses.add(type.asSubclass(Result.class));
+                }
+            }
+        }
+        return resultClasses;
+    }
+
+    private static Object sampleValue(Field field) {
+        Class<?> type = field.getType();
+        if (type == boolean.class || type == Boolean.class) {
+            return true;
+        } else if (type == int.class || type == Integer.class) {
+            return 7;
+        } else if (type == long.class || type == Long.class) {
+            return 7L;
+        } else if (type == double.class || type == Double.class) {
+            return 1.5;
+        } else if (type == String.class) {
+            return field.getName();
+        } else if (type == LocalDate.class) {
+            return LocalDate.of(2024, 1, 1);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2024, 1, 1, 8, 30);
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        } else if (type == List.class) {
+            return List.of();
+        }
+        throw new AssertionError("No sample value for " + field + "; add one for its type.");
+    }
+
+    private static List<Result> results() {
+        Employee employee = Employee.builder()
+                .withEmployeeId("Emp000001")
+                .withFirstName("John")
+                .withLastName("Doe")
+                .withMiddleName("Middle")
+                .withEmail("john_doe@example.com")
+                .withDepartment("Department Name")
+                .withHireDate(LocalDate.of(2020, 1, 1))
+                .withCurrentlyEmployed(true)
+                .withPhone("+1-123-123-4567")
+                .withPermissionAccess(PermissionLevel.ADMIN)
+                .build();
+        TimeEntry timeEntry = TimeEntry.builder()
+                .withEmployeeId("Emp000001")
+                .withEntryId("TE000001")
+                .withTimeIn(LocalDateTime.of(2024, 1, 1, 8, 30))
+                .withTimeOut(LocalDateTime.of(2024, 1, 1, 17, 30))
+                .build();
+        TimeEntryModel timeEntryModel = ModelConverter.fromTimeEntry(timeEntry);
+        ClockStateModel openShift = new ClockStateModel();
+        openShift.setEmployeeId("Emp000001");
+        openShift.setEntryId("TE000001");
+        openShift.setTimeIn("2024-01-01T08:30:00");
+        AdminResetPasswordResult adminReset = AdminResetPasswordResult.builder()
+                .withEmployeeCredentialsReset(true)
+                .withEmployeeId("Emp000001")
+                .withUsername("jdoe")
+                .withLastUpdated("2024-01-01T08:30:00")
+                .withAccountLocked(true)
+                .withForceChangeAfterLogin(true)
+                .withError("Username \"jdoe\" not found!")
+                .build();
+
+        return List.of(
+                AdminBulkResetPasswordResult.builder()
+                        .withPasswordsReset(true)
+                        .withResetCount(2)
+                        .withFailedCount(1)
+                        .withResetList(List.of(adminReset, AdminResetPasswordResult.builder().build()))
+                        .withError("1 of 3 passwords could not be reset.")
+                        .build(),
+                AdminBulkResetPasswordResult.builder().build(),
+                adminReset,
+                GetAllEmployeesResult.builder()
+                        .withEmployeesRetrieved(true)
+                        .withEmployeesList(List.of(employee, employee))
+                        .withError("error")
+                        .build(),
+                GetEmployeeResult.builder()
+                        .withEmployeeRetrieved(true)
+                        .withEmployeeId("Emp000001")
+                        .withFirstName("John")
+                        .withLastName("Doe")
+                        .withMiddleName("Middle")
+                        .withEmail("john_doe@example.com")
+                        .withDepartment("Department Name")
+                        .withHireDate(LocalDate.of(2020, 1, 1))
+                        .withCurrentlyEmployed(false)
+                        .withTerminatedDate(LocalDate.of(2024, 6, 30))
+                        .withPhone("+1-123-123-4567")
+                        .withAddress("123 Example Ave")
+                        .withCity("Example City")
+                        .withState("Colorado")
+                        .withZipCode("12345")
+                        .withPayRate("2500/bw")
+                        .withPermissionAccess(PermissionLevel.STANDARD)
+                        .withVersion(3L)
+                        .withError("error")
+                        .build(),
+                GetEmployeeResult.builder().withEmployeeRetrieved(false).withError("Employee not found.").build(),
+                GetEmployeesBatchResult.builder()
+                        .withEmployeesRetrieved(true)
+                        .withEmployeeList(List.of(employee))
+                        .withNotFoundEmployeeIds(List.of("Emp999999"))
+                        .withError("error")
+                        .build(),
+                GetLastFiveTimeEntriesResult.builder()
+                        .withLastFiveTimeEntriesRetrieved(true)
+                        .withTimeEntryList(List.of(timeEntry))
+                        .withError("error")
+                        .build(),
+                GetOpenShiftsResult.builder()
+                        .withOpenShiftsRetrieved(true)
+                        .withOpenShiftList(List.of(openShift))
+                        .withError("error")
+                        .build(),
+                GetTimeEntriesResult.builder()
+                        .withTimeEntriesRetrieved(true)
+                        .withTimeEntryList(List.of(timeEntry, timeEntry))
+                        .withNextToken("eyJlbXBsb3llZV9pZCI6IkVtcDAwMDAwMSJ9")
+                        .withError("error")
+                        .build(),
+                LoginResult.build()
+                        .withLoginSuccess(true)
+                        .withUsername("jdoe")
+                        .withEmployeeId("Emp000001")
+                        .withAccountLocked(true)
+                        .withForceChangeAfterLogin(true)
+                        .withSessionToken("eyJraWQiOiJsb2NhbCIsImFsZyI6IkhTMjU2In0...")
+                        .withError("error")
+                        .build(),
+                NewEmployeeResult.build()
+                        .withNewEmployeeCreated(true)
+                        .withEmployeeId("Emp000001")
+                        .withFirstName("John")
+                        .withLastName("Doe")
+                        .withMiddleName("Middle")
+                        .withEmail("john_doe@example.com")
+                        .withDepartment("Department Name")
+                        .withHireDate("2020-01-01")
+                        .withPhone("+1-123-123-4567")
+                        .withAddress("123 Example Ave")
+                        .withCity("Example City")
+                        .withState("Colorado")
+                        .withZipCode("12345")
+                        .withPayRate("2500/bw")
+                        .withPermissionAccess("STANDARD")
+                        .withUsername("jdoe")
+                        .withPassword("T3mpP@ssw0rd")
+                        .withError("error")
+                        .build(),
+                NewTimeEntryResult.builder()
+                        .withNewTimeEntryCreated(true)
+                        .withEmployeeId("Emp000001")
+                        .withEntryId("TE000001")
+                        .withTimeIn("2024-01-01T08:30:00")
+                        .withError("error")
+                        .build(),
+                UpdateCredentialsResult.builder()
+                        .withCredentialsUpdated(true)
+                        .withEmployeeId("Emp000001")
+                        .withUsername("jdoe")
+                        .withLastUpdated("2024-01-01T08:30:00")
+                        .withAccountLocked(true)
+                        .withForceChangeAfterLogin(true)
+                        .withFailedAttempts(2)
+                        .withError("error")
+                        .build(),
+                UpdateEmployeeResult.builder()
+                        .withEmployeeUpdated(true)
+                        .withEmployeeId("Emp000001")
+                        .withFirstName("John")
+                        .withLastName("Doe")
+                        .withMiddleName("Middle")
+                        .withEmail("john_doe@example.com")
+                        .withDepartment("Department Name")
+                        .withHireDate("2020-01-01")
+                        .withCurrentlyEmployed(true)
+                        .withTerminatedDate("2024-06-30")
+                        .withPhone("+1-123-123-4567")
+                        .withAddress("123 Example Ave")
+                        .withCity("Example City")
+                        .withState("Colorado")
+                        .withZipCode("12345")
+                        .withPayRate("2500/bw")
+                        .withPermissionAccess("STANDARD")
+                        .withVersion(2L)
+                        .withError("error")
+                        .build(),
+                UpdateTimeEntriesResult.builder()
+                        .withTimeEntriesUpdated(false)
+                        .withEmployeeId("Emp000001")
+                        .withTimeEntryList(List.of(timeEntryModel))
+                        .withFailedTimeEntryList(List.of(UpdateTimeEntryResult.builder()
+                                .withTimeUpdated(false)
+                                .withEmployeeId("Emp000001")
+                                .withEntryId("TE000002")
+                                .withTimeIn("2024-01-02T08:30:00")
+                                .withError("Throttled")
+                                .build()))
+                        .withError("1 of 2 time entries could not be updated.")
+                        .build(),
+                UpdateTimeEntryResult.builder()
+                        .withTimeUpdated(true)
+                        .withEmployeeId("Emp000001")
+                        .withEntryId("TE000001")
+                        .withTimeIn("2024-01-01T08:30:00")
+                        .withTimeOut("2024-01-01T17:30:00")
+                        .withDuration(9.25)
+                        .withError("error")
+                        .build());
+    }
+}